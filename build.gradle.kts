@@ -19,6 +19,7 @@ import org.gradle.internal.os.OperatingSystem
 import org.jetbrains.changelog.Changelog
 import org.jetbrains.changelog.markdownToHTML
 import org.jetbrains.intellij.platform.gradle.IntelliJPlatformType
+import org.jetbrains.intellij.platform.gradle.TestFrameworkType
 import org.jetbrains.intellij.platform.gradle.models.ProductRelease
 import org.jetbrains.intellij.platform.gradle.tasks.RunIdeTask
 import org.openapitools.generator.gradle.plugin.tasks.GenerateTask
@@ -235,6 +236,7 @@ tasks {
 
     test {
         useJUnitPlatform()
+        exclude("**/*PerformanceTest*")
     }
 
     compileJava {
@@ -286,6 +288,23 @@ intellijPlatformTesting {
             }
         }
     }
+
+    testIde {
+        // ./gradlew perfTest -Pperf.extensions=100 -Pperf.threshold=0.2 -Pperf.updateBaseline=true
+        val perfTest by registering {
+            task {
+                useJUnit()
+                include("**/*PerformanceTest*")
+                maxHeapSize = properties("intellij.maxHeapSize").get()
+                outputs.upToDateWhen { false }
+
+                // all perf.* Gradle properties are forwarded, e.g. perf.itemTypesPerExtension, see SyntheticPlatformSpec
+                systemProperties(providers.gradlePropertiesPrefixedBy("perf.").get())
+                systemProperty("perf.baseline", providers.gradleProperty("perf.baseline").getOrElse(file("perf-baseline.json").path))
+                systemProperty("perf.results", providers.gradleProperty("perf.results").getOrElse(layout.buildDirectory.file("reports/perf/results.json").get().asFile.path))
+            }
+        }
+    }
 }
 
 // does not work well, especially in the case of Maps
@@ -311,12 +330,20 @@ dependencies {
         exclude("org.apache.httpcomponents", "httpmime")
     }
     testImplementation(kotlin("test"))
+    // virtual time for the coroutine based tests, coroutines core itself is provided by the platform
+    testImplementation("org.jetbrains.kotlinx:kotlinx-coroutines-test:1.10.1") {
+        exclude("org.jetbrains.kotlinx", "kotlinx-coroutines-core")
+        exclude("org.jetbrains.kotlinx", "kotlinx-coroutines-core-jvm")
+    }
     testRuntimeOnly("junit:junit:4.13.2")
+    // platform fixture tests are JUnit 3/4 based, run them on the JUnit Platform together with the plain ones
+    testRuntimeOnly("org.junit.vintage:junit-vintage-engine:5.11.4")
 
     intellijPlatform {
         intellijIdeaUltimate(properties("intellij.version"), useInstaller = false)
 
         pluginVerifier()
+        testFramework(TestFrameworkType.Platform)
 
         bundledModules(
             "intellij.grid.impl"
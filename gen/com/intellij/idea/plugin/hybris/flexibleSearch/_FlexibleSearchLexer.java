@@ -1224,7 +1224,10 @@ public class _FlexibleSearchLexer implements FlexLexer {
           // fall through
           case 116: break;
           case 28:
-            { yybegin(YYINITIAL); return RBRACE;
+            { yybegin(YYINITIAL);
+                                        if (!braces.isEmpty() && braces.getFirst()) braces.pop();
+
+                                        return RBRACE;
             }
           // fall through
           case 117: break;
@@ -27,6 +27,7 @@ import com.intellij.psi.tree.IElementType;
 import com.intellij.psi.PsiElement;
 import com.intellij.lang.ASTNode;
 import com.intellij.idea.plugin.hybris.flexibleSearch.FlexibleSearchElementType;
+import com.intellij.idea.plugin.hybris.flexibleSearch.FlexibleSearchElementTypeFactory;
 import com.intellij.idea.plugin.hybris.flexibleSearch.FlexibleSearchTokenType;
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.impl.*;
 
@@ -56,7 +57,7 @@ public interface FlexibleSearchTypes {
   IElementType FROM_CLAUSE = new FlexibleSearchElementType("FROM_CLAUSE");
   IElementType FROM_CLAUSE_EXPR = new FlexibleSearchElementType("FROM_CLAUSE_EXPR");
   IElementType FROM_CLAUSE_SELECT = new FlexibleSearchElementType("FROM_CLAUSE_SELECT");
-  IElementType FROM_CLAUSE_SELECT_QUERY = new FlexibleSearchElementType("FROM_CLAUSE_SELECT_QUERY");
+  IElementType FROM_CLAUSE_SELECT_QUERY = FlexibleSearchElementTypeFactory.getElementType("FROM_CLAUSE_SELECT_QUERY");
   IElementType FROM_CLAUSE_SIMPLE = new FlexibleSearchElementType("FROM_CLAUSE_SIMPLE");
   IElementType FROM_CLAUSE_SUBQUERIES = new FlexibleSearchElementType("FROM_CLAUSE_SUBQUERIES");
   IElementType FROM_TABLE = new FlexibleSearchElementType("FROM_TABLE");
@@ -82,8 +83,8 @@ public interface FlexibleSearchTypes {
   IElementType SELECTED_TABLE_NAME = new FlexibleSearchElementType("SELECTED_TABLE_NAME");
   IElementType SELECT_CORE_SELECT = new FlexibleSearchElementType("SELECT_CORE_SELECT");
   IElementType SELECT_STATEMENT = new FlexibleSearchElementType("SELECT_STATEMENT");
-  IElementType SELECT_SUBQUERY = new FlexibleSearchElementType("SELECT_SUBQUERY");
-  IElementType SELECT_SUBQUERY_COMBINED = new FlexibleSearchElementType("SELECT_SUBQUERY_COMBINED");
+  IElementType SELECT_SUBQUERY = FlexibleSearchElementTypeFactory.getElementType("SELECT_SUBQUERY");
+  IElementType SELECT_SUBQUERY_COMBINED = FlexibleSearchElementTypeFactory.getElementType("SELECT_SUBQUERY_COMBINED");
   IElementType SIGNED_NUMBER = new FlexibleSearchElementType("SIGNED_NUMBER");
   IElementType SUBQUERY_PAREN_EXPRESSION = new FlexibleSearchElementType("SUBQUERY_PAREN_EXPRESSION");
   IElementType TABLE_ALIAS_NAME = new FlexibleSearchElementType("TABLE_ALIAS_NAME");
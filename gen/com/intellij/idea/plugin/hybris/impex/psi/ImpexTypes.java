@@ -42,7 +42,7 @@ public interface ImpexTypes {
   IElementType FULL_HEADER_PARAMETER = new ImpexElementType("FULL_HEADER_PARAMETER");
   IElementType FULL_HEADER_TYPE = new ImpexElementType("FULL_HEADER_TYPE");
   IElementType GROOVY_SCRIPT_BODY = new ImpexElementType("GROOVY_SCRIPT_BODY");
-  IElementType HEADER_LINE = new ImpexElementType("HEADER_LINE");
+  IElementType HEADER_LINE = ImpexElementTypeFactory.getElementType("HEADER_LINE");
   IElementType HEADER_TYPE_NAME = new ImpexElementType("HEADER_TYPE_NAME");
   IElementType JAVASCRIPT_SCRIPT_BODY = new ImpexElementType("JAVASCRIPT_SCRIPT_BODY");
   IElementType MACRO_DECLARATION = new ImpexElementType("MACRO_DECLARATION");
@@ -71,7 +71,7 @@ public interface ImpexTypes {
   IElementType USER_RIGHTS_VALUE_LINE = new ImpexElementType("USER_RIGHTS_VALUE_LINE");
   IElementType VALUE = new ImpexElementType("VALUE");
   IElementType VALUE_GROUP = new ImpexElementType("VALUE_GROUP");
-  IElementType VALUE_LINE = new ImpexElementType("VALUE_LINE");
+  IElementType VALUE_LINE = ImpexElementTypeFactory.getElementType("VALUE_LINE");
 
   IElementType ALTERNATIVE_MAP_DELIMITER = new ImpexTokenType("ALTERNATIVE_MAP_DELIMITER");
   IElementType ALTERNATIVE_PATTERN = new ImpexTokenType("ALTERNATIVE_PATTERN");
@@ -27,6 +27,7 @@ import com.intellij.psi.tree.IElementType;
 import com.intellij.psi.PsiElement;
 import com.intellij.lang.ASTNode;
 import com.intellij.idea.plugin.hybris.polyglotQuery.PolyglotQueryElementType;
+import com.intellij.idea.plugin.hybris.polyglotQuery.PolyglotQueryElementTypeFactory;
 import com.intellij.idea.plugin.hybris.polyglotQuery.PolyglotQueryTokenType;
 import com.intellij.idea.plugin.hybris.polyglotQuery.psi.impl.*;
 
@@ -37,7 +38,7 @@ public interface PolyglotQueryTypes {
   IElementType BIND_PARAMETER = new PolyglotQueryElementType("BIND_PARAMETER");
   IElementType CMP_OPERATOR = new PolyglotQueryElementType("CMP_OPERATOR");
   IElementType EXPR_AND = new PolyglotQueryElementType("EXPR_AND");
-  IElementType EXPR_ATOM = new PolyglotQueryElementType("EXPR_ATOM");
+  IElementType EXPR_ATOM = PolyglotQueryElementTypeFactory.getElementType("EXPR_ATOM");
   IElementType EXPR_OR = new PolyglotQueryElementType("EXPR_OR");
   IElementType LOCALIZED = new PolyglotQueryElementType("LOCALIZED");
   IElementType LOCALIZED_NAME = new PolyglotQueryElementType("LOCALIZED_NAME");
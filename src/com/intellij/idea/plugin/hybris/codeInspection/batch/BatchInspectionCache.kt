@@ -0,0 +1,86 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.codeInspection.batch
+
+import com.google.gson.Gson
+import com.google.gson.JsonParseException
+import java.nio.file.Path
+import java.security.MessageDigest
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.io.path.exists
+import kotlin.io.path.readText
+import kotlin.io.path.writeText
+
+/**
+ * Problems of the previous batch run keyed by file path and content hash.
+ *
+ * Inspections read project-wide meta models, so problems of a file depend not only on its own content.
+ * Cache is dropped as a whole when [inputsKey] changes, see [BatchInspectionRunner] for the global inputs it covers.
+ * Only files inspected or reused during the current run are saved back, so removed files do not accumulate.
+ */
+class BatchInspectionCache(private val location: Path, private val inputsKey: String) {
+
+    private val previous: Map<String, Entry> = load()
+    private val current = ConcurrentHashMap<String, Entry>()
+
+    fun get(file: String, hash: String): List<BatchInspectionProblem>? = previous[file]
+        ?.takeIf { it.hash == hash }
+        ?.also { current[file] = it }
+        ?.problems
+
+    fun put(file: String, hash: String, problems: List<BatchInspectionProblem>) {
+        current[file] = Entry(hash, problems)
+    }
+
+    fun save() {
+        location.parent?.toFile()?.mkdirs()
+        location.writeText(gson.toJson(State(inputsKey, current.toSortedMap())))
+    }
+
+    private fun load(): Map<String, Entry> {
+        if (!location.exists()) return emptyMap()
+
+        val state = try {
+            gson.fromJson(location.readText(), State::class.java)
+        } catch (_: JsonParseException) {
+            null
+        }
+
+        return state
+            ?.takeIf { it.inputsKey == inputsKey }
+            ?.files
+            ?: emptyMap()
+    }
+
+    private data class State(val inputsKey: String?, val files: Map<String, Entry>?)
+    private data class Entry(val hash: String, val problems: List<BatchInspectionProblem>)
+
+    companion object {
+        private val gson = Gson()
+
+        fun hash(content: ByteArray): String = MessageDigest.getInstance("SHA-256")
+            .digest(content)
+            .joinToString("") { "%02x".format(it) }
+
+        fun hash(parts: Collection<String>): String = MessageDigest.getInstance("SHA-256")
+            .apply { parts.forEach { update(it.toByteArray()); update(0) } }
+            .digest()
+            .joinToString("") { "%02x".format(it) }
+    }
+}
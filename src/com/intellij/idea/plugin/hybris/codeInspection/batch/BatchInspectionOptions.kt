@@ -0,0 +1,74 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.codeInspection.batch
+
+import java.nio.file.Path
+import kotlin.io.path.Path
+
+/**
+ * Command line: `sapCxInspect <project> <output> [--format=sarif|json] [--incremental[=<cache file>]] [--threads=<n>]`
+ */
+data class BatchInspectionOptions(
+    val project: Path,
+    val output: Path,
+    val format: BatchInspectionFormat = BatchInspectionFormat.SARIF,
+    val cache: Path? = null,
+    val threads: Int = DEFAULT_THREADS,
+) {
+
+    companion object {
+        const val USAGE = "Usage: sapCxInspect <project> <output> [--format=sarif|json] [--incremental[=<cache file>]] [--threads=<n>]"
+        private val DEFAULT_THREADS = Runtime.getRuntime().availableProcessors().coerceIn(1, 8)
+
+        fun parse(args: List<String>): BatchInspectionOptions? {
+            val (options, positional) = args.partition { it.startsWith("--") }
+            if (positional.size != 2) return null
+
+            val output = Path(positional[1]).toAbsolutePath()
+            var result = BatchInspectionOptions(Path(positional[0]).toAbsolutePath(), output)
+
+            options.forEach { option ->
+                val name = option.substringBefore('=')
+                val value = option.substringAfter('=', "")
+
+                result = when (name) {
+                    "--format" -> BatchInspectionFormat.entries
+                        .find { it.name.equals(value, true) }
+                        ?.let { result.copy(format = it) }
+                        ?: return null
+
+                    "--incremental" -> result.copy(
+                        cache = value.takeIf { it.isNotEmpty() }
+                            ?.let { Path(it).toAbsolutePath() }
+                            ?: output.resolveSibling("${output.fileName}.cache")
+                    )
+
+                    "--threads" -> value.toIntOrNull()
+                        ?.takeIf { it > 0 }
+                        ?.let { result.copy(threads = it) }
+                        ?: return null
+
+                    else -> return null
+                }
+            }
+
+            return result
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.codeInspection.batch
+
+import com.google.gson.GsonBuilder
+import com.google.gson.JsonArray
+import com.google.gson.JsonObject
+
+data class BatchInspectionProblem(
+    val rule: String,
+    val severity: BatchInspectionSeverity,
+    val file: String,
+    val line: Int,
+    val column: Int,
+    val message: String,
+)
+
+data class BatchInspectionRuleTiming(
+    val rule: String,
+    val files: Int,
+    val millis: Long,
+)
+
+enum class BatchInspectionSeverity(val sarifLevel: String) {
+    ERROR("error"),
+    WARNING("warning"),
+    NOTE("note");
+}
+
+enum class BatchInspectionFormat {
+    JSON, SARIF
+}
+
+data class BatchInspectionReport(
+    val problems: List<BatchInspectionProblem>,
+    val timings: List<BatchInspectionRuleTiming>,
+    val inspectedFiles: Int,
+    val skippedFiles: Int,
+) {
+
+    fun hasErrors() = problems.any { it.severity == BatchInspectionSeverity.ERROR }
+
+    fun write(format: BatchInspectionFormat, out: Appendable) = when (format) {
+        BatchInspectionFormat.JSON -> gson.toJson(this, out)
+        BatchInspectionFormat.SARIF -> gson.toJson(toSarif(), out)
+    }
+
+    /**
+     * Minimal SARIF 2.1.0 log, rule timings are kept in the run properties.
+     */
+    private fun toSarif() = JsonObject().apply {
+        addProperty("\$schema", SARIF_SCHEMA)
+        addProperty("version", SARIF_VERSION)
+        add("runs", JsonArray().apply {
+            add(JsonObject().apply {
+                add("tool", JsonObject().apply {
+                    add("driver", JsonObject().apply {
+                        addProperty("name", TOOL_NAME)
+                        add("rules", JsonArray().apply {
+                            (timings.map { it.rule } + problems.map { it.rule })
+                                .distinct()
+                                .sorted()
+                                .forEach { rule -> add(JsonObject().apply { addProperty("id", rule) }) }
+                        })
+                    })
+                })
+                add("results", JsonArray().apply {
+                    problems.forEach { add(toSarifResult(it)) }
+                })
+                add("properties", JsonObject().apply {
+                    addProperty("inspectedFiles", inspectedFiles)
+                    addProperty("skippedFiles", skippedFiles)
+                    add("timings", gson.toJsonTree(timings))
+                })
+            })
+        })
+    }
+
+    private fun toSarifResult(problem: BatchInspectionProblem) = JsonObject().apply {
+        addProperty("ruleId", problem.rule)
+        addProperty("level", problem.severity.sarifLevel)
+        add("message", JsonObject().apply { addProperty("text", problem.message) })
+        add("locations", JsonArray().apply {
+            add(JsonObject().apply {
+                add("physicalLocation", JsonObject().apply {
+                    add("artifactLocation", JsonObject().apply { addProperty("uri", problem.file) })
+                    add("region", JsonObject().apply {
+                        addProperty("startLine", problem.line)
+                        addProperty("startColumn", problem.column)
+                    })
+                })
+            })
+        })
+    }
+
+    companion object {
+        private const val TOOL_NAME = "SAP Commerce Developers Toolset"
+        private const val SARIF_VERSION = "2.1.0"
+        private const val SARIF_SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json"
+        private val gson = GsonBuilder()
+            .setPrettyPrinting()
+            .disableHtmlEscaping()
+            .create()
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.codeInspection.batch
+
+import com.intellij.codeHighlighting.HighlightDisplayLevel
+import com.intellij.codeInsight.daemon.HighlightDisplayKey
+import com.intellij.codeInspection.InspectionManager
+import com.intellij.codeInspection.LocalInspectionEP
+import com.intellij.codeInspection.LocalInspectionTool
+import com.intellij.codeInspection.ProblemDescriptor
+import com.intellij.codeInspection.ProblemDescriptorUtil
+import com.intellij.codeInspection.ex.LocalInspectionToolWrapper
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.project.utils.Plugin
+import com.intellij.idea.plugin.hybris.system.bean.meta.BSMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
+import com.intellij.openapi.application.ReadAction
+import com.intellij.openapi.diagnostic.Logger
+import com.intellij.openapi.progress.ProcessCanceledException
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.ProjectFileIndex
+import com.intellij.openapi.util.JDOMUtil
+import com.intellij.openapi.util.io.FileUtil
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.profile.codeInspection.InspectionProjectProfileManager
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiFile
+import com.intellij.psi.PsiManager
+import com.intellij.util.concurrency.AppExecutorUtil
+import java.nio.file.Path
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Runs Type System, Bean System, Cockpit NG, ImpEx and extensioninfo.xml inspections over all project content files,
+ * files are inspected in parallel, each within its own read action.
+ *
+ * When [cacheLocation] is set, files with unchanged content reuse problems reported by the previous run,
+ * as long as none of the global inputs has been changed, see [inputsKey].
+ */
+class BatchInspectionRunner(
+    private val project: Project,
+    private val threads: Int,
+    private val cacheLocation: Path? = null,
+) {
+
+    private val tools = collectTools()
+    private val timings = ConcurrentHashMap<String, RuleTiming>()
+    private val skipped = AtomicInteger()
+    private var cache: BatchInspectionCache? = null
+
+    fun run(): BatchInspectionReport {
+        awaitMetaModels()
+
+        val files = collectFiles()
+        cache = cacheLocation?.let { BatchInspectionCache(it, inputsKey(files)) }
+        val executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("SAP CX Batch Inspection", threads)
+
+        val problems = try {
+            files
+                .map { file -> CompletableFuture.supplyAsync({ inspect(file) }, executor) }
+                .flatMap { it.join() }
+        } finally {
+            executor.shutdown()
+        }
+
+        cache?.save()
+
+        return BatchInspectionReport(
+            problems.sortedWith(compareBy({ it.file }, { it.line }, { it.column }, { it.rule })),
+            timings
+                .map { (rule, timing) -> BatchInspectionRuleTiming(rule, timing.files.get(), timing.nanos.get() / 1_000_000) }
+                .sortedByDescending { it.millis },
+            files.size - skipped.get(),
+            skipped.get()
+        )
+    }
+
+    private fun inspect(file: VirtualFile): List<BatchInspectionProblem> {
+        val cache = this.cache
+        val path = relativePath(file)
+        val hash = cache?.let { BatchInspectionCache.hash(file.contentsToByteArray()) }
+
+        if (cache != null && hash != null) {
+            cache.get(path, hash)
+                ?.let {
+                    skipped.incrementAndGet()
+                    return it
+                }
+        }
+
+        val problems = retryOnCancel {
+            ReadAction.compute<List<BatchInspectionProblem>, Throwable> {
+                PsiManager.getInstance(project).findFile(file)
+                    ?.let { inspect(it, path) }
+                    ?: emptyList()
+            }
+        }
+
+        if (cache != null && hash != null) cache.put(path, hash, problems)
+
+        return problems
+    }
+
+    private fun inspect(psiFile: PsiFile, path: String): List<BatchInspectionProblem> {
+        val profile = InspectionProjectProfileManager.getInstance(project).currentProfile
+        val manager = InspectionManager.getInstance(project)
+
+        return tools
+            .filter { it.isApplicable(psiFile.language) }
+            .flatMap { wrapper ->
+                val key = HighlightDisplayKey.find(wrapper.shortName)
+                    ?: return@flatMap emptyList()
+                if (!profile.isToolEnabled(key, psiFile)) return@flatMap emptyList()
+
+                val severity = severity(profile.getErrorLevel(key, psiFile))
+                val started = System.nanoTime()
+                val descriptors = try {
+                    (wrapper.tool as LocalInspectionTool).processFile(psiFile, manager)
+                } catch (e: ProcessCanceledException) {
+                    throw e
+                } catch (e: Exception) {
+                    LOG.warn("Inspection ${wrapper.shortName} failed for $path", e)
+                    emptyList()
+                }
+
+                timings.computeIfAbsent(wrapper.shortName) { RuleTiming() }.apply {
+                    nanos.addAndGet(System.nanoTime() - started)
+                    files.incrementAndGet()
+                }
+
+                descriptors.map { problem(wrapper.shortName, severity, psiFile, path, it) }
+            }
+    }
+
+    private fun problem(rule: String, severity: BatchInspectionSeverity, psiFile: PsiFile, path: String, descriptor: ProblemDescriptor): BatchInspectionProblem {
+        val element = descriptor.psiElement
+        val offset = (element?.textRange?.startOffset ?: 0) + (descriptor.textRangeInElement?.startOffset ?: 0)
+        val document = PsiDocumentManager.getInstance(project).getDocument(psiFile)
+        val line = document
+            ?.takeIf { offset <= it.textLength }
+            ?.getLineNumber(offset)
+            ?: 0
+        val column = document
+            ?.takeIf { offset <= it.textLength }
+            ?.let { offset - it.getLineStartOffset(line) }
+            ?: 0
+
+        return BatchInspectionProblem(
+            rule,
+            severity,
+            path,
+            line + 1,
+            column + 1,
+            ProblemDescriptorUtil.renderDescriptionMessage(descriptor, element)
+        )
+    }
+
+    private fun severity(level: HighlightDisplayLevel) = when (level) {
+        HighlightDisplayLevel.ERROR -> BatchInspectionSeverity.ERROR
+        HighlightDisplayLevel.WARNING -> BatchInspectionSeverity.WARNING
+        else -> BatchInspectionSeverity.NOTE
+    }
+
+    private fun collectTools() = collectExtensionPoints()
+        .map { LocalInspectionToolWrapper(it) }
+
+    private fun collectFiles() = ReadAction.compute<List<VirtualFile>, Throwable> {
+        val files = mutableListOf<VirtualFile>()
+
+        ProjectFileIndex.getInstance(project).iterateContent { file ->
+            if (!file.isDirectory && file.extension in FILE_EXTENSIONS) files.add(file)
+            true
+        }
+
+        files
+    }
+
+    /**
+     * Fingerprint of everything problems of a single file may depend on besides its own content:
+     * plugin version, set of rules, inspection profile (enablement, severities, options) and content of all
+     * items.xml, beans.xml and Cockpit NG configuration files, which form project-wide meta models.
+     */
+    private fun inputsKey(files: List<VirtualFile>): String {
+        val trackedCngModels = CngMetaModelStateService.getInstance(project).getTrackedModels()
+        val profile = ReadAction.compute<String, Throwable> {
+            InspectionProjectProfileManager.getInstance(project).currentProfile
+                .let { JDOMUtil.write(it.writeScheme()) }
+        }
+        val metaModelInputs = files
+            .filter {
+                it.name.endsWith(HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING)
+                    || it.name.endsWith(HybrisConstants.HYBRIS_BEANS_XML_FILE_ENDING)
+                    || trackedCngModels.contains(it.path)
+            }
+            .map { relativePath(it) + "=" + BatchInspectionCache.hash(it.contentsToByteArray()) }
+            .sorted()
+
+        return BatchInspectionCache.hash(
+            listOf(Plugin.HYBRIS_PLUGIN_DESCRIPTOR?.version ?: "?", ruleIds().joinToString(","), profile) + metaModelInputs
+        )
+    }
+
+    private fun relativePath(file: VirtualFile) = project.basePath
+        ?.let { FileUtil.getRelativePath(it, file.path, '/') }
+        ?: file.path
+
+    /**
+     * Global meta models are computed asynchronously, inspections accessing them are cancelled until they are ready.
+     */
+    private fun awaitMetaModels() {
+        listOf<() -> Any>(
+            { TSMetaModelStateService.state(project) },
+            { BSMetaModelStateService.state(project) },
+            { CngMetaModelStateService.state(project) },
+        ).forEach { state -> retryOnCancel { ReadAction.compute<Any, Throwable> { state() } } }
+    }
+
+    private fun <T> retryOnCancel(action: () -> T): T {
+        repeat(MAX_ATTEMPTS - 1) {
+            try {
+                return action()
+            } catch (_: ProcessCanceledException) {
+                Thread.sleep(RETRY_DELAY_MS)
+            }
+        }
+
+        return action()
+    }
+
+    private class RuleTiming {
+        val nanos = AtomicLong()
+        val files = AtomicInteger()
+    }
+
+    companion object {
+        private const val MAX_ATTEMPTS = 600
+        private const val RETRY_DELAY_MS = 500L
+        private val FILE_EXTENSIONS = setOf("xml", "impex")
+        private val RULE_PACKAGES = listOf("typeSystem", "beanSystem", "cockpitng", "impex", "extensioninfo")
+            .map { "com.intellij.idea.plugin.hybris.codeInspection.rule.$it." }
+        private val LOG = Logger.getInstance(BatchInspectionRunner::class.java)
+
+        private fun ruleIds() = collectExtensionPoints()
+            .map { LocalInspectionToolWrapper(it).shortName }
+            .sorted()
+
+        private fun collectExtensionPoints() = LocalInspectionEP.LOCAL_INSPECTION.extensionList
+            .filter { ep -> RULE_PACKAGES.any { ep.implementationClass?.startsWith(it) ?: false } }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.codeInspection.batch
+
+import com.intellij.ide.impl.OpenProjectTask
+import com.intellij.openapi.application.ApplicationManager
+import com.intellij.openapi.application.ApplicationStarter
+import com.intellij.openapi.project.DumbService
+import com.intellij.openapi.project.ex.ProjectManagerEx
+import kotlin.io.path.bufferedWriter
+import kotlin.system.exitProcess
+
+/**
+ * Headless entry point, registered as `sapCxInspect` application starter.
+ *
+ * Exit codes: `0` - no errors, `1` - invalid arguments or project cannot be opened, `2` - problems of the error level found.
+ */
+class BatchInspectionStarter : ApplicationStarter {
+
+    override val requiredModality: Int
+        get() = ApplicationStarter.NOT_IN_EDT
+
+    override fun main(args: List<String>) {
+        val options = BatchInspectionOptions.parse(args.drop(1))
+            ?: exit(BatchInspectionOptions.USAGE, EXIT_INVALID)
+
+        val project = ProjectManagerEx.getInstanceEx().openProject(options.project, OpenProjectTask.build())
+            ?: exit("Unable to open project: ${options.project}", EXIT_INVALID)
+
+        val report = try {
+            DumbService.getInstance(project).waitForSmartMode()
+
+            BatchInspectionRunner(project, options.threads, options.cache).run()
+        } finally {
+            ApplicationManager.getApplication().invokeAndWait { ProjectManagerEx.getInstanceEx().forceCloseProject(project) }
+        }
+
+        options.output.parent?.toFile()?.mkdirs()
+        options.output.bufferedWriter().use { report.write(options.format, it) }
+
+        println("Inspected ${report.inspectedFiles} files, reused ${report.skippedFiles}, found ${report.problems.size} problems: ${options.output}")
+        report.timings.take(TOP_TIMINGS).forEach { println("  ${it.rule}: ${it.millis} ms in ${it.files} files") }
+
+        exitProcess(if (report.hasErrors()) EXIT_ERRORS else EXIT_OK)
+    }
+
+    private fun exit(message: String, code: Int): Nothing {
+        System.err.println(message)
+        exitProcess(code)
+    }
+
+    companion object {
+        private const val EXIT_OK = 0
+        private const val EXIT_INVALID = 1
+        private const val EXIT_ERRORS = 2
+        private const val TOP_TIMINGS = 10
+    }
+}
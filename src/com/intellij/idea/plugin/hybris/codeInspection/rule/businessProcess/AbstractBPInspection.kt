@@ -0,0 +1,64 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.codeInspection.rule.businessProcess
+
+import com.intellij.idea.plugin.hybris.codeInspection.rule.AbstractInspection
+import com.intellij.idea.plugin.hybris.system.businessProcess.index.BpProcessAnalyzer
+import com.intellij.idea.plugin.hybris.system.businessProcess.index.BpProcessIndex
+import com.intellij.idea.plugin.hybris.system.businessProcess.index.BpProcessReport
+import com.intellij.idea.plugin.hybris.system.businessProcess.model.NavigableElement
+import com.intellij.idea.plugin.hybris.system.businessProcess.model.Process
+import com.intellij.idea.plugin.hybris.system.businessProcess.model.nodes
+import com.intellij.lang.annotation.HighlightSeverity
+import com.intellij.openapi.project.Project
+import com.intellij.psi.xml.XmlFile
+import com.intellij.util.indexing.FileBasedIndex
+import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
+import com.intellij.util.xml.highlighting.DomHighlightingHelper
+
+abstract class AbstractBPInspection : AbstractInspection<Process>(Process::class.java) {
+
+    override fun canProcess(project: Project, file: XmlFile) = file.virtualFile != null
+
+    override fun canProcess(dom: Process) = dom.xmlElement != null
+
+    override fun inspect(
+        project: Project,
+        dom: Process,
+        holder: DomElementAnnotationHolder,
+        helper: DomHighlightingHelper,
+        severity: HighlightSeverity
+    ) {
+        val file = dom.xmlElement?.containingFile?.virtualFile ?: return
+        val report = FileBasedIndex.getInstance().getFileData(BpProcessIndex.NAME, file, project)
+            .values
+            .firstOrNull()
+            ?.let { BpProcessAnalyzer.analyze(it) }
+            ?: return
+        val nodes = dom.nodes.associateBy { it.getId().stringValue }
+
+        inspect(report, nodes, holder, severity)
+    }
+
+    abstract fun inspect(
+        report: BpProcessReport,
+        nodes: Map<String?, NavigableElement>,
+        holder: DomElementAnnotationHolder,
+        severity: HighlightSeverity
+    )
+}
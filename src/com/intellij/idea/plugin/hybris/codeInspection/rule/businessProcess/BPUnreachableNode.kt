@@ -0,0 +1,44 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.codeInspection.rule.businessProcess
+
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.system.businessProcess.index.BpProcessReport
+import com.intellij.idea.plugin.hybris.system.businessProcess.model.NavigableElement
+import com.intellij.lang.annotation.HighlightSeverity
+import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
+
+class BPUnreachableNode : AbstractBPInspection() {
+
+    override fun inspect(
+        report: BpProcessReport,
+        nodes: Map<String?, NavigableElement>,
+        holder: DomElementAnnotationHolder,
+        severity: HighlightSeverity
+    ) {
+        report.unreachableNodes.forEach { id ->
+            val node = nodes[id] ?: return@forEach
+
+            holder.createProblem(
+                node.getId(),
+                severity,
+                message("hybris.inspections.fix.bp.BPUnreachableNode.message", id)
+            )
+        }
+    }
+}
@@ -49,7 +49,7 @@ class CngContextMergeByPointToExistingContextAttribute : AbstractCngConfigInspec
     ) {
         val mergeByValue = dom.stringValue ?: return
 
-        if (!CngUtils.getValidMergeByValues(project).contains(mergeByValue)) {
+        if (!CngUtils.isValidMergeByValue(project, mergeByValue)) {
             holder.createProblem(
                 dom,
                 severity,
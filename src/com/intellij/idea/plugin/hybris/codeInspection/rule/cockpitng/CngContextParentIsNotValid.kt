@@ -52,9 +52,7 @@ class CngContextParentIsNotValid : AbstractCngConfigInspection() {
         val parentValue = dom.parentAttribute.stringValue ?: return
         if (parentValue == Context.PARENT_AUTO) return
 
-        val allowedValues = CngMetaModelStateService.state(project).contextAttributes[mergeBy]
-
-        if (allowedValues == null || !allowedValues.contains(parentValue)) {
+        if (!CngMetaModelStateService.state(project).index.containsContextAttributeValue(mergeBy, parentValue)) {
             holder.createProblem(
                 dom.parentAttribute,
                 severity,
@@ -19,12 +19,12 @@
 package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
 import com.intellij.idea.plugin.hybris.codeInspection.fix.xml.XmlUpdateAttributeQuickFix
+import com.intellij.idea.plugin.hybris.system.type.meta.TSGlobalMetaModel
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaDeployment
 import com.intellij.idea.plugin.hybris.system.type.model.Deployment
 import com.intellij.idea.plugin.hybris.system.type.model.Items
-import com.intellij.idea.plugin.hybris.system.type.model.deployments
 import com.intellij.lang.annotation.HighlightSeverity
 import com.intellij.openapi.project.Project
 import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
@@ -43,18 +43,21 @@ abstract class AbstractTSDeploymentTypeCodeInspection : AbstractCustomOnlyTSInsp
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.deployments.forEach { check(it, project, holder, severity) }
+        val metaModel = TSMetaModelStateService.state(project)
+
+        TSInspectionContext.getInstance(dom).deployments.forEach { check(it, project, metaModel, holder, severity) }
     }
 
     private fun check(
         dom: Deployment,
         project: Project,
+        metaModel: TSGlobalMetaModel,
         holder: DomElementAnnotationHolder,
         severity: HighlightSeverity
     ) {
         if (!applicable(project, dom)) return
 
-        val deployment = TSMetaModelStateService.state(project)
+        val deployment = metaModel
             .getDeploymentForTypeCode(dom.typeCode.stringValue)
         deployment ?: return
 
@@ -19,6 +19,7 @@
 package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
 import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils
+import com.intellij.idea.plugin.hybris.system.type.meta.TSGlobalMetaModel
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem
 import com.intellij.idea.plugin.hybris.system.type.model.Items
@@ -30,7 +31,7 @@ import com.intellij.util.xml.highlighting.DomHighlightingHelper
 
 abstract class AbstractTSMetaTypeInspection(private val messageKey: String) : AbstractTSInspection() {
 
-    protected abstract fun collectMetaTypes(dom: Items): Collection<GenericAttributeValue<String>>
+    protected abstract fun collectMetaTypes(context: TSInspectionContext): Collection<GenericAttributeValue<String>>
     protected abstract fun isValidMetaType(meta: TSGlobalMetaItem): Boolean
 
     override fun inspect(
@@ -40,17 +41,19 @@ abstract class AbstractTSMetaTypeInspection(private val messageKey: String) : Ab
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        collectMetaTypes(dom).forEach { check(it, holder, severity, project) }
+        val metaModel = TSMetaModelStateService.state(project)
+
+        collectMetaTypes(TSInspectionContext.getInstance(dom)).forEach { check(it, holder, severity, metaModel) }
     }
 
     private fun check(
         dom: GenericAttributeValue<String>,
         holder: DomElementAnnotationHolder,
         severity: HighlightSeverity,
-        project: Project
+        metaModel: TSGlobalMetaModel
     ) {
         val name = dom.stringValue ?: return
-        TSMetaModelStateService.state(project)
+        metaModel
             .getMetaItem(name)
             ?.takeUnless { isValidMetaType(it) }
             ?: return
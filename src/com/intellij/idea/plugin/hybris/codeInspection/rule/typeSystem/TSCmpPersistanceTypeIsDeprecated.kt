@@ -35,8 +35,7 @@ class TSCmpPersistanceTypeIsDeprecated : AbstractTSInspection() {
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.itemTypes.all
-            .flatMap { it.attributes.attributes }
+        TSInspectionContext.getInstance(dom).attributes
             .forEach { check(it, holder, severity) }
     }
 
@@ -20,6 +20,7 @@ package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
 import com.intellij.idea.plugin.hybris.codeInspection.fix.xml.XmlUpdateAttributeQuickFix
 import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils
+import com.intellij.idea.plugin.hybris.system.type.meta.TSGlobalMetaModel
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
 import com.intellij.idea.plugin.hybris.system.type.model.*
 import com.intellij.lang.annotation.HighlightSeverity
@@ -36,20 +37,21 @@ class TSCollectionsAreOnlyForDynamicAndJalo : AbstractTSInspection() {
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.itemTypes.all
-            .flatMap { it.attributes.attributes }
-            .forEach { check(it, project, holder, severity) }
+        val metaModel = TSMetaModelStateService.state(project)
+
+        TSInspectionContext.getInstance(dom).attributes
+            .forEach { check(it, metaModel, holder, severity) }
     }
 
     private fun check(
         attribute: Attribute,
-        project: Project,
+        metaModel: TSGlobalMetaModel,
         holder: DomElementAnnotationHolder,
         severity: HighlightSeverity
     ) {
 
         if (!arrayOf(PersistenceType.DYNAMIC, PersistenceType.JALO).contains(attribute.persistence.type.value)) {
-            TSMetaModelStateService.state(project).getMetaCollection(attribute.type.stringValue)
+            metaModel.getMetaCollection(attribute.type.stringValue)
                 ?: return
 
             holder.createProblem(
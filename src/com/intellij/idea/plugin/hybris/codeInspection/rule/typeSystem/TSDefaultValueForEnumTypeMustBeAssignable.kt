@@ -18,10 +18,10 @@
 
 package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
+import com.intellij.idea.plugin.hybris.system.type.meta.TSGlobalMetaModel
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
 import com.intellij.idea.plugin.hybris.system.type.model.Attribute
 import com.intellij.idea.plugin.hybris.system.type.model.Items
-import com.intellij.idea.plugin.hybris.system.type.model.all
 import com.intellij.lang.annotation.HighlightSeverity
 import com.intellij.openapi.project.Project
 import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
@@ -38,16 +38,17 @@ class TSDefaultValueForEnumTypeMustBeAssignable : AbstractTSInspection() {
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.itemTypes.all
-            .flatMap { it.attributes.attributes }
-            .forEach { check(it, holder, severity, project) }
+        val metaModel = TSMetaModelStateService.state(project)
+
+        TSInspectionContext.getInstance(dom).attributes
+            .forEach { check(it, holder, severity, metaModel) }
     }
 
     private fun check(
         dom: Attribute,
         holder: DomElementAnnotationHolder,
         severity: HighlightSeverity,
-        project: Project
+        metaModel: TSGlobalMetaModel
     ) {
         val defaultValue = dom.defaultValue.stringValue
             ?.trim()
@@ -80,7 +81,7 @@ class TSDefaultValueForEnumTypeMustBeAssignable : AbstractTSInspection() {
             return
         }
 
-        val meta = TSMetaModelStateService.state(project).getMetaEnum(dom.type.stringValue)
+        val meta = metaModel.getMetaEnum(dom.type.stringValue)
             ?: return
 
         // 3rd validation:
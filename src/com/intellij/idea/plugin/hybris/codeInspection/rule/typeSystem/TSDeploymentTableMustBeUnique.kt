@@ -20,10 +20,10 @@ package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
 import com.intellij.idea.plugin.hybris.codeInspection.fix.PsiNavigateToDomFix
 import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils
+import com.intellij.idea.plugin.hybris.system.type.meta.TSGlobalMetaModel
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
 import com.intellij.idea.plugin.hybris.system.type.model.Deployment
 import com.intellij.idea.plugin.hybris.system.type.model.Items
-import com.intellij.idea.plugin.hybris.system.type.model.deployments
 import com.intellij.lang.annotation.HighlightSeverity
 import com.intellij.openapi.project.Project
 import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
@@ -39,16 +39,18 @@ class TSDeploymentTableMustBeUnique : AbstractTSInspection() {
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.deployments.forEach { check(it, project, holder, severity) }
+        val metaModel = TSMetaModelStateService.state(project)
+
+        TSInspectionContext.getInstance(dom).deployments.forEach { check(it, metaModel, holder, severity) }
     }
 
     private fun check(
         dom: Deployment,
-        project: Project,
+        metaModel: TSGlobalMetaModel,
         holder: DomElementAnnotationHolder,
         severity: HighlightSeverity
     ) {
-        val deployment = TSMetaModelStateService.state(project).getDeploymentForTable(dom.table.value)
+        val deployment = metaModel.getDeploymentForTable(dom.table.value)
         deployment ?: return
 
         if (StringUtils.equals(dom.typeCode.stringValue, deployment.typeCode)) return
@@ -20,12 +20,12 @@ package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
 import com.intellij.idea.plugin.hybris.codeInspection.fix.xml.XmlAddTagQuickFix
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.type.meta.TSGlobalMetaModel
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
 import com.intellij.idea.plugin.hybris.system.type.model.Deployment
 import com.intellij.idea.plugin.hybris.system.type.model.ItemType
 import com.intellij.idea.plugin.hybris.system.type.model.Items
-import com.intellij.idea.plugin.hybris.system.type.model.all
 import com.intellij.lang.annotation.HighlightSeverity
 import com.intellij.openapi.project.Project
 import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
@@ -41,12 +41,15 @@ class TSDeploymentTableMustExistForItemExtendingGenericItem : AbstractTSInspecti
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.itemTypes.all.forEach { check(it, project, holder, severity) }
+        val metaModel = TSMetaModelStateService.state(project)
+
+        TSInspectionContext.getInstance(dom).itemTypes.forEach { check(it, project, metaModel, holder, severity) }
     }
 
     private fun check(
         dom: ItemType,
         project: Project,
+        metaModel: TSGlobalMetaModel,
         holder: DomElementAnnotationHolder,
         severity: HighlightSeverity
     ) {
@@ -55,7 +58,7 @@ class TSDeploymentTableMustExistForItemExtendingGenericItem : AbstractTSInspecti
 
         val itemTypeCode = dom.code.stringValue ?: return
 
-        val metaItem = TSMetaModelStateService.state(project).getMetaItem(itemTypeCode)
+        val metaItem = metaModel.getMetaItem(itemTypeCode)
             ?: return
 
         if (StringUtils.isNotBlank(metaItem.deployment?.typeCode)) return
@@ -20,10 +20,10 @@ package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
 import com.intellij.idea.plugin.hybris.codeInspection.fix.xml.XmlDeleteSubTagQuickFix
 import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.system.type.meta.TSGlobalMetaModel
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
 import com.intellij.idea.plugin.hybris.system.type.model.ItemType
 import com.intellij.idea.plugin.hybris.system.type.model.Items
-import com.intellij.idea.plugin.hybris.system.type.model.all
 import com.intellij.lang.annotation.HighlightSeverity
 import com.intellij.openapi.project.Project
 import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
@@ -38,16 +38,18 @@ class TSDeploymentTableMustNotBeRedeclaredInChildTypes : AbstractTSInspection()
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.itemTypes.all.forEach { check(it, project, holder, severity) }
+        val metaModel = TSMetaModelStateService.state(project)
+
+        TSInspectionContext.getInstance(dom).itemTypes.forEach { check(it, metaModel, holder, severity) }
     }
 
     private fun check(
         dom: ItemType,
-        project: Project,
+        metaModel: TSGlobalMetaModel,
         holder: DomElementAnnotationHolder,
         severity: HighlightSeverity
     ) {
-        val metaItem = TSMetaModelStateService.state(project).getMetaItem(dom.code.stringValue)
+        val metaItem = metaModel.getMetaItem(dom.code.stringValue)
             ?: return
 
         val currentMetaTypeCode = metaItem.deployment?.typeCode
@@ -23,7 +23,6 @@ import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.messag
 import com.intellij.idea.plugin.hybris.properties.PropertyService
 import com.intellij.idea.plugin.hybris.system.type.model.Deployment
 import com.intellij.idea.plugin.hybris.system.type.model.Items
-import com.intellij.idea.plugin.hybris.system.type.model.deployments
 import com.intellij.lang.annotation.HighlightSeverity
 import com.intellij.openapi.project.Project
 import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
@@ -38,7 +37,7 @@ class TSDeploymentTableNameLengthShouldBeValid : AbstractCustomOnlyTSInspection(
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.deployments.forEach { check(it, project, holder, severity) }
+        TSInspectionContext.getInstance(dom).deployments.forEach { check(it, project, holder, severity) }
     }
 
     private fun check(
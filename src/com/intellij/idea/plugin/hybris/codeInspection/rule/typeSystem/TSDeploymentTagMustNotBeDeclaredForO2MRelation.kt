@@ -36,7 +36,7 @@ class TSDeploymentTagMustNotBeDeclaredForO2MRelation : AbstractTSInspection() {
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.relations.relations
+        TSInspectionContext.getInstance(dom).relations
             .filter { it.deployment.exists() }
             .forEach { check(it, holder, severity) }
     }
@@ -36,7 +36,7 @@ class TSDeploymentTypeCodesMustBeGreaterThanTenThousandForRelations : AbstractCu
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.relations.relations.forEach { check(it.deployment, project, holder, severity) }
+        TSInspectionContext.getInstance(dom).relations.forEach { check(it.deployment, project, holder, severity) }
     }
 
     private fun check(
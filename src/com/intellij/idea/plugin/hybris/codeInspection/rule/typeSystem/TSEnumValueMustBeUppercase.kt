@@ -39,7 +39,7 @@ class TSEnumValueMustBeUppercase : AbstractTSInspection() {
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.enumTypes.enumTypes.forEach { enumType ->
+        TSInspectionContext.getInstance(dom).enumTypes.forEach { enumType ->
             enumType.values.forEach { enumValue ->
                 check(enumType, enumValue, holder, severity)
             }
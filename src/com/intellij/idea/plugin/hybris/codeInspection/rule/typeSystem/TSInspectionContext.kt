@@ -0,0 +1,80 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
+
+import com.intellij.idea.plugin.hybris.system.type.model.*
+import com.intellij.openapi.util.Key
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+
+/**
+ * Nodes of the items.xml DOM collected in a single walk and shared by all type system inspections of the same file version.
+ *
+ * Global meta model must be fetched once per inspection pass via `TSMetaModelStateService.state(project)`, not per node.
+ */
+class TSInspectionContext private constructor(dom: Items) {
+
+    val itemTypes: List<ItemType>
+    val attributes: List<Attribute>
+    val relations: List<Relation>
+    val relationElements: List<RelationElement>
+    val deployments: List<Deployment>
+    val enumTypes: List<EnumType>
+
+    init {
+        val itemTypes = mutableListOf<ItemType>()
+        val attributes = mutableListOf<Attribute>()
+        val relationElements = mutableListOf<RelationElement>()
+        val deployments = mutableListOf<Deployment>()
+
+        dom.itemTypes.all.forEach { itemType ->
+            itemTypes.add(itemType)
+            attributes.addAll(itemType.attributes.attributes)
+            deployments.add(itemType.deployment)
+        }
+
+        val relations = dom.relations.relations
+        relations.forEach { relation ->
+            relationElements.add(relation.sourceElement)
+            relationElements.add(relation.targetElement)
+            deployments.add(relation.deployment)
+        }
+
+        this.itemTypes = itemTypes
+        this.attributes = attributes
+        this.relations = relations
+        this.relationElements = relationElements
+        this.deployments = deployments
+        this.enumTypes = dom.enumTypes.enumTypes
+    }
+
+    companion object {
+        private val KEY_INSPECTION_CONTEXT = Key.create<CachedValue<TSInspectionContext>>("SAP_CX_TS_INSPECTION_CONTEXT")
+
+        fun getInstance(dom: Items): TSInspectionContext {
+            val file = dom.xmlElement?.containingFile
+                ?: return TSInspectionContext(dom)
+
+            return CachedValuesManager.getCachedValue(file, KEY_INSPECTION_CONTEXT) {
+                CachedValueProvider.Result.create(TSInspectionContext(dom), file)
+            }
+        }
+    }
+}
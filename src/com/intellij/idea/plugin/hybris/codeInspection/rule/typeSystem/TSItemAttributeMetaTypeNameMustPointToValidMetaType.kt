@@ -20,14 +20,11 @@ package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaHelper
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem
-import com.intellij.idea.plugin.hybris.system.type.model.Items
-import com.intellij.idea.plugin.hybris.system.type.model.all
 
 class TSItemAttributeMetaTypeNameMustPointToValidMetaType : AbstractTSMetaTypeInspection(
     "hybris.inspections.ts.ItemAttributeMetaTypeNameMustPointToValidMetaType.details.key"
 ) {
-    override fun collectMetaTypes(dom: Items) = dom.itemTypes.all
-        .flatMap { it.attributes.attributes }
+    override fun collectMetaTypes(context: TSInspectionContext) = context.attributes
         .map { it.metaType }
 
     override fun isValidMetaType(meta: TSGlobalMetaItem) = TSMetaHelper.isItemAttributeMetaType(meta)
@@ -20,13 +20,11 @@ package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaHelper
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem
-import com.intellij.idea.plugin.hybris.system.type.model.Items
-import com.intellij.idea.plugin.hybris.system.type.model.all
 
 class TSItemMetaTypeNameMustPointToValidMetaType : AbstractTSMetaTypeInspection(
     "hybris.inspections.ts.ItemMetaTypeNameMustPointToValidMetaType.details.key"
 ) {
-    override fun collectMetaTypes(dom: Items) = dom.itemTypes.all
+    override fun collectMetaTypes(context: TSInspectionContext) = context.itemTypes
         .map { it.metaType }
 
     override fun isValidMetaType(meta: TSGlobalMetaItem) = TSMetaHelper.isItemMetaType(meta)
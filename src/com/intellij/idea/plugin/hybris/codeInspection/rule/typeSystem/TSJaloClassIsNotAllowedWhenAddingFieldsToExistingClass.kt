@@ -22,7 +22,6 @@ import com.intellij.idea.plugin.hybris.codeInspection.fix.xml.XmlDeleteAttribute
 import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils
 import com.intellij.idea.plugin.hybris.system.type.model.ItemType
 import com.intellij.idea.plugin.hybris.system.type.model.Items
-import com.intellij.idea.plugin.hybris.system.type.model.all
 import com.intellij.lang.annotation.HighlightSeverity
 import com.intellij.openapi.project.Project
 import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
@@ -37,7 +36,7 @@ class TSJaloClassIsNotAllowedWhenAddingFieldsToExistingClass : AbstractTSInspect
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.itemTypes.all.forEach { check(it, holder, severity) }
+        TSInspectionContext.getInstance(dom).itemTypes.forEach { check(it, holder, severity) }
     }
 
     private fun check(
@@ -35,7 +35,7 @@ class TSOnlyOneSideN2mRelationMustBeNotNavigable: AbstractTSInspection() {
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.relations.relations
+        TSInspectionContext.getInstance(dom).relations
             .filter { it.sourceElement.cardinality.value === Cardinality.MANY && it.targetElement.cardinality.value === Cardinality.MANY }
             .filter { !it.sourceElement.navigable.value && !it.targetElement.navigable.value }
             .forEach{
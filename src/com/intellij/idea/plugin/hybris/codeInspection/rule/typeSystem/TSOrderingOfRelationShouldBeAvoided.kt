@@ -23,7 +23,6 @@ import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils
 import com.intellij.idea.plugin.hybris.system.type.model.Cardinality
 import com.intellij.idea.plugin.hybris.system.type.model.Items
 import com.intellij.idea.plugin.hybris.system.type.model.RelationElement
-import com.intellij.idea.plugin.hybris.system.type.model.elements
 import com.intellij.lang.annotation.HighlightSeverity
 import com.intellij.openapi.project.Project
 import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
@@ -38,7 +37,7 @@ class TSOrderingOfRelationShouldBeAvoided : AbstractTSInspection() {
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.relations.elements.forEach { check(it, holder, severity) }
+        TSInspectionContext.getInstance(dom).relationElements.forEach { check(it, holder, severity) }
     }
 
     private fun check(
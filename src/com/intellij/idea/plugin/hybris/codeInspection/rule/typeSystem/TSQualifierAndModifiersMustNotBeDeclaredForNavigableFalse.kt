@@ -36,7 +36,7 @@ class TSQualifierAndModifiersMustNotBeDeclaredForNavigableFalse : AbstractTSInsp
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.relations.relations
+        TSInspectionContext.getInstance(dom).relations
             .filter { it.sourceElement.cardinality.value === Cardinality.MANY && it.targetElement.cardinality.value === Cardinality.MANY }
             .filter { !it.sourceElement.navigable.value || !it.targetElement.navigable.value }
             .forEach {
@@ -35,7 +35,7 @@ class TSQualifierMustExistForNavigablePartInN2MRelation : AbstractTSInspection()
         helper: DomHighlightingHelper,
         severity: HighlightSeverity
     ) {
-        dom.relations.relations
+        TSInspectionContext.getInstance(dom).relations
             .filter { it.sourceElement.cardinality.value === Cardinality.MANY && it.targetElement.cardinality.value === Cardinality.MANY }
             .flatMap { listOf(it.sourceElement, it.targetElement) }
             .filter { it.navigable.value && !it.qualifier.exists() }
@@ -20,12 +20,11 @@ package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaHelper
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem
-import com.intellij.idea.plugin.hybris.system.type.model.Items
 
 class TSRelationElementMetaTypeNameMustPointToValidMetaType : AbstractTSMetaTypeInspection(
     "hybris.inspections.ts.RelationElementMetaTypeNameMustPointToValidMetaType.details.key"
 ) {
-    override fun collectMetaTypes(dom: Items) = dom.relations.relations
+    override fun collectMetaTypes(context: TSInspectionContext) = context.relations
         .flatMap { listOf(it.sourceElement.metaType, it.targetElement.metaType) }
 
     override fun isValidMetaType(meta: TSGlobalMetaItem) = TSMetaHelper.isRelationElementMetaType(meta)
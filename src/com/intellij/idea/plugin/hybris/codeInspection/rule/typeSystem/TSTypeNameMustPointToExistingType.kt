@@ -22,7 +22,6 @@ import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
 import com.intellij.idea.plugin.hybris.system.type.model.Items
-import com.intellij.idea.plugin.hybris.system.type.model.all
 import com.intellij.lang.annotation.HighlightSeverity
 import com.intellij.openapi.project.Project
 import com.intellij.util.xml.GenericAttributeValue
@@ -42,8 +41,7 @@ class TSTypeNameMustPointToExistingType : AbstractTSInspection() {
             .map { it.elementType }
         val mapArgumentTypes = dom.mapTypes.mapTypes
             .flatMap { listOf(it.argumentType, it.returnType) }
-        val attributeTypes = dom.itemTypes.all
-            .flatMap { it.attributes.attributes }
+        val attributeTypes = TSInspectionContext.getInstance(dom).attributes
             .map { it.type }
 
         (collectionElementTypes + mapArgumentTypes + attributeTypes)
@@ -37,6 +37,7 @@ class TSDiagramDataModel(val myProject: Project, provider: TSDiagramProvider) :
     val everShownNodes: MutableSet<String> = mutableSetOf()
     val removedNodes: MutableSet<String> = mutableSetOf()
     val collapsedNodes: MutableSet<String> = mutableSetOf()
+    internal val refreshCache = TSDiagramRefreshCache()
 
     @Contract(pure = true)
     override fun getModificationTracker() = createModificationTracker()
@@ -93,6 +94,7 @@ class TSDiagramDataModel(val myProject: Project, provider: TSDiagramProvider) :
         removedNodes.clear()
         collapsedNodes.clear()
         everShownNodes.clear()
+        refreshCache.clear()
     }
 
     companion object {
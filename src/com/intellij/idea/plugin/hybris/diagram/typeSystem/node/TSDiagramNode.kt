@@ -28,7 +28,10 @@ import com.intellij.util.asSafely
 import java.io.Serial
 import javax.swing.Icon
 
-class TSDiagramNode(val graphNode: TSGraphNode, provider: DiagramProvider<TSGraphNode>) : DiagramNodeBase<TSGraphNode>(provider) {
+class TSDiagramNode(graphNode: TSGraphNode, provider: DiagramProvider<TSGraphNode>) : DiagramNodeBase<TSGraphNode>(provider) {
+
+    var graphNode: TSGraphNode = graphNode
+        internal set
 
     override fun getIdentifyingElement() = graphNode
     override fun getTooltip() = graphNode.name
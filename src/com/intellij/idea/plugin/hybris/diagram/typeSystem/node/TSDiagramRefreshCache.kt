@@ -0,0 +1,96 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.diagram.typeSystem.node
+
+import com.intellij.diagram.DiagramCategory
+import com.intellij.idea.plugin.hybris.diagram.typeSystem.node.graph.TSGraphNode
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaClassifier
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem
+
+/**
+ * State of the previous Type System Diagram refresh, used to apply only changed nodes and edges.
+ *
+ * All caches are keyed by the node name, which is unique within the diagram.
+ */
+internal class TSDiagramRefreshCache {
+
+    var enabledCategories: Set<DiagramCategory>? = null
+    val versions = HashMap<String, TSDiagramNodeVersion>()
+    val dependencies = HashMap<String, List<String>>()
+    val edgeSpecs = HashMap<String, List<TSDiagramEdgeSpec>>()
+    val edges = HashMap<TSDiagramEdgeKey, TSDiagramEdge>()
+    val rebuiltNodes = HashSet<String>()
+
+    fun invalidate(name: String) {
+        dependencies.remove(name)
+        edgeSpecs.remove(name)
+        rebuiltNodes.add(name)
+    }
+
+    fun retain(names: Set<String>) {
+        versions.keys.retainAll(names)
+        dependencies.keys.retainAll(names)
+        edgeSpecs.keys.retainAll(names)
+    }
+
+    fun clear() {
+        enabledCategories = null
+        versions.clear()
+        dependencies.clear()
+        edgeSpecs.clear()
+        edges.clear()
+        rebuiltNodes.clear()
+    }
+}
+
+/**
+ * Global Meta Model is re-created on each change, but local Meta Models of the unchanged items.xml files are re-used.
+ * So, node is considered as unchanged if it is based on the same local declarations, including declarations of the whole extends chain.
+ *
+ * Only local declarations are referenced, global metas of the previous Global Meta Model must not be retained by the version.
+ */
+internal class TSDiagramNodeVersion(
+    meta: TSGlobalMetaClassifier<*>,
+    private val transitiveNode: Boolean,
+    var collapsed: Boolean,
+) {
+    private val declarations: List<Any> = meta.declarations.toList() + ((meta as? TSGlobalMetaItem)
+        ?.let { metaItem -> metaItem.relationEnds + metaItem.allExtends.flatMap { it.declarations + it.relationEnds } }
+        ?: emptyList())
+
+    fun isSameAs(other: TSDiagramNodeVersion) = transitiveNode == other.transitiveNode
+        && collapsed == other.collapsed
+        && declarations.size == other.declarations.size
+        && declarations.indices.all { declarations[it] === other.declarations[it] }
+}
+
+internal class TSDiagramEdgeSpec(
+    val target: String,
+    val type: TSDiagramEdgeType,
+    val label: String,
+    val relationship: (TSGraphNode) -> TSDiagramRelationship?,
+)
+
+internal data class TSDiagramEdgeKey(
+    val source: String,
+    val index: Int,
+    val target: String,
+    val type: TSDiagramEdgeType,
+    val label: String,
+)
@@ -15,7 +15,6 @@
  * You should have received a copy of the GNU Lesser General Public License
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
-
 package com.intellij.idea.plugin.hybris.diagram.typeSystem.node
 
 import com.intellij.diagram.DiagramElementManager
@@ -23,6 +22,7 @@ import com.intellij.diagram.DiagramRelationshipInfo
 import com.intellij.diagram.presentation.DiagramLineType
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.diagram.typeSystem.TSDiagramNodeContentManager
 import com.intellij.idea.plugin.hybris.diagram.typeSystem.node.graph.*
 import com.intellij.idea.plugin.hybris.settings.TypeSystemDiagramSettings
 import com.intellij.idea.plugin.hybris.settings.components.DeveloperSettingsComponent
@@ -31,26 +31,53 @@ import com.intellij.idea.plugin.hybris.system.type.meta.model.*
 import com.intellij.idea.plugin.hybris.system.type.model.Cardinality
 import java.awt.Shape
 
+/**
+ * Refresh is diff-based: nodes and edges of the previous refresh are re-used as-is when underlying meta declarations were not changed,
+ * so the layout of the diagram is preserved and node items have to be re-evaluated only for new or changed nodes.
+ */
 object TSDiagramRefresher {
 
     fun refresh(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, edges: MutableCollection<TSDiagramEdge>) {
         val settings = DeveloperSettingsComponent.getInstance(model.project).state.typeSystemDiagramSettings
+        val cache = model.refreshCache
+        val enabledCategories = TSDiagramNodeContentManager.CATEGORIES
+            .filter { model.nodeContentManager.isCategoryEnabled(it) }
+            .toSet()
+
+        // node items are taken according to the current content settings
+        if (cache.enabledCategories != enabledCategories) {
+            cache.dependencies.clear()
+            cache.edgeSpecs.clear()
+            cache.enabledCategories = enabledCategories
+        }
+        cache.rebuiltNodes.clear()
 
-        refreshNodes(model, nodesMap, settings)
-        refreshEdges(model, nodesMap, edges)
+        refreshNodes(model, nodesMap, settings, cache)
+        refreshEdges(model, nodesMap, edges, cache)
     }
 
-    private fun refreshNodes(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettings) {
-        nodesMap.clear()
+    private fun refreshNodes(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettings, cache: TSDiagramRefreshCache) {
+        val previousNodes = HashMap(nodesMap)
+        val newNodes = LinkedHashMap<String, TSDiagramNode>()
 
-        collectNodesItems(model, nodesMap, settings)
-        collectNodesDependencies(model, nodesMap, settings)
-        collectNodesExtends(model, nodesMap, settings)
+        collectNodesItems(model, previousNodes, newNodes, settings, cache)
+        collectNodesDependencies(model, previousNodes, newNodes, settings, cache)
+        collectNodesExtends(model, previousNodes, newNodes, settings, cache)
 
-        updatedCollapsedNodes(model, nodesMap, settings)
+        nodesMap.clear()
+        nodesMap.putAll(newNodes)
+        cache.retain(nodesMap.keys)
+
+        updatedCollapsedNodes(model, nodesMap, settings, cache)
     }
 
-    private fun collectNodesItems(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettings) {
+    private fun collectNodesItems(
+        model: TSDiagramDataModel,
+        previousNodes: Map<String, TSDiagramNode>,
+        newNodes: MutableMap<String, TSDiagramNode>,
+        settings: TypeSystemDiagramSettings,
+        cache: TSDiagramRefreshCache
+    ) {
         TSMetaModelAccess.getInstance(model.project).getAll()
             .asSequence()
             .filter { it.name != null }
@@ -67,12 +94,11 @@ object TSDiagramRefresher {
                     else -> false
                 }
             }
-            .mapNotNull { TSGraphFactory.buildNode(it) }
-            .filter { model.scopeManager?.contains(it) ?: true }
-            .map { TSDiagramNode(it, model.provider) }
+            .mapNotNull { obtainNode(model, previousNodes, cache, it, false) }
+            .filter { model.scopeManager?.contains(it.graphNode) ?: true }
             .toList()
             .forEach {
-                nodesMap[it.graphNode.name] = it
+                newNodes[it.graphNode.name] = it
             }
     }
 
@@ -82,36 +108,33 @@ object TSDiagramRefresher {
      * Nested dependencies will not be created as we're not interested at this stage in the complete picture.
      * If All possible dependencies are needed, another Type-Specific filter can be introduced with Scope = "All"
      */
-    private fun collectNodesDependencies(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettings) {
+    private fun collectNodesDependencies(
+        model: TSDiagramDataModel,
+        previousNodes: Map<String, TSDiagramNode>,
+        newNodes: MutableMap<String, TSDiagramNode>,
+        settings: TypeSystemDiagramSettings,
+        cache: TSDiagramRefreshCache
+    ) {
         if (!model.isShowDependencies) return
 
-        nodesMap.values
-            .flatMap { sourceNode ->
-                if (sourceNode.graphNode !is TSGraphNodeClassifier) return@flatMap emptyList()
-
-                return@flatMap DiagramElementManager.getNodeItemsAccordingToCurrentContentSettings(sourceNode, model.builder)
-                    .filterIsInstance<TSGraphField>()
-                    .mapNotNull { graphField ->
-                        val dependencyType = when (graphField) {
-                            is TSGraphFieldRelationEnd -> graphField.meta.type
-                            is TSGraphFieldRelationElement -> graphField.meta.type
-                            is TSGraphFieldAttribute -> graphField.meta.type
-                            is TSGraphFieldTyped -> graphField.value
-                            else -> null
-                        }
-                            ?: return@mapNotNull null
-
-                        if (model.removedNodes.contains(dependencyType)) return@mapNotNull null
-                        if (settings.excludedTypeNames.contains(dependencyType)) return@mapNotNull null
-                        if (nodesMap.containsKey(dependencyType)) return@mapNotNull null
-
-                        val transitiveNode = TSGraphFactory.buildTransitiveNode(model.project, dependencyType)
-                        if (!settings.showOOTBMapNodes && transitiveNode?.meta is TSGlobalMetaMap) return@mapNotNull null
-                        return@mapNotNull transitiveNode
-                    }
+        val metaModelAccess = TSMetaModelAccess.getInstance(model.project)
+
+        newNodes.values
+            .flatMap { sourceNode -> dependencies(model, sourceNode, cache) }
+            .filterNot { model.removedNodes.contains(it) }
+            .filterNot { settings.excludedTypeNames.contains(it) }
+            .forEach { dependencyType ->
+                if (newNodes.containsKey(dependencyType)) return@forEach
+
+                val meta = metaModelAccess.findMetaClassifierByName(dependencyType)
+                    ?.takeIf { it.name != null }
+                    ?.takeIf { it !is TSGlobalMetaAtomic }
+                    ?: return@forEach
+                if (!settings.showOOTBMapNodes && meta is TSGlobalMetaMap) return@forEach
+
+                obtainNode(model, previousNodes, cache, meta, true)
+                    ?.let { newNodes[it.graphNode.name] = it }
             }
-            .map { TSDiagramNode(it, model.provider) }
-            .forEach { nodesMap[it.graphNode.name] = it }
     }
 
     /**
@@ -121,8 +144,14 @@ object TSDiagramRefresher {
      *
      * Also, it is possible to specify STOP Types for extent names to limit down amount of created "shared" Edges
      */
-    private fun collectNodesExtends(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettings) {
-        nodesMap.values
+    private fun collectNodesExtends(
+        model: TSDiagramDataModel,
+        previousNodes: Map<String, TSDiagramNode>,
+        newNodes: MutableMap<String, TSDiagramNode>,
+        settings: TypeSystemDiagramSettings,
+        cache: TSDiagramRefreshCache
+    ) {
+        newNodes.values
             .flatMap { sourceNode ->
                 val graphNode = sourceNode.graphNode as? TSGraphNodeClassifier ?: return@flatMap emptyList()
                 val meta = graphNode.meta as? TSGlobalMetaItem ?: return@flatMap emptyList()
@@ -131,17 +160,53 @@ object TSDiagramRefresher {
                     .asSequence()
                     .filter { extendsMeta -> extendsMeta.name != null }
                     .filterNot { extendsMeta -> settings.excludedTypeNames.contains(extendsMeta.name) }
-                    .filter { extendsMeta -> nodesMap[extendsMeta.name] == null }
+                    .filter { extendsMeta -> newNodes[extendsMeta.name] == null }
                     .filterNot { extendsMeta -> model.removedNodes.contains(extendsMeta.name) }
-                    .mapNotNull { extendsMeta -> TSGraphFactory.buildTransitiveNode(extendsMeta) }
-                    .filter { extendsGraphNode -> model.scopeManager?.contains(extendsGraphNode) ?: true }
                     .toList()
             }
-            .map { TSDiagramNode(it, model.provider) }
-            .forEach { nodesMap[it.graphNode.name] = it }
+            .forEach { extendsMeta ->
+                if (newNodes.containsKey(extendsMeta.name)) return@forEach
+
+                obtainNode(model, previousNodes, cache, extendsMeta, true)
+                    ?.takeIf { extendsNode -> model.scopeManager?.contains(extendsNode.graphNode) ?: true }
+                    ?.let { newNodes[it.graphNode.name] = it }
+            }
     }
 
-    private fun updatedCollapsedNodes(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettings) {
+    /**
+     * Graph node is always re-built for the current Global Meta Model, so tooltips, navigation and extends chain never refer to stale metas.
+     * Diagram node and its derived state (node items, dependencies, edges) are re-used if node is based on the same meta declarations.
+     * Changed nodes keep the same diagram node instance to preserve the layout.
+     */
+    private fun obtainNode(
+        model: TSDiagramDataModel,
+        previousNodes: Map<String, TSDiagramNode>,
+        cache: TSDiagramRefreshCache,
+        meta: TSGlobalMetaClassifier<*>,
+        transitiveNode: Boolean
+    ): TSDiagramNode? {
+        val name = meta.name ?: return null
+        val version = TSDiagramNodeVersion(meta, transitiveNode, model.collapsedNodes.contains(name))
+        val previousNode = previousNodes[name]
+        val unchanged = previousNode != null && cache.versions[name]?.isSameAs(version) == true
+
+        val graphNode = (if (transitiveNode) TSGraphFactory.buildTransitiveNode(meta) else TSGraphFactory.buildNode(meta))
+            ?: return null
+
+        cache.versions[name] = version
+        if (!unchanged) cache.invalidate(name)
+
+        return previousNode
+            ?.also { it.graphNode = graphNode }
+            ?: TSDiagramNode(graphNode, model.provider)
+    }
+
+    private fun updatedCollapsedNodes(
+        model: TSDiagramDataModel,
+        nodesMap: MutableMap<String, TSDiagramNode>,
+        settings: TypeSystemDiagramSettings,
+        cache: TSDiagramRefreshCache
+    ) {
         if (settings.nodesCollapsedByDefault) {
             if (model.modificationCount == 0L) {
                 model.collapseAllNodes()
@@ -159,146 +224,179 @@ object TSDiagramRefresher {
             .map { it.graphNode }
             .filter { model.collapsedNodes.contains(it.name) }
             .forEach {
-                it.fields.clear()
+                if (it.fields.isNotEmpty()) {
+                    it.fields.clear()
+                    // edge descriptors of the node evaluated before it has been collapsed are no longer valid
+                    if (cache.versions[it.name]?.collapsed != true) cache.edgeSpecs.remove(it.name)
+                }
                 it.collapsed = true
+                cache.versions[it.name]?.collapsed = true
             }
     }
 
-    private fun refreshEdges(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, edges: MutableCollection<TSDiagramEdge>) {
-        edges.clear()
-
-        collectEdgesExtends(nodesMap, edges)
-        collectEdgesPartOf(model, nodesMap, edges)
-        collectEdgesDependencies(model, nodesMap, edges)
-    }
-
-    private fun collectEdgesPartOf(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, edges: MutableCollection<TSDiagramEdge>) {
-        nodesMap.values.forEach { sourceNode ->
-            if (sourceNode.graphNode !is TSGraphNodeClassifier) return@forEach
+    private fun dependencies(model: TSDiagramDataModel, sourceNode: TSDiagramNode, cache: TSDiagramRefreshCache) = cache.dependencies
+        .getOrPut(sourceNode.graphNode.name) {
+            if (sourceNode.graphNode !is TSGraphNodeClassifier) return@getOrPut emptyList()
 
             DiagramElementManager.getNodeItemsAccordingToCurrentContentSettings(sourceNode, model.builder)
                 .filterIsInstance<TSGraphField>()
                 .mapNotNull { graphField ->
-                    var name: String? = null
-                    var type: String? = null
-
                     when (graphField) {
-                        is TSGraphFieldRelationElement -> if (graphField.meta.modifiers.isPartOf) {
-                            name = graphField.name
-                            type = graphField.meta.type
-                        }
-
-                        is TSGraphFieldAttribute -> if (graphField.meta.modifiers.isPartOf) {
-                            name = graphField.name
-                            type = graphField.meta.type
-                        }
+                        is TSGraphFieldRelationEnd -> graphField.meta.type
+                        is TSGraphFieldRelationElement -> graphField.meta.type
+                        is TSGraphFieldAttribute -> graphField.meta.type
+                        is TSGraphFieldTyped -> graphField.value
+                        else -> null
                     }
-                    if (name == null || type == null) return@mapNotNull null
-
-                    val targetNode = nodesMap[type] ?: return@mapNotNull null
-                    val relationship = TSDiagramRelationship(
-                        upperCenterLabel = message("hybris.diagram.ts.provider.edge.part_of", name),
-                        lineType = DiagramLineType.DOTTED,
-                        targetArrow = DiagramRelationshipInfo.CONVEX,
-                        sourceArrow = DiagramRelationshipInfo.CONCAVE
-                    )
-                    TSDiagramEdge(sourceNode, targetNode, relationship, TSDiagramEdgeType.PART_OF)
                 }
-                .forEach { edges.add(it) }
         }
-    }
 
-    private fun collectEdgesDependencies(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, edges: MutableCollection<TSDiagramEdge>) {
+    private fun refreshEdges(
+        model: TSDiagramDataModel,
+        nodesMap: MutableMap<String, TSDiagramNode>,
+        edges: MutableCollection<TSDiagramEdge>,
+        cache: TSDiagramRefreshCache
+    ) {
+        val newEdges = LinkedHashMap<TSDiagramEdgeKey, TSDiagramEdge>()
+
         nodesMap.values.forEach { sourceNode ->
-            if (sourceNode.graphNode !is TSGraphNodeClassifier) return@forEach
+            val sourceName = sourceNode.graphNode.name
 
-            DiagramElementManager.getNodeItemsAccordingToCurrentContentSettings(sourceNode, model.builder)
-                .filterIsInstance<TSGraphField>()
-                .mapNotNull { graphField ->
-                    var name: String? = null
-                    var type: String? = null
-                    var sourceArrow: Shape? = null
-                    var targetArrow: Shape? = null
-                    var navigable = true
+            edgeSpecs(model, sourceNode, cache).forEachIndexed { index, spec ->
+                val targetNode = nodesMap[spec.target] ?: return@forEachIndexed
+                val key = TSDiagramEdgeKey(sourceName, index, spec.target, spec.type, spec.label)
 
-                    when (graphField) {
-                        is TSGraphFieldRelationEnd -> {
-                            name = graphField.name
-                            type = graphField.meta.type
-                            navigable = graphField.meta.isNavigable
-                            sourceArrow = if (graphField.meta.modifiers.isOptional) DiagramRelationshipInfo.CROWS_FOOT_ONE_OPTIONAL
-                            else DiagramRelationshipInfo.CROWS_FOOT_ONE
-                            targetArrow = if (graphField.meta.cardinality == Cardinality.ONE) DiagramRelationshipInfo.CROWS_FOOT_ONE
-                            else DiagramRelationshipInfo.CROWS_FOOT_MANY
-                        }
-
-                        is TSGraphFieldRelationElement -> {
-                            name = graphField.name
-                            type = graphField.meta.type
-                            navigable = graphField.meta.isNavigable
-                            sourceArrow = if (graphField.meta.modifiers.isOptional) DiagramRelationshipInfo.CROWS_FOOT_ONE_OPTIONAL
-                            else DiagramRelationshipInfo.CROWS_FOOT_ONE
-                            targetArrow = if (graphField.meta.cardinality == Cardinality.ONE) DiagramRelationshipInfo.CROWS_FOOT_ONE
-                            else DiagramRelationshipInfo.CROWS_FOOT_MANY
-                        }
-
-                        is TSGraphFieldAttribute -> {
-                            name = graphField.name
-                            type = graphField.meta.type
-                            sourceArrow = if (graphField.meta.modifiers.isOptional) DiagramRelationshipInfo.CROWS_FOOT_ONE_OPTIONAL
-                            else DiagramRelationshipInfo.CROWS_FOOT_ONE
-                        }
-
-                        is TSGraphFieldTyped -> {
-                            name = graphField.name
-                            type = graphField.value
-                        }
-                    }
-                    if (name == null || type == null) return@mapNotNull null
+                val edge = cache.edges[key]
+                    ?.takeIf { it.source === sourceNode && it.target === targetNode }
+                    ?.takeUnless { cache.rebuiltNodes.contains(sourceName) || cache.rebuiltNodes.contains(spec.target) }
+                    ?: spec.relationship(targetNode.graphNode)
+                        ?.let { TSDiagramEdge(sourceNode, targetNode, it, spec.type) }
+                    ?: return@forEachIndexed
+
+                newEdges[key] = edge
+            }
+        }
 
-                    val targetNode = nodesMap[type] ?: return@mapNotNull null
-                    val targetGraphNode = targetNode.graphNode
+        cache.edges.clear()
+        cache.edges.putAll(newEdges)
 
-                    if (targetGraphNode !is TSGraphNodeClassifier) return@mapNotNull null
+        edges.clear()
+        edges.addAll(newEdges.values)
+    }
 
-                    val targetMeta = targetGraphNode.meta
+    private fun edgeSpecs(model: TSDiagramDataModel, sourceNode: TSDiagramNode, cache: TSDiagramRefreshCache) = cache.edgeSpecs
+        .getOrPut(sourceNode.graphNode.name) {
+            val graphNode = sourceNode.graphNode as? TSGraphNodeClassifier ?: return@getOrPut emptyList()
+            val graphFields = DiagramElementManager.getNodeItemsAccordingToCurrentContentSettings(sourceNode, model.builder)
+                .filterIsInstance<TSGraphField>()
 
-                    if (targetMeta is TSGlobalMetaCollection || targetMeta is TSGlobalMetaMap) {
-                        targetArrow = DiagramRelationshipInfo.CROWS_FOOT_MANY
-                    }
-                    val relationship = TSDiagramRelationship(
-                        upperCenterLabel = name,
-                        lineType = DiagramLineType.DASHED,
-                        sourceArrow = sourceArrow ?: DiagramRelationshipInfo.CROWS_FOOT_ONE,
-                        targetArrow = targetArrow
-                    )
+            collectEdgesExtends(graphNode) + collectEdgesPartOf(graphFields) + collectEdgesDependencies(graphFields)
+        }
 
-                    val edgeType = if (navigable) TSDiagramEdgeType.DEPENDENCY_NAVIGABLE
-                    else TSDiagramEdgeType.DEPENDENCY
+    private fun collectEdgesPartOf(graphFields: List<TSGraphField>) = graphFields
+        .mapNotNull { graphField ->
+            var name: String? = null
+            var type: String? = null
 
-                    TSDiagramEdge(sourceNode, targetNode, relationship, edgeType)
+            when (graphField) {
+                is TSGraphFieldRelationElement -> if (graphField.meta.modifiers.isPartOf) {
+                    name = graphField.name
+                    type = graphField.meta.type
                 }
-                .forEach { edges.add(it) }
 
+                is TSGraphFieldAttribute -> if (graphField.meta.modifiers.isPartOf) {
+                    name = graphField.name
+                    type = graphField.meta.type
+                }
+            }
+            if (name == null || type == null) return@mapNotNull null
+
+            val label = name
+            TSDiagramEdgeSpec(type, TSDiagramEdgeType.PART_OF, label) {
+                TSDiagramRelationship(
+                    upperCenterLabel = message("hybris.diagram.ts.provider.edge.part_of", label),
+                    lineType = DiagramLineType.DOTTED,
+                    targetArrow = DiagramRelationshipInfo.CONVEX,
+                    sourceArrow = DiagramRelationshipInfo.CONCAVE
+                )
+            }
         }
-    }
 
-    private fun collectEdgesExtends(nodesMap: MutableMap<String, TSDiagramNode>, edges: MutableCollection<TSDiagramEdge>) {
-        val label: String by lazy { message("hybris.diagram.ts.provider.edge.extends") }
-        nodesMap.values.forEach { sourceNode ->
-            val graphNode = sourceNode.graphNode as? TSGraphNodeClassifier ?: return@forEach
-            val meta = graphNode.meta as? TSGlobalMetaItem ?: return@forEach
-
-            nodesMap[(meta.extendedMetaItemName ?: HybrisConstants.TS_TYPE_GENERIC_ITEM)]
-                ?.let { targetNode ->
-                    TSDiagramEdge(
-                        sourceNode, targetNode, TSDiagramRelationship(
-                            upperCenterLabel = label,
-                            targetArrow = DiagramRelationshipInfo.DELTA
-                        ), TSDiagramEdgeType.EXTENDS
-                    )
+    private fun collectEdgesDependencies(graphFields: List<TSGraphField>) = graphFields
+        .mapNotNull { graphField ->
+            var name: String? = null
+            var type: String? = null
+            var sourceArrow: Shape? = null
+            var targetArrow: Shape? = null
+            var navigable = true
+
+            when (graphField) {
+                is TSGraphFieldRelationEnd -> {
+                    name = graphField.name
+                    type = graphField.meta.type
+                    navigable = graphField.meta.isNavigable
+                    sourceArrow = if (graphField.meta.modifiers.isOptional) DiagramRelationshipInfo.CROWS_FOOT_ONE_OPTIONAL
+                    else DiagramRelationshipInfo.CROWS_FOOT_ONE
+                    targetArrow = if (graphField.meta.cardinality == Cardinality.ONE) DiagramRelationshipInfo.CROWS_FOOT_ONE
+                    else DiagramRelationshipInfo.CROWS_FOOT_MANY
+                }
+
+                is TSGraphFieldRelationElement -> {
+                    name = graphField.name
+                    type = graphField.meta.type
+                    navigable = graphField.meta.isNavigable
+                    sourceArrow = if (graphField.meta.modifiers.isOptional) DiagramRelationshipInfo.CROWS_FOOT_ONE_OPTIONAL
+                    else DiagramRelationshipInfo.CROWS_FOOT_ONE
+                    targetArrow = if (graphField.meta.cardinality == Cardinality.ONE) DiagramRelationshipInfo.CROWS_FOOT_ONE
+                    else DiagramRelationshipInfo.CROWS_FOOT_MANY
+                }
+
+                is TSGraphFieldAttribute -> {
+                    name = graphField.name
+                    type = graphField.meta.type
+                    sourceArrow = if (graphField.meta.modifiers.isOptional) DiagramRelationshipInfo.CROWS_FOOT_ONE_OPTIONAL
+                    else DiagramRelationshipInfo.CROWS_FOOT_ONE
                 }
-                ?.let { edge -> edges.add(edge) }
+
+                is TSGraphFieldTyped -> {
+                    name = graphField.name
+                    type = graphField.value
+                }
+            }
+            if (name == null || type == null) return@mapNotNull null
+
+            val edgeType = if (navigable) TSDiagramEdgeType.DEPENDENCY_NAVIGABLE
+            else TSDiagramEdgeType.DEPENDENCY
+            val label = name
+            val edgeSourceArrow = sourceArrow ?: DiagramRelationshipInfo.CROWS_FOOT_ONE
+            val edgeTargetArrow = targetArrow
+
+            TSDiagramEdgeSpec(type, edgeType, label) { targetGraphNode ->
+                if (targetGraphNode !is TSGraphNodeClassifier) return@TSDiagramEdgeSpec null
+
+                val targetMeta = targetGraphNode.meta
+
+                TSDiagramRelationship(
+                    upperCenterLabel = label,
+                    lineType = DiagramLineType.DASHED,
+                    sourceArrow = edgeSourceArrow,
+                    targetArrow = if (targetMeta is TSGlobalMetaCollection || targetMeta is TSGlobalMetaMap) DiagramRelationshipInfo.CROWS_FOOT_MANY
+                    else edgeTargetArrow
+                )
+            }
         }
+
+    private fun collectEdgesExtends(graphNode: TSGraphNodeClassifier): List<TSDiagramEdgeSpec> {
+        val meta = graphNode.meta as? TSGlobalMetaItem ?: return emptyList()
+        val label = message("hybris.diagram.ts.provider.edge.extends")
+
+        return listOf(
+            TSDiagramEdgeSpec(meta.extendedMetaItemName ?: HybrisConstants.TS_TYPE_GENERIC_ITEM, TSDiagramEdgeType.EXTENDS, label) {
+                TSDiagramRelationship(
+                    upperCenterLabel = label,
+                    targetArrow = DiagramRelationshipInfo.DELTA
+                )
+            }
+        )
     }
-}
\ No newline at end of file
+}
@@ -19,4 +19,4 @@ package com.intellij.idea.plugin.hybris.flexibleSearch
 
 import com.intellij.psi.tree.IElementType
 
-class FlexibleSearchElementType(debugName: String) : IElementType(debugName, FlexibleSearchLanguage)
+open class FlexibleSearchElementType(debugName: String) : IElementType(debugName, FlexibleSearchLanguage)
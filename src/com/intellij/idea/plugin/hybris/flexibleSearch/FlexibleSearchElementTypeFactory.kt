@@ -0,0 +1,39 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTypes
+import com.intellij.psi.tree.IElementType
+import com.intellij.psi.tree.TokenSet
+
+object FlexibleSearchElementTypeFactory {
+
+    @JvmStatic
+    fun getElementType(name: String): IElementType = when (name) {
+        "SELECT_SUBQUERY" -> FlexibleSearchReparseableElementType(name, FlexibleSearchParser::select_subquery) {
+            // string literals are not accepted as alias, unterminated one would swallow the rest of the query
+            TokenSet.create(FlexibleSearchTypes.AS, FlexibleSearchTypes.IDENTIFIER, FlexibleSearchTypes.BACKTICK_LITERAL)
+        }
+
+        "SELECT_SUBQUERY_COMBINED" -> FlexibleSearchReparseableElementType(name, FlexibleSearchParser::select_subquery_combined)
+        "FROM_CLAUSE_SELECT_QUERY" -> FlexibleSearchReparseableElementType(name, FlexibleSearchParser::from_clause_select_query)
+
+        else -> throw IllegalArgumentException("Unknown element type: $name")
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTypes
+import com.intellij.idea.plugin.hybris.psi.util.PsiReparseUtils
+import com.intellij.lang.ASTNode
+import com.intellij.lang.Language
+import com.intellij.lang.PsiBuilder
+import com.intellij.lang.PsiBuilderFactory
+import com.intellij.lang.parser.GeneratedParserUtilBase
+import com.intellij.openapi.project.Project
+import com.intellij.psi.TokenType
+import com.intellij.psi.impl.source.tree.LazyParseableElement
+import com.intellij.psi.tree.ICustomParsingType
+import com.intellij.psi.tree.IReparseableElementTypeBase
+import com.intellij.psi.tree.TokenSet
+import com.intellij.util.CharTable
+
+/**
+ * Subqueries are reparsed on their own when an edit stays within their braces.
+ *
+ * The edited text is accepted only when it is a single balanced block, see [PsiReparseUtils.isBracedBlock],
+ * and parses into exactly one element of the same type with the [rule] without any errors, see [PsiReparseUtils.hasErrors].
+ */
+class FlexibleSearchReparseableElementType(
+    debugName: String,
+    private val rule: GeneratedParserUtilBase.Parser,
+    tailTokens: () -> TokenSet = { TokenSet.EMPTY },
+) : FlexibleSearchElementType(debugName), IReparseableElementTypeBase, ICustomParsingType {
+
+    // element types are created while FlexibleSearchTypes is initialized, so its tokens cannot be referenced eagerly
+    private val tailTokens by lazy(tailTokens)
+
+    override fun isParsable(parent: ASTNode?, buffer: CharSequence, fileLanguage: Language, project: Project) = parent != null
+        && isBracedBlock(buffer, tailTokens)
+        && parseSubquery(PsiBuilderFactory.getInstance().createBuilder(FlexibleSearchParserDefinition(), FlexibleSearchLexer(), buffer))
+        ?.takeIf { it.elementType == this && it.treeNext == null && !PsiReparseUtils.hasErrors(it) } != null
+
+    override fun parse(text: CharSequence, table: CharTable): ASTNode = LazyParseableElement(this, text)
+
+    override fun parseContents(chameleon: ASTNode): ASTNode? {
+        val project = chameleon.treeParent.psi.project
+        val builder = PsiBuilderFactory.getInstance().createBuilder(project, chameleon, FlexibleSearchLexer(), language, chameleon.chars)
+
+        return parseSubquery(builder)
+            ?.firstChildNode
+    }
+
+    private fun parseSubquery(builder: PsiBuilder) = PsiReparseUtils.parse(this, builder, FlexibleSearchParser(), FlexibleSearchParser.EXTENDS_SETS_, rule)
+        .firstChildNode
+
+    companion object {
+        private val braces by lazy {
+            mapOf(
+                FlexibleSearchTypes.LDBRACE to FlexibleSearchTypes.RDBRACE,
+                FlexibleSearchTypes.LBRACE to FlexibleSearchTypes.RBRACE,
+                FlexibleSearchTypes.LPAREN to FlexibleSearchTypes.RPAREN,
+            )
+        }
+        private val skipTokens by lazy { TokenSet.create(TokenType.WHITE_SPACE, FlexibleSearchTypes.COMMENT, FlexibleSearchTypes.LINE_COMMENT) }
+
+        internal fun isBracedBlock(buffer: CharSequence, tailTokens: TokenSet = TokenSet.EMPTY) = PsiReparseUtils.isBracedBlock(
+            FlexibleSearchLexer(), buffer, braces, skipTokens, tailTokens
+        )
+    }
+}
@@ -18,15 +18,13 @@
 package com.intellij.idea.plugin.hybris.flexibleSearch.lang.findUsages
 
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
-import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchColumnName
-import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSelectedTableName
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSymbolTable
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTypes.COLUMN_ALIAS_NAME
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTypes.TABLE_ALIAS_NAME
 import com.intellij.openapi.application.QueryExecutorBase
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiReference
 import com.intellij.psi.search.searches.ReferencesSearch
-import com.intellij.psi.util.PsiTreeUtil
 import com.intellij.psi.util.elementType
 import com.intellij.util.Processor
 
@@ -44,23 +42,15 @@ class FlexibleSearchReferenceSearcher : QueryExecutorBase<PsiReference, Referenc
         }
     }
 
-    private fun processTableAlias(elementToSearch: PsiElement, consumer: Processor<in PsiReference>) {
-        val file = elementToSearch.containingFile
-
-        PsiTreeUtil.collectElements(file) {
-            it is FlexibleSearchSelectedTableName && it.textMatches(elementToSearch)
-        }
-            .mapNotNull { it.reference }
-            .forEach { consumer.process(it) }
-    }
-
-    private fun processColumnAlias(elementToSearch: PsiElement, consumer: Processor<in PsiReference>) {
-        val file = elementToSearch.containingFile
-
-        PsiTreeUtil.collectElements(file) {
-            it is FlexibleSearchColumnName && it.textMatches(elementToSearch)
-        }
-            .mapNotNull { it.reference }
-            .forEach { consumer.process(it) }
-    }
+    private fun processTableAlias(elementToSearch: PsiElement, consumer: Processor<in PsiReference>) = FlexibleSearchSymbolTable
+        .getInstance(elementToSearch.containingFile)
+        .getTableAliasUsages(elementToSearch)
+        .mapNotNull { it.reference }
+        .forEach { consumer.process(it) }
+
+    private fun processColumnAlias(elementToSearch: PsiElement, consumer: Processor<in PsiReference>) = FlexibleSearchSymbolTable
+        .getInstance(elementToSearch.containingFile)
+        .getColumnAliasUsages(elementToSearch)
+        .mapNotNull { it.reference }
+        .forEach { consumer.process(it) }
 }
@@ -95,37 +95,31 @@ fun getTableToAlias(element: FlexibleSearchYColumnName): Pair<FlexibleSearchDefi
             }
 }
 
-fun getTableAliases(element: PsiElement): Collection<FlexibleSearchTableAliasName> {
+fun getTableAliases(element: PsiElement): Collection<FlexibleSearchTableAliasName> = FlexibleSearchSymbolTable.getInstance(element.containingFile)
+    .getTableAliases(element)
+
+/*
+ Elements which contain table aliases visible from the given element.
+ Fallback scope has to be used only when there are no table aliases at all within the primary scopes.
+ */
+internal fun getTableAliasScopes(element: PsiElement): Pair<List<PsiElement>, PsiElement?> {
     // Order clause is outside the select core
     if (PsiTreeUtil.getParentOfType(element, FlexibleSearchOrderClause::class.java) != null) {
-        return PsiTreeUtil.getParentOfType(element, FlexibleSearchSelectStatement::class.java)
-            ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-            ?: emptyList()
+        return listOfNotNull(PsiTreeUtil.getParentOfType(element, FlexibleSearchSelectStatement::class.java)) to null
     }
 
     // Where a case also may contain sub-queries, in such a case visibility to aliases will be from top-most available select
-    val topWhereClauseTableAliases = PsiTreeUtil.getTopmostParentOfType(element, FlexibleSearchWhereClause::class.java)
-        ?.let { topWhereClause ->
-            PsiTreeUtil.getParentOfType(topWhereClause, FlexibleSearchSelectCoreSelect::class.java)
-                ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-        }
-        ?: emptyList()
+    val topWhereClauseScope = PsiTreeUtil.getTopmostParentOfType(element, FlexibleSearchWhereClause::class.java)
+        ?.let { topWhereClause -> PsiTreeUtil.getParentOfType(topWhereClause, FlexibleSearchSelectCoreSelect::class.java) }
     // Case when we're in the Result column, we may have nested selects in the result column, so have to find the top one
-    val topResultColumnsTableAliases = PsiTreeUtil.getTopmostParentOfType(element, FlexibleSearchResultColumns::class.java)
-        ?.let { topResultColumns ->
-            PsiTreeUtil.getParentOfType(topResultColumns, FlexibleSearchSelectStatement::class.java)
-                ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-        }
-        ?: emptyList()
-
-    val tableAliases = topWhereClauseTableAliases + topResultColumnsTableAliases
-    if (tableAliases.isNotEmpty()) return tableAliases
+    val topResultColumnsScope = PsiTreeUtil.getTopmostParentOfType(element, FlexibleSearchResultColumns::class.java)
+        ?.let { topResultColumns -> PsiTreeUtil.getParentOfType(topResultColumns, FlexibleSearchSelectStatement::class.java) }
 
     // all other cases, like GROUP BY, HAVING, etc
-    return PsiTreeUtil.getParentOfType(element, FlexibleSearchSelectCoreSelect::class.java)
+    val fallbackScope = PsiTreeUtil.getParentOfType(element, FlexibleSearchSelectCoreSelect::class.java)
         ?.fromClause
-        ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-        ?: emptyList()
+
+    return listOfNotNull(topWhereClauseScope, topResultColumnsScope) to fallbackScope
 }
 
 /*
@@ -0,0 +1,143 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.psi
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.openapi.util.Key
+import com.intellij.psi.PsiElement
+import com.intellij.psi.PsiFile
+import com.intellij.psi.PsiRecursiveElementWalkingVisitor
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.parents
+
+/**
+ * Per-file symbol table of table aliases and their usages, built in a single pass over the FlexibleSearch file.
+ *
+ * Table is re-built only when the file changes, so find usages and alias resolution do not need to walk the whole tree
+ * for every declaration or reference. Aliases are grouped by each select, statement and from clause containing them,
+ * so resolution of a reference does not depend on the number of aliases in the file.
+ */
+class FlexibleSearchSymbolTable private constructor(
+    private val scopeAliases: Map<PsiElement, List<FlexibleSearchTableAliasName>>,
+    private val tableAliasUsages: List<FlexibleSearchSelectedTableName>,
+    private val columnAliasUsages: Map<String, List<FlexibleSearchColumnName>>,
+) {
+
+    private val scopeAliasesByName = scopeAliases.mapValues { (_, aliases) ->
+        aliases
+            .groupBy { key(it) }
+            .mapValues { it.value.first() }
+    }
+
+    // usages are resolved at most once per file modification, and only when find usages is requested
+    private val tableAliasUsagesByDeclaration by lazy {
+        tableAliasUsages
+            .mapNotNull { usage -> resolveTableAlias(usage)?.let { it to usage } }
+            .groupBy({ it.first }, { it.second })
+    }
+
+    fun getTableAliasUsages(tableAlias: PsiElement): List<FlexibleSearchSelectedTableName> = tableAliasUsagesByDeclaration[tableAlias]
+        ?: emptyList()
+
+    fun getColumnAliasUsages(columnAlias: PsiElement): List<FlexibleSearchColumnName> = columnAliasUsages[key(columnAlias)]
+        ?.filter { it.reference?.isReferenceTo(columnAlias) == true }
+        ?: emptyList()
+
+    /**
+     * Table aliases visible from the given element, in the order of declaration.
+     *
+     * Aliases of the fallback scope are visible only when there are no aliases at all within the primary scopes.
+     */
+    fun getTableAliases(element: PsiElement): List<FlexibleSearchTableAliasName> {
+        val (scopes, fallbackScope) = getTableAliasScopes(element)
+        val visibleAliases = when (scopes.size) {
+            0 -> emptyList()
+            1 -> scopeAliases[scopes.first()] ?: emptyList()
+            // nested scopes share aliases, keep each of them once and in the order of declaration
+            else -> scopes
+                .flatMap { scopeAliases[it] ?: emptyList() }
+                .distinct()
+                .sortedBy { it.textOffset }
+        }
+
+        if (visibleAliases.isNotEmpty() || fallbackScope == null) return visibleAliases
+
+        return scopeAliases[fallbackScope] ?: emptyList()
+    }
+
+    /**
+     * Resolves table alias visible from the given element, same visibility rules as for [getTableAliases] apply.
+     */
+    fun resolveTableAlias(element: PsiElement): FlexibleSearchTableAliasName? {
+        val name = key(element)
+        val (scopes, fallbackScope) = getTableAliasScopes(element)
+
+        scopes.firstNotNullOfOrNull { scopeAliasesByName[it]?.get(name) }
+            ?.let { return it }
+
+        if (fallbackScope == null) return null
+        if (scopes.any { scopeAliases.containsKey(it) }) return null
+
+        return scopeAliasesByName[fallbackScope]?.get(name)
+    }
+
+    companion object {
+        private val CACHE_KEY = Key.create<CachedValue<FlexibleSearchSymbolTable>>("HYBRIS_FXS_SYMBOL_TABLE")
+
+        fun getInstance(file: PsiFile): FlexibleSearchSymbolTable = CachedValuesManager.getCachedValue(file, CACHE_KEY) {
+            CachedValueProvider.Result.create(build(file), file)
+        }
+
+        /**
+         * Single normalisation of the symbol names, both for declarations and lookups, completion dummy identifier is not a part of the name.
+         */
+        private fun key(element: PsiElement) = element.text
+            .replace(HybrisConstants.FXS_DUMMY_IDENTIFIER, "")
+            .trim()
+
+        private fun isScope(element: PsiElement) = element is FlexibleSearchSelectCoreSelect
+            || element is FlexibleSearchSelectStatement
+            || element is FlexibleSearchFromClause
+
+        private fun build(file: PsiFile): FlexibleSearchSymbolTable {
+            val scopeAliases = mutableMapOf<PsiElement, MutableList<FlexibleSearchTableAliasName>>()
+            val tableAliasUsages = mutableListOf<FlexibleSearchSelectedTableName>()
+            val columnAliasUsages = mutableMapOf<String, MutableList<FlexibleSearchColumnName>>()
+
+            file.accept(object : PsiRecursiveElementWalkingVisitor() {
+                override fun visitElement(element: PsiElement) {
+                    when (element) {
+                        is FlexibleSearchTableAliasName -> element.parents(false)
+                            .takeWhile { it !is PsiFile }
+                            .filter { isScope(it) }
+                            .forEach { scopeAliases.getOrPut(it) { mutableListOf() }.add(element) }
+
+                        is FlexibleSearchSelectedTableName -> tableAliasUsages.add(element)
+                        is FlexibleSearchColumnName -> columnAliasUsages.getOrPut(key(element)) { mutableListOf() }.add(element)
+                    }
+                    super.visitElement(element)
+                }
+            })
+
+            return FlexibleSearchSymbolTable(scopeAliases, tableAliasUsages, columnAliasUsages)
+        }
+    }
+}
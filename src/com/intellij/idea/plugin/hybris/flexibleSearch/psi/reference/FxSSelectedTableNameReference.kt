@@ -18,10 +18,10 @@
 
 package com.intellij.idea.plugin.hybris.flexibleSearch.psi.reference
 
-import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.flexibleSearch.FxSUtils
 import com.intellij.idea.plugin.hybris.flexibleSearch.codeInsight.lookup.FxSLookupElementFactory
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSelectedTableName
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSymbolTable
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.reference.result.FxSTableAliasNameResolveResult
 import com.intellij.idea.plugin.hybris.psi.util.PsiUtils
 import com.intellij.openapi.util.Key
@@ -44,7 +44,8 @@ class FxSSelectedTableNameReference(owner: FlexibleSearchSelectedTableName) : Ps
         .getParameterizedCachedValue(element, CACHE_KEY, provider, false, this)
         .let { PsiUtils.getValidResults(it) }
 
-    override fun getVariants() = element.tableAliases
+    override fun getVariants() = FlexibleSearchSymbolTable.getInstance(element.containingFile)
+        .getTableAliases(element)
         .map { tableAlias -> FxSLookupElementFactory.build(tableAlias) }
         .toTypedArray()
 
@@ -53,12 +54,8 @@ class FxSSelectedTableNameReference(owner: FlexibleSearchSelectedTableName) : Ps
             Key.create<ParameterizedCachedValue<Array<ResolveResult>, FxSSelectedTableNameReference>>("HYBRIS_FXS_CACHED_REFERENCE")
 
         private val provider = ParameterizedCachedValueProvider<Array<ResolveResult>, FxSSelectedTableNameReference> { ref ->
-            val lookingForName = ref.element.text
-                .replace(HybrisConstants.FXS_DUMMY_IDENTIFIER, "")
-                .trim()
-
-            val result: Array<ResolveResult> = ref.element.tableAliases
-                .firstOrNull { alias -> alias.text.trim() == lookingForName }
+            val result: Array<ResolveResult> = FlexibleSearchSymbolTable.getInstance(ref.element.containingFile)
+                .resolveTableAlias(ref.element)
                 ?.let { arrayOf(FxSTableAliasNameResolveResult(it)) }
                 ?: ResolveResult.EMPTY_ARRAY
 
@@ -25,6 +25,7 @@ import com.intellij.idea.plugin.hybris.common.HybrisConstants.ATTRIBUTE_TARGET
 import com.intellij.idea.plugin.hybris.flexibleSearch.FxSUtils
 import com.intellij.idea.plugin.hybris.flexibleSearch.codeInsight.lookup.FxSLookupElementFactory
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchDefinedTableName
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSymbolTable
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTableAliasName
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTypes
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchYColumnName
@@ -128,7 +129,8 @@ class FxSYColumnReference(owner: FlexibleSearchYColumnName) : PsiReferenceBase.P
                 )
             }
             ?: emptyArray()
-        val tableAliases: Array<LookupElementBuilder> = element.tableAliases
+        val tableAliases: Array<LookupElementBuilder> = FlexibleSearchSymbolTable.getInstance(element.containingFile)
+            .getTableAliases(element)
             .map { FxSLookupElementFactory.build(it, false, fxsSettings) }
             .toTypedArray()
 
@@ -22,40 +22,89 @@ import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.common.HybrisUtil
 import com.intellij.openapi.module.Module
 import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.ProjectRootManager
+import com.intellij.openapi.util.Key
 import com.intellij.openapi.vfs.JarFileSystem
 import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.openapi.vfs.VirtualFileManager
+import com.intellij.openapi.vfs.VirtualFileWithId
 import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import java.util.concurrent.ConcurrentHashMap
 
+/**
+ * Scope of the OOTB classes: `classes` directories of the hybris extensions and the platform bootstrap `models.jar`.
+ *
+ * Goto-class asks this scope about every library file, so the verdict is memoised per directory,
+ * keyed by the [VirtualFile] id and dropped on VFS structure or roots change.
+ */
 class OotbClassesSearchScope(project: Project) : GlobalSearchScope(project) {
 
     override fun isSearchInModuleContent(module: Module) = false
 
     override fun isSearchInLibraries() = true
 
-    override fun contains(file: VirtualFile): Boolean {
-        var virtualFile: VirtualFile? = file
+    override fun contains(file: VirtualFile) = isInOotbClasses(
+        if (file.isDirectory) file else file.parent
+    )
+
+    private fun isInOotbClasses(directory: VirtualFile?): Boolean {
+        val verdicts = getVerdicts(project!!)
+        val walked = mutableListOf<Int>()
+        var current = directory
+        var verdict: Boolean? = null
+
+        while (current != null) {
+            val id = (current as? VirtualFileWithId)?.id
+
+            if (id != null) {
+                verdict = verdicts[id]
+                if (verdict != null) break
+                walked.add(id)
+            }
+
+            if (isClassesOrModels(current)) {
+                verdict = classify(current)
+                break
+            }
 
-        while (isNotClassesOrDirectories(virtualFile)) {
-            virtualFile = virtualFile?.parent
+            current = current.parent
         }
-        if (virtualFile == null) return false
 
-        if (virtualFile.name == HybrisConstants.CLASSES_DIRECTORY) {
-            return virtualFile.parent
-                ?.let { HybrisUtil.isHybrisModuleRoot(virtualFile) }
+        val result = verdict ?: false
+        walked.forEach { verdicts[it] = result }
+
+        return result
+    }
+
+    private fun classify(directory: VirtualFile): Boolean {
+        if (directory.name == HybrisConstants.CLASSES_DIRECTORY) {
+            return directory.parent
+                ?.let { HybrisUtil.isHybrisModuleRoot(directory) }
                 ?: false
         }
 
-        return JarFileSystem.getInstance().getVirtualFileForJar(file)
+        return JarFileSystem.getInstance().getVirtualFileForJar(directory)
             ?.parent
             ?.path
             ?.endsWith(HybrisConstants.PLATFORM_BOOTSTRAP_DIRECTORY + '/' + HybrisConstants.BIN_DIRECTORY)
             ?: false
     }
 
-    private fun isNotClassesOrDirectories(f: VirtualFile?) = f != null
-        && !(f.isDirectory && (isClassesOrModels(f)))
+    private fun getVerdicts(project: Project): ConcurrentHashMap<Int, Boolean> = CachedValuesManager.getManager(project).getCachedValue(project, KEY_DIRECTORY_VERDICTS, {
+        CachedValueProvider.Result.create(
+            ConcurrentHashMap(),
+            VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+            ProjectRootManager.getInstance(project)
+        )
+    }, false)
 
-    private fun isClassesOrModels(f: VirtualFile) = f.name == HybrisConstants.CLASSES_DIRECTORY
-        || f.name == HybrisConstants.JAR_MODELS
+    private fun isClassesOrModels(f: VirtualFile) = f.isDirectory
+        && (f.name == HybrisConstants.CLASSES_DIRECTORY || f.name == HybrisConstants.JAR_MODELS)
+
+    companion object {
+        private val KEY_DIRECTORY_VERDICTS = Key.create<CachedValue<ConcurrentHashMap<Int, Boolean>>>("SAP_CX_OOTB_CLASSES_DIRECTORY_VERDICTS")
+    }
 }
@@ -20,6 +20,7 @@
 package com.intellij.idea.plugin.hybris.impex.formatting
 
 import com.intellij.formatting.Alignment
+import com.intellij.formatting.Spacing
 import com.intellij.lang.ASTNode
 
 interface ImpExAlignmentStrategy {
@@ -27,4 +28,6 @@ interface ImpExAlignmentStrategy {
     fun getAlignment(currentNode: ASTNode): Alignment?
 
     fun processNode(currentNode: ASTNode)
+
+    fun getSpacing(parent: ASTNode, child1: ASTNode?, child2: ASTNode): Spacing? = null
 }
@@ -0,0 +1,52 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.formatting
+
+/**
+ * Maximum widths of the value columns of a single header block.
+ *
+ * Each row holds formatted widths of its value groups, [UNKNOWN] is used for multiline groups and all groups after them,
+ * as their position cannot be computed from the widths. Width of a column counts only rows with a group after it.
+ */
+internal class ImpExColumnWidths(rows: Collection<IntArray>) {
+
+    private val maxWidths = IntArray(rows.maxOfOrNull { it.size - 1 }?.coerceAtLeast(0) ?: 0)
+
+    init {
+        rows.forEach { row ->
+            for (column in 0 until row.size - 1) {
+                if (row[column] > maxWidths[column]) maxWidths[column] = row[column]
+            }
+        }
+    }
+
+    /**
+     * Returns additional spaces required after the group in the [column] of the [row] to align the next group.
+     */
+    fun paddingAfter(row: IntArray, column: Int): Int {
+        val width = row.getOrElse(column) { UNKNOWN }
+        if (width == UNKNOWN || column >= maxWidths.size) return 0
+
+        return (maxWidths[column] - width).coerceAtLeast(0)
+    }
+
+    companion object {
+        const val UNKNOWN = -1
+    }
+}
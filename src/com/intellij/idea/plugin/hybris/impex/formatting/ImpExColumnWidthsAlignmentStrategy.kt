@@ -0,0 +1,142 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.formatting
+
+import com.intellij.formatting.Alignment
+import com.intellij.formatting.Spacing
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes
+import com.intellij.idea.plugin.hybris.impex.utils.ImpexPsiUtils
+import com.intellij.lang.ASTNode
+import com.intellij.psi.TokenType
+import com.intellij.psi.codeStyle.CommonCodeStyleSettings
+
+/**
+ * Aligns value columns with explicit spacing instead of an [Alignment] shared by every value line of the header block.
+ *
+ * Widths of all columns of a header block are computed in a single pass over its value lines when the first line of the block
+ * is formatted, so range formatting measures only the blocks within the range. Only the first column is still aligned with
+ * an [Alignment], as it is shifted by sub-type names. User rights are aligned with the [ImpExColumnsAlignmentStrategy].
+ */
+class ImpExColumnWidthsAlignmentStrategy(
+    private val impexSettings: ImpexCodeStyleSettings,
+    private val commonSettings: CommonCodeStyleSettings,
+) : ImpExAlignmentStrategy {
+
+    private val userRightsStrategy = ImpExColumnsAlignmentStrategy()
+    private val headerBlocks = HashMap<ASTNode, HeaderBlock>()
+    private val rows = HashMap<ASTNode, IntArray>()
+    private val columns = HashMap<ASTNode, Int>()
+
+    override fun getAlignment(currentNode: ASTNode): Alignment? {
+        if (currentNode.elementType != ImpexTypes.VALUE_GROUP) return userRightsStrategy.getAlignment(currentNode)
+
+        val headerBlock = getHeaderBlock(currentNode.treeParent)
+
+        return if (columns[currentNode] == 0) headerBlock.firstColumnAlignment
+        else null
+    }
+
+    override fun processNode(currentNode: ASTNode) {
+        if (currentNode.elementType != ImpexTypes.VALUE_GROUP) userRightsStrategy.processNode(currentNode)
+    }
+
+    override fun getSpacing(parent: ASTNode, child1: ASTNode?, child2: ASTNode): Spacing? {
+        if (child1?.elementType != ImpexTypes.VALUE_GROUP || child2.elementType != ImpexTypes.VALUE_GROUP) return null
+
+        val headerBlock = getHeaderBlock(parent)
+        val row = rows[parent] ?: return null
+        val column = columns[child1] ?: return null
+        val spaces = (if (impexSettings.SPACE_BEFORE_FIELD_VALUE_SEPARATOR) 1 else 0) + headerBlock.widths.paddingAfter(row, column)
+
+        return Spacing.createSpacing(spaces, spaces, 0, commonSettings.KEEP_LINE_BREAKS, commonSettings.KEEP_BLANK_LINES_IN_CODE)
+    }
+
+    private fun getHeaderBlock(valueLine: ASTNode) = headerBlocks[valueLine]
+        ?: measureHeaderBlock(valueLine)
+
+    private fun measureHeaderBlock(valueLine: ASTNode): HeaderBlock {
+        var first = valueLine
+        while (true) {
+            val prev = first.treePrev
+            if (prev == null || isHeaderBlockBoundary(prev)) break
+            first = prev
+        }
+
+        val valueLines = generateSequence(first) { it.treeNext }
+            .takeWhile { !isHeaderBlockBoundary(it) }
+            .filter { it.elementType == ImpexTypes.VALUE_LINE }
+            .toList()
+        val headerBlock = HeaderBlock(
+            ImpExColumnWidths(valueLines.map { rows.getOrPut(it) { measureRow(it) } }),
+            Alignment.createAlignment(true, Alignment.Anchor.LEFT)
+        )
+
+        valueLines.forEach { headerBlocks[it] = headerBlock }
+        headerBlocks[valueLine] = headerBlock
+
+        return headerBlock
+    }
+
+    private fun measureRow(valueLine: ASTNode): IntArray {
+        val widths = mutableListOf<Int>()
+        var unknown = false
+
+        valueLine.getChildren(null)
+            .filter { it.elementType == ImpexTypes.VALUE_GROUP }
+            .forEach {
+                columns[it] = widths.size
+
+                val width = if (unknown) ImpExColumnWidths.UNKNOWN else measureValueGroup(it)
+                if (width == ImpExColumnWidths.UNKNOWN) unknown = true
+
+                widths.add(width)
+            }
+
+        return widths.toIntArray()
+    }
+
+    private fun measureValueGroup(valueGroup: ASTNode): Int {
+        var width = 0
+        var child = valueGroup.firstChildNode
+
+        while (child != null) {
+            when (child.elementType) {
+                ImpexTypes.FIELD_VALUE_SEPARATOR -> width += child.textLength
+                TokenType.WHITE_SPACE -> Unit
+                ImpexTypes.VALUE -> {
+                    if (child.textContains('\n')) return ImpExColumnWidths.UNKNOWN
+
+                    width += child.textLength + (if (impexSettings.SPACE_AFTER_FIELD_VALUE_SEPARATOR) 1 else 0)
+                }
+
+                else -> return ImpExColumnWidths.UNKNOWN
+            }
+
+            child = child.treeNext
+        }
+
+        return width
+    }
+
+    private fun isHeaderBlockBoundary(node: ASTNode) = node.elementType == ImpexTypes.HEADER_LINE
+        || node.elementType == ImpexTypes.USER_RIGHTS
+        || node.elementType == ImpexTypes.ROOT_MACRO_USAGE && ImpexPsiUtils.isUserRightsMacros(node.psi)
+
+    private class HeaderBlock(val widths: ImpExColumnWidths, val firstColumnAlignment: Alignment)
+}
@@ -62,7 +62,9 @@ class ImpexBlock(
     }
 
     override fun isLeaf() = myNode.firstChildNode == null
-    override fun getSpacing(child1: Block?, child2: Block): Spacing? = spacingBuilder.getSpacing(this, child1, child2)
+    override fun getSpacing(child1: Block?, child2: Block): Spacing? = (child2 as? ASTBlock)?.node
+        ?.let { alignmentStrategy.getSpacing(myNode, (child1 as? ASTBlock)?.node, it) }
+        ?: spacingBuilder.getSpacing(this, child1, child2)
     override fun getIndent(): Indent = Indent.getNoneIndent()
 
     override fun buildChildren(): List<Block> {
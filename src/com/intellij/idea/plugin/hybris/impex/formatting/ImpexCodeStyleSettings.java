@@ -54,6 +54,7 @@ public class ImpexCodeStyleSettings extends CustomCodeStyleSettings {
     public boolean SPACE_BEFORE_ALTERNATIVE_PATTERN = true;
 
     public boolean TABLIFY = true;
+    public boolean ALIGN_COLUMNS_BY_WIDTH = false;
 
     public ImpexCodeStyleSettings(final CodeStyleSettings container) {
         super("ImpexCodeStyleSettings", container);
@@ -22,6 +22,7 @@ import com.intellij.formatting.FormattingContext
 import com.intellij.formatting.FormattingModel
 import com.intellij.formatting.FormattingModelBuilder
 import com.intellij.formatting.FormattingModelProvider
+import com.intellij.idea.plugin.hybris.impex.ImpexLanguage
 import com.intellij.psi.codeStyle.CodeStyleSettings
 
 class ImpexFormattingModelBuilder : FormattingModelBuilder {
@@ -42,8 +43,11 @@ class ImpexFormattingModelBuilder : FormattingModelBuilder {
     private fun getAlignmentStrategy(settings: CodeStyleSettings): ImpExAlignmentStrategy {
         val impexCodeStyleSettings = settings.getCustomSettings(ImpexCodeStyleSettings::class.java)
 
-        return if (impexCodeStyleSettings.TABLIFY) ImpExTableAlignmentStrategy()
-        else ImpExColumnsAlignmentStrategy()
+        return when {
+            impexCodeStyleSettings.TABLIFY -> ImpExTableAlignmentStrategy()
+            impexCodeStyleSettings.ALIGN_COLUMNS_BY_WIDTH -> ImpExColumnWidthsAlignmentStrategy(impexCodeStyleSettings, settings.getCommonSettings(ImpexLanguage))
+            else -> ImpExColumnsAlignmentStrategy()
+        }
     }
 
 }
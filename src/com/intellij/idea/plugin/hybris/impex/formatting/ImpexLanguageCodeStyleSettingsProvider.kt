@@ -46,6 +46,13 @@ class ImpexLanguageCodeStyleSettingsProvider : LanguageCodeStyleSettingsProvider
             styleOptions.SPACES_AROUND_OPERATORS
         )
 
+        consumer.showCustomOption(
+            ImpexCodeStyleSettings::class.java,
+            "ALIGN_COLUMNS_BY_WIDTH",
+            "Align value columns by width (not applicable to table-like style)",
+            styleOptions.SPACES_AROUND_OPERATORS
+        )
+
         consumer.showCustomOption(
             ImpexCodeStyleSettings::class.java,
             "SPACE_AFTER_FIELD_VALUE_SEPARATOR",
@@ -0,0 +1,50 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi
+
+import com.intellij.idea.plugin.hybris.impex.ImpexLexer
+import com.intellij.psi.tree.IElementType
+import com.intellij.psi.tree.TokenSet
+
+object ImpexElementTypeFactory {
+
+    @JvmStatic
+    fun getElementType(name: String): IElementType = when (name) {
+        "HEADER_LINE" -> ImpexReparseableLineElementType(
+            name,
+            {
+                TokenSet.create(
+                    ImpexTypes.HEADER_MODE_INSERT,
+                    ImpexTypes.HEADER_MODE_UPDATE,
+                    ImpexTypes.HEADER_MODE_INSERT_UPDATE,
+                    ImpexTypes.HEADER_MODE_REMOVE
+                )
+            },
+            setOf(ImpexLexer.HEADER_TYPE, ImpexLexer.HEADER_LINE, ImpexLexer.MODIFIERS_BLOCK, ImpexLexer.WAITING_ATTR_OR_PARAM_VALUE)
+        )
+
+        "VALUE_LINE" -> ImpexReparseableLineElementType(
+            name,
+            { TokenSet.create(ImpexTypes.FIELD_VALUE_SEPARATOR, ImpexTypes.VALUE_SUBTYPE) },
+            setOf(ImpexLexer.FIELD_VALUE)
+        )
+
+        else -> throw IllegalArgumentException("Unknown element type: $name")
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.impex.ImpexLexerAdapter
+import com.intellij.idea.plugin.hybris.impex.ImpexParser
+import com.intellij.idea.plugin.hybris.impex.ImpexParserDefinition
+import com.intellij.lang.ASTNode
+import com.intellij.lang.Language
+import com.intellij.lang.PsiBuilderFactory
+import com.intellij.openapi.project.Project
+import com.intellij.psi.impl.source.tree.LazyParseableElement
+import com.intellij.psi.tree.ICustomParsingType
+import com.intellij.psi.tree.IReparseableElementTypeBase
+import com.intellij.psi.tree.TokenSet
+import com.intellij.util.CharTable
+
+/**
+ * Header and value lines are reparsed on their own when an edit stays within a single line.
+ *
+ * Lines are lexed from the initial lexer state, so the edited text is accepted only when it starts with one of the start tokens,
+ * does not contain line breaks or unmatched double quotes (both would change the lines around it) and the lexer
+ * ends in one of the [endStates]. The text must also parse into exactly one line of the same type.
+ */
+class ImpexReparseableLineElementType(
+    debugName: String,
+    startTokens: () -> TokenSet,
+    private val endStates: Set<Int>,
+) : ImpexElementType(debugName), IReparseableElementTypeBase, ICustomParsingType {
+
+    // element types are created while ImpexTypes is initialized, so its tokens cannot be referenced eagerly
+    private val startTokens by lazy(startTokens)
+
+    override fun isParsable(parent: ASTNode?, buffer: CharSequence, fileLanguage: Language, project: Project) = parent?.elementType == HybrisConstants.IMPEX_FILE_NODE_TYPE
+        && isSingleLine(buffer, startTokens, endStates)
+        && parseLine(buffer) != null
+
+    override fun parse(text: CharSequence, table: CharTable): ASTNode = LazyParseableElement(this, text)
+
+    override fun parseContents(chameleon: ASTNode): ASTNode? {
+        val project = chameleon.treeParent.psi.project
+        val builder = PsiBuilderFactory.getInstance().createBuilder(project, chameleon, ImpexLexerAdapter(), language, chameleon.chars)
+
+        // whole text is parsed as a file with a single line, so only the content of that line is taken
+        return ImpexParser().parse(this, builder)
+            .firstChildNode
+            ?.firstChildNode
+    }
+
+    private fun parseLine(buffer: CharSequence): ASTNode? {
+        val builder = PsiBuilderFactory.getInstance().createBuilder(ImpexParserDefinition(), ImpexLexerAdapter(), buffer)
+
+        return ImpexParser().parse(this, builder)
+            .firstChildNode
+            ?.takeIf { it.elementType == this && it.treeNext == null }
+    }
+
+    companion object {
+
+        internal fun isSingleLine(buffer: CharSequence, startTokens: TokenSet, endStates: Set<Int>): Boolean {
+            if (buffer.isEmpty() || buffer.last() == '\\') return false
+
+            val lexer = ImpexLexerAdapter()
+            lexer.start(buffer)
+
+            if (!startTokens.contains(lexer.tokenType)) return false
+
+            while (true) {
+                val tokenType = lexer.tokenType ?: break
+
+                if (tokenType == ImpexTypes.CRLF) return false
+                if (tokenType != ImpexTypes.DOUBLE_STRING && lexer.tokenSequence.startsWith('"')) return false
+
+                lexer.advance()
+            }
+
+            return endStates.contains(lexer.state)
+        }
+    }
+}
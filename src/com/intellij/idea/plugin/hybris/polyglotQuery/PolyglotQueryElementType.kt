@@ -20,5 +20,5 @@ package com.intellij.idea.plugin.hybris.polyglotQuery
 
 import com.intellij.psi.tree.IElementType
 
-class PolyglotQueryElementType(debugName: String) : IElementType(debugName, PolyglotQueryLanguage) {
+open class PolyglotQueryElementType(debugName: String) : IElementType(debugName, PolyglotQueryLanguage) {
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.polyglotQuery
+
+import com.intellij.idea.plugin.hybris.polyglotQuery.psi.PolyglotQueryTypes
+import com.intellij.idea.plugin.hybris.psi.util.PsiReparseUtils
+import com.intellij.lang.ASTNode
+import com.intellij.lang.Language
+import com.intellij.lang.PsiBuilder
+import com.intellij.lang.PsiBuilderFactory
+import com.intellij.lang.parser.GeneratedParserUtilBase
+import com.intellij.openapi.project.Project
+import com.intellij.psi.TokenType
+import com.intellij.psi.impl.source.tree.LazyParseableElement
+import com.intellij.psi.tree.ICustomParsingType
+import com.intellij.psi.tree.IReparseableElementTypeBase
+import com.intellij.psi.tree.TokenSet
+import com.intellij.util.CharTable
+
+/**
+ * Parenthesised expressions are reparsed on their own when an edit does not change their boundaries.
+ *
+ * The edited text is accepted only when it passes the [textCheck] and parses into exactly one element of the same type with the [rule]
+ * without any errors, see [PsiReparseUtils.hasErrors].
+ */
+class PolyglotQueryReparseableElementType(
+    debugName: String,
+    private val rule: GeneratedParserUtilBase.Parser,
+    private val textCheck: (CharSequence) -> Boolean,
+) : PolyglotQueryElementType(debugName), IReparseableElementTypeBase, ICustomParsingType {
+
+    override fun isParsable(parent: ASTNode?, buffer: CharSequence, fileLanguage: Language, project: Project) = parent != null
+        && textCheck(buffer)
+        && parseElement(PsiBuilderFactory.getInstance().createBuilder(PolyglotQueryParserDefinition(), PolyglotQueryLexer(), buffer))
+        ?.takeIf { it.elementType == this && it.treeNext == null && !PsiReparseUtils.hasErrors(it) } != null
+
+    override fun parse(text: CharSequence, table: CharTable): ASTNode = LazyParseableElement(this, text)
+
+    override fun parseContents(chameleon: ASTNode): ASTNode? {
+        val project = chameleon.treeParent.psi.project
+        val builder = PsiBuilderFactory.getInstance().createBuilder(project, chameleon, PolyglotQueryLexer(), language, chameleon.chars)
+
+        return parseElement(builder)
+            ?.firstChildNode
+    }
+
+    private fun parseElement(builder: PsiBuilder) = PsiReparseUtils.parse(this, builder, PolyglotQueryParser(), null, rule)
+        .firstChildNode
+
+    companion object {
+        private val braces by lazy {
+            mapOf(
+                PolyglotQueryTypes.LPAREN to PolyglotQueryTypes.RPAREN,
+                PolyglotQueryTypes.LBRACE to PolyglotQueryTypes.RBRACE,
+                PolyglotQueryTypes.LBRACKET to PolyglotQueryTypes.RBRACKET,
+            )
+        }
+        private val skipTokens by lazy { TokenSet.create(TokenType.WHITE_SPACE, PolyglotQueryTypes.COMMENT, PolyglotQueryTypes.LINE_COMMENT) }
+
+        internal fun isBracedBlock(buffer: CharSequence) = PsiReparseUtils.isBracedBlock(PolyglotQueryLexer(), buffer, braces, skipTokens)
+    }
+}
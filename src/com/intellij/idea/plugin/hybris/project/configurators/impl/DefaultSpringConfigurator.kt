@@ -50,21 +50,27 @@ import kotlin.io.path.exists
 
 class DefaultSpringConfigurator : SpringConfigurator {
 
+    private val springXmlScanner = SpringXmlScanner()
+
     override fun process(
         indicator: ProgressIndicator,
         hybrisProjectDescriptor: HybrisProjectDescriptor,
         moduleDescriptors: Map<String, ModuleDescriptor>
     ) {
         indicator.text = message("hybris.project.import.spring")
-        for (moduleDescriptor in moduleDescriptors.values) {
-            try {
-                when (moduleDescriptor) {
-                    is YWebSubModuleDescriptor -> process(moduleDescriptors, moduleDescriptor)
-                    is YRegularModuleDescriptor -> process(moduleDescriptors, moduleDescriptor)
+        try {
+            for (moduleDescriptor in moduleDescriptors.values) {
+                try {
+                    when (moduleDescriptor) {
+                        is YWebSubModuleDescriptor -> process(moduleDescriptors, moduleDescriptor)
+                        is YRegularModuleDescriptor -> process(moduleDescriptors, moduleDescriptor)
+                    }
+                } catch (e: Exception) {
+                    LOG.error("Unable to parse Spring context for module " + moduleDescriptor.name, e)
                 }
-            } catch (e: Exception) {
-                LOG.error("Unable to parse Spring context for module " + moduleDescriptor.name, e)
             }
+        } finally {
+            springXmlScanner.clear()
         }
 
         moduleDescriptors.values
@@ -249,8 +255,7 @@ class DefaultSpringConfigurator : SpringConfigurator {
                     val name = entry.name
                     if (name.startsWith("META-INF") && name.endsWith(".xml")) {
                         zipFile.getInputStream(entry).use { inputStream ->
-                            val element = JDOMUtil.load(inputStream)
-                            if (!element.isEmpty && element.name == "beans") {
+                            if (SpringXmlScanner.scan(inputStream).beans) {
                                 // as for now, imports are not scanned
                                 val springFile = "jar://${file.absolutePath}!/$name"
                                 moduleDescriptor.addSpringFile(springFile)
@@ -264,21 +269,18 @@ class DefaultSpringConfigurator : SpringConfigurator {
     @Throws(IOException::class, JDOMException::class)
     private fun getDocumentRoot(inputFile: File) = JDOMUtil.load(inputFile)
 
-    @Throws(IOException::class, JDOMException::class)
-    private fun hasSpringContent(springFile: File) = with(getDocumentRoot(springFile)) {
-        !this.isEmpty && this.name == "beans"
-    }
-
     private fun processSpringFile(
         moduleDescriptorMap: Map<String, ModuleDescriptor>,
         relevantModule: ModuleDescriptor,
         springFile: File
     ): Boolean {
         try {
-            if (!hasSpringContent(springFile)) return false
+            val springXml = springXmlScanner.scan(springFile)
+            if (!springXml.beans) return false
 
             if (relevantModule.addSpringFile(springFile.absolutePath)) {
-                scanForSpringImport(moduleDescriptorMap, relevantModule, springFile)
+                springXml.imports
+                    .forEach { processImport(moduleDescriptorMap, relevantModule, it, springFile) }
             }
             return true
         } catch (e: Exception) {
@@ -287,25 +289,12 @@ class DefaultSpringConfigurator : SpringConfigurator {
         return false
     }
 
-    @Throws(IOException::class, JDOMException::class)
-    private fun scanForSpringImport(
-        moduleDescriptorMap: Map<String, ModuleDescriptor>,
-        moduleDescriptor: ModuleDescriptor,
-        springFile: File
-    ) {
-        getDocumentRoot(springFile).children
-            .filter { it.name == "import" }
-            .forEach { processImportNodeList(moduleDescriptorMap, moduleDescriptor, it, springFile) }
-    }
-
-    private fun processImportNodeList(
+    private fun processImport(
         moduleDescriptorMap: Map<String, ModuleDescriptor>,
         moduleDescriptor: ModuleDescriptor,
-        import: Element,
+        resource: String,
         springFile: File
     ) {
-        val resource = import.getAttributeValue("resource")
-
         if (resource.startsWith("classpath:")) {
             addSpringOnClasspath(moduleDescriptorMap, moduleDescriptor, resource.substring("classpath:".length))
         } else {
@@ -0,0 +1,110 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.project.configurators.impl
+
+import java.io.File
+import java.io.InputStream
+import java.util.concurrent.ConcurrentHashMap
+import javax.xml.stream.XMLInputFactory
+import javax.xml.stream.XMLStreamConstants
+import javax.xml.stream.XMLStreamException
+
+/**
+ * Streaming scanner of the Spring XML files used during project import.
+ *
+ * Each file is read only once: root `beans` element and resources of the top-level `import` elements are collected
+ * in a single StAX pass, result is memoised per absolute path and last modification time until [clear] is called.
+ */
+internal class SpringXmlScanner(private val opener: (File) -> InputStream = { it.inputStream() }) {
+
+    private val scanned = ConcurrentHashMap<String, Pair<Long, SpringXml>>()
+
+    @Throws(XMLStreamException::class)
+    fun scan(file: File): SpringXml {
+        val lastModified = file.lastModified()
+        scanned[file.absolutePath]
+            ?.takeIf { it.first == lastModified }
+            ?.let { return it.second }
+
+        val springXml = opener(file).use { scan(it) }
+        scanned[file.absolutePath] = lastModified to springXml
+        return springXml
+    }
+
+    fun clear() = scanned.clear()
+
+    data class SpringXml(val beans: Boolean, val imports: List<String>) {
+        companion object {
+            val NOT_SPRING = SpringXml(false, emptyList())
+        }
+    }
+
+    companion object {
+        private const val ROOT_DEPTH = 1
+
+        private val xmlInputFactory = XMLInputFactory.newFactory().apply {
+            setProperty(XMLInputFactory.SUPPORT_DTD, false)
+            setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false)
+            setProperty(XMLInputFactory.IS_COALESCING, false)
+        }
+
+        /**
+         * Scans the stream up to the end of the root element, non `beans` documents are rejected on the first element.
+         */
+        @Throws(XMLStreamException::class)
+        fun scan(input: InputStream): SpringXml {
+            val reader = xmlInputFactory.createXMLStreamReader(input)
+
+            try {
+                var depth = 0
+                var hasContent = false
+                val imports = mutableListOf<String>()
+
+                while (reader.hasNext()) {
+                    when (reader.next()) {
+                        XMLStreamConstants.START_ELEMENT -> {
+                            depth++
+
+                            if (depth == ROOT_DEPTH) {
+                                if (reader.localName != "beans") return SpringXml.NOT_SPRING
+                            } else {
+                                hasContent = true
+                            }
+
+                            if (depth == ROOT_DEPTH + 1 && reader.localName == "import") {
+                                reader.getAttributeValue(null, "resource")
+                                    ?.let { imports.add(it) }
+                            }
+                        }
+
+                        XMLStreamConstants.END_ELEMENT -> if (--depth == 0) break
+
+                        XMLStreamConstants.CHARACTERS,
+                        XMLStreamConstants.CDATA -> if (depth == ROOT_DEPTH && !reader.isWhiteSpace) hasContent = true
+                    }
+                }
+
+                return if (hasContent) SpringXml(true, imports)
+                else SpringXml.NOT_SPRING
+            } finally {
+                reader.close()
+            }
+        }
+    }
+}
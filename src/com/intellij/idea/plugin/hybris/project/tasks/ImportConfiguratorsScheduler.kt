@@ -0,0 +1,99 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.project.tasks
+
+import com.intellij.openapi.diagnostic.Logger
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.progress.ProgressManager
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.Executor
+import kotlin.time.measureTime
+
+/**
+ * Runs import configurators on the given executor, each one as soon as all configurators it conflicts with are completed.
+ *
+ * Every configurator declares the shared state it reads and writes. A configurator runs after all previously declared ones
+ * writing anything it reads or writes, and after all previously declared ones reading anything it writes,
+ * so mutations of the same modifiable models are never concurrent. Model commits are serialised by the write action itself.
+ */
+class ImportConfiguratorsScheduler(
+    private val indicator: ProgressIndicator?,
+    private val executor: Executor,
+) {
+
+    private val steps = linkedMapOf<String, Step>()
+
+    fun step(name: String, reads: Collection<String>, writes: Collection<String>, action: Runnable): ImportConfiguratorsScheduler {
+        require(!steps.containsKey(name)) { "Configurator $name is already registered" }
+
+        val dependsOn = steps.values
+            .filter { previous ->
+                previous.writes.any { it in reads || it in writes } || previous.reads.any { it in writes }
+            }
+            .map { it.name }
+
+        steps[name] = Step(name, reads.toSet(), writes.toSet(), dependsOn, action)
+        return this
+    }
+
+    internal fun dependencies(name: String) = steps[name]?.dependsOn ?: emptyList()
+
+    /**
+     * Blocks until all configurators are completed, the first failure is re-thrown.
+     */
+    fun run() {
+        val futures = mutableMapOf<String, CompletableFuture<Void>>()
+
+        steps.values.forEach { step ->
+            val dependencies = step.dependsOn.map { futures[it]!! }.toTypedArray()
+
+            futures[step.name] = CompletableFuture.allOf(*dependencies)
+                .thenRunAsync({ execute(step) }, executor)
+        }
+
+        try {
+            CompletableFuture.allOf(*futures.values.toTypedArray()).join()
+        } catch (e: CompletionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    private fun execute(step: Step) {
+        val duration = measureTime {
+            indicator
+                ?.let { ProgressManager.getInstance().executeProcessUnderProgress({ step.action.run() }, it) }
+                ?: step.action.run()
+        }
+
+        LOG.info("Import configurator '${step.name}' completed in ${duration.inWholeMilliseconds} ms")
+    }
+
+    private data class Step(
+        val name: String,
+        val reads: Set<String>,
+        val writes: Set<String>,
+        val dependsOn: List<String>,
+        val action: Runnable,
+    )
+
+    companion object {
+        private val LOG = Logger.getInstance(ImportConfiguratorsScheduler::class.java)
+    }
+}
@@ -74,6 +74,7 @@ import com.intellij.spellchecker.dictionary.ProjectDictionary;
 import com.intellij.spellchecker.dictionary.UserDictionary;
 import com.intellij.spellchecker.state.ProjectDictionaryState;
 import com.intellij.spring.facet.SpringFacet;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
@@ -96,8 +97,23 @@ import static com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils
 public class ImportProjectProgressModalWindow extends Task.Modal {
     private static final Logger LOG = Logger.getInstance(ImportProjectProgressModalWindow.class);
     private static final int COMMITTED_CHUNK_SIZE = 20;
+    private static final int MAX_PARALLEL_CONFIGURATORS = 4;
     private static final String SHOW_UNLINKED_GRADLE_POPUP = "show.inlinked.gradle.project.popup";
 
+    // shared state read or written by the concurrently running import configurators
+    private static final String MODULE_DESCRIPTORS = "module descriptors";
+    private static final String MODULE_DESCRIPTORS_SPRING = "module descriptors: Spring files";
+    private static final String MODULE_DESCRIPTORS_GROUPS = "module descriptors: groups";
+    private static final String MODIFIABLE_MODELS = "modifiable models provider";
+    private static final String PROJECT_MODULES = "project modules";
+    private static final String PROJECT_SETTINGS = "project settings";
+    private static final String RUN_CONFIGURATIONS = "run configurations";
+    private static final String VCS_MAPPINGS = "VCS mappings";
+    private static final String SEARCH_SCOPES = "search scopes";
+    private static final String PROJECT_ICON = "project icon";
+    private static final String JAVA_COMPILER_SETTINGS = "Java compiler settings";
+    private static final String KOTLIN_COMPILER_SETTINGS = "Kotlin compiler settings";
+
     private final Project project;
     private final ModifiableModuleModel model;
     private final ConfiguratorFactory configuratorFactory;
@@ -130,6 +146,9 @@ public class ImportProjectProgressModalWindow extends Task.Modal {
         indicator.setText(message("hybris.project.import.preparation"));
 
         final var cache = new HybrisConfiguratorCache();
+        final var executor = AppExecutorUtil.createBoundedApplicationPoolExecutor(
+            "SAP CX Import Configurators", Math.min(MAX_PARALLEL_CONFIGURATORS, Runtime.getRuntime().availableProcessors())
+        );
         final var allModules = getHybrisModuleDescriptors();
         final var allYModules = allModules.stream()
             .filter(YModuleDescriptor.class::isInstance)
@@ -169,8 +188,11 @@ public class ImportProjectProgressModalWindow extends Task.Modal {
             ? modifiableModelsProvider.getModifiableModuleModel()
             : model;
 
-        configuratorFactory.getSpringConfigurator().process(indicator, hybrisProjectDescriptor, allModuleDescriptors);
-        groupModuleConfigurator.process(indicator, allModules);
+        // Spring contexts and module groups are stored in different properties of the module descriptors
+        new ImportConfiguratorsScheduler(indicator, executor)
+            .step("Spring", List.of(MODULE_DESCRIPTORS), List.of(MODULE_DESCRIPTORS_SPRING), () -> configuratorFactory.getSpringConfigurator().process(indicator, hybrisProjectDescriptor, allModuleDescriptors))
+            .step("Module Groups", List.of(MODULE_DESCRIPTORS), List.of(MODULE_DESCRIPTORS_GROUPS), () -> groupModuleConfigurator.process(indicator, allModules))
+            .run();
 
         int counter = 0;
 
@@ -193,25 +215,32 @@ public class ImportProjectProgressModalWindow extends Task.Modal {
             }
         }
 
-        configuratorFactory.getModuleDependenciesConfigurator().configure(indicator, hybrisProjectDescriptor, modifiableModelsProvider);
-        configuratorFactory.getSpringConfigurator().configure(indicator, hybrisProjectDescriptor, allModuleDescriptors, modifiableModelsProvider);
-        configuratorFactory.getRunConfigurationConfigurator().configure(indicator, hybrisProjectDescriptor, project, cache);
-        configuratorFactory.getVersionControlSystemConfigurator().configure(indicator, hybrisProjectDescriptor, project);
-        configuratorFactory.getSearchScopeConfigurator().configure(indicator, project, appSettings, rootProjectModifiableModel);
+        final var modelsProvider = modifiableModelsProvider;
+        final var moduleModel = rootProjectModifiableModel;
 
-        configureProjectIcon();
+        // root and facet models of the not yet committed modules are shared via the modifiable models provider, which is not thread-safe
+        new ImportConfiguratorsScheduler(indicator, executor)
+            .step("Module Dependencies", List.of(MODULE_DESCRIPTORS), List.of(MODIFIABLE_MODELS), () -> configuratorFactory.getModuleDependenciesConfigurator().configure(indicator, hybrisProjectDescriptor, modelsProvider))
+            .step("Spring Facets", List.of(MODULE_DESCRIPTORS, MODULE_DESCRIPTORS_SPRING), List.of(MODIFIABLE_MODELS), () -> configuratorFactory.getSpringConfigurator().configure(indicator, hybrisProjectDescriptor, allModuleDescriptors, modelsProvider))
+            .step("Run Configurations", List.of(MODULE_DESCRIPTORS), List.of(RUN_CONFIGURATIONS), () -> configuratorFactory.getRunConfigurationConfigurator().configure(indicator, hybrisProjectDescriptor, project, cache))
+            .step("Version Control", List.of(MODULE_DESCRIPTORS), List.of(VCS_MAPPINGS), () -> configuratorFactory.getVersionControlSystemConfigurator().configure(indicator, hybrisProjectDescriptor, project))
+            .step("Search Scopes", List.of(MODIFIABLE_MODELS), List.of(SEARCH_SCOPES), () -> configuratorFactory.getSearchScopeConfigurator().configure(indicator, project, appSettings, moduleModel))
+            .step("Project Icon", List.of(), List.of(PROJECT_ICON), this::configureProjectIcon)
+            .run();
 
         indicator.setText(message("hybris.project.import.saving.project"));
 
         application.invokeAndWait(() -> application.runWriteAction(modifiableModelsProvider::commit));
 
-        configuratorFactory.getLoadedConfigurator().configure(project, hybrisProjectDescriptor.getModulesChosenForImport());
-
-        configureJavaCompiler(indicator, cache);
-        configureKotlinCompiler(indicator, cache);
-        configureEclipseModules(indicator);
-        configureGradleModules(indicator);
-        configureAngularModules(indicator, groupModuleConfigurator, appSettings);
+        // Eclipse, Gradle and Angular configurators are creating and committing new modules, so have to be run one after another
+        new ImportConfiguratorsScheduler(indicator, executor)
+            .step("Loaded Modules", List.of(MODULE_DESCRIPTORS), List.of(PROJECT_SETTINGS), () -> configuratorFactory.getLoadedConfigurator().configure(project, hybrisProjectDescriptor.getModulesChosenForImport()))
+            .step("Java Compiler", List.of(MODULE_DESCRIPTORS), List.of(JAVA_COMPILER_SETTINGS), () -> configureJavaCompiler(indicator, cache))
+            .step("Kotlin Compiler", List.of(MODULE_DESCRIPTORS), List.of(KOTLIN_COMPILER_SETTINGS), () -> configureKotlinCompiler(indicator, cache))
+            .step("Eclipse Modules", List.of(PROJECT_MODULES), List.of(PROJECT_MODULES), () -> configureEclipseModules(indicator))
+            .step("Gradle Modules", List.of(PROJECT_MODULES), List.of(PROJECT_MODULES), () -> configureGradleModules(indicator))
+            .step("Angular Modules", List.of(PROJECT_MODULES), List.of(PROJECT_MODULES, MODULE_DESCRIPTORS_GROUPS), () -> configureAngularModules(indicator, groupModuleConfigurator, appSettings))
+            .run();
 
         project.putUserData(ExternalSystemDataKeys.NEWLY_CREATED_PROJECT, Boolean.TRUE);
     }
@@ -0,0 +1,79 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.properties
+
+import com.intellij.lang.properties.IProperty
+
+/**
+ * Trie over property keys used to find the longest property key contained in a query string.
+ *
+ * When several keys of the same length are found, the one declared last wins, same as for the linear scan it replaces.
+ */
+internal class PropertyKeyIndex(private val properties: List<IProperty>) {
+
+    private val root = Node()
+    private val longest: IProperty?
+
+    init {
+        var longestIndex = -1
+        properties.forEachIndexed { index, property ->
+            val key = property.key ?: return@forEachIndexed
+
+            var node = root
+            key.forEach { node = node.children.getOrPut(it) { Node() } }
+            node.propertyIndex = index
+
+            if (longestIndex == -1 || key.length >= properties[longestIndex].key!!.length) longestIndex = index
+        }
+        longest = properties.getOrNull(longestIndex)
+    }
+
+    fun findLongestContained(query: String): IProperty? {
+        if (query.isBlank()) return longest
+
+        var matchLength = 0
+        var matchIndex = root.propertyIndex
+
+        for (start in query.indices) {
+            var node = root
+            var index = start
+
+            while (index < query.length) {
+                node = node.children[query[index]] ?: break
+                index++
+
+                val propertyIndex = node.propertyIndex
+                if (propertyIndex == -1) continue
+
+                val length = index - start
+                if (length > matchLength || length == matchLength && propertyIndex > matchIndex) {
+                    matchLength = length
+                    matchIndex = propertyIndex
+                }
+            }
+        }
+
+        return properties.getOrNull(matchIndex)
+    }
+
+    private class Node {
+        val children = HashMap<Char, Node>(2)
+        var propertyIndex = -1
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.properties
+
+/**
+ * Resolves `${key}` placeholders of all properties in a single pass.
+ *
+ * Every property is resolved at most once, dependencies first (depth-first), so the overall cost is linear to the size of the values.
+ * Placeholders pointing to unknown properties, to properties taking part in a cycle or to values which cannot be fully resolved are left as-is.
+ */
+internal class PropertyPlaceholderResolver(private val properties: Map<String, String>) {
+
+    private val resolved = HashMap<String, String>(properties.size)
+    private val resolving = HashSet<String>()
+
+    fun resolveAll(): Map<String, String> = properties.keys
+        .associateWithTo(LinkedHashMap(properties.size)) { resolve(it) ?: properties[it]!! }
+
+    private fun resolve(key: String): String? {
+        resolved[key]?.let { return it }
+
+        val value = properties[key] ?: return null
+        if (!value.contains(PREFIX)) return value.also { resolved[key] = it }
+
+        // cycle detected, keep placeholder unresolved
+        if (!resolving.add(key)) return null
+
+        val resolvedValue = substitute(value)
+
+        resolving.remove(key)
+        resolved[key] = resolvedValue
+        return resolvedValue
+    }
+
+    private fun substitute(value: String): String {
+        val result = StringBuilder(value.length)
+        var index = 0
+
+        while (true) {
+            val startIndex = value.indexOf(PREFIX, index)
+            if (startIndex == -1) break
+            val endIndex = value.indexOf(SUFFIX, startIndex + PREFIX.length)
+            if (endIndex == -1) break
+
+            val nestedValue = resolve(value.substring(startIndex + PREFIX.length, endIndex))
+
+            result.append(value, index, startIndex)
+            if (nestedValue != null && !nestedValue.contains(PREFIX)) result.append(nestedValue)
+            else result.append(value, startIndex, endIndex + SUFFIX.length)
+
+            index = endIndex + SUFFIX.length
+        }
+
+        return result.append(value, index, value.length).toString()
+    }
+
+    companion object {
+        private const val PREFIX = "\${"
+        private const val SUFFIX = "}"
+    }
+}
@@ -65,15 +65,13 @@ class PropertyService(val project: Project) {
     private val LOG = logger<PropertyService>()
 
 
-    private val nestedPropertyPrefix = "\${"
-    private val nestedPropertySuffix = "}"
     private val optionalPropertiesFilePattern = Pattern.compile("([1-9]\\d)-(\\w*)\\.properties")
 
     private val cachedProperties = CachedValuesManager.getManager(project).createCachedValue(
         {
             val result = LinkedHashMap<String, IProperty>()
-            val configModule = obtainConfigModule() ?: return@createCachedValue CachedValueProvider.Result.create(emptyList(), ModificationTracker.NEVER_CHANGED)
-            val platformModule = obtainPlatformModule() ?: return@createCachedValue CachedValueProvider.Result.create(emptyList(), ModificationTracker.NEVER_CHANGED)
+            val configModule = obtainConfigModule() ?: return@createCachedValue CachedValueProvider.Result.create(PropertiesSnapshot.EMPTY, ModificationTracker.NEVER_CHANGED)
+            val platformModule = obtainPlatformModule() ?: return@createCachedValue CachedValueProvider.Result.create(PropertiesSnapshot.EMPTY, ModificationTracker.NEVER_CHANGED)
             val scope = createSearchScope(configModule, platformModule)
             var envPropsFile: PropertiesFile? = null
             var advancedPropsFile: PropertiesFile? = null
@@ -103,8 +101,10 @@ class PropertyService(val project: Project) {
             loadHybrisRuntimeProperties(result)
             loadHybrisOptionalConfigDir(result)
 
+            val properties = result.values.toList()
+
             CachedValueProvider.Result.create(
-                result.values.toList(), propertiesFiles
+                PropertiesSnapshot(properties, resolveProperties(properties), PropertyKeyIndex(properties)), propertiesFiles
                     .map { it.virtualFile }
                     .toTypedArray()
                     .ifEmpty { ModificationTracker.EVER_CHANGED }
@@ -137,24 +137,11 @@ class PropertyService(val project: Project) {
     }
 
     fun findMacroProperty(query: String): IProperty? = application.runReadAction<IProperty?> {
-        findAllIProperties()
-            .takeIf { it.isNotEmpty() }
-            ?.filter { it.key != null && query.contains(it.key!!) || query.isBlank() }
-            ?.takeIf { it.isNotEmpty() }
-            ?.reduce { one, two -> if (one.key!!.length > two.key!!.length) one else two }
+        cachedProperties.value.keyIndex.findLongestContained(query)
     }
 
     fun findAllProperties(): Map<String, String> = application.runReadAction<Map<String, String>> {
-        findAllIProperties()
-            .filter { it.value != null && it.key != null }
-            .associateTo(LinkedHashMap()) { it.key!! to it.value!! }
-            .let { properties ->
-                addEnvironmentProperties(properties)
-                properties
-                    .filter { it.value.contains(nestedPropertyPrefix) }
-                    .forEach { replacePlaceholder(properties, it.key, HashSet<String>()) }
-                return@let properties
-            }
+        cachedProperties.value.resolvedProperties
     }
 
     fun initCache() = ReadAction
@@ -164,9 +151,16 @@ class PropertyService(val project: Project) {
         .inSmartMode(project)
         .submit(AppExecutorUtil.getAppExecutorService())
 
-    private fun findAllIProperties() = cachedProperties.value
+    private fun findAllIProperties() = cachedProperties.value.properties
+
+    private fun resolveProperties(properties: Collection<IProperty>): Map<String, String> = properties
+        .filter { it.value != null && it.key != null }
+        .associateTo(LinkedHashMap()) { it.key!! to it.value!! }
+        .let { addEnvironmentProperties(it) }
+        .let { PropertyPlaceholderResolver(it).resolveAll() }
+        .let { Collections.unmodifiableMap(it) }
 
-    private fun addEnvironmentProperties(properties: MutableMap<String, String>) {
+    private fun addEnvironmentProperties(properties: MutableMap<String, String>): MutableMap<String, String> {
         val platformHomePropertyKey = HybrisConstants.PROPERTY_PLATFORMHOME
         getPlatformHome()?.let { properties[platformHomePropertyKey] = it }
 
@@ -182,6 +176,8 @@ class PropertyService(val project: Project) {
                         properties[key] = it.value
                     }
             }
+
+        return properties
     }
 
     fun getPlatformHome(): String? {
@@ -238,43 +234,6 @@ class PropertyService(val project: Project) {
         return properties
     }
 
-    private fun replacePlaceholder(result: LinkedHashMap<String, String>, key: String, visitedProperties: MutableSet<String>) {
-
-        var lastIndex = 0
-
-        val value = result[key] ?: ""
-        var replacedValue = value
-
-        while (true) {
-            val startIndex = value.indexOf(nestedPropertyPrefix, lastIndex)
-            val endIndex = value.indexOf(nestedPropertySuffix, startIndex + 1)
-            lastIndex = endIndex + nestedPropertyPrefix.length
-
-            if (startIndex == -1 || endIndex == -1)
-                break
-
-            val placeHolder = value.substring(startIndex, endIndex + nestedPropertySuffix.length)
-            val nestedKey = placeHolder.substring(nestedPropertyPrefix.length, placeHolder.length - nestedPropertySuffix.length)
-            if (visitedProperties.contains(nestedKey))
-                continue
-            visitedProperties.add(nestedKey)
-            val nestedValue: String? = result[nestedKey]
-            nestedValue?.let {
-                var newValue = it
-                if (it.contains(nestedPropertyPrefix)) {
-                    replacePlaceholder(result, nestedKey, visitedProperties)
-                    newValue = result[nestedKey] ?: ""
-                }
-
-                if (!newValue.contains(nestedPropertyPrefix)) {
-                    replacedValue = replacedValue.replace(placeHolder, newValue)
-                }
-            }
-
-        }
-        result[key] = replacedValue
-    }
-
     private fun loadHybrisOptionalConfigDir(result: MutableMap<String, IProperty>) = (System.getenv(HybrisConstants.ENV_HYBRIS_OPT_CONFIG_DIR)
         ?: result[HybrisConstants.PROPERTY_OPTIONAL_CONFIG_DIR]?.value)
         ?.let { File(it) }
@@ -330,6 +289,16 @@ class PropertyService(val project: Project) {
 
     fun GlobalSearchScope.or(otherScope: GlobalSearchScope): GlobalSearchScope = union(otherScope)
 
+    private class PropertiesSnapshot(
+        val properties: List<IProperty>,
+        val resolvedProperties: Map<String, String>,
+        val keyIndex: PropertyKeyIndex,
+    ) {
+        companion object {
+            val EMPTY = PropertiesSnapshot(emptyList(), emptyMap(), PropertyKeyIndex(emptyList()))
+        }
+    }
+
     companion object {
         @JvmStatic
         fun getInstance(project: Project): PropertyService? = project.service()
@@ -20,11 +20,17 @@ package com.intellij.idea.plugin.hybris.psi.injector
 
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexFullHeaderParameter
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderLine
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexParameters
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexString
 import com.intellij.idea.plugin.hybris.system.businessProcess.BpDomFileDescription
 import com.intellij.idea.plugin.hybris.system.type.ScriptType
+import com.intellij.openapi.util.Key
 import com.intellij.psi.PsiLanguageInjectionHost
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.PsiModificationTracker
 import com.intellij.psi.util.childrenOfType
 import com.intellij.psi.util.parentOfType
 import com.intellij.psi.xml.XmlFile
@@ -51,16 +57,23 @@ object LanguageInjectionUtil {
             }
             ?: return null
 
-        val scriptTypeColumn = header.getFullHeaderParameter("scriptType")
+        val scriptTypeColumn = getScriptTypeColumn(header)
             ?: return ScriptType.GROOVY
 
         return valueGroup.valueLine
             ?.getValueGroup(scriptTypeColumn.columnNumber)
             ?.computeValue()
-            ?.let { parseValue(it, scriptTypeColumn) }
+            ?.let { scriptTypeColumn.parseValue(it) }
             ?.let { ScriptType.byName(it) }
     }
 
+    private fun getScriptTypeColumn(header: ImpexHeaderLine) = CachedValuesManager.getCachedValue(header, KEY_SCRIPT_TYPE_COLUMN) {
+        val scriptTypeColumn = header.getFullHeaderParameter("scriptType")
+            ?.let { ScriptTypeColumn(it.columnNumber, getCodeParameterIndex(it)) }
+
+        CachedValueProvider.Result.create(scriptTypeColumn, PsiModificationTracker.MODIFICATION_COUNT)
+    }
+
     /**
      * It is also possible to use the following ImpEx:
      *
@@ -69,14 +82,19 @@ object LanguageInjectionUtil {
      *
      * In such a case, we have to identify "code" parameter index, split value by ":" and take value of the "code" index.
      */
-    private fun parseValue(value: String, scriptTypeColumn: ImpexFullHeaderParameter) = scriptTypeColumn
+    private fun getCodeParameterIndex(scriptTypeColumn: ImpexFullHeaderParameter) = scriptTypeColumn
         .childrenOfType<ImpexParameters>()
         .firstOrNull()
         ?.parameterList
         ?.map { it.text }
         ?.indexOf("code")
-        ?.let { indexOfTheCodeParameter -> value.split(":").getOrNull(indexOfTheCodeParameter) }
-        ?: value
+
+    private fun isBusinessProcessFile(xmlFile: XmlFile) = CachedValuesManager.getCachedValue(xmlFile, KEY_BUSINESS_PROCESS_FILE) {
+        CachedValueProvider.Result.create(
+            DomManager.getDomManager(xmlFile.project).getDomFileDescription(xmlFile) is BpDomFileDescription,
+            xmlFile
+        )
+    }
 
     fun tryInject(
         xmlFile: XmlFile,
@@ -84,7 +102,7 @@ object LanguageInjectionUtil {
         targetScriptType: ScriptType,
         inject: (Int, Int) -> Unit
     ) {
-        if (DomManager.getDomManager(xmlFile.project).getDomFileDescription(xmlFile) !is BpDomFileDescription) return
+        if (!isBusinessProcessFile(xmlFile)) return
 
         val scriptType = host.parentOfType<XmlTag>()
             ?.takeIf { it.name == "script" }
@@ -110,4 +128,13 @@ object LanguageInjectionUtil {
             inject.invoke(length, offset)
         }
     }
-}
\ No newline at end of file
+
+    private data class ScriptTypeColumn(val columnNumber: Int, val codeParameterIndex: Int?) {
+        fun parseValue(value: String) = codeParameterIndex
+            ?.let { value.split(":").getOrNull(it) }
+            ?: value
+    }
+
+    private val KEY_SCRIPT_TYPE_COLUMN = Key.create<CachedValue<ScriptTypeColumn?>>("SAP_CX_IMPEX_SCRIPT_TYPE_COLUMN")
+    private val KEY_BUSINESS_PROCESS_FILE = Key.create<CachedValue<Boolean>>("SAP_CX_BUSINESS_PROCESS_FILE")
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.psi.util
+
+import com.intellij.lang.ASTNode
+import com.intellij.lang.PsiBuilder
+import com.intellij.lang.PsiParser
+import com.intellij.lang.parser.GeneratedParserUtilBase
+import com.intellij.lexer.Lexer
+import com.intellij.psi.TokenType
+import com.intellij.psi.tree.IElementType
+import com.intellij.psi.tree.TokenSet
+
+object PsiReparseUtils {
+
+    /**
+     * Checks that the whole [buffer] is a single braced block, so it can be reparsed without looking at the text around it.
+     *
+     * The first token must be one of the opening [braces], every closing brace must match the last opened one and the block
+     * must be closed only by its last token, optionally followed by the [tailTokens]. Lexers may keep own brace stack,
+     * so unbalanced text would be lexed differently in the file. The text must not end with one of the [skipTokens],
+     * unterminated comment would swallow the rest of the file, and the lexer must end in the [endState],
+     * otherwise tokens after the block would change.
+     *
+     * Balanced block never pops braces opened before it, so the own brace stack of the lexer, which is not part of its state,
+     * is the same before and after the block both in the file and when the block is lexed on its own.
+     */
+    fun isBracedBlock(
+        lexer: Lexer,
+        buffer: CharSequence,
+        braces: Map<IElementType, IElementType>,
+        skipTokens: TokenSet,
+        tailTokens: TokenSet = TokenSet.EMPTY,
+        endState: Int = 0,
+    ): Boolean {
+        lexer.start(buffer)
+
+        if (!braces.containsKey(lexer.tokenType)) return false
+
+        val closingBraces = braces.values.toSet()
+        val expected = ArrayDeque<IElementType>()
+        var closed = false
+        var lastTokenType = lexer.tokenType
+
+        while (true) {
+            val tokenType = lexer.tokenType ?: break
+            lastTokenType = tokenType
+
+            if (closed) {
+                if (!tailTokens.contains(tokenType) && !skipTokens.contains(tokenType)) return false
+            } else if (braces.containsKey(tokenType)) {
+                expected.addLast(braces[tokenType]!!)
+            } else if (closingBraces.contains(tokenType)) {
+                if (expected.removeLastOrNull() != tokenType) return false
+                closed = expected.isEmpty()
+            }
+
+            lexer.advance()
+        }
+
+        return closed
+            && !skipTokens.contains(lastTokenType)
+            && lexer.state == endState
+    }
+
+    /**
+     * Parses the text of the [builder] with a single generated [rule] instead of the root rule of the [parser].
+     *
+     * Built tree is wrapped into the [root] node, same as a file, so the parsed element is its first child.
+     */
+    fun parse(
+        root: IElementType,
+        builder: PsiBuilder,
+        parser: PsiParser,
+        extendsSets: Array<TokenSet>?,
+        rule: GeneratedParserUtilBase.Parser,
+    ): ASTNode {
+        val adapted = GeneratedParserUtilBase.adapt_builder_(root, builder, parser, extendsSets)
+        val marker = GeneratedParserUtilBase.enter_section_(adapted, 0, GeneratedParserUtilBase._NONE_, null)
+        val result = rule.parse(adapted, 1)
+        GeneratedParserUtilBase.exit_section_(adapted, 0, marker, root, result, true, GeneratedParserUtilBase.TRUE_CONDITION)
+
+        return adapted.treeBuilt
+    }
+
+    /**
+     * Error recovery depends on the tokens after the element, which are not visible when it is parsed on its own,
+     * e.g. `recoverWhile` stops at the end of the text or expected tokens are reported against a different token.
+     * Only error-free elements are safe to be reparsed in place.
+     */
+    fun hasErrors(node: ASTNode): Boolean = node.elementType == TokenType.ERROR_ELEMENT
+        || node.getChildren(null).any { hasErrors(it) }
+}
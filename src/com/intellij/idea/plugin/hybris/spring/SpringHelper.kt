@@ -26,17 +26,26 @@ import com.intellij.openapi.module.Module
 import com.intellij.openapi.module.ModuleManager
 import com.intellij.openapi.module.ModuleUtilCore
 import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.ProjectRootManager
+import com.intellij.openapi.util.Key
 import com.intellij.openapi.util.NotNullLazyValue
+import com.intellij.openapi.util.Ref
 import com.intellij.psi.JavaPsiFacade
 import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiElement
 import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.PsiModificationTracker
 import com.intellij.psi.xml.XmlTag
 import com.intellij.spring.SpringManager
+import com.intellij.spring.SpringModificationTrackersManager
 import com.intellij.spring.java.SpringJavaClassInfo
 import com.intellij.spring.model.SpringBeanPointer
 import com.intellij.spring.model.utils.SpringModelSearchers
 import com.intellij.spring.model.xml.beans.SpringBean
+import java.util.concurrent.ConcurrentHashMap
 
 object SpringHelper {
 
@@ -49,23 +58,63 @@ object SpringHelper {
         } ?: plainResolveBean(element.project, beanId)
     }
 
-    fun resolveBeanClass(element: PsiElement, beanId: String) = Plugin.SPRING.ifActive {
-        guessModule(element)
-            ?.let { springResolveBean(it, beanId) }
-            ?.beanClass
+    /**
+     * Resolved bean classes are cached per module, or per project when there is no module to resolve beans for.
+     * Cache is dropped on any PSI change and on Spring model changes.
+     */
+    fun resolveBeanClass(element: PsiElement, beanId: String): PsiClass? = resolveBeanClass(element, beanId, SimpleSpringService.getService(element.project))
+
+    /**
+     * [plainSpring] is the Community fallback used when the Spring plugin cannot resolve the bean, `null` in IntelliJ IDEA Ultimate.
+     */
+    internal fun resolveBeanClass(element: PsiElement, beanId: String, plainSpring: SimpleSpringService?): PsiClass? {
+        val project = element.project
+        val module = guessModule(element)
+        val beanClasses = CachedValuesManager.getManager(project).getCachedValue(module ?: project, KEY_BEAN_CLASSES, {
+            CachedValueProvider.Result.create(ConcurrentHashMap<String, Ref<PsiClass?>>(), *beanClassesDependencies(project))
+        }, false)
+
+        beanClasses[beanId]
+            ?.let { return it.get() }
+
+        val beanClass = Plugin.SPRING.ifActive {
+            module
+                ?.let { springResolveBean(it, beanId) }
+                ?.beanClass
+        }
+            ?: plainSpring
+                ?.findBean(beanId)
+                ?.getAttributeValue("class")
+                ?.let {
+                    JavaPsiFacade.getInstance(project).findClass(it, GlobalSearchScope.allScope(project))
+                }
+
+        // plain Spring beans may not be collected yet, do not remember misses in such a case
+        if (beanClass != null || plainSpring?.isCacheUpToDate() != false) {
+            beanClasses[beanId] = Ref.create(beanClass)
+        }
+
+        return beanClass
     }
-        ?: plainResolveBean(element.project, beanId)
-            ?.getAttributeValue("class")
-            ?.let {
-                JavaPsiFacade.getInstance(element.project).findClass(it, GlobalSearchScope.allScope(element.project))
-            }
 
     private fun guessModule(element: PsiElement): Module? = ModuleUtilCore.findModuleForPsiElement(element)
-        ?: ModuleManager.getInstance(element.project)
+        // fallback to Platform module
+        ?: platformModule(element.project)
+
+    private fun platformModule(project: Project): Module? = CachedValuesManager.getManager(project).getCachedValue(project, KEY_PLATFORM_MODULE, {
+        val platformModule = ModuleManager.getInstance(project)
             .modules
-            // fallback to Platform module
             .firstOrNull { YFacet.getState(it)?.type == ModuleDescriptorType.PLATFORM }
 
+        CachedValueProvider.Result.create(platformModule, ProjectRootManager.getInstance(project))
+    }, false)
+
+    private fun beanClassesDependencies(project: Project): Array<Any> = listOfNotNull(
+        PsiModificationTracker.MODIFICATION_COUNT,
+        ProjectRootManager.getInstance(project),
+        Plugin.SPRING.ifActive { SpringModificationTrackersManager.getInstance(project).outerModelsModificationTracker }
+    ).toTypedArray()
+
     fun resolveInterceptorBeansLazy(
         clazz: PsiClass,
         name: String? = null
@@ -91,4 +140,7 @@ object SpringHelper {
     private fun plainResolveBean(project: Project, beanId: String) = SimpleSpringService.getService(project)
         ?.findBean(beanId)
 
+    private val KEY_BEAN_CLASSES = Key.create<CachedValue<ConcurrentHashMap<String, Ref<PsiClass?>>>>("SAP_CX_SPRING_BEAN_CLASSES")
+    private val KEY_PLATFORM_MODULE = Key.create<CachedValue<Module?>>("SAP_CX_SPRING_PLATFORM_MODULE")
+
 }
\ No newline at end of file
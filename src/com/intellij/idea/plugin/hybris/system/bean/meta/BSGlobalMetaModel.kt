@@ -31,6 +31,9 @@ class BSGlobalMetaModel : ModificationTracker, Disposable {
     private var modificationTracker = 0L
     private val myMetaCache: MutableMap<BSMetaType, Map<String, BSGlobalMetaClassifier<out DomElement>>> = ConcurrentHashMap()
 
+    // local meta models merged into this global meta model, used to find out changed files on the next merge
+    internal var contributors: List<BSMetaModel> = emptyList()
+
     fun clear() {
         cleanup()
 
@@ -47,6 +50,7 @@ class BSGlobalMetaModel : ModificationTracker, Disposable {
 
     private fun cleanup() {
         myMetaCache.clear()
+        contributors = emptyList()
     }
 
 }
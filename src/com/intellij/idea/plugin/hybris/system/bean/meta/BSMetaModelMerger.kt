@@ -15,21 +15,27 @@
  * You should have received a copy of the GNU Lesser General Public License
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
+
 package com.intellij.idea.plugin.hybris.system.bean.meta
 
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.system.bean.meta.model.*
 import com.intellij.idea.plugin.hybris.system.bean.meta.model.impl.BSGlobalMetaBeanImpl
 import com.intellij.idea.plugin.hybris.system.bean.meta.model.impl.BSGlobalMetaEnumImpl
 import com.intellij.util.xml.DomElement
+import java.util.*
 
 object BSMetaModelMerger {
 
+    // when too many files were changed it is cheaper to re-merge everything
+    private const val INCREMENTAL_MERGE_THRESHOLD = 0.25
+
     fun merge(globalMetaModel: BSGlobalMetaModel, localMetaModels: Collection<BSMetaModel>) = with(globalMetaModel) {
         globalMetaModel.clear()
 
-        localMetaModels
-            // ideally, we have to get the same dependency order as SAP Commerce
-            .sortedBy { !it.custom }
+        // ideally, we have to get the same dependency order as SAP Commerce
+        val sortedLocalMetaModels = localMetaModels.sortedBy { !it.custom }
+        sortedLocalMetaModels
             .forEach { merge(this, it) }
 
         val beans = getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)
@@ -47,6 +53,60 @@ object BSMetaModelMerger {
 
         wsBeans.values.forEach { it.metaType = BSMetaType.META_WS_BEAN }
         getMetaType<BSGlobalMetaBean>(BSMetaType.META_EVENT).values.forEach { it.metaType = BSMetaType.META_EVENT }
+
+        contributors = sortedLocalMetaModels
+    }
+
+    /**
+     * Merges local meta models by re-using global metas of the [previousMetaModel] which are not affected by the changed local meta models.
+     *
+     * Only beans, enums and events declared in the added or removed local meta models are re-merged,
+     * together with all beans which extend them, directly or transitively. Re-used global metas are shared between both global meta models,
+     * so they are never modified after the merge.
+     */
+    fun merge(globalMetaModel: BSGlobalMetaModel, localMetaModels: Collection<BSMetaModel>, previousMetaModel: BSGlobalMetaModel?) {
+        if (previousMetaModel == null || previousMetaModel.contributors.isEmpty()) return merge(globalMetaModel, localMetaModels)
+
+        val sortedLocalMetaModels = localMetaModels.sortedBy { !it.custom }
+        val previousLocalMetaModels = identitySetOf(previousMetaModel.contributors)
+        val currentLocalMetaModels = identitySetOf(sortedLocalMetaModels)
+        val changedLocalMetaModels = previousMetaModel.contributors.filterNot { currentLocalMetaModels.contains(it) } +
+            sortedLocalMetaModels.filterNot { previousLocalMetaModels.contains(it) }
+
+        if (changedLocalMetaModels.size > sortedLocalMetaModels.size * INCREMENTAL_MERGE_THRESHOLD) return merge(globalMetaModel, localMetaModels)
+
+        globalMetaModel.clear()
+
+        val affected = collectAffected(previousMetaModel, changedLocalMetaModels)
+
+        BSMetaType.entries.forEach { metaType ->
+            val affectedNames = affected[localMetaType(metaType)] ?: emptySet()
+
+            previousMetaModel.getMetaType<BSGlobalMetaClassifier<out DomElement>>(metaType)
+                .filterKeys { !affectedNames.contains(it.lowercase()) }
+                .let { globalMetaModel.getMetaType<BSGlobalMetaClassifier<out DomElement>>(metaType).putAll(it) }
+        }
+
+        val mergedBeans = mutableListOf<BSGlobalMetaBean>()
+        affected.forEach { (metaType, names) ->
+            names.forEach { name ->
+                val globalMeta = merge(sortedLocalMetaModels, metaType, name) ?: return@forEach
+                val globalMetaType = if (metaType == BSMetaType.META_BEAN && globalMeta is BSGlobalMetaBean && globalMeta.hints.containsKey("wsRelated")) BSMetaType.META_WS_BEAN
+                else metaType
+
+                globalMetaModel.getMetaType<BSGlobalMetaClassifier<out DomElement>>(globalMetaType)[name] = globalMeta
+
+                if (globalMeta is BSGlobalMetaBean) {
+                    globalMeta.metaType = globalMetaType
+                    mergedBeans.add(globalMeta)
+                }
+            }
+        }
+
+        mergedBeans
+            .forEach { (it as? BSGlobalMetaBeanSelfMerge<*, *>)?.postMerge(globalMetaModel) }
+
+        globalMetaModel.contributors = sortedLocalMetaModels
     }
 
     @Suppress("UNCHECKED_CAST")
@@ -57,13 +117,7 @@ object BSMetaModelMerger {
 
                 localMetas.entrySet().forEach { (key, localMetaClassifiers) ->
                     localMetaClassifiers.forEach { localMetaClassifier ->
-                        val globalMetaClassifier = globalCache.computeIfAbsent(key) {
-                            when (localMetaClassifier) {
-                                is BSMetaEnum -> BSGlobalMetaEnumImpl(localMetaClassifier)
-                                is BSMetaBean -> BSGlobalMetaBeanImpl(localMetaClassifier)
-                                else -> null
-                            }
-                        }
+                        val globalMetaClassifier = globalCache.computeIfAbsent(key) { createGlobalMeta(localMetaClassifier) }
 
                         (globalMetaClassifier as BSMetaSelfMerge<DomElement, BSMetaClassifier<DomElement>>).merge(localMetaClassifier)
                     }
@@ -71,4 +125,69 @@ object BSMetaModelMerger {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Re-merges all declarations of the single meta in the same order as it is done by the full merge.
+     */
+    @Suppress("UNCHECKED_CAST")
+    private fun merge(localMetaModels: List<BSMetaModel>, metaType: BSMetaType, name: String): BSGlobalMetaClassifier<out DomElement>? {
+        var globalMeta: BSMetaSelfMerge<DomElement, BSMetaClassifier<DomElement>>? = null
+
+        localMetaModels.forEach { localMetaModel ->
+            localMetaModel.getMetaType<BSMetaClassifier<DomElement>>(metaType)[name].forEach { localMeta ->
+                val meta = globalMeta
+                    ?: (createGlobalMeta(localMeta) as? BSMetaSelfMerge<DomElement, BSMetaClassifier<DomElement>>)
+                        ?.also { globalMeta = it }
+
+                meta?.merge(localMeta)
+            }
+        }
+
+        return globalMeta
+    }
+
+    /**
+     * Names of the metas, grouped by the local meta type, contributed by the changed local meta models and names of the beans extending them.
+     */
+    private fun collectAffected(previousMetaModel: BSGlobalMetaModel, changedLocalMetaModels: List<BSMetaModel>): Map<BSMetaType, Set<String>> {
+        val affected = mutableMapOf<BSMetaType, MutableSet<String>>()
+
+        changedLocalMetaModels.forEach { localMetaModel ->
+            localMetaModel.getMetaTypes().forEach { (metaType, localMetas) ->
+                affected.getOrPut(metaType) { mutableSetOf() }.addAll(localMetas.keySet())
+            }
+        }
+
+        val dependants = mutableMapOf<String, MutableList<Pair<BSMetaType, String>>>()
+        listOf(BSMetaType.META_BEAN, BSMetaType.META_WS_BEAN, BSMetaType.META_EVENT).forEach { metaType ->
+            previousMetaModel.getMetaType<BSGlobalMetaBean>(metaType).values.forEach { bean ->
+                val name = bean.name?.lowercase() ?: return@forEach
+                val extends = (bean.extends ?: HybrisConstants.BS_TYPE_OBJECT).lowercase()
+
+                dependants.getOrPut(extends) { mutableListOf() }.add(localMetaType(metaType) to name)
+            }
+        }
+
+        val queue = ArrayDeque(affected.filterKeys { it != BSMetaType.META_ENUM }.values.flatten().distinct())
+        val visited = queue.toHashSet()
+        while (queue.isNotEmpty()) {
+            dependants[queue.removeFirst()]?.forEach { (metaType, name) ->
+                affected.getOrPut(metaType) { mutableSetOf() }.add(name)
+                if (visited.add(name)) queue.add(name)
+            }
+        }
+
+        return affected
+    }
+
+    private fun identitySetOf(localMetaModels: Collection<BSMetaModel>) = Collections.newSetFromMap(IdentityHashMap<BSMetaModel, Boolean>())
+        .apply { addAll(localMetaModels) }
+
+    private fun localMetaType(metaType: BSMetaType) = if (metaType == BSMetaType.META_WS_BEAN) BSMetaType.META_BEAN else metaType
+
+    private fun createGlobalMeta(localMeta: BSMetaClassifier<out DomElement>) = when (localMeta) {
+        is BSMetaEnum -> BSGlobalMetaEnumImpl(localMeta)
+        is BSMetaBean -> BSGlobalMetaBeanImpl(localMeta)
+        else -> null
+    }
+}
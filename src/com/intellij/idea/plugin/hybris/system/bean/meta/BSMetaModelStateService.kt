@@ -34,12 +34,15 @@ class BSMetaModelStateService(project: Project, coroutineScope: CoroutineScope)
     BSMetaModelProcessor.getInstance(project)
 ) {
 
+    private var previousState: BSGlobalMetaModel? = null
+
     override fun onCompletion(newState: BSGlobalMetaModel) {
+        previousState = newState
         project.messageBus.syncPublisher(MetaModelChangeListener.TOPIC).beanSystemChanged(newState)
     }
 
     override suspend fun create(metaModelsToMerge: Collection<BSMetaModel>): BSGlobalMetaModel = BSGlobalMetaModel().also {
-        readAction { BSMetaModelMerger.merge(it, metaModelsToMerge.sortedBy { meta -> !meta.custom }) }
+        readAction { BSMetaModelMerger.merge(it, metaModelsToMerge, previousState) }
     }
 
     companion object {
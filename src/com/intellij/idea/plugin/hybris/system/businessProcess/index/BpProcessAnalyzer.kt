@@ -0,0 +1,153 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.businessProcess.index
+
+/**
+ * Structural checks of the business process definitions built on top of the [BpProcessIndex].
+ */
+object BpProcessAnalyzer {
+
+    fun analyze(definition: BpProcessDefinition): BpProcessReport {
+        val nodes = definition.nodes.associateBy { it.id }
+        val successors = definition.nodes.associate { node ->
+            node.id to node.transitions.map { it.to }.filter { nodes.containsKey(it) }
+        }
+
+        val danglingTransitions = buildList {
+            definition.start
+                ?.takeUnless { nodes.containsKey(it) }
+                ?.let { add(BpDanglingTransition(null, "start", it)) }
+            definition.onError
+                ?.takeUnless { nodes.containsKey(it) }
+                ?.let { add(BpDanglingTransition(null, "onError", it)) }
+            definition.nodes.forEach { node ->
+                node.transitions
+                    .filterNot { nodes.containsKey(it.to) }
+                    .forEach { add(BpDanglingTransition(node.id, it.name, it.to)) }
+            }
+        }
+
+        val reachable = reachableNodes(listOfNotNull(definition.start, definition.onError).filter { nodes.containsKey(it) }, successors)
+        val unreachableNodes = definition.nodes
+            .map { it.id }
+            .filterNot { reachable.contains(it) }
+            .toSet()
+
+        val cyclesWithoutWait = stronglyConnectedComponents(definition.nodes.map { it.id }, successors)
+            .filter { component -> component.size > 1 || successors[component.first()]?.contains(component.first()) == true }
+            .filter { component -> component.none { nodes[it]?.type == BpProcessNodeType.WAIT } }
+
+        return BpProcessReport(definition.name, unreachableNodes, danglingTransitions, cyclesWithoutWait)
+    }
+
+    /**
+     * Reverse lookup from the Spring action bean to the names of the processes which use it.
+     */
+    fun findProcessesByBean(definitions: Collection<BpProcessDefinition>): Map<String, Set<String>> = buildMap<String, MutableSet<String>> {
+        definitions.forEach { definition ->
+            definition.beans.forEach { bean -> getOrPut(bean) { sortedSetOf() }.add(definition.name) }
+        }
+    }
+
+    private fun reachableNodes(roots: Collection<String>, successors: Map<String, List<String>>): Set<String> {
+        val visited = roots.toMutableSet()
+        val queue = ArrayDeque(roots)
+
+        while (queue.isNotEmpty()) {
+            successors[queue.removeFirst()]
+                ?.filter { visited.add(it) }
+                ?.let { queue.addAll(it) }
+        }
+
+        return visited
+    }
+
+    /**
+     * Iterative Tarjan's algorithm, processes may be large enough to overflow the stack with the recursive one.
+     */
+    private fun stronglyConnectedComponents(ids: Collection<String>, successors: Map<String, List<String>>): List<List<String>> {
+        val indexes = mutableMapOf<String, Int>()
+        val lowLinks = mutableMapOf<String, Int>()
+        val onStack = mutableSetOf<String>()
+        val stack = ArrayDeque<String>()
+        val components = mutableListOf<List<String>>()
+        var index = 0
+
+        ids.forEach { root ->
+            if (indexes.containsKey(root)) return@forEach
+
+            val work = ArrayDeque<Pair<String, Int>>()
+            work.addLast(root to 0)
+
+            while (work.isNotEmpty()) {
+                val (id, successorIndex) = work.removeLast()
+
+                if (successorIndex == 0) {
+                    indexes[id] = index
+                    lowLinks[id] = index
+                    index++
+                    stack.addLast(id)
+                    onStack.add(id)
+                }
+
+                val nodeSuccessors = successors[id] ?: emptyList()
+                val next = nodeSuccessors.getOrNull(successorIndex)
+
+                if (next != null) {
+                    work.addLast(id to successorIndex + 1)
+
+                    if (!indexes.containsKey(next)) work.addLast(next to 0)
+                    else if (onStack.contains(next)) lowLinks[id] = minOf(lowLinks[id]!!, indexes[next]!!)
+                    continue
+                }
+
+                if (lowLinks[id] == indexes[id]) {
+                    val component = mutableListOf<String>()
+                    do {
+                        val member = stack.removeLast()
+                        onStack.remove(member)
+                        component.add(member)
+                    } while (member != id)
+                    components.add(component.reversed())
+                }
+
+                work.lastOrNull()
+                    ?.first
+                    ?.let { parent -> lowLinks[parent] = minOf(lowLinks[parent]!!, lowLinks[id]!!) }
+            }
+        }
+
+        return components
+    }
+}
+
+data class BpProcessReport(
+    val process: String,
+    val unreachableNodes: Set<String>,
+    val danglingTransitions: List<BpDanglingTransition>,
+    val cyclesWithoutWait: List<List<String>>,
+) {
+    val isValid
+        get() = unreachableNodes.isEmpty() && danglingTransitions.isEmpty() && cyclesWithoutWait.isEmpty()
+}
+
+/**
+ * Transition to the non-existing node, [from] is `null` for the `start` and `onError` targets of the process.
+ */
+data class BpDanglingTransition(val from: String?, val name: String, val to: String)
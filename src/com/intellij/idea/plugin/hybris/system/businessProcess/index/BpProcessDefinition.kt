@@ -0,0 +1,103 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.businessProcess.index
+
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.IOUtil
+import java.io.DataInput
+import java.io.DataOutput
+
+/**
+ * Lightweight, index friendly representation of the single business process definition.
+ */
+data class BpProcessDefinition(
+    val name: String,
+    val start: String?,
+    val onError: String?,
+    val nodes: List<BpProcessNode>,
+) {
+    val beans
+        get() = nodes.mapNotNullTo(mutableSetOf()) { it.bean }
+}
+
+data class BpProcessNode(
+    val id: String,
+    val type: BpProcessNodeType,
+    val bean: String? = null,
+    val transitions: List<BpProcessTransition> = emptyList(),
+)
+
+data class BpProcessTransition(val name: String, val to: String)
+
+enum class BpProcessNodeType(val tagName: String) {
+    ACTION("action"),
+    SCRIPT_ACTION("scriptAction"),
+    WAIT("wait"),
+    SPLIT("split"),
+    JOIN("join"),
+    NOTIFY("notify"),
+    END("end");
+
+    companion object {
+        private val byTagName = entries.associateBy { it.tagName }
+
+        fun of(tagName: String) = byTagName[tagName]
+    }
+}
+
+internal object BpProcessDefinitionExternalizer : DataExternalizer<BpProcessDefinition> {
+
+    override fun save(out: DataOutput, value: BpProcessDefinition) {
+        IOUtil.writeUTF(out, value.name)
+        writeNullable(out, value.start)
+        writeNullable(out, value.onError)
+        out.writeInt(value.nodes.size)
+        value.nodes.forEach { node ->
+            IOUtil.writeUTF(out, node.id)
+            out.writeByte(node.type.ordinal)
+            writeNullable(out, node.bean)
+            out.writeInt(node.transitions.size)
+            node.transitions.forEach {
+                IOUtil.writeUTF(out, it.name)
+                IOUtil.writeUTF(out, it.to)
+            }
+        }
+    }
+
+    override fun read(input: DataInput) = BpProcessDefinition(
+        name = IOUtil.readUTF(input),
+        start = readNullable(input),
+        onError = readNullable(input),
+        nodes = List(input.readInt()) {
+            BpProcessNode(
+                id = IOUtil.readUTF(input),
+                type = BpProcessNodeType.entries[input.readByte().toInt()],
+                bean = readNullable(input),
+                transitions = List(input.readInt()) { BpProcessTransition(IOUtil.readUTF(input), IOUtil.readUTF(input)) }
+            )
+        }
+    )
+
+    private fun writeNullable(out: DataOutput, value: String?) {
+        out.writeBoolean(value != null)
+        value?.let { IOUtil.writeUTF(out, it) }
+    }
+
+    private fun readNullable(input: DataInput) = if (input.readBoolean()) IOUtil.readUTF(input) else null
+}
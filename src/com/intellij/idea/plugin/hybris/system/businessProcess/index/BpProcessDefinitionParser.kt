@@ -0,0 +1,125 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.businessProcess.index
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.businessProcess.model.*
+import com.intellij.openapi.util.text.CharSequenceReader
+import javax.xml.stream.XMLInputFactory
+import javax.xml.stream.XMLStreamConstants
+import javax.xml.stream.XMLStreamException
+import javax.xml.stream.XMLStreamReader
+
+/**
+ * Streaming parser of the business process XML, non-process documents are rejected on the root element.
+ */
+object BpProcessDefinitionParser {
+
+    private const val NODE_DEPTH = 2
+
+    private val xmlInputFactory = XMLInputFactory.newFactory().apply {
+        setProperty(XMLInputFactory.SUPPORT_DTD, false)
+        setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false)
+    }
+
+    fun parse(text: CharSequence, defaultName: String): BpProcessDefinition? = try {
+        val reader = xmlInputFactory.createXMLStreamReader(CharSequenceReader(text))
+        try {
+            parse(reader, defaultName)
+        } finally {
+            reader.close()
+        }
+    } catch (_: XMLStreamException) {
+        null
+    }
+
+    private fun parse(reader: XMLStreamReader, defaultName: String): BpProcessDefinition? {
+        var depth = 0
+        var name = defaultName
+        var start: String? = null
+        var onError: String? = null
+        val nodes = mutableListOf<BpProcessNode>()
+        var node: NodeBuilder? = null
+
+        while (reader.hasNext()) {
+            when (reader.next()) {
+                XMLStreamConstants.START_ELEMENT -> {
+                    depth++
+                    val localName = reader.localName
+
+                    when {
+                        depth == 1 -> {
+                            if (localName != HybrisConstants.ROOT_TAG_BUSINESS_PROCESS_XML) return null
+
+                            name = reader.attribute(Process.NAME) ?: defaultName
+                            start = reader.attribute(Process.START)
+                            onError = reader.attribute(Process.ON_ERROR)
+                        }
+
+                        depth == NODE_DEPTH -> node = BpProcessNodeType.of(localName)
+                            ?.let { type -> reader.attribute("id")?.let { NodeBuilder(it, type) } }
+                            ?.apply {
+                                bean = reader.attribute(Action.BEAN).takeIf { type == BpProcessNodeType.ACTION }
+                                reader.attribute(Wait.THEN)?.let { transitions.add(BpProcessTransition("", it)) }
+                            }
+
+                        node != null -> node.addNested(reader, localName)
+                    }
+                }
+
+                XMLStreamConstants.END_ELEMENT -> {
+                    if (depth == NODE_DEPTH) {
+                        node?.let { nodes.add(it.build()) }
+                        node = null
+                    }
+                    if (--depth == 0) break
+                }
+            }
+        }
+
+        return BpProcessDefinition(name, start, onError, nodes)
+    }
+
+    private fun XMLStreamReader.attribute(name: String) = getAttributeValue(null, name)
+        ?.trim()
+        ?.takeIf { it.isNotEmpty() }
+
+    private class NodeBuilder(val id: String, val type: BpProcessNodeType) {
+        var bean: String? = null
+        val transitions = mutableListOf<BpProcessTransition>()
+
+        fun addNested(reader: XMLStreamReader, localName: String) {
+            when (localName) {
+                Action.TRANSITION -> reader.attribute(Transition.TO)
+                    ?.let { transitions.add(BpProcessTransition(reader.attribute(Transition.NAME) ?: "", it)) }
+
+                Case.CHOICE -> reader.attribute(Choice.THEN)
+                    ?.let { transitions.add(BpProcessTransition(reader.attribute("id") ?: "", it)) }
+
+                "timeout" -> reader.attribute(Timeout.THEN)
+                    ?.let { transitions.add(BpProcessTransition("timeout", it)) }
+
+                "targetNode" -> reader.attribute("name")
+                    ?.let { transitions.add(BpProcessTransition(it, it)) }
+            }
+        }
+
+        fun build() = BpProcessNode(id, type, bean, transitions.toList())
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.businessProcess.index
+
+import com.intellij.ide.highlighter.XmlFileType
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.util.isHybrisProject
+import com.intellij.util.indexing.*
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.EnumeratorStringDescriptor
+import com.intellij.util.io.KeyDescriptor
+
+/**
+ * Project-wide index of the business process definitions, keyed by the process name.
+ *
+ * Only XML files of the hybris projects are accepted, well-known items and beans declarations are skipped by the name,
+ * other non-process documents are rejected by the parser on the root element.
+ */
+class BpProcessIndex : FileBasedIndexExtension<String, BpProcessDefinition>() {
+
+    override fun getName() = NAME
+    override fun getVersion() = 2
+    override fun dependsOnFileContent() = true
+    override fun getKeyDescriptor(): KeyDescriptor<String> = EnumeratorStringDescriptor.INSTANCE
+    override fun getValueExternalizer(): DataExternalizer<BpProcessDefinition> = BpProcessDefinitionExternalizer
+    override fun getInputFilter(): FileBasedIndex.InputFilter = object : DefaultFileTypeSpecificWithProjectInputFilter(XmlFileType.INSTANCE) {
+        override fun acceptInput(file: IndexedFile) = file.project?.isHybrisProject == true
+            && !file.fileName.endsWith(HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING)
+            && !file.fileName.endsWith(HybrisConstants.HYBRIS_BEANS_XML_FILE_ENDING)
+    }
+
+    override fun getIndexer() = DataIndexer<String, BpProcessDefinition, FileContent> { inputData ->
+        BpProcessDefinitionParser.parse(inputData.contentAsText, inputData.file.nameWithoutExtension)
+            ?.let { mapOf(it.name to it) }
+            ?: emptyMap()
+    }
+
+    companion object {
+        val NAME = ID.create<String, BpProcessDefinition>("SAP CX Business Process")
+    }
+}
@@ -20,7 +20,8 @@ package com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.completion
 import com.intellij.codeInsight.completion.CompletionContributor
 import com.intellij.codeInsight.completion.CompletionType
 import com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.completion.provider.*
-import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPatterns
+import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPatternCategory
+import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPatternClassifier
 import com.intellij.patterns.PlatformPatterns
 
 class CngCompletionContributor : CompletionContributor() {
@@ -28,62 +29,62 @@ class CngCompletionContributor : CompletionContributor() {
     init {
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.ITEM_TYPE),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.ITEM_TYPE)),
             CngItemTypeCodeCompletionProvider()
         )
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.CONTEXT_PARENT_NON_ITEM_TYPE),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.CONTEXT_PARENT_NON_ITEM_TYPE)),
             CngContextParentNonItemTypeCompletionProvider()
         )
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.FLOW_STEP_CONTENT_PROPERTY_LIST_PROPERTY_QUALIFIER),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.FLOW_STEP_CONTENT_PROPERTY_LIST_PROPERTY_QUALIFIER)),
             CngFlowPropertyListPropertyQualifierCompletionProvider()
         )
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.FLOW_INITIALIZE_TYPE),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.FLOW_INITIALIZE_TYPE)),
             CngFlowTypeCodeCompletionProvider()
         )
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.FLOW_PROPERTY_LIST_ROOT),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.FLOW_PROPERTY_LIST_ROOT)),
             CngFlowInitializePropertyCompletionProvider()
         )
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.EDITOR_DEFINITION),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.EDITOR_DEFINITION)),
             CngEditorDefinitionCodeCompletionProvider()
         )
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.ACTION_DEFINITION),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.ACTION_DEFINITION)),
             CngActionDefinitionCompletionProvider()
         )
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.WIDGET_DEFINITION),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.WIDGET_DEFINITION)),
             CngWidgetDefinitionCompletionProvider()
         )
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.WIDGET_CONNECTION_WIDGET_ID),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.WIDGET_CONNECTION_WIDGET_ID)),
             CngWidgetConnectionWidgetIdCompletionProvider()
         )
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.WIDGET_ID),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.WIDGET_ID)),
             CngWidgetIdCompletionProvider()
         )
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.WIDGET_SETTING),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.WIDGET_SETTING)),
             CngWidgetSettingCompletionProvider()
         )
         extend(
             CompletionType.BASIC,
-            PlatformPatterns.psiElement().inside(CngPatterns.WIDGET_COMPONENT_RENDERER_CLASS),
+            PlatformPatterns.psiElement().inside(CngPatternClassifier.pattern(CngPatternCategory.WIDGET_COMPONENT_RENDERER_CLASS)),
             CngWidgetComponentRendererClassCompletionProvider()
         )
     }
@@ -18,7 +18,10 @@
 
 package com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.completion
 
+import com.intellij.codeInsight.lookup.LookupElementBuilder
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.lookup.CngLookupElementFactory
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
 import com.intellij.idea.plugin.hybris.system.cockpitng.psi.reference.CngInitializePropertyReference
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
@@ -29,7 +32,32 @@ import com.intellij.psi.util.parentsOfType
 import com.intellij.psi.xml.XmlTag
 
 @Service(Service.Level.PROJECT)
-class CngCompletionService {
+class CngCompletionService(private val project: Project) {
+
+    fun getWidgetLookupElements() = index().widgets
+        .map { CngLookupElementFactory.build(it) }
+
+    fun getWidgetStubLookupElements() = with(index()) {
+        editorDefinitions.map { CngLookupElementFactory.build(it, HybrisConstants.COCKPIT_NG_WIDGET_ID_STUB + it.id) } +
+            widgetDefinitions.map { CngLookupElementFactory.build(it, HybrisConstants.COCKPIT_NG_WIDGET_ID_STUB + it.id) }
+    }
+
+    fun getWidgetDefinitionLookupElements() = index().widgetDefinitions
+        .map { CngLookupElementFactory.build(it, it.id) }
+
+    fun getEditorDefinitionLookupElements() = index().editorDefinitions
+        .map { CngLookupElementFactory.build(it, it.id) }
+
+    fun getActionDefinitionLookupElements() = index().actionDefinitions
+        .map { CngLookupElementFactory.build(it) }
+
+    /**
+     * Context attribute values are narrowed by the typed prefix through the index trie,
+     * so the completion has to be restarted by the caller on any prefix change.
+     */
+    fun getContextAttributeValueLookupElements(name: String, prefix: String) = index()
+        .findContextAttributeValues(name, prefix)
+        .map { LookupElementBuilder.create(it) }
 
     fun getInitializeProperties(element: PsiElement) = element.parentsOfType<XmlTag>()
         .firstOrNull { it.localName == "flow" }
@@ -44,6 +72,9 @@ class CngCompletionService {
             CngLookupElementFactory.buildInitializeProperty(CngInitializePropertyReference.NEW_OBJECT)
         )
 
+    // lookup elements are mutable and bound to the completion session, so only the indexed meta model is shared
+    private fun index() = CngMetaModelStateService.state(project).index
+
     companion object {
         fun getInstance(project: Project): CngCompletionService = project.service()
     }
@@ -20,8 +20,7 @@ package com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.completion.
 import com.intellij.codeInsight.completion.CompletionParameters
 import com.intellij.codeInsight.completion.CompletionProvider
 import com.intellij.codeInsight.completion.CompletionResultSet
-import com.intellij.codeInsight.lookup.LookupElementBuilder
-import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.completion.CngCompletionService
 import com.intellij.idea.plugin.hybris.system.cockpitng.model.config.Context
 import com.intellij.psi.util.parentsOfType
 import com.intellij.psi.xml.XmlTag
@@ -41,8 +40,10 @@ class CngContextParentNonItemTypeCompletionProvider : CompletionProvider<Complet
             .firstOrNull { it.localName == "context" }
             ?.getAttributeValue(Context.MERGE_BY)
             ?: return
-        CngMetaModelStateService.state(project).contextAttributes[mergeBy]
-            ?.map { LookupElementBuilder.create(it) }
-            ?.forEach { resultCaseInsensitive.addElement(it) }
+
+        resultCaseInsensitive.restartCompletionOnAnyPrefixChange()
+        CngCompletionService.getInstance(project)
+            .getContextAttributeValueLookupElements(mergeBy, resultCaseInsensitive.prefixMatcher.prefix)
+            .forEach { resultCaseInsensitive.addElement(it) }
     }
 }
\ No newline at end of file
@@ -20,8 +20,7 @@ package com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.completion.
 import com.intellij.codeInsight.completion.CompletionParameters
 import com.intellij.codeInsight.completion.CompletionProvider
 import com.intellij.codeInsight.completion.CompletionResultSet
-import com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.lookup.CngLookupElementFactory
-import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.completion.CngCompletionService
 import com.intellij.util.ProcessingContext
 
 class CngEditorDefinitionCodeCompletionProvider : CompletionProvider<CompletionParameters>() {
@@ -35,10 +34,8 @@ class CngEditorDefinitionCodeCompletionProvider : CompletionProvider<CompletionP
 
         val resultCaseInsensitive = result.caseInsensitive()
 
-        CngMetaModelStateService.state(project)
-            .editorDefinitions
-            .values
-            .map { CngLookupElementFactory.build(it, it.id) }
+        CngCompletionService.getInstance(project)
+            .getEditorDefinitionLookupElements()
             .forEach { resultCaseInsensitive.addElement(it) }
     }
 
@@ -20,9 +20,7 @@ package com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.completion.
 import com.intellij.codeInsight.completion.CompletionParameters
 import com.intellij.codeInsight.completion.CompletionProvider
 import com.intellij.codeInsight.completion.CompletionResultSet
-import com.intellij.idea.plugin.hybris.common.HybrisConstants
-import com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.lookup.CngLookupElementFactory
-import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.completion.CngCompletionService
 import com.intellij.util.ProcessingContext
 
 class CngWidgetConnectionWidgetIdCompletionProvider : CompletionProvider<CompletionParameters>() {
@@ -36,21 +34,9 @@ class CngWidgetConnectionWidgetIdCompletionProvider : CompletionProvider<Complet
 
         val resultCaseInsensitive = result.caseInsensitive()
 
-        with(CngMetaModelStateService.state(project)) {
-            widgets
-                .values
-                .map { CngLookupElementFactory.build(it) }
-                .forEach { resultCaseInsensitive.addElement(it) }
-
-            editorDefinitions
-                .values
-                .map { CngLookupElementFactory.build(it, HybrisConstants.COCKPIT_NG_WIDGET_ID_STUB + it.id) }
-                .forEach { resultCaseInsensitive.addElement(it) }
-
-            widgetDefinitions
-                .values
-                .map { CngLookupElementFactory.build(it, HybrisConstants.COCKPIT_NG_WIDGET_ID_STUB + it.id) }
-                .forEach { resultCaseInsensitive.addElement(it) }
+        with(CngCompletionService.getInstance(project)) {
+            resultCaseInsensitive.addAllElements(getWidgetLookupElements())
+            resultCaseInsensitive.addAllElements(getWidgetStubLookupElements())
         }
     }
 
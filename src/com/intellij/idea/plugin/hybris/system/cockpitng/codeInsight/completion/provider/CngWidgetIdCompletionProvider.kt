@@ -20,8 +20,7 @@ package com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.completion.
 import com.intellij.codeInsight.completion.CompletionParameters
 import com.intellij.codeInsight.completion.CompletionProvider
 import com.intellij.codeInsight.completion.CompletionResultSet
-import com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.lookup.CngLookupElementFactory
-import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.completion.CngCompletionService
 import com.intellij.util.ProcessingContext
 
 class CngWidgetIdCompletionProvider : CompletionProvider<CompletionParameters>() {
@@ -35,12 +34,9 @@ class CngWidgetIdCompletionProvider : CompletionProvider<CompletionParameters>()
 
         val resultCaseInsensitive = result.caseInsensitive()
 
-        with(CngMetaModelStateService.state(project)) {
-            widgets
-                .values
-                .map { CngLookupElementFactory.build(it) }
-                .forEach { resultCaseInsensitive.addElement(it) }
-        }
+        CngCompletionService.getInstance(project)
+            .getWidgetLookupElements()
+            .forEach { resultCaseInsensitive.addElement(it) }
     }
 
 }
\ No newline at end of file
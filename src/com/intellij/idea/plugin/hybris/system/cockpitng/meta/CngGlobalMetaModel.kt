@@ -38,6 +38,8 @@ class CngGlobalMetaModel : ModificationTracker, Disposable {
     val widgetDefinitions = CaseInsensitiveConcurrentHashMap<String, CngMetaWidgetDefinition>()
     val editorDefinitions = CaseInsensitiveConcurrentHashMap<String, CngMetaEditorDefinition>()
     val widgets = CaseInsensitiveConcurrentHashMap<String, CngMetaWidget>()
+    var index = CngMetaModelIndex.EMPTY
+        internal set
 
     fun clear() {
         cleanup()
@@ -56,6 +58,7 @@ class CngGlobalMetaModel : ModificationTracker, Disposable {
         widgetDefinitions.clear()
         editorDefinitions.clear()
         widgets.clear()
+        index = CngMetaModelIndex.EMPTY
     }
 
 }
@@ -0,0 +1,106 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.cockpitng.meta
+
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.model.CngMetaActionDefinition
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.model.CngMetaEditorDefinition
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.model.CngMetaWidget
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.model.CngMetaWidgetDefinition
+
+/**
+ * Immutable lookup tables of the [CngGlobalMetaModel], built once at the end of the merge.
+ *
+ * Widget ids are case-insensitive, same as in the global meta model; context attributes are looked up by exact name and value,
+ * prefix lookups ignore the case.
+ */
+class CngMetaModelIndex private constructor(
+    private val widgetsById: Map<String, CngMetaWidget>,
+    val widgets: List<CngMetaWidget>,
+    val widgetDefinitions: List<CngMetaWidgetDefinition>,
+    val editorDefinitions: List<CngMetaEditorDefinition>,
+    val actionDefinitions: List<CngMetaActionDefinition>,
+    private val contextAttributeNames: PrefixTrie,
+    private val contextAttributeValues: Map<String, PrefixTrie>,
+) {
+
+    fun findWidget(id: String) = widgetsById[id.lowercase()]
+
+    fun containsContextAttribute(name: String) = contextAttributeNames.contains(name)
+    fun findContextAttributes(prefix: String = "") = contextAttributeNames.findByPrefix(prefix)
+
+    fun containsContextAttributeValue(name: String, value: String) = contextAttributeValues[name]?.contains(value) ?: false
+    fun findContextAttributeValues(name: String, prefix: String = "") = contextAttributeValues[name]?.findByPrefix(prefix) ?: emptyList()
+
+    /**
+     * Case-insensitive prefix trie, each node keeps all original strings which are equal to its path ignoring the case.
+     */
+    private class PrefixTrie(values: Collection<String>) {
+
+        private val root = Node()
+
+        init {
+            values.forEach { value ->
+                var node = root
+                value.forEach { node = node.children.getOrPut(it.lowercaseChar()) { Node() } }
+                node.values.add(value)
+            }
+        }
+
+        fun contains(value: String) = find(value)?.values?.contains(value) ?: false
+
+        fun findByPrefix(prefix: String): List<String> {
+            val values = mutableListOf<String>()
+            val queue = ArrayDeque<Node>()
+            find(prefix)?.let { queue.add(it) }
+
+            while (queue.isNotEmpty()) {
+                val node = queue.removeFirst()
+                values.addAll(node.values)
+                queue.addAll(node.children.values)
+            }
+
+            return values.sorted()
+        }
+
+        private fun find(prefix: String): Node? {
+            var node = root
+            prefix.forEach { node = node.children[it.lowercaseChar()] ?: return null }
+            return node
+        }
+
+        private class Node {
+            val children = HashMap<Char, Node>(2)
+            val values = ArrayList<String>(1)
+        }
+    }
+
+    companion object {
+        val EMPTY = CngMetaModelIndex(emptyMap(), emptyList(), emptyList(), emptyList(), emptyList(), PrefixTrie(emptyList()), emptyMap())
+
+        internal fun of(globalMetaModel: CngGlobalMetaModel) = CngMetaModelIndex(
+            widgetsById = globalMetaModel.widgets.values.associateBy { it.id.lowercase() },
+            widgets = globalMetaModel.widgets.values.sortedBy { it.id },
+            widgetDefinitions = globalMetaModel.widgetDefinitions.values.sortedBy { it.id },
+            editorDefinitions = globalMetaModel.editorDefinitions.values.sortedBy { it.id },
+            actionDefinitions = globalMetaModel.actionDefinitions.values.sortedBy { it.id },
+            contextAttributeNames = PrefixTrie(globalMetaModel.contextAttributes.keys),
+            contextAttributeValues = globalMetaModel.contextAttributes.mapValues { PrefixTrie(it.value) },
+        )
+    }
+}
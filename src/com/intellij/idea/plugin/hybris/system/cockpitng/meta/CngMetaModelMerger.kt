@@ -46,6 +46,8 @@ object CngMetaModelMerger {
         metaTypes[CngMetaEditorDefinition::class.java.simpleName]
             ?.asSafely<List<CngMetaEditorDefinition>>()
             ?.forEach { merge(this, it) }
+
+        index = CngMetaModelIndex.of(this)
     }
 
     private fun merge(globalMetaModel: CngGlobalMetaModel, localMeta: CngMetaConfig) {
@@ -72,18 +74,22 @@ object CngMetaModelMerger {
     private fun merge(globalMetaModel: CngGlobalMetaModel, localMeta: CngMetaWidgets) {
         // It is possible to extend existing widget with new widgets, those have to be processed first
         localMeta.widgetExtensions
-            .flatMap { it.widgets }
-            .forEach { mergeWidget(it, globalMetaModel) }
+            .forEach { widgetExtension -> mergeWidgets(widgetExtension.widgets, globalMetaModel) }
 
-        localMeta.widgets
-            .forEach { mergeWidget(it, globalMetaModel) }
+        mergeWidgets(localMeta.widgets, globalMetaModel)
     }
 
-    private fun mergeWidget(widget: CngMetaWidget, globalMetaModel: CngGlobalMetaModel) {
-        globalMetaModel.widgets[widget.id] = widget
+    private fun mergeWidgets(widgets: Collection<CngMetaWidget>, globalMetaModel: CngGlobalMetaModel) {
+        // widgets may be deeply nested, so the tree is walked without recursion, in the same pre-order as declared
+        val stack = ArrayDeque<CngMetaWidget>()
+        widgets.reversed().forEach { stack.addLast(it) }
+
+        while (stack.isNotEmpty()) {
+            val widget = stack.removeLast()
+
+            globalMetaModel.widgets[widget.id] = widget
 
-        widget.widgets.forEach { subWidget ->
-            mergeWidget(subWidget, globalMetaModel)
+            widget.widgets.reversed().forEach { stack.addLast(it) }
         }
     }
 
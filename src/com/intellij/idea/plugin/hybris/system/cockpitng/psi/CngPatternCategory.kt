@@ -0,0 +1,65 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.cockpitng.psi
+
+import com.intellij.patterns.ElementPattern
+import com.intellij.psi.xml.XmlAttributeValue
+
+/**
+ * Categories of the Cockpit NG attribute values, each backed by the corresponding pattern of the [CngPatterns].
+ *
+ * [attributes] lists local names of the attributes which may match the pattern, it is used to skip evaluation of unrelated patterns.
+ * Pattern of a category without [attributes] is evaluated for every attribute value.
+ */
+enum class CngPatternCategory(vararg val attributes: String) {
+    I18N_PROPERTY("label", "sublabel", "name", "description"),
+    WIDGET_SETTING("key"),
+    WIDGET_ID("widgetId", "targetWidgetId"),
+    WIDGET_CONNECTION_WIDGET_ID("sourceWidgetId", "targetWidgetId"),
+    WIDGET_DEFINITION("widgetDefinitionId"),
+    ACTION_DEFINITION("action-id"),
+    WIDGET_COMPONENT_RENDERER_CLASS("class"),
+    EDITOR_DEFINITION("editor"),
+    ITEM_ATTRIBUTE("qualifier", "name"),
+    FLOW_STEP_CONTENT_PROPERTY_LIST_PROPERTY_QUALIFIER("qualifier"),
+    FLOW_STEP_PROPERTY("qualifier", "property"),
+    FLOW_INITIALIZE_TYPE("type"),
+    FLOW_PROPERTY_LIST_ROOT("root"),
+    CONTEXT_PARENT_NON_ITEM_TYPE("parent"),
+    ITEM_TYPE("type", "parent", "code");
+
+    val pattern: ElementPattern<out XmlAttributeValue>
+        get() = when (this) {
+            I18N_PROPERTY -> CngPatterns.I18N_PROPERTY
+            WIDGET_SETTING -> CngPatterns.WIDGET_SETTING
+            WIDGET_ID -> CngPatterns.WIDGET_ID
+            WIDGET_CONNECTION_WIDGET_ID -> CngPatterns.WIDGET_CONNECTION_WIDGET_ID
+            WIDGET_DEFINITION -> CngPatterns.WIDGET_DEFINITION
+            ACTION_DEFINITION -> CngPatterns.ACTION_DEFINITION
+            WIDGET_COMPONENT_RENDERER_CLASS -> CngPatterns.WIDGET_COMPONENT_RENDERER_CLASS
+            EDITOR_DEFINITION -> CngPatterns.EDITOR_DEFINITION
+            ITEM_ATTRIBUTE -> CngPatterns.ITEM_ATTRIBUTE
+            FLOW_STEP_CONTENT_PROPERTY_LIST_PROPERTY_QUALIFIER -> CngPatterns.FLOW_STEP_CONTENT_PROPERTY_LIST_PROPERTY_QUALIFIER
+            FLOW_STEP_PROPERTY -> CngPatterns.FLOW_STEP_PROPERTY
+            FLOW_INITIALIZE_TYPE -> CngPatterns.FLOW_INITIALIZE_TYPE
+            FLOW_PROPERTY_LIST_ROOT -> CngPatterns.FLOW_PROPERTY_LIST_ROOT
+            CONTEXT_PARENT_NON_ITEM_TYPE -> CngPatterns.CONTEXT_PARENT_NON_ITEM_TYPE
+            ITEM_TYPE -> CngPatterns.ITEM_TYPE
+        }
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.cockpitng.psi
+
+import com.intellij.openapi.util.Key
+import com.intellij.patterns.PatternCondition
+import com.intellij.patterns.XmlAttributeValuePattern
+import com.intellij.patterns.XmlPatterns
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.PsiModificationTracker
+import com.intellij.psi.xml.XmlAttribute
+import com.intellij.psi.xml.XmlAttributeValue
+import com.intellij.util.ProcessingContext
+import java.util.*
+
+/**
+ * Classifies Cockpit NG attribute values once per PSI modification, instead of evaluating each [CngPatterns] pattern
+ * by every reference and completion contributor on each keystroke.
+ */
+object CngPatternClassifier {
+
+    private val CACHE_KEY = Key.create<CachedValue<Set<CngPatternCategory>>>("HYBRIS_CNG_PATTERN_CATEGORIES")
+    private val categoriesByAttribute = CngPatternCategory.entries
+        .flatMap { category -> category.attributes.map { it to category } }
+        .groupBy({ it.first }, { it.second })
+    private val unrestrictedCategories = CngPatternCategory.entries
+        .filter { it.attributes.isEmpty() }
+
+    fun pattern(category: CngPatternCategory): XmlAttributeValuePattern = XmlPatterns.xmlAttributeValue()
+        .with(object : PatternCondition<XmlAttributeValue>("cng${category.name}") {
+            override fun accepts(t: XmlAttributeValue, context: ProcessingContext?) = classify(t).contains(category)
+        })
+
+    fun classify(element: XmlAttributeValue): Set<CngPatternCategory> {
+        // the majority of attribute values cannot match any pattern, there is no need to cache anything for them
+        if (getCandidates(element).isEmpty()) return emptySet()
+
+        return CachedValuesManager.getCachedValue(element, CACHE_KEY) {
+            CachedValueProvider.Result.create(
+                getCandidates(element).filterTo(EnumSet.noneOf(CngPatternCategory::class.java)) { it.pattern.accepts(element) },
+                PsiModificationTracker.MODIFICATION_COUNT
+            )
+        }
+    }
+
+    private fun getCandidates(element: XmlAttributeValue): List<CngPatternCategory> {
+        val localName = (element.parent as? XmlAttribute)
+            ?.localName
+            ?: return emptyList()
+
+        return categoriesByAttribute[localName]
+            ?.plus(unrestrictedCategories)
+            ?: unrestrictedCategories
+    }
+}
@@ -18,7 +18,8 @@
 package com.intellij.idea.plugin.hybris.system.cockpitng.psi.contributor
 
 import com.intellij.idea.plugin.hybris.project.utils.Plugin
-import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPatterns
+import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPatternCategory
+import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPatternClassifier
 import com.intellij.idea.plugin.hybris.system.cockpitng.psi.provider.*
 import com.intellij.lang.properties.PropertiesReferenceProvider
 import com.intellij.psi.PsiReferenceContributor
@@ -28,57 +29,57 @@ class CngReferenceContributor : PsiReferenceContributor() {
 
     override fun registerReferenceProviders(registrar: PsiReferenceRegistrar) {
         registrar.registerReferenceProvider(
-            CngPatterns.ITEM_TYPE,
+            CngPatternClassifier.pattern(CngPatternCategory.ITEM_TYPE),
             CngTSItemReferenceProvider()
         )
         registrar.registerReferenceProvider(
-            CngPatterns.FLOW_STEP_CONTENT_PROPERTY_LIST_PROPERTY_QUALIFIER,
+            CngPatternClassifier.pattern(CngPatternCategory.FLOW_STEP_CONTENT_PROPERTY_LIST_PROPERTY_QUALIFIER),
             CngFlowPropertyListPropertyQualifierReferenceProvider()
         )
         registrar.registerReferenceProvider(
-            CngPatterns.FLOW_STEP_PROPERTY,
+            CngPatternClassifier.pattern(CngPatternCategory.FLOW_STEP_PROPERTY),
             CngFlowPropertyQualifierReferenceProvider()
         )
         registrar.registerReferenceProvider(
-            CngPatterns.FLOW_INITIALIZE_TYPE,
+            CngPatternClassifier.pattern(CngPatternCategory.FLOW_INITIALIZE_TYPE),
             CngFlowTypeReferenceProvider()
         )
         registrar.registerReferenceProvider(
-            CngPatterns.FLOW_PROPERTY_LIST_ROOT,
+            CngPatternClassifier.pattern(CngPatternCategory.FLOW_PROPERTY_LIST_ROOT),
             CngFlowInitializePropertyReferenceProvider()
         )
         registrar.registerReferenceProvider(
-            CngPatterns.EDITOR_DEFINITION,
+            CngPatternClassifier.pattern(CngPatternCategory.EDITOR_DEFINITION),
             CngEditorDefinitionReferenceProvider()
         )
         registrar.registerReferenceProvider(
-            CngPatterns.ITEM_ATTRIBUTE,
+            CngPatternClassifier.pattern(CngPatternCategory.ITEM_ATTRIBUTE),
             CngTSItemAttributeReferenceProvider()
         )
         registrar.registerReferenceProvider(
-            CngPatterns.ACTION_DEFINITION,
+            CngPatternClassifier.pattern(CngPatternCategory.ACTION_DEFINITION),
             CngActionDefinitionReferenceProvider()
         )
         registrar.registerReferenceProvider(
-            CngPatterns.WIDGET_ID,
+            CngPatternClassifier.pattern(CngPatternCategory.WIDGET_ID),
             CngWidgetReferenceProvider()
         )
         registrar.registerReferenceProvider(
-            CngPatterns.WIDGET_CONNECTION_WIDGET_ID,
+            CngPatternClassifier.pattern(CngPatternCategory.WIDGET_CONNECTION_WIDGET_ID),
             CngWidgetConnectionWidgetIdReferenceProvider()
         )
         registrar.registerReferenceProvider(
-            CngPatterns.WIDGET_DEFINITION,
+            CngPatternClassifier.pattern(CngPatternCategory.WIDGET_DEFINITION),
             CngWidgetDefinitionReferenceProvider()
         )
         registrar.registerReferenceProvider(
-            CngPatterns.WIDGET_SETTING,
+            CngPatternClassifier.pattern(CngPatternCategory.WIDGET_SETTING),
             CngWidgetSettingReferenceProvider()
         )
 
         Plugin.PROPERTIES.ifActive {
             registrar.registerReferenceProvider(
-                CngPatterns.I18N_PROPERTY,
+                CngPatternClassifier.pattern(CngPatternCategory.I18N_PROPERTY),
                 PropertiesReferenceProvider()
             )
         }
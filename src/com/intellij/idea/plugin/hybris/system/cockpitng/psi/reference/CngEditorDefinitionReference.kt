@@ -29,32 +29,21 @@ import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiPolyVariantReference
 import com.intellij.psi.PsiReferenceBase
 import com.intellij.psi.ResolveResult
-import com.intellij.psi.util.*
+import com.intellij.psi.util.PsiModificationTracker
 
 class CngEditorDefinitionReference(element: PsiElement, textRange: TextRange) : PsiReferenceBase.Poly<PsiElement>(element, textRange, false),
     PsiPolyVariantReference, HighlightedReference {
 
-    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> = CachedValuesManager.getManager(element.project)
-        .getParameterizedCachedValue(element, cacheKey(rangeInElement), provider, false, this)
-        .let { PsiUtils.getValidResults(it) }
-
-    companion object {
-        private val provider = ParameterizedCachedValueProvider<Array<ResolveResult>, CngEditorDefinitionReference> { ref ->
-            val element = ref.element
-            val value = ref.value
-            val project = element.project
-
-            val result = CngMetaModelStateService.state(project)
+    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> = CngReferenceResolveCache
+        .resolve(this, CACHE_KEY, CngModificationTracker.getInstance(element.project), PsiModificationTracker.MODIFICATION_COUNT) {
+            CngMetaModelStateService.state(element.project)
                 .editorDefinitions[value]
                 ?.let { PsiUtils.getValidResults(arrayOf(EditorDefinitionResolveResult(it))) }
                 ?: emptyArray()
-
-            CachedValueProvider.Result.create(
-                result,
-                CngModificationTracker.getInstance(project), PsiModificationTracker.MODIFICATION_COUNT
-            )
         }
-    }
+        .let { PsiUtils.getValidResults(it) }
 
-    private fun cacheKey(range: TextRange) = Key.create<ParameterizedCachedValue<Array<ResolveResult>, CngEditorDefinitionReference>>("HYBRIS_CNGEDITORDEFINITIONREFERENCE" + range)
+    companion object {
+        val CACHE_KEY: CngResolveCacheKey = Key.create("HYBRIS_CNGEDITORDEFINITIONREFERENCE")
+    }
 }
@@ -25,7 +25,9 @@ import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPsiHelper
 import com.intellij.openapi.util.Key
 import com.intellij.openapi.util.TextRange
 import com.intellij.psi.*
-import com.intellij.psi.util.*
+import com.intellij.psi.util.PsiModificationTracker
+import com.intellij.psi.util.childrenOfType
+import com.intellij.psi.util.parentsOfType
 import com.intellij.psi.xml.XmlTag
 
 class CngInitializePropertyReference : PsiReferenceBase.Poly<PsiElement>, PsiPolyVariantReference, HighlightedReference {
@@ -36,44 +38,33 @@ class CngInitializePropertyReference : PsiReferenceBase.Poly<PsiElement>, PsiPol
     override fun getVariants() = CngCompletionService.getInstance(element.project)
         .getInitializeProperties(element)
 
-    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> = CachedValuesManager.getManager(element.project)
-        .getParameterizedCachedValue(element, cacheKey(rangeInElement), provider, false, this)
+    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> = CngReferenceResolveCache
+        .resolve(this, CACHE_KEY, PsiModificationTracker.MODIFICATION_COUNT) { resolve(element, value) }
         .let { PsiUtils.getValidResults(it) }
 
     companion object {
         const val NEW_OBJECT = "newObject"
 
-        private val provider = ParameterizedCachedValueProvider<Array<ResolveResult>, CngInitializePropertyReference> { ref ->
-            val element = ref.element
-            val text = ref.value
+        val CACHE_KEY: CngResolveCacheKey = Key.create("HYBRIS_CNGINITIALIZEPROPERTYREFERENCE")
 
-            val result = element.parentsOfType<XmlTag>()
-                .firstOrNull { it.localName == "flow" }
-                ?.childrenOfType<XmlTag>()
-                ?.filter { it.localName == "prepare" }
-                ?.flatMap { it.childrenOfType<XmlTag>() }
-                ?.asSequence()
-                ?.filter { it.localName == "initialize" }
-                ?.mapNotNull { it.getAttribute("property") }
-                ?.mapNotNull { it.valueElement }
-                ?.filter { it.value == text }
-                ?.map { PsiElementResolveResult(it) }
-                ?.toList()
-                ?.let { PsiUtils.getValidResults(it.toTypedArray()) }
-                ?.takeIf { it.isNotEmpty() }
-                ?: CngPsiHelper.resolveContextTag(element)
-                    ?.getAttribute("type")
-                    ?.valueElement
-                    ?.let { PsiUtils.getValidResults(arrayOf(PsiElementResolveResult(it))) }
-                ?: emptyArray()
-
-            CachedValueProvider.Result.create(
-                result,
-                PsiModificationTracker.MODIFICATION_COUNT
-            )
-        }
+        private fun resolve(element: PsiElement, text: String): Array<ResolveResult> = element.parentsOfType<XmlTag>()
+            .firstOrNull { it.localName == "flow" }
+            ?.childrenOfType<XmlTag>()
+            ?.filter { it.localName == "prepare" }
+            ?.flatMap { it.childrenOfType<XmlTag>() }
+            ?.asSequence()
+            ?.filter { it.localName == "initialize" }
+            ?.mapNotNull { it.getAttribute("property") }
+            ?.mapNotNull { it.valueElement }
+            ?.filter { it.value == text }
+            ?.map { PsiElementResolveResult(it) }
+            ?.toList()
+            ?.let { PsiUtils.getValidResults(it.toTypedArray()) }
+            ?.takeIf { it.isNotEmpty() }
+            ?: CngPsiHelper.resolveContextTag(element)
+                ?.getAttribute("type")
+                ?.valueElement
+                ?.let { PsiUtils.getValidResults(arrayOf(PsiElementResolveResult(it))) }
+            ?: emptyArray()
     }
-
-    private fun cacheKey(range: TextRange) =
-        Key.create<ParameterizedCachedValue<Array<ResolveResult>, CngInitializePropertyReference>>("HYBRIS_CNGINITIALIZEPROPERTYREFERENCE_" + range)
 }
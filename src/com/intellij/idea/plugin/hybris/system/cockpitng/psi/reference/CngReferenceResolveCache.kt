@@ -0,0 +1,49 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.cockpitng.psi.reference
+
+import com.intellij.openapi.util.Key
+import com.intellij.openapi.util.TextRange
+import com.intellij.psi.PsiReference
+import com.intellij.psi.ResolveResult
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import java.util.concurrent.ConcurrentHashMap
+
+typealias CngResolveCacheKey = Key<CachedValue<MutableMap<TextRange, Array<ResolveResult>>>>
+
+/**
+ * Resolve results of all references of the same element, stored under a single static key and grouped by the reference range.
+ *
+ * Single element may hold several references of the same type, so results cannot be stored directly under the static key.
+ */
+internal object CngReferenceResolveCache {
+
+    fun resolve(
+        reference: PsiReference,
+        key: CngResolveCacheKey,
+        vararg dependencies: Any,
+        resolver: () -> Array<ResolveResult>
+    ): Array<ResolveResult> = CachedValuesManager.getCachedValue(reference.element, key) {
+        CachedValueProvider.Result.create(ConcurrentHashMap(), *dependencies)
+    }
+        .computeIfAbsent(reference.rangeInElement) { resolver() }
+
+}
@@ -44,8 +44,8 @@ class CngWidgetReference(element: PsiElement) : PsiReferenceBase.Poly<PsiElement
             val lookingForName = ref.value
             val project = element.project
 
-            val result = CngMetaModelStateService.state(project)
-                .widgets[lookingForName]
+            val result = CngMetaModelStateService.state(project).index
+                .findWidget(lookingForName)
                 ?.let { PsiUtils.getValidResults(arrayOf(WidgetResolveResult(it))) }
                 ?: emptyArray()
 
@@ -57,9 +57,12 @@ object CngUtils {
     fun isConfigFile(file: XmlFile) = DomManager.getDomManager(file.project).getFileElement(file, Config::class.java) != null
 
     fun getValidMergeByValues(project: Project) = CngMetaModelStateService.state(project)
-        .contextAttributes
-        .keys
+        .index
+        .findContextAttributes()
         // exclude itself
         .filter { Context.MERGE_BY != it }
 
+    fun isValidMergeByValue(project: Project, value: String) = Context.MERGE_BY != value
+        && CngMetaModelStateService.state(project).index.containsContextAttribute(value)
+
 }
\ No newline at end of file
@@ -29,6 +29,6 @@ class CngComponentConverter : ResolvingConverter<String>() {
 
     override fun fromString(s: String?, context: ConvertContext) = s
 
-    override fun getVariants(context: ConvertContext) = CngMetaModelStateService.state(context.project).contextAttributes[Context.COMPONENT]
-        ?: emptySet()
+    override fun getVariants(context: ConvertContext) = CngMetaModelStateService.state(context.project).index
+        .findContextAttributeValues(Context.COMPONENT)
 }
\ No newline at end of file
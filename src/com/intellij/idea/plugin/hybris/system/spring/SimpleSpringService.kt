@@ -57,9 +57,11 @@ class SimpleSpringService(val project: Project) {
         }, false
     )
 
-    fun findBean(id: String) = if (cache.hasUpToDateValue()) cache.value[id]
+    fun findBean(id: String) = if (isCacheUpToDate()) cache.value[id]
     else null
 
+    fun isCacheUpToDate() = cache.hasUpToDateValue()
+
     fun initCache() {
         ReadAction
             .nonBlocking<Map<String, XmlTag>>() {
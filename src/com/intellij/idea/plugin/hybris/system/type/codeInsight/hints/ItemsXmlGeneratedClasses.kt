@@ -0,0 +1,94 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.type.codeInsight.hints
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.lang.java.JavaLanguage
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.ProjectRootManager
+import com.intellij.openapi.util.Key
+import com.intellij.psi.PsiClass
+import com.intellij.psi.SmartPointerManager
+import com.intellij.psi.SmartPsiElementPointer
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.search.PsiShortNamesCache
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.PsiModificationTracker
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Project-level map from item and enum type code to the generated bootstrap classes (gensrc/models).
+ *
+ * Each code is looked up in the short names cache only once, the whole map is dropped on Java structure
+ * modification or roots change, so inlay passes over large items.xml files do not repeat the class search per token.
+ */
+@Service(Service.Level.PROJECT)
+class ItemsXmlGeneratedClasses(private val project: Project) {
+
+    fun findItemClasses(code: String): Array<PsiClass> = getClasses().items
+        .computeIfAbsent(code) { searchItemClasses(it) }
+        .dereference()
+
+    fun findEnumClasses(code: String): Array<PsiClass> = getClasses().enums
+        .computeIfAbsent(code) { searchEnumClasses(it) }
+        .dereference()
+
+    private fun getClasses(): GeneratedClasses = CachedValuesManager.getManager(project).getCachedValue(project, KEY_GENERATED_CLASSES, {
+        CachedValueProvider.Result.create(
+            GeneratedClasses(),
+            PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE),
+            ProjectRootManager.getInstance(project)
+        )
+    }, false)
+
+    private fun searchItemClasses(code: String) = searchBootstrapClasses(code + HybrisConstants.MODEL_SUFFIX)
+        .map { it.toPointer() }
+
+    private fun searchEnumClasses(code: String) = searchBootstrapClasses(code)
+        .filter { psiClass ->
+            psiClass.implementsListTypes
+                .mapNotNull { it.resolve() }
+                .any { it.qualifiedName == HybrisConstants.CLASS_FQN_ENUM_ROOT }
+        }
+        .map { it.toPointer() }
+
+    private fun searchBootstrapClasses(name: String) = PsiShortNamesCache.getInstance(project)
+        .getClassesByName(name, GlobalSearchScope.allScope(project))
+        .filter { it.containingFile?.virtualFile?.path?.contains("/platform/bootstrap") ?: false }
+
+    private fun PsiClass.toPointer() = SmartPointerManager.getInstance(project).createSmartPsiElementPointer(this)
+
+    private fun List<SmartPsiElementPointer<PsiClass>>.dereference() = mapNotNull { it.element }
+        .toTypedArray()
+
+    private class GeneratedClasses {
+        val items = ConcurrentHashMap<String, List<SmartPsiElementPointer<PsiClass>>>()
+        val enums = ConcurrentHashMap<String, List<SmartPsiElementPointer<PsiClass>>>()
+    }
+
+    companion object {
+        private val KEY_GENERATED_CLASSES = Key.create<CachedValue<GeneratedClasses>>("SAP_CX_ITEMS_XML_GENERATED_CLASSES")
+
+        fun getInstance(project: Project): ItemsXmlGeneratedClasses = project.service()
+    }
+}
@@ -34,8 +34,6 @@ import com.intellij.openapi.project.Project
 import com.intellij.pom.Navigatable
 import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiElement
-import com.intellij.psi.search.GlobalSearchScope
-import com.intellij.psi.search.PsiShortNamesCache
 import com.intellij.psi.util.parentOfType
 import com.intellij.psi.util.startOffset
 import com.intellij.psi.xml.XmlAttribute
@@ -113,24 +111,9 @@ class ItemsXmlInlayHintsCollector(editor: Editor) : AbstractSystemAwareInlayHint
         }
     }
 
-    private fun findItemClass(project: Project, element: String): Array<out PsiClass> =
-        PsiShortNamesCache.getInstance(project).getClassesByName(
-            element + HybrisConstants.MODEL_SUFFIX, GlobalSearchScope.allScope(project)
-        )
-            .filter { it.containingFile.virtualFile.path.contains("/platform/bootstrap") }
-            .toTypedArray()
+    private fun findItemClass(project: Project, element: String): Array<out PsiClass> = ItemsXmlGeneratedClasses.getInstance(project)
+        .findItemClasses(element)
 
-    private fun finEnumClass(project: Project, element: String): Array<out PsiClass> =
-        PsiShortNamesCache.getInstance(project).getClassesByName(
-            element, GlobalSearchScope.allScope(project)
-        )
-            .filter { it.containingFile.virtualFile.path.contains("/platform/bootstrap") }
-            .filter { psiClass ->
-                psiClass.implementsListTypes
-                    .mapNotNull { it.resolve() }
-                    .any {
-                        it.qualifiedName == HybrisConstants.CLASS_FQN_ENUM_ROOT
-                    }
-            }
-            .toTypedArray()
-}
\ No newline at end of file
+    private fun finEnumClass(project: Project, element: String): Array<out PsiClass> = ItemsXmlGeneratedClasses.getInstance(project)
+        .findEnumClasses(element)
+}
@@ -28,6 +28,7 @@ import com.intellij.idea.plugin.hybris.settings.options.ApplicationCCv2SettingsC
 import com.intellij.idea.plugin.hybris.tools.ccv2.api.CCv1Api
 import com.intellij.idea.plugin.hybris.tools.ccv2.api.CCv2Api
 import com.intellij.idea.plugin.hybris.tools.ccv2.dto.*
+import com.intellij.idea.plugin.hybris.tools.ccv2.logs.CCv2BuildLogs
 import com.intellij.notification.NotificationType
 import com.intellij.openapi.Disposable
 import com.intellij.openapi.components.Service
@@ -39,29 +40,30 @@ import com.intellij.openapi.util.Key
 import com.intellij.openapi.util.UserDataHolderBase
 import com.intellij.openapi.util.getOrCreateUserDataUnsafe
 import com.intellij.openapi.util.removeUserData
-import com.intellij.openapi.vfs.LocalFileSystem
-import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.platform.ide.progress.withBackgroundProgress
 import com.intellij.platform.util.progress.ProgressReporter
 import com.intellij.platform.util.progress.reportProgress
-import com.intellij.util.io.ZipUtil
 import kotlinx.coroutines.*
+import kotlinx.coroutines.flow.produceIn
 import java.io.Serial
 import java.net.SocketTimeoutException
-import java.nio.file.Files
 import java.util.*
-import kotlin.io.path.deleteIfExists
-import kotlin.io.path.listDirectoryEntries
-import kotlin.io.path.pathString
-import kotlin.time.Duration.Companion.seconds
+import java.util.concurrent.ConcurrentHashMap
 
 @Service(Service.Level.PROJECT)
 class CCv2Service(val project: Project, private val coroutineScope: CoroutineScope) : UserDataHolderBase(), Disposable {
 
+    private val pollers = ConcurrentHashMap<String, CCv2SubscriptionPoller>()
+
     init {
         with(project.messageBus.connect(this)) {
             subscribe(CCv2SettingsListener.TOPIC, object : CCv2SettingsListener {
-                override fun onSubscriptionsChanged(subscriptions: List<CCv2Subscription>) = resetCache()
+                override fun onSubscriptionsChanged(subscriptions: List<CCv2Subscription>) {
+                    // pollers of the removed subscriptions will not be requested anymore
+                    pollers.keys.retainAll(subscriptions.mapNotNull { it.uuid }.toSet())
+
+                    resetCache()
+                }
             })
         }
     }
@@ -511,7 +513,7 @@ class CCv2Service(val project: Project, private val coroutineScope: CoroutineSco
         project: Project,
         subscription: CCv2Subscription,
         build: CCv2BuildDto,
-        onCompleteCallback: (Collection<VirtualFile>) -> Unit
+        onCompleteCallback: (CCv2BuildLogs) -> Unit
     ) {
         coroutineScope.launch {
             withBackgroundProgress(project, "Downloading CCv2 Build Logs - ${build.code}...") {
@@ -525,19 +527,9 @@ class CCv2Service(val project: Project, private val coroutineScope: CoroutineSco
 
                 try {
                     val buildLogs = CCv2Api.getInstance().downloadBuildLogs(ccv2Token, subscription, build)
-                    val buildLogsPath = buildLogs.toPath()
-                    val tempDirectory = Files.createTempDirectory("ccv2_${build.code}")
-                    tempDirectory.toFile().deleteOnExit()
-
-                    ZipUtil.extract(buildLogsPath, tempDirectory, null, true)
+                        .also { it.deleteOnExit() }
 
-                    buildLogsPath.deleteIfExists()
-
-                    val logFiles = tempDirectory.listDirectoryEntries()
-                        .onEach { it.toFile().deleteOnExit() }
-                        .mapNotNull { LocalFileSystem.getInstance().findFileByPath(it.pathString) }
-
-                    onCompleteCallback.invoke(logFiles)
+                    onCompleteCallback.invoke(CCv2BuildLogs(build.code, buildLogs.toPath()))
                 } catch (e: SocketTimeoutException) {
                     notifyOnTimeout(subscription)
                 } catch (e: RuntimeException) {
@@ -630,41 +622,44 @@ class CCv2Service(val project: Project, private val coroutineScope: CoroutineSco
             withBackgroundProgress(project, "Tracking Progress of the Build - $buildCode..", true) {
                 var buildStatus = CCv2BuildStatus.UNKNOWN
                 var totalProgress = 0
-                val ccv2Token = getCCv2Token(subscription)
+                getCCv2Token(subscription) ?: return@withBackgroundProgress
+
+                val updates = getPoller(subscription).trackBuild(buildCode).produceIn(this)
 
                 reportProgress { progressReporter ->
                     try {
+                        var progress: CCv2BuildProgressDto? = null
+
                         while (buildStatus == CCv2BuildStatus.UNKNOWN || buildStatus == CCv2BuildStatus.SCHEDULED) {
                             checkCanceled()
 
                             progressReporter.indeterminateStep("Build $buildCode scheduled, warming-up...") {
-                                val progress = CCv2Api.getInstance().fetchBuildProgress(subscription, buildCode, ccv2Token!!, progressReporter)
-                                buildStatus = progress.buildStatus
-                                delay(15.seconds)
+                                progress = updates.receive()
+                                    .also { buildStatus = it.buildStatus }
                             }
                         }
 
                         while (buildStatus == CCv2BuildStatus.BUILDING) {
                             checkCanceled()
 
-                            val progress = CCv2Api.getInstance().fetchBuildProgress(subscription, buildCode, ccv2Token!!, progressReporter)
-                            val reportProgress = progress.percentage - totalProgress
-                            totalProgress = progress.percentage
-                            buildStatus = progress.buildStatus
+                            val currentProgress = progress ?: break
+                            val reportProgress = currentProgress.percentage - totalProgress
+                            totalProgress = currentProgress.percentage
 
                             progressReporter.sizedStep(
                                 reportProgress,
-                                "Build $buildCode progress ${progress.percentage}% | ${progress.startedTasks.size} of ${progress.numberOfTasks} tasks"
+                                "Build $buildCode progress ${currentProgress.percentage}% | ${currentProgress.startedTasks.size} of ${currentProgress.numberOfTasks} tasks"
                             ) {
-                                if (totalProgress < 100) {
-                                    delay(15.seconds)
-                                }
+                                progress = updates.receive()
+                                    .also { buildStatus = it.buildStatus }
                             }
                         }
                     } catch (e: SocketTimeoutException) {
                         notifyOnTimeout(subscription)
                     } catch (e: RuntimeException) {
                         notifyOnException(subscription, e)
+                    } finally {
+                        updates.cancel()
                     }
                 }
 
@@ -707,14 +702,17 @@ class CCv2Service(val project: Project, private val coroutineScope: CoroutineSco
         coroutineScope.launch {
             withBackgroundProgress(project, "Tracking Progress of the Deployment - $buildCode..", true) {
                 var totalProgress = 0
-                val ccv2Token = getCCv2Token(subscription)
+                getCCv2Token(subscription) ?: return@withBackgroundProgress
+
+                val updates = getPoller(subscription).trackDeployment(deploymentCode).produceIn(this)
 
                 reportProgress { progressReporter ->
-                    while (totalProgress < 100) {
-                        checkCanceled()
+                    try {
+                        var progress = updates.receive()
+
+                        do {
+                            checkCanceled()
 
-                        try {
-                            val progress = CCv2Api.getInstance().fetchDeploymentProgress(subscription, deploymentCode, ccv2Token!!, progressReporter)
                             val reportProgress = progress.percentage - totalProgress
                             totalProgress = progress.percentage
 
@@ -724,14 +722,16 @@ class CCv2Service(val project: Project, private val coroutineScope: CoroutineSco
 
                             progressReporter.sizedStep(reportProgress, "Deployment $buildCode progress ${progress.percentage}%") {
                                 if (totalProgress < 100) {
-                                    delay(15.seconds)
+                                    progress = updates.receive()
                                 }
                             }
-                        } catch (e: SocketTimeoutException) {
-                            notifyOnTimeout(subscription)
-                        } catch (e: RuntimeException) {
-                            notifyOnException(subscription, e)
-                        }
+                        } while (totalProgress < 100)
+                    } catch (e: SocketTimeoutException) {
+                        notifyOnTimeout(subscription)
+                    } catch (e: RuntimeException) {
+                        notifyOnException(subscription, e)
+                    } finally {
+                        updates.cancel()
                     }
                 }
 
@@ -752,6 +752,23 @@ class CCv2Service(val project: Project, private val coroutineScope: CoroutineSco
         }
     }
 
+    private fun getPoller(subscription: CCv2Subscription) = pollers.computeIfAbsent(subscription.uuid.orEmpty()) { uuid ->
+        CCv2SubscriptionPoller(coroutineScope, object : CCv2SubscriptionPoller.Fetcher {
+            override suspend fun fetchBuildProgress(buildCode: String, etag: String?) = requireCCv2Subscription(uuid)
+                .let { CCv2Api.getInstance().fetchBuildProgress(it, buildCode, requireCCv2Token(it), etag) }
+
+            override suspend fun fetchDeploymentProgress(deploymentCode: String, etag: String?) = requireCCv2Subscription(uuid)
+                .let { CCv2Api.getInstance().fetchDeploymentProgress(it, deploymentCode, requireCCv2Token(it), etag) }
+        })
+    }
+
+    // subscription may be edited while its builds and deployments are tracked, always request them with the latest one
+    private fun requireCCv2Subscription(uuid: String) = ApplicationSettingsComponent.getInstance().getCCv2Subscription(uuid)
+        ?: throw IllegalStateException("CCv2 subscription has been removed")
+
+    private fun requireCCv2Token(subscription: CCv2Subscription) = getCCv2Token(subscription)
+        ?: throw IllegalStateException("CCv2 API token is not set")
+
     private fun getCCv2Token(subscription: CCv2Subscription): String? {
         val appSettings = ApplicationSettingsComponent.getInstance()
         val ccv2Token = appSettings.getCCv2Token(subscription.uuid)
@@ -0,0 +1,157 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.ccv2
+
+import com.intellij.idea.plugin.hybris.tools.ccv2.api.CCv2ConditionalCache
+import com.intellij.idea.plugin.hybris.tools.ccv2.api.CCv2ConditionalResponse
+import com.intellij.idea.plugin.hybris.tools.ccv2.dto.CCv2BuildProgressDto
+import com.intellij.idea.plugin.hybris.tools.ccv2.dto.CCv2DeploymentProgressDto
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.filterNotNull
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.launch
+import kotlin.time.Duration
+import kotlin.time.Duration.Companion.minutes
+import kotlin.time.Duration.Companion.seconds
+
+/**
+ * Single polling loop of the CCv2 subscription shared by all trackers of the builds and deployments.
+ *
+ * Each build or deployment is requested once per interval regardless of the number of its trackers, responses are
+ * re-validated via `ETag` and the interval is doubled, up to [maxInterval], while nothing changes.
+ */
+class CCv2SubscriptionPoller(
+    private val coroutineScope: CoroutineScope,
+    private val fetcher: Fetcher,
+    private val interval: Duration = 15.seconds,
+    private val maxInterval: Duration = 2.minutes,
+    clock: () -> Long = System::currentTimeMillis,
+) {
+
+    private val targets = mutableMapOf<Target<*>, TargetState>()
+    private val cache = CCv2ConditionalCache<Target<*>, Any>(interval / 3, clock)
+    private var job: Job? = null
+
+    fun trackBuild(buildCode: String): Flow<CCv2BuildProgressDto> = track(Target.Build(buildCode))
+
+    fun trackDeployment(deploymentCode: String): Flow<CCv2DeploymentProgressDto> = track(Target.Deployment(deploymentCode))
+
+    /**
+     * Emits the latest known value of the target, tracking stops once the flow collection completes or gets cancelled.
+     */
+    @Suppress("UNCHECKED_CAST")
+    private fun <T : Any> track(target: Target<T>): Flow<T> = flow {
+        val state = acquire(target)
+        try {
+            state.values
+                .filterNotNull()
+                .collect { emit(it.getOrThrow() as T) }
+        } finally {
+            release(target)
+        }
+    }
+
+    @Synchronized
+    private fun acquire(target: Target<*>): TargetState {
+        val state = targets[target]
+            ?: TargetState().also {
+                targets[target] = it
+
+                // restart the loop to fetch the new target right away, even if the loop is backing off
+                job?.cancel()
+                job = coroutineScope.launch { poll() }
+            }
+        state.trackers++
+
+        return state
+    }
+
+    @Synchronized
+    private fun release(target: Target<*>) {
+        val state = targets[target] ?: return
+        if (--state.trackers > 0) return
+
+        targets.remove(target)
+        cache.invalidate(target)
+
+        if (targets.isEmpty()) {
+            job?.cancel()
+            job = null
+        }
+    }
+
+    private suspend fun poll() {
+        var currentInterval = interval
+
+        while (true) {
+            val snapshot = synchronized(this) { targets.toMap() }
+            if (snapshot.isEmpty()) return
+
+            var changed = false
+            snapshot.forEach { (target, state) ->
+                val value = try {
+                    Result.success(cache.get(target) { etag -> target.fetch(fetcher, etag) })
+                } catch (e: CancellationException) {
+                    throw e
+                } catch (e: Exception) {
+                    // also I/O failures, e.g. timeouts, must reach the trackers instead of stopping the shared loop
+                    cache.invalidate(target)
+                    Result.failure(e)
+                }
+
+                if (state.values.value != value) {
+                    state.values.value = value
+                    changed = true
+                }
+            }
+
+            currentInterval = if (changed) interval
+            else minOf(currentInterval * 2, maxInterval)
+
+            delay(currentInterval)
+        }
+    }
+
+    interface Fetcher {
+        suspend fun fetchBuildProgress(buildCode: String, etag: String?): CCv2ConditionalResponse<CCv2BuildProgressDto>
+        suspend fun fetchDeploymentProgress(deploymentCode: String, etag: String?): CCv2ConditionalResponse<CCv2DeploymentProgressDto>
+    }
+
+    private sealed interface Target<T : Any> {
+        suspend fun fetch(fetcher: Fetcher, etag: String?): CCv2ConditionalResponse<T>
+
+        data class Build(val code: String) : Target<CCv2BuildProgressDto> {
+            override suspend fun fetch(fetcher: Fetcher, etag: String?) = fetcher.fetchBuildProgress(code, etag)
+        }
+
+        data class Deployment(val code: String) : Target<CCv2DeploymentProgressDto> {
+            override suspend fun fetch(fetcher: Fetcher, etag: String?) = fetcher.fetchDeploymentProgress(code, etag)
+        }
+    }
+
+    private class TargetState {
+        val values = MutableStateFlow<Result<Any>?>(null)
+        var trackers = 0
+    }
+}
@@ -28,6 +28,7 @@ import com.intellij.idea.plugin.hybris.tools.ccv2.CCv2Service
 import com.intellij.idea.plugin.hybris.tools.ccv2.dto.CCv2BuildDto
 import com.intellij.idea.plugin.hybris.tools.ccv2.dto.CCv2BuildRequest
 import com.intellij.idea.plugin.hybris.tools.ccv2.dto.CCv2BuildStatus
+import com.intellij.idea.plugin.hybris.tools.ccv2.logs.CCv2BuildLogs
 import com.intellij.idea.plugin.hybris.tools.ccv2.ui.CCv2CreateBuildDialog
 import com.intellij.idea.plugin.hybris.tools.ccv2.ui.CCv2DeployBuildDialog
 import com.intellij.idea.plugin.hybris.toolwindow.ccv2.CCv2Tab
@@ -36,11 +37,9 @@ import com.intellij.openapi.actionSystem.ActionUpdateThread
 import com.intellij.openapi.actionSystem.AnActionEvent
 import com.intellij.openapi.actionSystem.DataKey
 import com.intellij.openapi.application.invokeLater
-import com.intellij.openapi.fileEditor.FileEditorManager
 import com.intellij.openapi.project.DumbAwareAction
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.ui.Messages
-import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.ui.AnimatedIcon
 
 val subscriptionKey = DataKey.create<CCv2Subscription>("subscription")
@@ -195,13 +194,11 @@ class CCv2DownloadBuildLogsAction(
         CCv2Service.getInstance(project).downloadBuildLogs(project, subscription, build, onCompleteCallback(project))
     }
 
-    private fun onCompleteCallback(project: Project): (Collection<VirtualFile>) -> Unit = {
+    private fun onCompleteCallback(project: Project): (CCv2BuildLogs) -> Unit = {
         fetching = false
 
         invokeLater {
-            it.forEach {
-                FileEditorManager.getInstance(project).openFile(it, true)
-            }
+            CCv2ViewUtil.showBuildLogsTab(project, subscription, it)
         }
     }
 
@@ -21,6 +21,11 @@ package com.intellij.idea.plugin.hybris.tools.ccv2.api
 import com.intellij.idea.plugin.hybris.ccv1.invoker.infrastructure.ClientException
 import com.intellij.idea.plugin.hybris.ccv2.api.*
 import com.intellij.idea.plugin.hybris.ccv2.invoker.infrastructure.ApiClient
+import com.intellij.idea.plugin.hybris.ccv2.invoker.infrastructure.ApiResponse
+import com.intellij.idea.plugin.hybris.ccv2.invoker.infrastructure.ClientError
+import com.intellij.idea.plugin.hybris.ccv2.invoker.infrastructure.Redirection
+import com.intellij.idea.plugin.hybris.ccv2.invoker.infrastructure.ServerError
+import com.intellij.idea.plugin.hybris.ccv2.invoker.infrastructure.Success
 import com.intellij.idea.plugin.hybris.ccv2.model.CreateBuildRequestDTO
 import com.intellij.idea.plugin.hybris.ccv2.model.CreateDeploymentRequestDTO
 import com.intellij.idea.plugin.hybris.ccv2.model.DeploymentDetailDTO
@@ -252,6 +257,24 @@ class CCv2Api {
             .let { CCv2DeploymentProgressDto.map(it) }
     }
 
+    suspend fun fetchBuildProgress(
+        subscription: CCv2Subscription,
+        buildCode: String,
+        ccv2Token: String,
+        etag: String?
+    ) = buildApi
+        .getBuildProgressWithHttpInfo(subscription.id!!, buildCode, requestHeaders = createConditionalRequestParams(ccv2Token, etag))
+        .let { conditionalResponse(it) { progress -> CCv2BuildProgressDto.map(progress) } }
+
+    suspend fun fetchDeploymentProgress(
+        subscription: CCv2Subscription,
+        deploymentCode: String,
+        ccv2Token: String,
+        etag: String?
+    ) = deploymentApi
+        .getDeploymentProgressWithHttpInfo(subscription.id!!, deploymentCode, requestHeaders = createConditionalRequestParams(ccv2Token, etag))
+        .let { conditionalResponse(it) { progress -> CCv2DeploymentProgressDto.map(progress) } }
+
     suspend fun createBuild(
         ccv2Token: String,
         buildRequest: CCv2BuildRequest
@@ -347,6 +370,27 @@ class CCv2Api {
 
     private fun createRequestParams(ccv2Token: String) = mapOf("Authorization" to "Bearer $ccv2Token")
 
+    private fun createConditionalRequestParams(ccv2Token: String, etag: String?) = etag
+        ?.let { createRequestParams(ccv2Token) + ("If-None-Match" to it) }
+        ?: createRequestParams(ccv2Token)
+
+    private fun <D, T> conditionalResponse(response: ApiResponse<D?>, mapper: (D) -> T): CCv2ConditionalResponse<T> = when (response) {
+        is Success -> CCv2ConditionalResponse.Modified(
+            mapper(response.data ?: throw IllegalStateException("Empty response body, status: ${response.statusCode}")),
+            response.headers.entries
+                .firstOrNull { it.key.equals("ETag", true) }
+                ?.value
+                ?.firstOrNull()
+        )
+
+        is Redirection<*> -> if (response.statusCode == HTTP_NOT_MODIFIED) CCv2ConditionalResponse.NotModified
+        else throw IllegalStateException("Unexpected redirect, status: ${response.statusCode}")
+
+        is ClientError<*> -> throw IllegalStateException("Client error : ${response.statusCode} ${response.message.orEmpty()}")
+        is ServerError<*> -> throw IllegalStateException("Server error : ${response.statusCode} ${response.message.orEmpty()}")
+        else -> throw IllegalStateException("Unexpected response, status: ${response.statusCode}")
+    }
+
     private suspend fun getV1Environment(
         canAccess: Boolean,
         ccv1Api: CCv1Api,
@@ -374,6 +418,8 @@ class CCv2Api {
     } else null
 
     companion object {
+        private const val HTTP_NOT_MODIFIED = 304
+
         fun getInstance(): CCv2Api = application.service()
     }
 
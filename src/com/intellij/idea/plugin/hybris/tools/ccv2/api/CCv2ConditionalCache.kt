@@ -0,0 +1,62 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.ccv2.api
+
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.time.Duration
+
+sealed interface CCv2ConditionalResponse<out T> {
+    data class Modified<T>(val value: T, val etag: String?) : CCv2ConditionalResponse<T>
+    data object NotModified : CCv2ConditionalResponse<Nothing>
+}
+
+/**
+ * Cache of the CCv2 responses which honours `ETag` / `If-None-Match`.
+ *
+ * Entries younger than [ttl] are returned without any request, older entries are re-validated with the last known `ETag`,
+ * so unchanged payload is not transferred again.
+ */
+class CCv2ConditionalCache<K : Any, T : Any>(
+    private val ttl: Duration,
+    private val clock: () -> Long = System::currentTimeMillis,
+) {
+
+    private val entries = ConcurrentHashMap<K, Entry<T>>()
+
+    suspend fun get(key: K, fetch: suspend (etag: String?) -> CCv2ConditionalResponse<T>): T {
+        val entry = entries[key]
+        val now = clock()
+
+        if (entry != null && now - entry.validatedAt < ttl.inWholeMilliseconds) return entry.value
+
+        val validated = when (val response = fetch(entry?.etag)) {
+            is CCv2ConditionalResponse.Modified -> Entry(response.value, response.etag, now)
+            CCv2ConditionalResponse.NotModified -> entry
+                ?.copy(validatedAt = now)
+                ?: throw IllegalStateException("Received Not Modified response for unknown entry $key")
+        }
+
+        entries[key] = validated
+        return validated.value
+    }
+
+    fun invalidate(key: K) = entries.remove(key)
+
+    private data class Entry<T>(val value: T, val etag: String?, val validatedAt: Long)
+}
@@ -0,0 +1,214 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.ccv2.logs
+
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.progress.ProgressManager
+import java.io.Closeable
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.util.regex.Pattern
+import java.util.zip.ZipEntry
+import java.util.zip.ZipFile
+import kotlin.io.path.deleteIfExists
+
+/**
+ * Single log entry of the CCv2 build logs archive.
+ *
+ * The entry is streamed out of the zip only once, while indexing: content is spooled to a temporary file
+ * and the offset of every [BLOCK_SIZE]-th line is remembered. Lines are read on demand, a single block of the spooled
+ * file at a time, and only the first [MAX_LINE_LENGTH] characters of each line are decoded and kept in memory.
+ */
+class CCv2BuildLogFile private constructor(
+    val name: String,
+    private val content: Path,
+    private val size: Long,
+    private val blockOffsets: LongArray,
+    val lineCount: Int,
+    private val errorLines: IntArray,
+) : Closeable {
+
+    private val channel = FileChannel.open(content, StandardOpenOption.READ)
+    private val blocks = object : LinkedHashMap<Int, Array<String>>(BLOCKS_CACHE_SIZE, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Int, Array<String>>?) = size > BLOCKS_CACHE_SIZE
+    }
+
+    val errorsCount
+        get() = errorLines.size
+
+    @Synchronized
+    fun line(index: Int): String = blocks
+        .getOrPut(index / BLOCK_SIZE) { readBlock(index / BLOCK_SIZE) }
+        .let { it[index % BLOCK_SIZE] }
+
+    fun nextError(fromLine: Int): Int? {
+        val index = errorLines.binarySearch(fromLine + 1)
+            .let { if (it < 0) -it - 1 else it }
+
+        return errorLines.getOrNull(index)
+            ?: errorLines.firstOrNull()
+    }
+
+    fun find(pattern: Pattern, fromLine: Int, indicator: ProgressIndicator?): Int? {
+        if (lineCount == 0) return null
+
+        for (offset in 1..lineCount) {
+            if (offset % BLOCK_SIZE == 0) indicator?.checkCanceled()
+
+            val index = (fromLine + offset) % lineCount
+            if (pattern.matcher(line(index)).find()) return index
+        }
+
+        return null
+    }
+
+    override fun close() {
+        channel.close()
+        content.deleteIfExists()
+    }
+
+    private fun readBlock(block: Int): Array<String> {
+        val end = blockOffsets.getOrElse(block + 1) { size }
+        val lines = Array(minOf(BLOCK_SIZE, lineCount - block * BLOCK_SIZE)) { "" }
+        val buffer = ByteBuffer.allocate(BUFFER_SIZE)
+        // bytes beyond the visible part of a line are skipped, never decoded
+        val lineBytes = ByteArray(MAX_LINE_BYTES)
+
+        var position = blockOffsets[block]
+        var lineLength = 0
+        var index = 0
+
+        while (index < lines.size && position < end) {
+            buffer.clear()
+            buffer.limit(minOf(BUFFER_SIZE.toLong(), end - position).toInt())
+
+            val read = channel.read(buffer, position)
+            if (read <= 0) break
+            position += read
+
+            for (i in 0 until read) {
+                val byte = buffer.get(i)
+
+                if (byte == NEW_LINE) {
+                    lines[index++] = decode(lineBytes, lineLength)
+                    lineLength = 0
+                    if (index == lines.size) break
+                } else if (lineLength < MAX_LINE_BYTES) {
+                    lineBytes[lineLength++] = byte
+                }
+            }
+        }
+
+        // last line of the file without trailing new line
+        if (index < lines.size) lines[index] = decode(lineBytes, lineLength)
+
+        return lines
+    }
+
+    private fun decode(bytes: ByteArray, length: Int) = String(bytes, 0, length, Charsets.UTF_8)
+        .removeSuffix("\r")
+        .take(MAX_LINE_LENGTH)
+
+    companion object {
+        const val BLOCK_SIZE = 256
+        private const val BLOCKS_CACHE_SIZE = 64
+        const val MAX_LINE_LENGTH = 10_000
+
+        // enough bytes for the visible part of a line even if each of its characters takes 4 bytes in UTF-8
+        private const val MAX_LINE_BYTES = MAX_LINE_LENGTH * 4
+        private const val BUFFER_SIZE = 64 * 1024
+        private val ERROR_MARKER = "ERROR".toByteArray()
+        private const val NEW_LINE = '\n'.code.toByte()
+
+        fun index(zipFile: ZipFile, entry: ZipEntry, indicator: ProgressIndicator?): CCv2BuildLogFile {
+            val content = Files.createTempFile("ccv2_log_", ".log")
+            val blockOffsets = ArrayList<Long>().apply { add(0L) }
+            val errorLines = ArrayList<Int>()
+            val buffer = ByteArray(BUFFER_SIZE)
+
+            var position = 0L
+            var lines = 0
+            var lastByte = NEW_LINE
+            var markerMatched = 0
+            var lineHasError = false
+
+            try {
+                zipFile.getInputStream(entry).use { input ->
+                    Files.newOutputStream(content).use { output ->
+                        while (true) {
+                            indicator?.let {
+                                it.checkCanceled()
+                                if (entry.size > 0) it.fraction = position.toDouble() / entry.size
+                            } ?: ProgressManager.checkCanceled()
+
+                            val read = input.read(buffer)
+                            if (read < 0) break
+
+                            output.write(buffer, 0, read)
+
+                            for (i in 0 until read) {
+                                val byte = buffer[i]
+                                position++
+
+                                if (byte == NEW_LINE) {
+                                    if (lineHasError) errorLines.add(lines)
+                                    lines++
+                                    if (lines % BLOCK_SIZE == 0) blockOffsets.add(position)
+
+                                    markerMatched = 0
+                                    lineHasError = false
+                                } else if (!lineHasError) {
+                                    markerMatched = when (byte) {
+                                        ERROR_MARKER[markerMatched] -> markerMatched + 1
+                                        ERROR_MARKER[0] -> 1
+                                        else -> 0
+                                    }
+                                    if (markerMatched == ERROR_MARKER.size) lineHasError = true
+                                }
+                            }
+                            lastByte = buffer[read - 1]
+                        }
+                    }
+                }
+            } catch (e: Throwable) {
+                content.deleteIfExists()
+                throw e
+            }
+
+            if (lastByte != NEW_LINE) {
+                if (lineHasError) errorLines.add(lines)
+                lines++
+            }
+
+            val blocksCount = (lines + BLOCK_SIZE - 1) / BLOCK_SIZE
+
+            return CCv2BuildLogFile(
+                entry.name,
+                content,
+                position,
+                blockOffsets.take(blocksCount).toLongArray(),
+                lines,
+                errorLines.toIntArray()
+            )
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.ccv2.logs
+
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.progress.ProcessCanceledException
+import com.intellij.openapi.progress.ProgressIndicator
+import java.nio.file.Path
+import java.util.concurrent.ConcurrentHashMap
+import java.util.zip.ZipFile
+import kotlin.io.path.deleteIfExists
+
+/**
+ * Downloaded CCv2 build logs archive, entries are never extracted as a whole.
+ *
+ * Indexing may still run when the logs get disposed, such indexing is cancelled and its late result is closed right away.
+ */
+class CCv2BuildLogs(val buildCode: String, private val archive: Path) : Disposable {
+
+    private val zipFile = ZipFile(archive.toFile())
+    private val logFiles = ConcurrentHashMap<String, CCv2BuildLogFile>()
+    private val indicators = ConcurrentHashMap.newKeySet<ProgressIndicator>()
+
+    @Volatile
+    private var disposed = false
+
+    val entries: List<String> = zipFile.entries().asSequence()
+        .filterNot { it.isDirectory }
+        .map { it.name }
+        .sorted()
+        .toList()
+
+    fun getIndexed(entryName: String) = logFiles[entryName]
+
+    fun index(entryName: String, indicator: ProgressIndicator?): CCv2BuildLogFile {
+        logFiles[entryName]?.let { return it }
+
+        val logFile = indexEntry(entryName, indicator)
+        val existing = logFiles.putIfAbsent(entryName, logFile)
+
+        if (existing != null) {
+            logFile.close()
+            return existing
+        }
+
+        // disposed while indexing, whoever removes the log file from the map is responsible for closing it
+        if (disposed) {
+            if (logFiles.remove(entryName, logFile)) logFile.close()
+            throw ProcessCanceledException()
+        }
+
+        return logFile
+    }
+
+    override fun dispose() {
+        disposed = true
+        indicators.forEach { it.cancel() }
+
+        logFiles.keys.forEach { logFiles.remove(it)?.close() }
+        zipFile.close()
+        archive.deleteIfExists()
+    }
+
+    private fun indexEntry(entryName: String, indicator: ProgressIndicator?): CCv2BuildLogFile {
+        if (disposed) throw ProcessCanceledException()
+
+        indicator?.let { indicators.add(it) }
+        try {
+            val entry = zipFile.getEntry(entryName)
+                ?: throw IllegalArgumentException("Entry $entryName not found in the build logs of the $buildCode")
+
+            return CCv2BuildLogFile.index(zipFile, entry, indicator)
+        } catch (e: ProcessCanceledException) {
+            throw e
+        } catch (e: Exception) {
+            // archive is closed underneath the indexing
+            if (disposed) throw ProcessCanceledException()
+            throw e
+        } finally {
+            indicator?.let { indicators.remove(it) }
+        }
+    }
+}
@@ -71,11 +71,16 @@ class ConsoleExecuteStatementAction : AnAction() {
                 resultCallback = { coroutineScope, result -> console.print(result) }
             )
 
-            is HybrisImpexMonitorConsole -> ImpExMonitorExecutionClient.getInstance(project).execute(
-                context = console.context,
-                beforeCallback = { coroutineScope -> console.beforeExecution() },
-                resultCallback = { coroutineScope, result -> console.print(result) }
-            )
+            is HybrisImpexMonitorConsole -> console.context.let { context ->
+                ImpExMonitorExecutionClient.getInstance(project).execute(
+                    context = context,
+                    beforeCallback = { coroutineScope -> console.beforeExecution() },
+                    resultCallback = { coroutineScope, result ->
+                        console.print(result)
+                        console.follow(context)
+                    }
+                )
+            }
 
             else -> throw NotImplementedError("This action cannot be used with the ${console::class.qualifiedName}")
         }
@@ -26,7 +26,9 @@ import com.intellij.idea.plugin.hybris.impex.file.ImpexFileType
 import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
 import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsole
 import com.intellij.idea.plugin.hybris.tools.remote.execution.ConsoleAwareExecutionResult
+import com.intellij.idea.plugin.hybris.tools.remote.execution.monitor.ImpExMonitorExecutionClient
 import com.intellij.idea.plugin.hybris.tools.remote.execution.monitor.ImpExMonitorExecutionContext
+import com.intellij.idea.plugin.hybris.tools.remote.execution.monitor.ImpExMonitorExecutionResult
 import com.intellij.idea.plugin.hybris.tools.remote.execution.monitor.TimeOption
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
@@ -36,12 +38,14 @@ import com.intellij.openapi.util.io.FileUtil
 import com.intellij.ui.SimpleListCellRenderer
 import com.intellij.ui.components.JBLabel
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
 import java.awt.BorderLayout
 import java.awt.GridBagConstraints
 import java.awt.GridBagLayout
 import java.io.File
 import java.io.Serial
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicReference
 import javax.swing.JPanel
 
 @Service(Service.Level.PROJECT)
@@ -62,10 +66,17 @@ class HybrisImpexMonitorConsole(project: Project, coroutineScope: CoroutineScope
         )
     )
         .also { it.renderer = SimpleListCellRenderer.create("...") { cell -> cell.name } }
+        .also { it.addActionListener { stopFollowing() } }
 
     private val workingDirLabel = JBLabel("Data folder: ${obtainDataFolder(project)}")
         .also { it.border = bordersLabel }
 
+    // follow is started from the execution callback, while it is stopped from EDT
+    private val followJob = AtomicReference<Job?>()
+
+    @Volatile
+    private var disposed = false
+
     init {
         isEditable = true
         isConsoleEditorEnabled = false
@@ -95,11 +106,32 @@ class HybrisImpexMonitorConsole(project: Project, coroutineScope: CoroutineScope
     }
 
     override fun printResult(result: ConsoleAwareExecutionResult) {
-        clear()
+        if (result !is ImpExMonitorExecutionResult || !result.append) clear()
         val text = result.output ?: return
         ConsoleViewUtil.printAsFileType(this, text, ImpexFileType)
     }
 
+    /**
+     * Appends ImpEx content imported after the last refresh until the time option is changed or the console is disposed.
+     */
+    fun follow(context: ImpExMonitorExecutionContext) {
+        val job = ImpExMonitorExecutionClient.getInstance(project).follow(context) { print(it) }
+        followJob.getAndSet(job)?.cancel()
+
+        // console may be disposed concurrently, in such a case the job has to be cancelled here
+        if (disposed) stopFollowing()
+    }
+
+    override fun dispose() {
+        disposed = true
+        stopFollowing()
+        super.dispose()
+    }
+
+    private fun stopFollowing() {
+        followJob.getAndSet(null)?.cancel()
+    }
+
     override fun currentExecutionContext(content: String) = ImpExMonitorExecutionContext(
         timeOption = timeComboBox.selectedItem as TimeOption,
         workingDir = obtainDataFolder(project),
@@ -18,54 +18,93 @@
 
 package com.intellij.idea.plugin.hybris.tools.remote.execution.monitor
 
-import com.intellij.idea.plugin.hybris.tools.remote.execution.DefaultExecutionClient
-import com.intellij.idea.plugin.hybris.tools.remote.execution.DefaultExecutionResult
+import com.intellij.idea.plugin.hybris.tools.remote.execution.ExecutionClient
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
 import com.intellij.openapi.project.Project
 import kotlinx.coroutines.CoroutineScope
-import org.apache.http.HttpStatus
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.isActive
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
 import java.io.File
 import java.io.Serial
-import java.time.Instant
-import java.time.LocalDateTime
-import java.time.ZoneId
+import kotlin.time.Duration.Companion.seconds
 
+/**
+ * Tails imported ImpEx files, only bytes appended since the previous read are read from the disk.
+ *
+ * Recently read content is kept in a bounded buffer, so explicit refresh does not re-read already processed files.
+ * See [ImpExMonitorTail] for details.
+ */
 @Service(Service.Level.PROJECT)
-class ImpExMonitorExecutionClient(project: Project, coroutineScope: CoroutineScope) : DefaultExecutionClient<ImpExMonitorExecutionContext>(project, coroutineScope) {
-
-    override suspend fun execute(context: ImpExMonitorExecutionContext): DefaultExecutionResult {
-        val unit = context.timeOption.unit
-        val duration = context.timeOption.value.toLong()
-        val minutesAgo = LocalDateTime.now().minusMinutes(unit.toMinutes(duration))
-        val out = StringBuilder()
-        File(context.workingDir).walk()
-            .filter { file -> file.extension == "bin" }
-            .filter { file -> file.lastModified().toLocalDateTime().isAfter(minutesAgo) }
-            .sortedBy { it.lastModified() }
-            .forEach {
-                val header = "# File Path:  ${it.path}\n# file modified: ${it.lastModified().toLocalDateTime()}"
-                out.append("\n#" + "-".repeat(header.length - 1) + "\n")
-                out.append(header)
-                out.append("\n#" + "-".repeat(header.length - 1) + "\n")
-                out.append("\n${it.readText()}\n")
-            }
+class ImpExMonitorExecutionClient(project: Project, coroutineScope: CoroutineScope) : ExecutionClient<ImpExMonitorExecutionContext, ImpExMonitorExecutionResult>(project, coroutineScope) {
+
+    private val mutex = Mutex()
+    private var monitoredContext: ImpExMonitorExecutionContext? = null
+    private var tail: ImpExMonitorTail? = null
+    private var lastScan = 0L
+
+    override suspend fun execute(context: ImpExMonitorExecutionContext) = mutex.withLock {
+        val tail = tail(context)
 
-        return DefaultExecutionResult(
-            statusCode = HttpStatus.SC_OK,
-            output = out.toString().takeIf { it.isNotBlank() }
+        readUpdates(tail, true)
+
+        ImpExMonitorExecutionResult(
+            output = tail.bufferedOutput.takeIf { it.isNotBlank() }
         )
     }
 
-    private fun Long.toLocalDateTime() = Instant.ofEpochMilli(this)
-        .atZone(ZoneId.systemDefault())
-        .toLocalDateTime()
+    override suspend fun onError(context: ImpExMonitorExecutionContext, exception: Throwable) = ImpExMonitorExecutionResult(
+        errorMessage = exception.message,
+        errorDetailMessage = exception.stackTraceToString(),
+    )
+
+    fun follow(context: ImpExMonitorExecutionContext, onUpdate: (ImpExMonitorExecutionResult) -> Unit): Job = coroutineScope.launch {
+        while (isActive) {
+            delay(TAIL_INTERVAL)
+
+            val output = mutex.withLock {
+                tail
+                    ?.takeIf { context == monitoredContext }
+                    ?.let { readUpdates(it, false) }
+            }
+
+            if (!output.isNullOrEmpty()) onUpdate.invoke(ImpExMonitorExecutionResult(output = output, append = true))
+        }
+    }
+
+    private fun tail(context: ImpExMonitorExecutionContext): ImpExMonitorTail {
+        tail
+            ?.takeIf { context == monitoredContext }
+            ?.let { return it }
+
+        monitoredContext = context
+        lastScan = 0L
+        return ImpExMonitorTail(File(context.workingDir), context.timeOption.unit.toMillis(context.timeOption.value.toLong()))
+            .also { tail = it }
+    }
+
+    private fun readUpdates(tail: ImpExMonitorTail, forceRescan: Boolean): String {
+        val now = System.currentTimeMillis()
+        if (forceRescan || now - lastScan >= RESCAN_INTERVAL.inWholeMilliseconds) {
+            tail.rescan(now)
+            lastScan = now
+        }
+
+        return tail.readUpdates()
+    }
 
     companion object {
         @Serial
         private const val serialVersionUID: Long = -6318486147370249181L
 
+        private val TAIL_INTERVAL = 2.seconds
+        private val RESCAN_INTERVAL = 10.seconds
+
         fun getInstance(project: Project): ImpExMonitorExecutionClient = project.service()
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.execution.monitor
+
+import java.io.File
+import java.io.RandomAccessFile
+import java.time.Instant
+import java.time.ZoneId
+
+/**
+ * State of the tailed ImpEx files of a single data folder and time window.
+ *
+ * Files are tracked only while they were modified within the window, content of the files aged out of the window
+ * is dropped from the buffer on each rescan. Not thread-safe, access has to be guarded by the caller.
+ */
+internal class ImpExMonitorTail(
+    private val workingDir: File,
+    private val windowMillis: Long,
+    private val maxReadSize: Long = MAX_READ_SIZE,
+    private val maxBufferLength: Int = MAX_BUFFER_LENGTH,
+) {
+
+    private val positions = LinkedHashMap<File, Long>()
+    private val buffer = ArrayDeque<Chunk>()
+    private var bufferedLength = 0
+
+    val trackedFiles: Set<File>
+        get() = positions.keys
+
+    val bufferedOutput: String
+        get() = buffer.joinToString("") { it.text }
+
+    fun rescan(now: Long) {
+        val modifiedAfter = now - windowMillis
+
+        positions.keys.removeIf { !it.exists() || it.lastModified() <= modifiedAfter }
+        removeFromBuffer { it.file !in positions }
+
+        workingDir.walk()
+            .filter { file -> file.extension == "bin" }
+            .filter { file -> file.lastModified() > modifiedAfter }
+            .forEach { positions.putIfAbsent(it, NOT_READ) }
+    }
+
+    /**
+     * Reads content appended to the tracked files since the previous read, new content is also added to the buffer.
+     */
+    fun readUpdates(): String = positions.entries.toList()
+        .sortedBy { it.key.lastModified() }
+        .mapNotNull { (file, position) ->
+            readAppended(file, position)
+                ?.also { addToBuffer(Chunk(file, it)) }
+        }
+        .joinToString("")
+
+    private fun readAppended(file: File, position: Long): String? {
+        if (!file.exists()) {
+            positions.remove(file)
+            removeFromBuffer { it.file == file }
+            return null
+        }
+
+        val length = file.length()
+        val newFile = position == NOT_READ || position > length
+        val start = if (newFile) 0L else position
+
+        if (!newFile && length == start) return null
+
+        val skipped = maxOf(0L, length - start - maxReadSize)
+        val bytes = ByteArray((length - start - skipped).toInt())
+
+        RandomAccessFile(file, "r").use {
+            it.seek(start + skipped)
+            it.readFully(bytes)
+        }
+
+        // do not split multibyte characters: skipped part may end in the middle of a character,
+        // and the writer may not have flushed the whole last character yet, it will be read next time
+        val from = if (skipped > 0) leadingContinuationBytes(bytes) else 0
+        val to = completeLength(bytes)
+        positions[file] = start + skipped + to
+
+        val out = StringBuilder()
+        if (newFile) {
+            val header = "# File Path:  ${file.path}\n# file modified: ${file.lastModified().toLocalDateTime()}"
+            out.append("\n#" + "-".repeat(header.length - 1) + "\n")
+            out.append(header)
+            out.append("\n#" + "-".repeat(header.length - 1) + "\n\n")
+        }
+        if (skipped > 0) out.append("# ... ${skipped + from} bytes skipped\n")
+        if (to > from) out.append(String(bytes, from, to - from, Charsets.UTF_8))
+
+        return out.toString()
+            .takeIf { it.isNotEmpty() }
+    }
+
+    private fun addToBuffer(chunk: Chunk) {
+        buffer.addLast(chunk)
+        bufferedLength += chunk.text.length
+
+        while (bufferedLength > maxBufferLength && buffer.size > 1) {
+            bufferedLength -= buffer.removeFirst().text.length
+        }
+    }
+
+    private fun removeFromBuffer(predicate: (Chunk) -> Boolean) {
+        if (buffer.removeAll(predicate)) bufferedLength = buffer.sumOf { it.text.length }
+    }
+
+    private fun Long.toLocalDateTime() = Instant.ofEpochMilli(this)
+        .atZone(ZoneId.systemDefault())
+        .toLocalDateTime()
+
+    private class Chunk(val file: File, val text: String)
+
+    companion object {
+        private const val NOT_READ = -1L
+        private const val MAX_READ_SIZE = 1024 * 1024L
+        private const val MAX_BUFFER_LENGTH = 4 * 1024 * 1024
+
+        internal fun leadingContinuationBytes(bytes: ByteArray): Int {
+            var index = 0
+            while (index < bytes.size && index < 3 && isContinuation(bytes[index])) index++
+            return index
+        }
+
+        /**
+         * Length of the [bytes] without the trailing incomplete UTF-8 sequence, if any.
+         */
+        internal fun completeLength(bytes: ByteArray): Int {
+            var index = bytes.size - 1
+            while (index >= 0 && bytes.size - index <= 4 && isContinuation(bytes[index])) index--
+
+            if (index < 0) return bytes.size
+
+            val lead = bytes[index].toInt() and 0xFF
+            val expected = when {
+                lead and 0x80 == 0 -> 1
+                lead and 0xE0 == 0xC0 -> 2
+                lead and 0xF0 == 0xE0 -> 3
+                lead and 0xF8 == 0xF0 -> 4
+                // malformed, leave it to the decoder
+                else -> return bytes.size
+            }
+
+            return if (bytes.size - index < expected) index else bytes.size
+        }
+
+        private fun isContinuation(byte: Byte) = byte.toInt() and 0xC0 == 0x80
+    }
+}
@@ -18,11 +18,14 @@
 
 package com.intellij.idea.plugin.hybris.toolwindow.ccv2
 
+import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons.CCv2.Build.Actions.DOWNLOAD_LOGS
 import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons.CCv2.Build.Actions.SHOW_DETAILS
 import com.intellij.idea.plugin.hybris.settings.CCv2Subscription
 import com.intellij.idea.plugin.hybris.tools.ccv2.dto.CCv2BuildDto
+import com.intellij.idea.plugin.hybris.tools.ccv2.logs.CCv2BuildLogs
 import com.intellij.idea.plugin.hybris.toolwindow.HybrisToolWindowFactory
 import com.intellij.idea.plugin.hybris.toolwindow.ccv2.views.CCv2BuildDetailsView
+import com.intellij.idea.plugin.hybris.toolwindow.ccv2.views.CCv2BuildLogsView
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.util.Disposer
 import com.intellij.openapi.wm.ToolWindow
@@ -55,6 +58,28 @@ object CCv2ViewUtil {
         contentManager.setSelectedContent(content)
     }
 
+    fun showBuildLogsTab(project: Project, subscription: CCv2Subscription, buildLogs: CCv2BuildLogs) {
+        val toolWindow = ToolWindowManager.getInstance(project)
+            .getToolWindow(HybrisToolWindowFactory.ID)
+            ?: return Disposer.dispose(buildLogs)
+        val contentManager = toolWindow.contentManager
+        val panel = CCv2BuildLogsView(project, subscription, buildLogs)
+        val content = contentManager.factory
+            .createContent(panel, "${buildLogs.buildCode} - Logs", true)
+            .also {
+                it.isCloseable = true
+                it.isPinnable = true
+                it.icon = DOWNLOAD_LOGS
+                it.putUserData(ToolWindow.SHOW_CONTENT_ICON, true)
+                it.setDisposer(panel)
+            }
+
+        Disposer.register(toolWindow.disposable, panel)
+
+        contentManager.addContent(content)
+        contentManager.setSelectedContent(content)
+    }
+
     fun noDataPanel(message: String) = panel {
         row {
             cell(
@@ -0,0 +1,257 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.toolwindow.ccv2.views
+
+import com.intellij.icons.AllIcons
+import com.intellij.idea.plugin.hybris.settings.CCv2Subscription
+import com.intellij.idea.plugin.hybris.tools.ccv2.logs.CCv2BuildLogFile
+import com.intellij.idea.plugin.hybris.tools.ccv2.logs.CCv2BuildLogs
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.actionSystem.ActionManager
+import com.intellij.openapi.actionSystem.ActionUpdateThread
+import com.intellij.openapi.actionSystem.AnActionEvent
+import com.intellij.openapi.actionSystem.DefaultActionGroup
+import com.intellij.openapi.application.invokeLater
+import com.intellij.openapi.editor.colors.EditorColorsManager
+import com.intellij.openapi.editor.colors.EditorFontType
+import com.intellij.openapi.progress.ProcessCanceledException
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.progress.Task
+import com.intellij.openapi.project.DumbAwareAction
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.ui.ComboBox
+import com.intellij.openapi.ui.SimpleToolWindowPanel
+import com.intellij.openapi.util.Disposer
+import com.intellij.ui.ColoredListCellRenderer
+import com.intellij.ui.SearchTextField
+import com.intellij.ui.SimpleTextAttributes
+import com.intellij.ui.components.JBLabel
+import com.intellij.ui.components.JBList
+import com.intellij.ui.components.JBScrollPane
+import com.intellij.ui.dsl.builder.AlignX
+import com.intellij.ui.dsl.builder.panel
+import java.awt.BorderLayout
+import java.io.Serial
+import java.util.concurrent.ConcurrentHashMap
+import java.util.regex.Pattern
+import java.util.regex.PatternSyntaxException
+import javax.swing.AbstractListModel
+import javax.swing.JList
+import javax.swing.JPanel
+import javax.swing.ListSelectionModel
+
+/**
+ * Lightweight viewer for huge CCv2 build logs, only visible lines are read from the indexed log file.
+ */
+class CCv2BuildLogsView(
+    private val project: Project,
+    private val subscription: CCv2Subscription,
+    private val buildLogs: CCv2BuildLogs,
+) : SimpleToolWindowPanel(false, true), Disposable {
+
+    private val indicators = ConcurrentHashMap.newKeySet<ProgressIndicator>()
+    private val linesModel = LogLinesModel()
+    private val linesList = JBList(linesModel).apply {
+        font = EditorColorsManager.getInstance().globalScheme.getFont(EditorFontType.PLAIN)
+        fixedCellHeight = getFontMetrics(font).height
+        selectionMode = ListSelectionModel.SINGLE_SELECTION
+        cellRenderer = LogLineRenderer()
+    }
+    private val searchField = SearchTextField(false).apply {
+        textEditor.addActionListener { findNext() }
+    }
+    private val statusLabel = JBLabel()
+    private val entriesComboBox = ComboBox(buildLogs.entries.toTypedArray()).apply {
+        addActionListener { (selectedItem as? String)?.let { openEntry(it) } }
+    }
+
+    init {
+        Disposer.register(this, buildLogs)
+        // children are disposed in reverse order, so running tasks are cancelled before the logs are closed
+        Disposer.register(this) { indicators.forEach { it.cancel() } }
+
+        val header = panel {
+            row {
+                label("$subscription - ${buildLogs.buildCode}").bold()
+                cell(entriesComboBox)
+                cell(searchField)
+                    .resizableColumn()
+                    .align(AlignX.FILL)
+                cell(statusLabel)
+            }
+        }
+
+        add(JPanel(BorderLayout()).apply {
+            add(header, BorderLayout.NORTH)
+            add(JBScrollPane(linesList), BorderLayout.CENTER)
+        })
+        installToolbar()
+
+        buildLogs.entries.firstOrNull()
+            ?.let { openEntry(it) }
+            ?: run { statusLabel.text = "No log files available" }
+    }
+
+    override fun dispose() {
+        // NOP
+    }
+
+    private fun installToolbar() {
+        val toolbar = with(DefaultActionGroup()) {
+            add(object : DumbAwareAction("Find Next", "Find next line matching the regular expression", AllIcons.Actions.FindForward) {
+                override fun getActionUpdateThread() = ActionUpdateThread.EDT
+                override fun actionPerformed(e: AnActionEvent) = findNext()
+                override fun update(e: AnActionEvent) {
+                    e.presentation.isEnabled = linesModel.logFile != null
+                }
+            })
+            add(object : DumbAwareAction("Next Error", "Jump to the next line containing ERROR", AllIcons.General.Error) {
+                override fun getActionUpdateThread() = ActionUpdateThread.EDT
+                override fun actionPerformed(e: AnActionEvent) = nextError()
+                override fun update(e: AnActionEvent) {
+                    e.presentation.isEnabled = (linesModel.logFile?.errorsCount ?: 0) > 0
+                }
+            })
+            ActionManager.getInstance().createActionToolbar(PLACE, this, false)
+        }
+        toolbar.targetComponent = this
+        setToolbar(toolbar.component)
+    }
+
+    private fun openEntry(entryName: String) {
+        buildLogs.getIndexed(entryName)
+            ?.let {
+                show(it)
+                return
+            }
+
+        linesModel.update(null)
+        statusLabel.text = "Indexing $entryName..."
+
+        ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Indexing CCv2 build log - $entryName", true) {
+            override fun run(indicator: ProgressIndicator) {
+                indicator.isIndeterminate = false
+
+                val logFile = track(indicator) { buildLogs.index(entryName, indicator) }
+
+                invokeLater {
+                    if (!Disposer.isDisposed(this@CCv2BuildLogsView) && entriesComboBox.selectedItem == entryName) show(logFile)
+                }
+            }
+        })
+    }
+
+    private fun <T> track(indicator: ProgressIndicator, task: () -> T): T {
+        indicators.add(indicator)
+        try {
+            if (Disposer.isDisposed(this)) throw ProcessCanceledException()
+            return task()
+        } catch (e: Exception) {
+            // log files are closed underneath the cancelled task
+            if (e !is ProcessCanceledException && Disposer.isDisposed(this)) throw ProcessCanceledException()
+            throw e
+        } finally {
+            indicators.remove(indicator)
+        }
+    }
+
+    private fun show(logFile: CCv2BuildLogFile) {
+        linesModel.update(logFile)
+        statusLabel.text = "${logFile.lineCount} lines, ${logFile.errorsCount} errors"
+    }
+
+    private fun nextError() {
+        val logFile = linesModel.logFile ?: return
+        logFile.nextError(linesList.selectedIndex)
+            ?.let { select(it) }
+    }
+
+    private fun findNext() {
+        val logFile = linesModel.logFile ?: return
+        val query = searchField.text.takeIf { it.isNotEmpty() } ?: return
+        val pattern = try {
+            Pattern.compile(query)
+        } catch (_: PatternSyntaxException) {
+            statusLabel.text = "Invalid regular expression"
+            return
+        }
+        val fromLine = linesList.selectedIndex
+
+        ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Searching CCv2 build log - ${logFile.name}", true) {
+            override fun run(indicator: ProgressIndicator) {
+                val line = track(indicator) { logFile.find(pattern, fromLine, indicator) }
+
+                invokeLater {
+                    if (Disposer.isDisposed(this@CCv2BuildLogsView) || linesModel.logFile != logFile) return@invokeLater
+
+                    if (line != null) select(line)
+                    else statusLabel.text = "No matches found"
+                }
+            }
+        })
+    }
+
+    private fun select(line: Int) {
+        linesList.selectedIndex = line
+        linesList.ensureIndexIsVisible(line)
+        statusLabel.text = "Line ${line + 1} of ${linesModel.size}"
+    }
+
+    private class LogLinesModel : AbstractListModel<String>() {
+
+        var logFile: CCv2BuildLogFile? = null
+            private set
+
+        fun update(logFile: CCv2BuildLogFile?) {
+            val previousSize = size
+            this.logFile = logFile
+
+            if (previousSize > 0) fireIntervalRemoved(this, 0, previousSize - 1)
+            if (size > 0) fireIntervalAdded(this, 0, size - 1)
+        }
+
+        override fun getSize() = logFile?.lineCount ?: 0
+        override fun getElementAt(index: Int) = logFile?.line(index) ?: ""
+
+        companion object {
+            @Serial
+            private val serialVersionUID: Long = 2816389017474587813L
+        }
+    }
+
+    private class LogLineRenderer : ColoredListCellRenderer<String>() {
+        override fun customizeCellRenderer(list: JList<out String>, value: String?, index: Int, selected: Boolean, hasFocus: Boolean) {
+            value ?: return
+            append(value, if (value.contains("ERROR")) SimpleTextAttributes.ERROR_ATTRIBUTES else SimpleTextAttributes.REGULAR_ATTRIBUTES)
+        }
+
+        companion object {
+            @Serial
+            private val serialVersionUID: Long = -3570126485913648710L
+        }
+    }
+
+    companion object {
+        const val PLACE = "SAP_CX_CCv2_BuildLogs_View"
+
+        @Serial
+        private val serialVersionUID: Long = 4215379013824751409L
+    }
+}
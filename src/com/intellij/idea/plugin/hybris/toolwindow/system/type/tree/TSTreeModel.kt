@@ -30,7 +30,12 @@ import javax.swing.tree.TreePath
 class TSTreeModel(private val rootTreeNode: TreeNode) : BaseTreeModel<TreeNode>(), Disposable, InvokerSupplier {
 
     private var globalMetaModel: TSGlobalMetaModel? = null
-    private val nodes = mutableMapOf<TSNode, TreeNode>()
+
+    // children of the nodes already requested by the tree, only these have to be compared on reload
+    private val loadedChildren = mutableMapOf<String, List<TreeNode>>()
+    private val nodes = object : LinkedHashMap<String, TreeNode>(16, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, TreeNode>?) = size > MAX_CACHED_NODES
+    }
     private val myInvoker = if (application.isUnitTestMode) {
         Invoker.forEventDispatchThread(this)
     } else {
@@ -47,24 +52,99 @@ class TSTreeModel(private val rootTreeNode: TreeNode) : BaseTreeModel<TreeNode>(
                 && parent.userObject is TSNode
             )
     ) {
-        ((parent as TreeNode).userObject as TSNode).getChildren(globalMetaModel)
-            .onEach { it.update() }
-            .map { nodes.computeIfAbsent(it) { tsNode -> TreeNode(tsNode) } }
+        val parentNode = parent as TreeNode
+        loadedChildren.getOrPut((parentNode.userObject as TSNode).key) { computeChildren(parentNode) }
     } else {
         emptyList()
     }
 
     fun reload(globalMetaModel: TSGlobalMetaModel) {
-        this.globalMetaModel = globalMetaModel
+        myInvoker.invoke {
+            val initialLoad = this.globalMetaModel == null
+            this.globalMetaModel = globalMetaModel
 
-        treeStructureChanged(TreePath(root), null, null)
+            if (initialLoad) {
+                loadedChildren.clear()
+                treeStructureChanged(TreePath(root), null, null)
+            } else {
+                refresh(TreePath(root))
+            }
+        }
     }
 
     override fun getInvoker() = myInvoker
 
     override fun dispose() {
         super.dispose()
+        loadedChildren.clear()
         nodes.clear()
     }
 
-}
\ No newline at end of file
+    /**
+     * Compares already loaded children of the node with the new ones and notifies only about the actual difference,
+     * nodes are matched by their stable key, so expanded and selected nodes are kept as is.
+     */
+    private fun refresh(path: TreePath) {
+        val parent = path.lastPathComponent as TreeNode
+        val key = (parent.userObject as TSNode).key
+        val oldChildren = loadedChildren[key] ?: return
+        val changedChildren = mutableSetOf<TreeNode>()
+        val newChildren = computeChildren(parent, changedChildren)
+        loadedChildren[key] = newChildren
+
+        val newChildrenSet = newChildren.toSet()
+        val oldChildrenSet = oldChildren.toSet()
+
+        val removed = oldChildren.withIndex()
+            .filterNot { newChildrenSet.contains(it.value) }
+        if (removed.isNotEmpty()) {
+            removed.forEach { evict(it.value) }
+            treeNodesRemoved(path, removed.map { it.index }.toIntArray(), removed.map { it.value }.toTypedArray())
+        }
+
+        val inserted = newChildren.withIndex()
+            .filterNot { oldChildrenSet.contains(it.value) }
+        if (inserted.isNotEmpty()) {
+            treeNodesInserted(path, inserted.map { it.index }.toIntArray(), inserted.map { it.value }.toTypedArray())
+        }
+
+        val retained = newChildren.withIndex()
+            .filter { oldChildrenSet.contains(it.value) }
+        val changed = retained
+            .filter { changedChildren.contains(it.value) }
+        if (changed.isNotEmpty()) {
+            treeNodesChanged(path, changed.map { it.index }.toIntArray(), changed.map { it.value }.toTypedArray())
+        }
+
+        retained.forEach { refresh(path.pathByAddingChild(it.value)) }
+    }
+
+    private fun computeChildren(parent: TreeNode, changedChildren: MutableSet<TreeNode>? = null) = (parent.userObject as TSNode)
+        .getChildren(globalMetaModel)
+        .map {
+            val presentationChanged = it.update()
+            val treeNode = getTreeNode(it)
+
+            if (presentationChanged || it.modified) changedChildren?.add(treeNode)
+            it.modified = false
+
+            treeNode
+        }
+
+    private fun getTreeNode(node: TSNode) = nodes[node.key]
+        ?.takeIf { it.userObject === node }
+        ?: TreeNode(node).also { nodes[node.key] = it }
+
+    private fun evict(treeNode: TreeNode) {
+        val key = (treeNode.userObject as TSNode).key
+
+        nodes.remove(key)
+        loadedChildren.remove(key)
+            ?.forEach { evict(it) }
+    }
+
+    companion object {
+        private const val MAX_CACHED_NODES = 10_000
+    }
+
+}
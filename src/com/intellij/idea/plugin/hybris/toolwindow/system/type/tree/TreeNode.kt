@@ -26,6 +26,12 @@ class TreeNode(private val node: TSNode) : DefaultMutableTreeNode(node) {
 
     override fun toString() = node.toString()
 
+    // tree nodes are cached by the stable key of the underlying node, so re-created instances must stay equal
+    override fun equals(other: Any?) = this === other
+        || other is TreeNode && other.node.key == node.key
+
+    override fun hashCode() = node.key.hashCode()
+
     companion object {
         @Serial
         private val serialVersionUID: Long = -4729552031003080261L
@@ -18,6 +18,7 @@
 
 package com.intellij.idea.plugin.hybris.toolwindow.system.type.tree.nodes
 
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaClassifier
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaClassifier
 import com.intellij.util.xml.DomElement
 
@@ -27,6 +28,17 @@ abstract class TSMetaNode<T : TSMetaClassifier<out DomElement>>(parent: TSNode,
     override fun update(existingNode: TSNode, newNode: TSNode) {
         val current = existingNode as? TSMetaNode<TSMetaClassifier<out DomElement>> ?: return
         val new = newNode as? TSMetaNode<*> ?: return
+        current.modified = !isSameMeta(current.meta, new.meta)
         current.meta = new.meta
     }
+
+    // global meta is re-created on each merge, but local declarations are reused for unchanged files
+    private fun isSameMeta(current: TSMetaClassifier<*>, new: TSMetaClassifier<*>): Boolean {
+        if (current === new) return true
+        if (current !is TSGlobalMetaClassifier<*> || new !is TSGlobalMetaClassifier<*>) return false
+        if (current.declarations.size != new.declarations.size) return false
+
+        return current.declarations.zip(new.declarations)
+            .all { (currentDeclaration, newDeclaration) -> currentDeclaration === newDeclaration }
+    }
 }
\ No newline at end of file
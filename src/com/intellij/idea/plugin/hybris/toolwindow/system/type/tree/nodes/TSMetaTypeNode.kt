@@ -32,11 +32,9 @@ class TSMetaTypeNode(parent: TSNode, private val metaType: TSMetaType) : TSNode(
 
     override fun getName() = HybrisI18NBundleUtils.message("hybris.toolwindow.ts.group.${metaType.name.lowercase()}.name")
 
-    @Suppress("UNCHECKED_CAST")
     override fun update(existingNode: TSNode, newNode: TSNode) {
-        val current = existingNode as? TSMetaNode<TSMetaClassifier<out DomElement>> ?: return
-        val new = newNode as? TSMetaNode<*> ?: return
-        current.meta = new.meta
+        val current = existingNode as? TSMetaNode<*> ?: return
+        current.update(existingNode, newNode)
     }
 
     override fun update(project: Project, presentation: PresentationData) {
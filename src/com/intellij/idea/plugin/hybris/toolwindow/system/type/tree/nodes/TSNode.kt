@@ -31,6 +31,17 @@ abstract class TSNode : PresentableNodeDescriptor<TSNode>, Supplier, Disposable
     private val myChildren = mutableMapOf<String, TSNode>()
     var globalMetaModel: TSGlobalMetaModel? = null
 
+    /**
+     * Path of the children keys from the root node, stays the same for the node across meta model reloads.
+     */
+    var key: String = ""
+        private set
+
+    /**
+     * Set when the underlying meta of the retained node has been changed by the last [getChildren] call.
+     */
+    var modified = false
+
     protected constructor(project: Project) : super(project, null)
     protected constructor(parent: TSNode) : super(parent.project, parent)
 
@@ -60,10 +71,12 @@ abstract class TSNode : PresentableNodeDescriptor<TSNode>, Supplier, Disposable
             }
 
         newChildren.forEach { (newName, newNode) ->
-            if (myChildren[newName] == null) {
+            val existingNode = myChildren[newName]
+            if (existingNode == null) {
+                newNode.key = "$key/$newName"
                 myChildren[newName] = newNode
             } else {
-                update(myChildren[newName]!!, newNode)
+                update(existingNode, newNode)
             }
         }
 
@@ -41,52 +41,77 @@ import com.intellij.util.asSafely
  */
 class MetaSystemsAsyncFileListener : AsyncFileListener {
 
-    private fun mapToTracker(fileName: String, fqn: String, project: Project, trackedCngModels: Set<String>) = when {
-        fileName.endsWith(HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING) -> TSModificationTracker.getInstance(project) to fileName
-        fileName.endsWith(HybrisConstants.HYBRIS_BEANS_XML_FILE_ENDING) -> BSModificationTracker.getInstance(project) to fileName
+    override fun prepareChange(events: List<VFileEvent>): AsyncFileListener.ChangeApplier? {
+        val projects = ProjectManager.getInstance().openProjects
+            .filterNot { DumbService.isDumb(it) }
+            .filter { it.isHybrisProject }
+            .takeIf { it.isNotEmpty() }
+            ?: return null
+
+        // event paths are project independent, classify them once per batch
+        val changedFiles = events.map { ChangedFile.of(it) }
+
+        return projects
+            .mapNotNull { project ->
+                // snapshot of the tracked models, replaced as a whole on each Cockpit NG meta model rebuild
+                val trackedCngModels = CngMetaModelStateService.getInstance(project).getTrackedModels()
+
+                changedFiles
+                    .mapNotNull { mapToTracker(it, project, trackedCngModels) }
+                    .groupBy({ it.first }, { it.second })
+                    .takeIf { it.isNotEmpty() }
+            }
+            .takeIf { it.isNotEmpty() }
+            ?.let { processEvents ->
+                object : AsyncFileListener.ChangeApplier {
+                    override fun beforeVfsChange() {
+                        processEvents.forEach { metaToFileNames ->
+                            metaToFileNames.forEach { (tracker, fileNames) ->
+                                // re-triggering GlobalMetaModel state on file changes
+                                // extra cases on a file, not covered by CacheValue upToDate evaluation: create, remove, rename
+                                try {
+                                    tracker.resetCache(fileNames)
+                                } catch (_: Throwable) {
+                                    // do nothing; once done, model access service will notify all listeners
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+    }
+
+    private fun mapToTracker(changedFile: ChangedFile, project: Project, trackedCngModels: Set<String>) = when {
+        changedFile.system == MetaSystem.TS -> TSModificationTracker.getInstance(project) to changedFile.fileName
+        changedFile.system == MetaSystem.BS -> BSModificationTracker.getInstance(project) to changedFile.fileName
         // in case of the CockpitNG FQN is being tracked
-        trackedCngModels.contains(fqn) -> CngModificationTracker.getInstance(project) to fqn
+        trackedCngModels.contains(changedFile.path) -> CngModificationTracker.getInstance(project) to changedFile.path
         else -> null
     }
 
-    override fun prepareChange(events: List<VFileEvent>) = ProjectManager.getInstance().openProjects
-        .filterNot { DumbService.isDumb(it) }
-        .filter { it.isHybrisProject }
-        .mapNotNull { project ->
-            val trackedCngModels by lazy { CngMetaModelStateService.getInstance(project).getTrackedModels() }
+    private enum class MetaSystem { TS, BS }
 
-            events
-                .map { event ->
-                    event.asSafely<VFilePropertyChangeEvent>()
-                        ?.takeIf { it.isRename }
-                        ?.let { propertyEvent ->
-                            propertyEvent.oldValue?.asSafely<String>()
-                                ?.let { it to propertyEvent.oldPath }
-                                ?: propertyEvent.newValue?.asSafely<String>()
-                                    ?.let { it to propertyEvent.newPath }
-                        }
-                        ?: (PathUtil.getFileName(event.path) to event.path)
-                }
-                .mapNotNull { mapToTracker(it.first, it.second, project, trackedCngModels) }
-                .groupBy({ it.first }, { it.second })
-                .takeIf { it.isNotEmpty() }
-        }
-        .takeIf { it.isNotEmpty() }
-        ?.let { processEvents ->
-            object : AsyncFileListener.ChangeApplier {
-                override fun beforeVfsChange() {
-                    processEvents.forEach { metaToFileNames ->
-                        metaToFileNames.forEach { (tracker, fileNames) ->
-                            // re-triggering GlobalMetaModel state on file changes
-                            // extra cases on a file, not covered by CacheValue upToDate evaluation: create, remove, rename
-                            try {
-                                tracker.resetCache(fileNames)
-                            } catch (_: Throwable) {
-                                // do nothing; once done, model access service will notify all listeners
-                            }
-                        }
+    private data class ChangedFile(val fileName: String, val path: String, val system: MetaSystem?) {
+        companion object {
+            fun of(event: VFileEvent): ChangedFile {
+                val (fileName, path) = event.asSafely<VFilePropertyChangeEvent>()
+                    ?.takeIf { it.isRename }
+                    ?.let { propertyEvent ->
+                        propertyEvent.oldValue?.asSafely<String>()
+                            ?.let { it to propertyEvent.oldPath }
+                            ?: propertyEvent.newValue?.asSafely<String>()
+                                ?.let { it to propertyEvent.newPath }
                     }
+                    ?: (PathUtil.getFileName(event.path) to event.path)
+
+                val system = when {
+                    fileName.endsWith(HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING) -> MetaSystem.TS
+                    fileName.endsWith(HybrisConstants.HYBRIS_BEANS_XML_FILE_ENDING) -> MetaSystem.BS
+                    else -> null
                 }
+
+                return ChangedFile(fileName, path, system)
             }
         }
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.codeInspection.batch
+
+import com.google.gson.JsonParser
+import java.nio.file.Files
+import kotlin.test.AfterTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNotEquals
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+class BatchInspectionReportTest {
+
+    private val directory = Files.createTempDirectory("batch_inspection")
+
+    @AfterTest
+    fun tearDown() {
+        directory.toFile().deleteRecursively()
+    }
+
+    @Test
+    fun test_write_sarif() {
+        val out = StringBuilder()
+        report.write(BatchInspectionFormat.SARIF, out)
+
+        val run = JsonParser.parseString(out.toString()).asJsonObject
+            .getAsJsonArray("runs")[0].asJsonObject
+        val rules = run.getAsJsonObject("tool").getAsJsonObject("driver").getAsJsonArray("rules")
+            .map { it.asJsonObject["id"].asString }
+        val result = run.getAsJsonArray("results")[0].asJsonObject
+        val region = result.getAsJsonArray("locations")[0].asJsonObject
+            .getAsJsonObject("physicalLocation")
+            .getAsJsonObject("region")
+
+        assertEquals(listOf("TSDeploymentTypeCodeMustBeUnique", "TSQualifierMustStartWithLowercaseLetter"), rules)
+        assertEquals("TSDeploymentTypeCodeMustBeUnique", result["ruleId"].asString)
+        assertEquals("error", result["level"].asString)
+        assertEquals(12, region["startLine"].asInt)
+        assertEquals(5, region["startColumn"].asInt)
+        assertEquals(2, run.getAsJsonObject("properties").getAsJsonArray("timings").size())
+    }
+
+    @Test
+    fun test_write_json() {
+        val out = StringBuilder()
+        report.write(BatchInspectionFormat.JSON, out)
+
+        val json = JsonParser.parseString(out.toString()).asJsonObject
+
+        assertEquals(1, json.getAsJsonArray("problems").size())
+        assertEquals(3, json["inspectedFiles"].asInt)
+        assertTrue(report.hasErrors())
+    }
+
+    @Test
+    fun test_cache_reusedForUnchangedContent() {
+        val location = directory.resolve("report.sarif.cache")
+        val hash = BatchInspectionCache.hash("<items/>".toByteArray())
+
+        BatchInspectionCache(location, RULES).apply {
+            put(problem.file, hash, listOf(problem))
+            put("removed/items.xml", hash, emptyList())
+            save()
+        }
+
+        val cache = BatchInspectionCache(location, RULES)
+        assertEquals(listOf(problem), cache.get(problem.file, hash))
+        assertNull(cache.get(problem.file, BatchInspectionCache.hash("<items></items>".toByteArray())))
+
+        // only files touched by the previous run are kept
+        cache.save()
+        assertNull(BatchInspectionCache(location, RULES).get("removed/items.xml", hash))
+        assertEquals(listOf(problem), BatchInspectionCache(location, RULES).get(problem.file, hash))
+    }
+
+    @Test
+    fun test_cache_droppedWhenRulesChange() {
+        val location = directory.resolve("report.sarif.cache")
+        val hash = BatchInspectionCache.hash("<items/>".toByteArray())
+
+        BatchInspectionCache(location, RULES).apply {
+            put(problem.file, hash, listOf(problem))
+            save()
+        }
+
+        assertNull(BatchInspectionCache(location, "$RULES,TSNewRule").get(problem.file, hash))
+    }
+
+    @Test
+    fun test_cache_droppedWhenGlobalInputChanges() {
+        val location = directory.resolve("report.sarif.cache")
+        val hash = BatchInspectionCache.hash("<items/>".toByteArray())
+        val inputs = listOf("1.0", RULES, "<profile/>", "core/resources/core-items.xml=a1", problem.file + "=" + hash)
+        val inputsKey = BatchInspectionCache.hash(inputs)
+
+        BatchInspectionCache(location, inputsKey).apply {
+            put(problem.file, hash, listOf(problem))
+            save()
+        }
+
+        assertEquals(listOf(problem), BatchInspectionCache(location, BatchInspectionCache.hash(inputs.toList())).get(problem.file, hash))
+
+        // another items.xml changed, the file itself did not
+        val otherItemsChanged = inputs.toMutableList().apply { set(3, "core/resources/core-items.xml=b2") }
+        assertNull(BatchInspectionCache(location, BatchInspectionCache.hash(otherItemsChanged)).get(problem.file, hash))
+
+        val profileChanged = inputs.toMutableList().apply { set(2, "<profile><inspection_tool class=\"TSDeploymentTypeCodeMustBeUnique\" level=\"WARNING\"/></profile>") }
+        assertNull(BatchInspectionCache(location, BatchInspectionCache.hash(profileChanged)).get(problem.file, hash))
+    }
+
+    @Test
+    fun test_cache_inputsKeyRespectsPartBoundaries() {
+        assertNotEquals(BatchInspectionCache.hash(listOf("ab", "c")), BatchInspectionCache.hash(listOf("a", "bc")))
+    }
+
+    @Test
+    fun test_parse_options() {
+        val options = BatchInspectionOptions.parse(listOf("/work/project", "/work/out/report.json", "--format=json", "--incremental", "--threads=3"))!!
+
+        assertEquals(BatchInspectionFormat.JSON, options.format)
+        assertEquals("report.json.cache", options.cache?.fileName.toString())
+        assertEquals(3, options.threads)
+        assertNull(BatchInspectionOptions.parse(listOf("/work/project")))
+        assertNull(BatchInspectionOptions.parse(listOf("/work/project", "out.sarif", "--format=xml")))
+        assertNull(BatchInspectionOptions.parse(listOf("/work/project", "out.sarif"))!!.cache)
+    }
+
+    companion object {
+        private const val RULES = "TSDeploymentTypeCodeMustBeUnique,TSQualifierMustStartWithLowercaseLetter"
+
+        private val problem = BatchInspectionProblem(
+            "TSDeploymentTypeCodeMustBeUnique",
+            BatchInspectionSeverity.ERROR,
+            "custom/resources/custom-items.xml",
+            12,
+            5,
+            "Deployment type code must be unique"
+        )
+        private val report = BatchInspectionReport(
+            listOf(problem),
+            listOf(
+                BatchInspectionRuleTiming("TSDeploymentTypeCodeMustBeUnique", 3, 15),
+                BatchInspectionRuleTiming("TSQualifierMustStartWithLowercaseLetter", 3, 4),
+            ),
+            3,
+            0
+        )
+    }
+}
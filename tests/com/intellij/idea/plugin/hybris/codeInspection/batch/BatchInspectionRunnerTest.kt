@@ -0,0 +1,136 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.codeInspection.batch
+
+import com.google.gson.JsonParser
+import com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem.TSQualifierMustStartWithLowercaseLetter
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.idea.plugin.hybris.system.bean.meta.BSMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.meta.MetaModelStateService
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
+import com.intellij.openapi.application.WriteAction
+import com.intellij.openapi.vfs.VfsUtil
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+import java.nio.file.Files
+import java.nio.file.Path
+
+class BatchInspectionRunnerTest : BasePlatformTestCase() {
+
+    private lateinit var cacheDirectory: Path
+
+    override fun getTestDataPath() = "testData/batch"
+
+    override fun setUp() {
+        super.setUp()
+
+        cacheDirectory = Files.createTempDirectory("batch_inspection_runner")
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+        myFixture.enableInspections(TSQualifierMustStartWithLowercaseLetter::class.java)
+        myFixture.copyDirectoryToProject("extension", "extension")
+        buildMetaModels()
+    }
+
+    override fun tearDown() {
+        try {
+            cacheDirectory.toFile().deleteRecursively()
+        } finally {
+            super.tearDown()
+        }
+    }
+
+    fun test_run_sarif() {
+        val report = run()
+        val out = StringBuilder()
+        report.write(BatchInspectionFormat.SARIF, out)
+
+        val sarif = JsonParser.parseString(out.toString()).asJsonObject
+        val run = sarif.getAsJsonArray("runs")[0].asJsonObject
+        val results = run.getAsJsonArray("results").map { it.asJsonObject }
+        val location = results.single().getAsJsonArray("locations")[0].asJsonObject
+            .getAsJsonObject("physicalLocation")
+
+        assertEquals("2.1.0", sarif["version"].asString)
+        assertEquals(QUALIFIER_RULE, results.single()["ruleId"].asString)
+        assertTrue(results.single().getAsJsonObject("message")["text"].asString.contains("'Name'"))
+        assertTrue(location.getAsJsonObject("artifactLocation")["uri"].asString.endsWith(ITEMS_XML))
+        assertEquals(6, location.getAsJsonObject("region")["startLine"].asInt)
+        assertEquals(2, run.getAsJsonObject("properties")["inspectedFiles"].asInt)
+        assertEquals(0, run.getAsJsonObject("properties")["skippedFiles"].asInt)
+    }
+
+    fun test_run_incrementalReuse() {
+        val initial = run()
+        assertEquals(2, initial.inspectedFiles)
+        assertEquals(0, initial.skippedFiles)
+
+        val unchanged = run()
+        assertEquals(0, unchanged.inspectedFiles)
+        assertEquals(2, unchanged.skippedFiles)
+        assertEquals(initial.problems, unchanged.problems)
+
+        // content of an ImpEx file affects only its own problems
+        edit(IMPEX, "INSERT_UPDATE BatchItem; name[unique = true]\n; first\n; second\n")
+        val impexChanged = run()
+        assertEquals(1, impexChanged.inspectedFiles)
+        assertEquals(1, impexChanged.skippedFiles)
+        assertEquals(initial.problems, impexChanged.problems)
+
+        // items.xml is an input of the global type system, problems of all files have to be re-evaluated
+        edit(ITEMS_XML, VfsUtil.loadText(myFixture.findFileInTempDir(ITEMS_XML)).replace("qualifier=\"Name\"", "qualifier=\"name\""))
+        buildMetaModels()
+        val itemsChanged = run()
+        assertEquals(2, itemsChanged.inspectedFiles)
+        assertEquals(0, itemsChanged.skippedFiles)
+        assertEmpty(itemsChanged.problems)
+
+        val reused = run()
+        assertEquals(0, reused.inspectedFiles)
+        assertEquals(2, reused.skippedFiles)
+        assertEmpty(reused.problems)
+    }
+
+    private fun run() = BatchInspectionRunner(project, THREADS, cacheDirectory.resolve("report.sarif.cache")).run()
+
+    private fun edit(path: String, text: String) {
+        WriteAction.run<Throwable> { VfsUtil.saveText(myFixture.findFileInTempDir(path), text) }
+        PsiDocumentManager.getInstance(project).commitAllDocuments()
+    }
+
+    private fun buildMetaModels() = listOf(
+        TSMetaModelStateService.getInstance(project),
+        BSMetaModelStateService.getInstance(project),
+        CngMetaModelStateService.getInstance(project),
+    ).forEach { build(it) }
+
+    private fun build(service: MetaModelStateService<*, *, *>) {
+        service.init()
+        PlatformTestUtil.waitWithEventsDispatching("${service.javaClass.simpleName} was not initialized", { service.initialized() }, TIMEOUT_SECONDS)
+    }
+
+    companion object {
+        private const val THREADS = 2
+        private const val TIMEOUT_SECONDS = 60
+        private const val QUALIFIER_RULE = "QualifierMustStartWithLowercaseLetter"
+        private const val ITEMS_XML = "extension/resources/extension-items.xml"
+        private const val IMPEX = "extension/resources/impex/essentialdata-batch.impex"
+    }
+}
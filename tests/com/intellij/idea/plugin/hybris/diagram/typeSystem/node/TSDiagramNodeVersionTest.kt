@@ -0,0 +1,94 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.diagram.typeSystem.node
+
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaItem
+import java.lang.reflect.Proxy
+import kotlin.test.Test
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class TSDiagramNodeVersionTest {
+
+    private val childDeclaration = localMeta()
+    private val parentDeclaration = localMeta()
+
+    @Test
+    fun test_isSameAs_unchangedDeclarations() {
+        val previous = version(globalMeta(childDeclaration, globalMeta(parentDeclaration)))
+        // Global Meta Model is re-created, local declarations are re-used
+        val current = version(globalMeta(childDeclaration, globalMeta(parentDeclaration)))
+
+        assertTrue(current.isSameAs(previous))
+    }
+
+    @Test
+    fun test_isSameAs_parentChanged_childDeclarationsUnchanged() {
+        val previous = version(globalMeta(childDeclaration, globalMeta(parentDeclaration)))
+        val current = version(globalMeta(childDeclaration, globalMeta(localMeta())))
+
+        assertFalse(current.isSameAs(previous))
+    }
+
+    @Test
+    fun test_isSameAs_extendsChainChanged() {
+        val previous = version(globalMeta(childDeclaration, globalMeta(parentDeclaration)))
+        val current = version(globalMeta(childDeclaration))
+
+        assertFalse(current.isSameAs(previous))
+    }
+
+    @Test
+    fun test_isSameAs_collapsedChanged() {
+        val meta = globalMeta(childDeclaration)
+
+        assertFalse(version(meta, collapsed = true).isSameAs(version(meta)))
+    }
+
+    private fun version(meta: TSGlobalMetaItem, collapsed: Boolean = false) = TSDiagramNodeVersion(meta, false, collapsed)
+
+    private fun localMeta() = proxy<TSMetaItem> { null }
+
+    private fun globalMeta(declaration: TSMetaItem, vararg extends: TSGlobalMetaItem): TSGlobalMetaItem {
+        val allExtends = extends.flatMap { listOf(it) + it.allExtends }.toSet()
+
+        return proxy {
+            when (it) {
+                "getName" -> "Child"
+                "getDeclarations" -> mutableSetOf(declaration)
+                "getRelationEnds" -> emptyList<Any>()
+                "getAllExtends" -> allExtends
+                else -> null
+            }
+        }
+    }
+
+    private inline fun <reified T> proxy(crossinline answer: (String) -> Any?): T = Proxy.newProxyInstance(
+        T::class.java.classLoader,
+        arrayOf(T::class.java)
+    ) { proxy, method, args ->
+        when (method.name) {
+            "equals" -> proxy === args?.get(0)
+            "hashCode" -> System.identityHashCode(proxy)
+            "toString" -> "${T::class.java.simpleName}@${System.identityHashCode(proxy)}"
+            else -> answer(method.name)
+        }
+    } as T
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.file.FlexibleSearchFileType
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchColumnAliasName
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSelectCoreSelect
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSelectedTableName
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSymbolTable
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTableAliasName
+import com.intellij.psi.PsiElement
+import com.intellij.psi.search.searches.ReferencesSearch
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Find usages and resolution of the table aliases in a 5,000 lines query, where every sub-query declares the same alias.
+ */
+class FlexibleSearchFindUsagesTest : BasePlatformTestCase() {
+
+    fun test_tableAlias_usagesPerDeclaration() {
+        val aliases = configure()
+            .filter { it.text == "p" }
+        assertEquals(SUBQUERIES, aliases.size)
+
+        aliases
+            .filterIndexed { index, _ -> index % (SUBQUERIES / 10) == 0 }
+            .forEach { alias ->
+                val usages = ReferencesSearch.search(alias).findAll()
+                    .map { it.element }
+                    .toSet()
+
+                assertEquals(USAGES_PER_SUBQUERY, usages.size)
+                usages.forEach { assertSame(select(alias), select(it)) }
+            }
+    }
+
+    fun test_tableAlias_symbolTableUsagesPerDeclaration() {
+        val aliases = configure()
+        val symbolTable = FlexibleSearchSymbolTable.getInstance(myFixture.file)
+
+        aliases.forEach { alias ->
+            val usages = symbolTable.getTableAliasUsages(alias)
+
+            if (alias.text == "p") {
+                assertEquals(USAGES_PER_SUBQUERY, usages.size)
+                usages.forEach { assertSame(select(alias), select(it)) }
+            } else {
+                assertEquals(1, usages.size)
+            }
+        }
+    }
+
+    fun test_tableAlias_resolveToOwnSubquery() {
+        configure()
+
+        PsiTreeUtil.findChildrenOfType(myFixture.file, FlexibleSearchSelectedTableName::class.java)
+            .forEach { usage ->
+                val alias = usage.reference?.resolve()
+
+                assertNotNull("Unresolved ${usage.text} at ${usage.textOffset}", alias)
+                if (usage.text == "p") assertSame(select(usage), select(alias!!))
+            }
+    }
+
+    fun test_columnAlias_usages() {
+        configure()
+
+        val aliases = PsiTreeUtil.findChildrenOfType(myFixture.file, FlexibleSearchColumnAliasName::class.java)
+        assertEquals(SUBQUERIES, aliases.size)
+
+        val usages = ReferencesSearch.search(aliases.first()).findAll()
+            .map { it.element.text }
+
+        assertEquals(listOf("pk"), usages.distinct())
+    }
+
+    private fun configure(): Collection<FlexibleSearchTableAliasName> {
+        myFixture.configureByText(FlexibleSearchFileType, query(SUBQUERIES))
+
+        assertTrue(myFixture.editor.document.lineCount >= 5_000)
+
+        return PsiTreeUtil.findChildrenOfType(myFixture.file, FlexibleSearchTableAliasName::class.java)
+    }
+
+    private fun select(element: PsiElement) = PsiTreeUtil.getParentOfType(element, FlexibleSearchSelectCoreSelect::class.java)
+
+    companion object {
+        private const val SUBQUERIES = 1_000
+        private const val USAGES_PER_SUBQUERY = 3
+
+        /**
+         * Union of the given number of sub-queries, 5 lines each, all of them use the same table alias `p`.
+         */
+        fun query(subqueries: Int) = buildString {
+            appendLine("SELECT x.pk FROM (")
+            repeat(subqueries) { index ->
+                appendLine("    {{")
+                appendLine("        SELECT {p:pk} AS pk")
+                appendLine("        FROM {Product AS p}")
+                appendLine("        WHERE {p:code} = ?code$index AND {p:name} IS NOT NULL")
+                appendLine(if (index < subqueries - 1) "    }} UNION ALL" else "    }}")
+            }
+            appendLine(") x")
+        }
+    }
+}
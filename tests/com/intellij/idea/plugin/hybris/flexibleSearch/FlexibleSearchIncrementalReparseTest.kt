@@ -0,0 +1,91 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.flexibleSearch
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.file.FlexibleSearchFileType
+import com.intellij.idea.plugin.hybris.psi.util.IncrementalReparseTestCase
+
+class FlexibleSearchIncrementalReparseTest : IncrementalReparseTestCase() {
+
+    fun test_randomEdits() = checkRandomEdits(
+        FlexibleSearchFileType,
+        listOf(
+            "SELECT {p:pk} FROM {Product AS p} WHERE {p:code} IN ({{ SELECT {code} FROM {Product} WHERE {name[en]} LIKE ?name }})",
+            "SELECT x.pk FROM ({{ SELECT {pk} FROM {Product} }} UNION ALL {{ SELECT {pk} FROM {Category} }}) x",
+            "SELECT * FROM (SELECT {pk} FROM {Order} ORDER BY {code}) AS t LIMIT 10",
+            """
+                SELECT {o:pk} FROM {Order AS o JOIN OrderEntry AS e ON {e:order} = {o:pk}}
+                WHERE EXISTS ({{
+                    SELECT 1 FROM {Consignment AS c}
+                    WHERE {c:order} = {o:pk} -- nested
+                    AND {c:status} IN ({{ SELECT {pk} FROM {ConsignmentStatus} /* statuses */ }})
+                }})
+                ORDER BY {o:code}
+            """.trimIndent(),
+        ),
+        listOf(
+            "{{", "}}", "{", "}", "(", ")", "[en]", "]",
+            " SELECT ", " FROM ", " WHERE ", " UNION ", " AS t", " AND ",
+            "{p:code}", "{name[en]}", "?param", ":o", ",", "x", "'", "`",
+            "/*", "*/", "-- ", "\n",
+        ),
+        seed = 20251019L
+    )
+
+    fun test_subquery_editInside() = checkEdit(
+        FlexibleSearchFileType,
+        "SELECT {pk} FROM {Product} WHERE {code} IN ({{ SELECT {code}<caret> FROM {Product} }})",
+        insert = ", {name[en]}"
+    )
+
+    fun test_subquery_localizedAttributeBeforeClosingBraces() = checkEdit(
+        FlexibleSearchFileType,
+        "SELECT {pk} FROM {Product} WHERE {code} IN ({{ SELECT {code} FROM {Product} WHERE {name[en]}<caret>}})",
+        insert = " IS NULL"
+    )
+
+    fun test_subqueryCombined_editInside() = checkEdit(
+        FlexibleSearchFileType,
+        "SELECT x.pk FROM ({{ SELECT {pk} FROM {Product}<caret> }} UNION ALL {{ SELECT {pk} FROM {Category} }}) x",
+        insert = " WHERE {code} = ?code"
+    )
+
+    fun test_subqueryCombined_brokenTail() = checkEdit(
+        FlexibleSearchFileType,
+        "SELECT x.pk FROM ({{ SELECT {pk} FROM {Product} }}<caret> UNION ALL {{ SELECT {pk} FROM {Category} }}) x",
+        insert = " junk"
+    )
+
+    fun test_subqueryCombined_unfinished() = checkEdit(
+        FlexibleSearchFileType,
+        "SELECT x.pk FROM ({{ SELECT {pk} FROM <caret>{Product} }}) x",
+        delete = 9
+    )
+
+    fun test_fromClauseSelectQuery_editInside() = checkEdit(
+        FlexibleSearchFileType,
+        "SELECT * FROM (SELECT {pk} FROM {Order}<caret>) AS t",
+        insert = " ORDER BY {code}"
+    )
+
+    fun test_subquery_openComment() = checkEdit(
+        FlexibleSearchFileType,
+        "SELECT {pk} FROM {Product} WHERE {code} IN ({{ SELECT {code} <caret>FROM {Product} }}) ORDER BY {code}",
+        insert = "/*"
+    )
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.file.FlexibleSearchFileType
+import com.intellij.idea.plugin.hybris.impex.file.ImpexFileType
+import com.intellij.idea.plugin.hybris.perf.PerformanceMetrics
+import com.intellij.lang.injection.InjectedLanguageManager
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiFile
+import com.intellij.psi.PsiFileFactory
+import com.intellij.testFramework.PsiTestUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Edits a large FlexibleSearch query injected into an ImpEx value, the query is a chain of `{{ }}` subqueries
+ * and every edit stays inside one of them, so the injected file can be reparsed via [FlexibleSearchReparseableElementType].
+ *
+ * `fxs.injected.typing` commits after every typed character, including the unbalanced intermediate states,
+ * `fxs.injected.paste` inserts balanced fragments at once. `fxs.injected.fullParse` is recorded only.
+ * The final injected tree must be equal to the tree of the full reparse.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.fxsSubqueries`.
+ */
+class FlexibleSearchInjectedReparsePerformanceTest : BasePlatformTestCase() {
+
+    fun test_injectedQuery_editSubquery() {
+        val subqueries = System.getProperty("perf.fxsSubqueries")?.toIntOrNull() ?: DEFAULT_SUBQUERIES
+        val metrics = PerformanceMetrics()
+        val query = query(subqueries)
+
+        metrics.record("fxs.injected.fullParse") {
+            PsiFileFactory.getInstance(project).createFileFromText("perf.fxs", FlexibleSearchFileType, query).node.lastChildNode
+        }
+
+        myFixture.configureByText(ImpexFileType, "INSERT_UPDATE SavedQuery; code[unique = true]; query\n; perfQuery; \"$query\"\n")
+        val anchor = "{code} = 'p${subqueries / 2}'"
+        val offset = myFixture.editor.document.text.indexOf(anchor) + anchor.length
+        assertEquals(FlexibleSearchLanguage, injectedFile(offset).language)
+
+        metrics.measure("fxs.injected.typing") {
+            TYPED.forEachIndexed { index, char -> insert(offset + index, char.toString()) }
+        }
+        metrics.measure("fxs.injected.paste") {
+            repeat(PASTES) { insert(offset, PASTED) }
+        }
+
+        injectedFile(offset).let {
+            assertTrue(it.text.contains(anchor + PASTED.repeat(PASTES) + TYPED))
+            PsiTestUtil.checkFileStructure(it)
+        }
+
+        metrics.assertNoRegressions()
+    }
+
+    private fun insert(offset: Int, text: String) {
+        val document = myFixture.editor.document
+
+        WriteCommandAction.runWriteCommandAction(project) { document.insertString(offset, text) }
+        PsiDocumentManager.getInstance(project).commitDocument(document)
+        injectedFile(offset)
+    }
+
+    private fun injectedFile(hostOffset: Int): PsiFile = InjectedLanguageManager.getInstance(project)
+        .findInjectedElementAt(myFixture.file, hostOffset)!!
+        .containingFile
+
+    private fun query(subqueries: Int) = buildString {
+        append("SELECT {p:pk} FROM {Product AS p} WHERE {p:pk} IN ({{ SELECT {pk} FROM {Product} WHERE {code} = 'p0' }})")
+        (1 until subqueries).forEach {
+            append(" OR {p:pk} IN ({{ SELECT {pk} FROM {Product} WHERE {code} = 'p$it' }})")
+        }
+    }
+
+    companion object {
+        private const val DEFAULT_SUBQUERIES = 2_000
+        private const val PASTES = 20
+        private const val TYPED = " AND {name[en]} IS NOT NULL"
+        private const val PASTED = " AND {catalogVersion} IS NOT NULL"
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTypes
+import com.intellij.psi.tree.TokenSet
+import kotlin.test.Test
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class FlexibleSearchReparseableElementTypeTest {
+
+    private val aliasTokens = TokenSet.create(FlexibleSearchTypes.AS, FlexibleSearchTypes.IDENTIFIER, FlexibleSearchTypes.BACKTICK_LITERAL)
+
+    @Test
+    fun test_isBracedBlock_subquery() {
+        assertTrue(isBracedBlock("{{ SELECT {pk} FROM {Product} }}"))
+        assertTrue(isBracedBlock("{{ SELECT {p:pk} FROM {Product AS p} WHERE {p:code} IN ({{ SELECT {code} FROM {Product}}}) }}"))
+        assertTrue(isBracedBlock("{{ SELECT {name[en]} FROM {Product} /* }} */ }}"))
+        assertTrue(isBracedBlock("( SELECT {pk} FROM {Product} )"))
+    }
+
+    @Test
+    fun test_isBracedBlock_subqueryChangingNeighbours() {
+        assertFalse(isBracedBlock("{{ SELECT {pk} FROM {Product}"))
+        assertFalse(isBracedBlock("{{ SELECT {pk} FROM {Product} }} }}"))
+        assertFalse(isBracedBlock("{{ SELECT {pk} FROM {Product} }} UNION {{ SELECT {pk} FROM {Category} }}"))
+        assertFalse(isBracedBlock("{{ SELECT {pk} FROM {Product) }}"))
+        assertFalse(isBracedBlock("{{ SELECT {pk} FROM {Product} WHERE {code} = '}}"))
+        assertFalse(isBracedBlock("{{ SELECT {pk} FROM {Product} }} /*"))
+        assertFalse(isBracedBlock("SELECT {pk} FROM {Product}"))
+        assertFalse(isBracedBlock(""))
+    }
+
+    @Test
+    fun test_isBracedBlock_subqueryWithAlias() {
+        assertTrue(isBracedBlock("({{ SELECT {pk} FROM {Product} }}) AS p", aliasTokens))
+        assertTrue(isBracedBlock("({{ SELECT {pk} FROM {Product} }}) `p`", aliasTokens))
+        assertFalse(isBracedBlock("({{ SELECT {pk} FROM {Product} }}) AS p", TokenSet.EMPTY))
+        assertFalse(isBracedBlock("({{ SELECT {pk} FROM {Product} }}) 'p", aliasTokens))
+        assertFalse(isBracedBlock("({{ SELECT {pk} FROM {Product} }}) AS p WHERE", aliasTokens))
+    }
+
+    private fun isBracedBlock(text: String, tailTokens: TokenSet = TokenSet.EMPTY) = FlexibleSearchReparseableElementType.isBracedBlock(text, tailTokens)
+}
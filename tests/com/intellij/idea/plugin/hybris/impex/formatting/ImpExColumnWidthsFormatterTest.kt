@@ -0,0 +1,66 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.impex.formatting
+
+import com.intellij.application.options.CodeStyle
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.psi.codeStyle.CodeStyleManager
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Golden file tests of the [ImpExColumnWidthsAlignmentStrategy], each `<name>.impex` is reformatted and compared with `<name>_after.impex`.
+ */
+class ImpExColumnWidthsFormatterTest : BasePlatformTestCase() {
+
+    override fun getTestDataPath() = "testData/impex/formatting/columnWidths"
+
+    fun test_alignColumns() = doTest("alignColumns")
+
+    fun test_alignColumns_noSpaceAfterSeparator() = doTest("noSpaceAfterSeparator") {
+        SPACE_AFTER_FIELD_VALUE_SEPARATOR = false
+    }
+
+    fun test_alignColumns_firstColumnWithSubType() = doTest("firstColumnWithSubType")
+
+    fun test_alignColumns_multilineValue() = doTest("multilineValue")
+
+    fun test_alignColumns_range() = doTest("rangeFormat")
+
+    private fun doTest(name: String, configure: ImpexCodeStyleSettings.() -> Unit = {}) {
+        myFixture.configureByFile("$name.impex")
+
+        CodeStyle.runWithLocalSettings(project, CodeStyle.getSettings(project)) { settings ->
+            with(settings.getCustomSettings(ImpexCodeStyleSettings::class.java)) {
+                TABLIFY = false
+                ALIGN_COLUMNS_BY_WIDTH = true
+                configure()
+            }
+
+            val selectionModel = myFixture.editor.selectionModel
+            WriteCommandAction.runWriteCommandAction(project) {
+                if (selectionModel.hasSelection()) {
+                    CodeStyleManager.getInstance(project).reformatText(myFixture.file, selectionModel.selectionStart, selectionModel.selectionEnd)
+                } else {
+                    CodeStyleManager.getInstance(project).reformat(myFixture.file)
+                }
+            }
+        }
+
+        myFixture.checkResultByFile("${name}_after.impex")
+    }
+}
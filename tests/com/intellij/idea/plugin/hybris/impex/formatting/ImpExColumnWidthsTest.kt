@@ -0,0 +1,68 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.formatting
+
+import com.intellij.idea.plugin.hybris.impex.formatting.ImpExColumnWidths.Companion.UNKNOWN
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class ImpExColumnWidthsTest {
+
+    @Test
+    fun test_paddingAfter_alignsToWidestGroup() {
+        val first = intArrayOf(9, 4, 6)
+        val second = intArrayOf(3, 12, 2)
+        val widths = ImpExColumnWidths(listOf(first, second))
+
+        assertEquals(0, widths.paddingAfter(first, 0))
+        assertEquals(6, widths.paddingAfter(second, 0))
+        assertEquals(8, widths.paddingAfter(first, 1))
+        assertEquals(0, widths.paddingAfter(second, 1))
+    }
+
+    @Test
+    fun test_paddingAfter_lastGroupIgnored() {
+        val short = intArrayOf(3, 40)
+        val long = intArrayOf(5, 7, 1)
+        val widths = ImpExColumnWidths(listOf(short, long))
+
+        assertEquals(0, widths.paddingAfter(long, 1))
+        assertEquals(0, widths.paddingAfter(long, 2))
+        assertEquals(0, widths.paddingAfter(short, 1))
+    }
+
+    @Test
+    fun test_paddingAfter_unknownWidths() {
+        val multiline = intArrayOf(4, UNKNOWN, UNKNOWN)
+        val regular = intArrayOf(2, 6, 3)
+        val widths = ImpExColumnWidths(listOf(multiline, regular))
+
+        assertEquals(0, widths.paddingAfter(multiline, 0))
+        assertEquals(2, widths.paddingAfter(regular, 0))
+        assertEquals(0, widths.paddingAfter(multiline, 1))
+        assertEquals(0, widths.paddingAfter(regular, 1))
+    }
+
+    @Test
+    fun test_paddingAfter_emptyBlock() {
+        val widths = ImpExColumnWidths(emptyList())
+
+        assertEquals(0, widths.paddingAfter(intArrayOf(3, 4), 0))
+    }
+}
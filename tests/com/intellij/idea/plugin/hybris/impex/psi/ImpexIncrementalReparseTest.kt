@@ -0,0 +1,135 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.impex.psi
+
+import com.intellij.idea.plugin.hybris.impex.file.ImpexFileType
+import com.intellij.idea.plugin.hybris.psi.util.IncrementalReparseTestCase
+import com.intellij.testFramework.PsiTestUtil
+
+/**
+ * Each edit is applied to the already parsed file and the resulting tree, possibly produced by the reparse
+ * of a single header or value line, must be equal to the tree of the full reparse of the same text.
+ */
+class ImpexIncrementalReparseTest : IncrementalReparseTestCase() {
+
+    fun test_headerLine_appendParameter() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true]<caret>;name[lang=en]\n;product1;Product 1\n",
+        insert = ";description[lang=en]"
+    )
+
+    fun test_headerLine_editModifier() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=<caret>true];name[lang=en]\n;product1;Product 1\n",
+        delete = 4,
+        insert = "false"
+    )
+
+    fun test_headerLine_changeMode() = checkEdit(
+        "INSERT<caret>_UPDATE Product;code[unique=true]\n;product1\n",
+        delete = 7
+    )
+
+    fun test_headerLine_addContinuation() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];<caret>catalogVersion(catalog(id),version)\n;product1;catalog:Staged\n",
+        insert = "\\\n "
+    )
+
+    fun test_headerLine_removeContinuation() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];<caret>\\\n catalogVersion(catalog(id),version)\n;product1;catalog:Staged\n",
+        delete = 3
+    )
+
+    fun test_valueLine_editValue() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];name[lang=en]\n;product1;Product<caret> 1\n;product2;Product 2\n",
+        insert = " updated"
+    )
+
+    fun test_valueLine_addSeparator() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];name[lang=en]\n;product1;Product 1<caret>\n;product2;Product 2\n",
+        insert = ";extra"
+    )
+
+    fun test_valueLine_splitLine() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];name[lang=en]\n;product1;<caret>Product 1\n;product2;Product 2\n",
+        insert = "\n;product3;"
+    )
+
+    fun test_valueLine_addSubtype() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];name[lang=en]\n<caret>;product1;Product 1\n;product2;Product 2\n",
+        insert = "VariantProduct"
+    )
+
+    fun test_valueLine_turnIntoComment() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];name[lang=en]\n<caret>;product1;Product 1\n;product2;Product 2\n",
+        insert = "# "
+    )
+
+    fun test_quotedValue_editInsideMultiline() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];description[lang=en]\n;product1;\"first<caret>\nsecond\"\n;product2;plain\n",
+        insert = "; with separator"
+    )
+
+    fun test_quotedValue_openQuote() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];description[lang=en]\n;product1;<caret>plain\n;product2;\"quoted\"\n",
+        insert = "\""
+    )
+
+    fun test_quotedValue_closeQuote() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];description[lang=en]\n;product1;\"multi\nline<caret>\n;product2;plain\n",
+        insert = "\""
+    )
+
+    fun test_quotedValue_removeQuote() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];description[lang=en]\n;product1;<caret>\"multi\nline\"\n;product2;plain\n",
+        delete = 1
+    )
+
+    fun test_continuation_editContinuedPart() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];description[lang=en]\n;product1;first \\\n second<caret>\n;product2;plain\n",
+        insert = " third"
+    )
+
+    fun test_continuation_addContinuation() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];description[lang=en]\n;product1;first<caret>\n;product2;plain\n",
+        insert = " \\"
+    )
+
+    fun test_continuation_removeContinuation() = checkEdit(
+        "INSERT_UPDATE Product;code[unique=true];description[lang=en]\n;product1;first <caret>\\\n second\n;product2;plain\n",
+        delete = 1
+    )
+
+    fun test_sequentialEdits() {
+        myFixture.configureByText(
+            ImpexFileType,
+            "INSERT_UPDATE Product;code[unique=true];name[lang=en]\n;product1;Product 1\n;product2;Product 2\n"
+        )
+        PsiTestUtil.checkFileStructure(myFixture.file)
+
+        listOf(
+            "INSERT_UPDATE Product;code[unique=true]" to ";ean",
+            ";product1;Product 1" to ";123",
+            ";product2;" to "\"quoted\nvalue\"",
+            ";product2;\"quoted" to " \\",
+        ).forEach { (anchor, insertion) ->
+            val offset = myFixture.editor.document.text.indexOf(anchor) + anchor.length
+            edit(offset, 0, insertion)
+        }
+    }
+
+    private fun checkEdit(text: String, delete: Int = 0, insert: String = "") = checkEdit(ImpexFileType, text, delete, insert)
+}
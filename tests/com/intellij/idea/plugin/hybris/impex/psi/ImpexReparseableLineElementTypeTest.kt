@@ -0,0 +1,60 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi
+
+import com.intellij.idea.plugin.hybris.impex.ImpexLexer
+import com.intellij.psi.tree.TokenSet
+import kotlin.test.Test
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class ImpexReparseableLineElementTypeTest {
+
+    private val valueLineStart = TokenSet.create(ImpexTypes.FIELD_VALUE_SEPARATOR, ImpexTypes.VALUE_SUBTYPE)
+    private val valueLineEnd = setOf(ImpexLexer.FIELD_VALUE)
+    private val headerLineStart = TokenSet.create(ImpexTypes.HEADER_MODE_INSERT_UPDATE)
+    private val headerLineEnd = setOf(ImpexLexer.HEADER_TYPE, ImpexLexer.HEADER_LINE, ImpexLexer.MODIFIERS_BLOCK, ImpexLexer.WAITING_ATTR_OR_PARAM_VALUE)
+
+    @Test
+    fun test_isSingleLine_valueLine() {
+        assertTrue(isValueLine(";product1;\"Product; with separator\";true"))
+        assertTrue(isValueLine("VariantProduct;product2;\"multi\nline\";false"))
+        assertTrue(isValueLine(";value \\\n continued"))
+    }
+
+    @Test
+    fun test_isSingleLine_valueLineChangingNeighbours() {
+        assertFalse(isValueLine(";product1\n;product2"))
+        assertFalse(isValueLine(";product1;\"unterminated"))
+        assertFalse(isValueLine(";product1;continued \\"))
+        assertFalse(isValueLine("INSERT_UPDATE Product;code"))
+        assertFalse(isValueLine(""))
+    }
+
+    @Test
+    fun test_isSingleLine_headerLine() {
+        assertTrue(isHeaderLine("INSERT_UPDATE Product;code[unique=true];name[lang=en]"))
+        assertTrue(isHeaderLine("INSERT_UPDATE Product;code[unique=true];\\\n catalogVersion(catalog(id),version)"))
+        assertFalse(isHeaderLine("INSERT_UPDATE Product;code\n;product1"))
+        assertFalse(isHeaderLine(";product1"))
+    }
+
+    private fun isValueLine(text: String) = ImpexReparseableLineElementType.isSingleLine(text, valueLineStart, valueLineEnd)
+    private fun isHeaderLine(text: String) = ImpexReparseableLineElementType.isSingleLine(text, headerLineStart, headerLineEnd)
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.codeInsight.lookup.LookupManager
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Completes widget ids and context parents against a synthetic widgets configuration with nested widgets
+ * and a backoffice config with many context attribute values, both served by the Cng meta model index.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.cngWidgets`.
+ */
+class CngCompletionPerformanceTest : BasePlatformTestCase() {
+
+    fun test_completion_largeWidgetsConfiguration() {
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+
+        val widgets = System.getProperty("perf.cngWidgets")?.toIntOrNull() ?: DEFAULT_WIDGETS
+        val metrics = PerformanceMetrics()
+
+        metrics.record("cng.completion.configure") {
+            myFixture.addFileToProject("perf/resources/perf-backoffice-widgets.xml", widgets(widgets))
+            myFixture.addFileToProject("perf/resources/perf-backoffice-config.xml", config(widgets / CHILDREN))
+        }
+        metrics.record("cng.completion.meta") {
+            val service = CngMetaModelStateService.getInstance(project)
+            service.init()
+            PlatformTestUtil.waitWithEventsDispatching("Cng meta model was not initialized", { service.initialized() }, TIMEOUT_SECONDS)
+        }
+
+        myFixture.configureByText(
+            "edit-backoffice-widgets.xml",
+            """<widgets xmlns="${HybrisConstants.SCHEMA_COCKPIT_NG_WIDGETS}"><widget-extension widgetId="<caret>"/></widgets>"""
+        )
+        val cold = metrics.measure("cng.completion.widgets.cold") { myFixture.completeBasic().orEmpty() }
+        LookupManager.hideActiveLookup(project)
+        val warm = metrics.measure("cng.completion.widgets.warm") { myFixture.completeBasic().orEmpty() }
+
+        assertTrue("All widgets should be completed, found: ${cold.size}", cold.size >= widgets)
+        assertEquals(cold.size, warm.size)
+
+        myFixture.configureByText(
+            "edit-backoffice-config.xml",
+            """<config xmlns="${HybrisConstants.SCHEMA_COCKPIT_NG_CONFIG}"><context merge-by="principal" parent="perfPrincipal1<caret>"/></config>"""
+        )
+        val parents = metrics.measure("cng.completion.contextParent") { myFixture.completeBasic().orEmpty() }
+
+        // perfPrincipal1, perfPrincipal10..19, perfPrincipal100..199, ...
+        assertEquals(
+            (0 until widgets / CHILDREN).count { "$it".startsWith("1") },
+            parents.count { it.lookupString.startsWith("perfPrincipal1") }
+        )
+
+        metrics.assertNoRegressions()
+    }
+
+    private fun widgets(widgets: Int) = buildString {
+        appendLine("""<?xml version="1.0" encoding="UTF-8"?>""")
+        appendLine("""<widgets xmlns="${HybrisConstants.SCHEMA_COCKPIT_NG_WIDGETS}">""")
+        repeat(widgets / CHILDREN) { parent ->
+            appendLine("""    <widget id="perfWidget$parent" widgetDefinitionId="com.hybris.cockpitng.borderlayout" slotId="center">""")
+            repeat(CHILDREN - 1) { appendLine("""        <widget id="perfWidget$parent.$it" widgetDefinitionId="com.hybris.cockpitng.listview" slotId="child$it"/>""") }
+            appendLine("""    </widget>""")
+        }
+        appendLine("""</widgets>""")
+    }
+
+    private fun config(contexts: Int) = buildString {
+        appendLine("""<?xml version="1.0" encoding="UTF-8"?>""")
+        appendLine("""<config xmlns="${HybrisConstants.SCHEMA_COCKPIT_NG_CONFIG}">""")
+        repeat(contexts) { appendLine("""    <context principal="perfPrincipal$it" component="perfComponent$it"/>""") }
+        appendLine("""</config>""")
+    }
+
+    companion object {
+        private const val DEFAULT_WIDGETS = 20_000
+        private const val CHILDREN = 10
+        private const val TIMEOUT_SECONDS = 600
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPatternCategory
+import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPatternClassifier
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.psi.xml.XmlAttributeValue
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Classifies every attribute value of a large backoffice config, as reference and completion contributors do,
+ * and compares it with evaluation of all [CngPatternCategory] patterns for each value.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.cngContexts`.
+ */
+class CngPatternClassifierPerformanceTest : BasePlatformTestCase() {
+
+    fun test_classify_largeConfig() {
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+
+        val contexts = System.getProperty("perf.cngContexts")?.toIntOrNull() ?: DEFAULT_CONTEXTS
+        val metrics = PerformanceMetrics()
+        val file = metrics.record("cng.classify.configure") { myFixture.configureByText("perf-backoffice-config.xml", config(contexts)) }
+        val values = PsiTreeUtil.findChildrenOfType(file, XmlAttributeValue::class.java)
+
+        val patterns = metrics.measure("cng.classify.patterns") {
+            values.sumOf { value -> CngPatternCategory.entries.count { it.pattern.accepts(value) } }
+        }
+        val cold = metrics.measure("cng.classify.cold") {
+            values.sumOf { CngPatternClassifier.classify(it).size }
+        }
+        val warm = metrics.measure("cng.classify.warm") {
+            repeat(WARM_ROUNDS - 1) { values.forEach { CngPatternClassifier.classify(it) } }
+            values.sumOf { CngPatternClassifier.classify(it).size }
+        }
+
+        assertEquals(patterns, cold)
+        assertEquals(patterns, warm)
+
+        metrics.assertNoRegressions()
+    }
+
+    private fun config(contexts: Int) = buildString {
+        appendLine("""<?xml version="1.0" encoding="UTF-8"?>""")
+        appendLine("""<config xmlns="http://www.hybris.com/cockpit/config"""")
+        appendLine("""        xmlns:list-view="http://www.hybris.com/cockpitng/component/listView"""")
+        appendLine("""        xmlns:editorArea="http://www.hybris.com/cockpitng/component/editorArea">""")
+        repeat(contexts) { index ->
+            appendLine("""    <context type="Type$index" component="listview">""")
+            appendLine("""        <list-view:list-view>""")
+            repeat(ATTRIBUTES) { appendLine("""            <list-view:column qualifier="attribute$it" spring-bean="renderer$it" width="100px"/>""") }
+            appendLine("""        </list-view:list-view>""")
+            appendLine("""    </context>""")
+            appendLine("""    <context type="Type$index" component="editor-area">""")
+            appendLine("""        <editorArea:editorArea>""")
+            appendLine("""            <editorArea:tab name="tab.type$index" position="1">""")
+            appendLine("""                <editorArea:section name="section.type$index">""")
+            repeat(ATTRIBUTES) { appendLine("""                    <editorArea:attribute qualifier="attribute$it" label="label$it" readonly="false"/>""") }
+            appendLine("""                </editorArea:section>""")
+            appendLine("""            </editorArea:tab>""")
+            appendLine("""        </editorArea:editorArea>""")
+            appendLine("""    </context>""")
+        }
+        appendLine("""</config>""")
+    }
+
+    companion object {
+        private const val DEFAULT_CONTEXTS = 2_000
+        private const val ATTRIBUTES = 10
+        private const val WARM_ROUNDS = 10
+    }
+}
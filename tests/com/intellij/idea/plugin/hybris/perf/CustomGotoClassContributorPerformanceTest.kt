@@ -0,0 +1,160 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.gotoClass.CustomGotoClassContributor
+import com.intellij.idea.plugin.hybris.gotoClass.OotbClassesSearchScope
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.openapi.roots.ModuleRootModificationUtil
+import com.intellij.openapi.vfs.LocalFileSystem
+import com.intellij.openapi.vfs.VfsUtil
+import com.intellij.openapi.vfs.VfsUtilCore
+import com.intellij.testFramework.IndexingTestUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+import java.io.ByteArrayOutputStream
+import java.io.DataOutputStream
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.ExperimentalPathApi
+import kotlin.io.path.createDirectories
+import kotlin.io.path.deleteRecursively
+import kotlin.io.path.writeBytes
+import kotlin.io.path.writeText
+
+/**
+ * Collects goto-class names via [CustomGotoClassContributor] over a module library with many compiled classes spread
+ * across the `classes` directories of synthetic extensions, next to a third-party directory which is not in [OotbClassesSearchScope].
+ *
+ * `goto.class.names.cold` is the first lookup which fills the per-directory verdicts of the scope,
+ * `goto.class.names.warm` is any following lookup without VFS structure changes in between.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.gotoClasses`.
+ */
+class CustomGotoClassContributorPerformanceTest : BasePlatformTestCase() {
+
+    private lateinit var libraryRoot: Path
+
+    override fun setUp() {
+        libraryRoot = Files.createTempDirectory("synthetic-classes")
+        super.setUp()
+    }
+
+    @OptIn(ExperimentalPathApi::class)
+    override fun tearDown() {
+        try {
+            ModuleRootModificationUtil.updateModel(module) { model ->
+                model.moduleLibraryTable.getLibraryByName(LIBRARY)
+                    ?.let { model.moduleLibraryTable.removeLibrary(it) }
+            }
+            super.tearDown()
+        } finally {
+            libraryRoot.deleteRecursively()
+        }
+    }
+
+    fun test_getNames_largeLibrary() {
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+
+        val classes = System.getProperty("perf.gotoClasses")?.toIntOrNull() ?: DEFAULT_CLASSES
+        val metrics = PerformanceMetrics()
+
+        val classesRoots = metrics.record("goto.class.generate") { generate(classes) }
+        metrics.record("goto.class.index") {
+            VfsUtil.markDirtyAndRefresh(false, true, true, LocalFileSystem.getInstance().refreshAndFindFileByNioFile(libraryRoot))
+            ModuleRootModificationUtil.addModuleLibrary(module, LIBRARY, classesRoots.map { VfsUtilCore.pathToUrl(it.toString()) }, emptyList())
+            IndexingTestUtil.waitUntilIndexesAreReady(project)
+        }
+
+        val contributor = CustomGotoClassContributor()
+        val cold = metrics.measure("goto.class.names.cold") { contributor.getNames(project, false) }
+        val warm = metrics.measure("goto.class.names.warm") { contributor.getNames(project, false) }
+
+        val expected = (0 until classes).map { className(it) }.toSet()
+        assertEquals(expected, cold.filter { it.startsWith("Ext") }.toSet())
+        assertEquals(cold.toSet(), warm.toSet())
+        assertFalse(cold.any { it.startsWith(THIRD_PARTY_PREFIX) })
+
+        metrics.assertNoRegressions()
+    }
+
+    /**
+     * [OotbClassesSearchScope] looks up `extensioninfo.xml` in the `classes` directory itself, so it is written there
+     * in addition to the extension root.
+     */
+    private fun generate(classes: Int): List<Path> {
+        val extensionsRoot = libraryRoot.resolve("hybris/bin/modules")
+        val extensionRoots = (0 until (classes + CLASSES_PER_EXTENSION - 1) / CLASSES_PER_EXTENSION)
+            .map { extensionsRoot.resolve("ext$it") }
+        extensionRoots.forEach { extension ->
+            val extensionInfo = """<extensioninfo><extension name="${extension.fileName}"/></extensioninfo>"""
+            extension.resolve(HybrisConstants.CLASSES_DIRECTORY).createDirectories()
+            extension.resolve(HybrisConstants.EXTENSION_INFO_XML).writeText(extensionInfo)
+            extension.resolve(HybrisConstants.CLASSES_DIRECTORY).resolve(HybrisConstants.EXTENSION_INFO_XML).writeText(extensionInfo)
+        }
+
+        (0 until classes).forEach {
+            val extension = it / CLASSES_PER_EXTENSION
+            val internalName = "de/hybris/platform/ext$extension/pkg${it % CLASSES_PER_EXTENSION / CLASSES_PER_PACKAGE}/${className(it)}"
+            writeClass(extensionRoots[extension].resolve(HybrisConstants.CLASSES_DIRECTORY), internalName)
+        }
+
+        val thirdParty = libraryRoot.resolve("hybris/bin/thirdparty/lib")
+        repeat(THIRD_PARTY_CLASSES) { writeClass(thirdParty, "org/thirdparty/$THIRD_PARTY_PREFIX$it") }
+
+        return extensionRoots.map { it.resolve(HybrisConstants.CLASSES_DIRECTORY) } + thirdParty
+    }
+
+    private fun className(index: Int) = "Ext${index / CLASSES_PER_EXTENSION}Class$index"
+
+    /**
+     * Writes the smallest valid class file: a public class extending `java.lang.Object` without members.
+     */
+    private fun writeClass(root: Path, internalName: String) {
+        val bytes = ByteArrayOutputStream()
+        DataOutputStream(bytes).use {
+            it.writeInt(0xCAFEBABE.toInt())
+            it.writeShort(0)
+            it.writeShort(CLASS_FILE_MAJOR_VERSION)
+            it.writeShort(5)
+            it.writeByte(1); it.writeUTF(internalName)
+            it.writeByte(7); it.writeShort(1)
+            it.writeByte(1); it.writeUTF("java/lang/Object")
+            it.writeByte(7); it.writeShort(3)
+            it.writeShort(0x0021)
+            it.writeShort(2)
+            it.writeShort(4)
+            repeat(4) { _ -> it.writeShort(0) }
+        }
+
+        root.resolve("$internalName.class")
+            .also { it.parent.createDirectories() }
+            .writeBytes(bytes.toByteArray())
+    }
+
+    companion object {
+        private const val DEFAULT_CLASSES = 50_000
+        private const val CLASSES_PER_EXTENSION = 1_000
+        private const val CLASSES_PER_PACKAGE = 100
+        private const val THIRD_PARTY_CLASSES = 1_000
+        private const val THIRD_PARTY_PREFIX = "ThirdParty"
+        private const val CLASS_FILE_MAJOR_VERSION = 52
+        private const val LIBRARY = "synthetic-ootb-classes"
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.FlexibleSearchFindUsagesTest
+import com.intellij.idea.plugin.hybris.flexibleSearch.file.FlexibleSearchFileType
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSelectedTableName
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSymbolTable
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTableAliasName
+import com.intellij.psi.search.searches.ReferencesSearch
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Resolves every table alias reference and finds usages of every table alias declaration of a large query.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.fxsSubqueries`, each sub-query takes 5 lines.
+ */
+class FlexibleSearchSymbolTablePerformanceTest : BasePlatformTestCase() {
+
+    fun test_symbolTable_largeQuery() {
+        val subqueries = System.getProperty("perf.fxsSubqueries")?.toIntOrNull() ?: DEFAULT_SUBQUERIES
+        val metrics = PerformanceMetrics()
+
+        metrics.record("fxs.configure") { myFixture.configureByText(FlexibleSearchFileType, FlexibleSearchFindUsagesTest.query(subqueries)) }
+
+        val file = myFixture.file
+        val usages = PsiTreeUtil.findChildrenOfType(file, FlexibleSearchSelectedTableName::class.java)
+        val aliases = PsiTreeUtil.findChildrenOfType(file, FlexibleSearchTableAliasName::class.java)
+
+        metrics.measure("fxs.symbolTable.build") { FlexibleSearchSymbolTable.getInstance(file) }
+        val resolved = metrics.measure("fxs.resolve") { usages.count { it.reference?.resolve() != null } }
+        val found = metrics.measure("fxs.findUsages") { aliases.sumOf { ReferencesSearch.search(it).findAll().size } }
+
+        assertEquals(usages.size, resolved)
+        assertTrue(found >= usages.size)
+
+        metrics.assertNoRegressions()
+    }
+
+    companion object {
+        private const val DEFAULT_SUBQUERIES = 1_000
+    }
+}
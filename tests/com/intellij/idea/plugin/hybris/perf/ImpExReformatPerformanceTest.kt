@@ -0,0 +1,108 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.application.options.CodeStyle
+import com.intellij.idea.plugin.hybris.impex.file.ImpexFileType
+import com.intellij.idea.plugin.hybris.impex.formatting.ImpExColumnWidthsAlignmentStrategy
+import com.intellij.idea.plugin.hybris.impex.formatting.ImpexCodeStyleSettings
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.psi.codeStyle.CodeStyleManager
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+import kotlin.random.Random
+
+/**
+ * Reformats a large ImpEx file with columns aligned by width via [ImpExColumnWidthsAlignmentStrategy].
+ *
+ * `impex.reformat.full` formats the whole file, `impex.reformat.formatted` formats the already formatted file and must not
+ * change it, `impex.reformat.range` formats a few lines in the middle of the file, which measures only their header block.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.impexReformatLines`.
+ */
+class ImpExReformatPerformanceTest : BasePlatformTestCase() {
+
+    fun test_reformat_largeImpex() {
+        val lines = System.getProperty("perf.impexReformatLines")?.toIntOrNull() ?: DEFAULT_LINES
+        val metrics = PerformanceMetrics()
+
+        myFixture.configureByText(ImpexFileType, impex(lines))
+
+        CodeStyle.runWithLocalSettings(project, CodeStyle.getSettings(project)) { settings ->
+            with(settings.getCustomSettings(ImpexCodeStyleSettings::class.java)) {
+                TABLIFY = false
+                ALIGN_COLUMNS_BY_WIDTH = true
+            }
+
+            metrics.measure("impex.reformat.full") { reformat() }
+            assertAligned()
+
+            val formatted = myFixture.editor.document.text
+            metrics.measure("impex.reformat.formatted") { reformat() }
+            assertEquals(formatted, myFixture.editor.document.text)
+
+            val document = myFixture.editor.document
+            val middle = document.getLineNumber(document.textLength / 2)
+            metrics.measure("impex.reformat.range") {
+                reformat(document.getLineStartOffset(middle), document.getLineEndOffset(middle + RANGE_LINES))
+            }
+            assertEquals(formatted, myFixture.editor.document.text)
+        }
+
+        metrics.assertNoRegressions()
+    }
+
+    private fun reformat(startOffset: Int = 0, endOffset: Int = myFixture.editor.document.textLength) = WriteCommandAction.runWriteCommandAction(project) {
+        CodeStyleManager.getInstance(project).reformatText(myFixture.file, startOffset, endOffset)
+    }
+
+    /**
+     * Value lines have no multi-line values, so within a header block all separators of a column are at the same position.
+     */
+    private fun assertAligned() = myFixture.editor.document.text
+        .split("\n\n")
+        .filter { it.isNotBlank() }
+        .forEach { block ->
+            val separators = block.lines()
+                .drop(1)
+                .filter { it.isNotBlank() }
+                .map { line -> line.indices.filter { line[it] == ';' } }
+                .distinct()
+            assertEquals("Columns are not aligned in:\n${block.lines().take(3).joinToString("\n")}", 1, separators.size)
+        }
+
+    private fun impex(lines: Int) = buildString {
+        val random = Random(SEED)
+
+        repeat(lines) {
+            if (it % BLOCK_LINES == 0) {
+                if (it > 0) appendLine()
+                appendLine("INSERT_UPDATE Product;code[unique=true];name[lang=en];ean;description[lang=en];catalogVersion(catalog(id),version)")
+            } else {
+                appendLine(";product$it;${"n".repeat(random.nextInt(1, 30))};${random.nextInt(100_000)};${"d".repeat(random.nextInt(1, 60))};productCatalog:Staged")
+            }
+        }
+    }
+
+    companion object {
+        private const val DEFAULT_LINES = 100_000
+        private const val BLOCK_LINES = 1_000
+        private const val RANGE_LINES = 20
+        private const val SEED = 20251019L
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.idea.plugin.hybris.impex.file.ImpexFileType
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexReparseableLineElementType
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiFileFactory
+import com.intellij.testFramework.PsiTestUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Types into a header and a value line in the middle of a large ImpEx file and commits the document after every keystroke,
+ * so each commit is served by the reparse of a single line via [ImpexReparseableLineElementType].
+ *
+ * `impex.typing.fullParse` is recorded only, it is the parse of the whole file which each keystroke would cost without
+ * the reparseable lines. The final tree must be equal to the tree of the full reparse.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.impexTypingLines`.
+ */
+class ImpexTypingPerformanceTest : BasePlatformTestCase() {
+
+    fun test_typing_largeImpex() {
+        val lines = System.getProperty("perf.impexTypingLines")?.toIntOrNull() ?: DEFAULT_LINES
+        val metrics = PerformanceMetrics()
+        val text = impex(lines)
+
+        metrics.record("impex.typing.fullParse") {
+            PsiFileFactory.getInstance(project).createFileFromText("perf.impex", ImpexFileType, text).node.lastChildNode
+        }
+        myFixture.configureByText(ImpexFileType, text)
+        myFixture.file.node.lastChildNode
+
+        val middleHeader = HEADER_EVERY * (lines / HEADER_EVERY / 2)
+        moveCaretAfter("INSERT_UPDATE Product;code[unique = true]; name$middleHeader[lang = en]")
+        metrics.measure("impex.typing.headerLine") { type("; description[lang = en]") }
+
+        moveCaretAfter("; product${middleHeader + HEADER_EVERY / 2}; Product")
+        metrics.measure("impex.typing.valueLine") { type(" with a longer name typed one character at a time") }
+
+        PsiTestUtil.checkFileStructure(myFixture.file)
+
+        metrics.assertNoRegressions()
+    }
+
+    private fun moveCaretAfter(anchor: String) {
+        val offset = myFixture.editor.document.text.indexOf(anchor)
+        assertTrue("Anchor '$anchor' is not found", offset >= 0)
+        myFixture.editor.caretModel.moveToOffset(offset + anchor.length)
+    }
+
+    private fun type(text: String) = text.forEach {
+        myFixture.type(it)
+        PsiDocumentManager.getInstance(project).commitAllDocuments()
+    }
+
+    private fun impex(lines: Int) = buildString {
+        repeat(lines) {
+            if (it % HEADER_EVERY == 0) appendLine("INSERT_UPDATE Product;code[unique = true]; name$it[lang = en]; catalogVersion(catalog(id), version)")
+            else appendLine("; product$it; Product $it; productCatalog:Staged")
+        }
+    }
+
+    companion object {
+        private const val DEFAULT_LINES = 100_000
+        private const val HEADER_EVERY = 1_000
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.idea.plugin.hybris.project.configurators.ConfiguratorFactory
+import com.intellij.idea.plugin.hybris.project.descriptors.DefaultHybrisProjectDescriptor
+import com.intellij.idea.plugin.hybris.project.tasks.ImportConfiguratorsScheduler
+import com.intellij.openapi.progress.EmptyProgressIndicator
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+import com.intellij.util.concurrency.AppExecutorUtil
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import kotlin.io.path.ExperimentalPathApi
+import kotlin.io.path.deleteRecursively
+
+/**
+ * Runs the Spring and Module Groups import configurators through the [ImportConfiguratorsScheduler] over a synthetic
+ * platform, once one step after another and once on the bounded pool used by the import, and compares wall-clock timings
+ * against the JSON baseline. Both runs start from freshly scanned descriptors and must end with the same descriptors state.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.importExtensions`.
+ */
+class ImportConfiguratorsSchedulerPerformanceTest : BasePlatformTestCase() {
+
+    private lateinit var platformRoot: Path
+
+    override fun setUp() {
+        platformRoot = Files.createTempDirectory("synthetic-platform")
+        super.setUp()
+    }
+
+    @OptIn(ExperimentalPathApi::class)
+    override fun tearDown() {
+        try {
+            super.tearDown()
+        } finally {
+            platformRoot.deleteRecursively()
+        }
+    }
+
+    fun test_scheduler_synthetic_platform() {
+        val extensions = System.getProperty("perf.importExtensions")?.toIntOrNull() ?: DEFAULT_EXTENSIONS
+        val metrics = PerformanceMetrics()
+        val platform = metrics.record("import.generate") {
+            SyntheticPlatformGenerator(SyntheticPlatformSpec.fromSystemProperties().copy(extensions = extensions)).generate(platformRoot)
+        }
+
+        val sequentialExecutor = Executors.newSingleThreadExecutor()
+        val sequential = try {
+            val descriptor = scan(platform)
+            metrics.measure("import.configurators.sequential") { configure(descriptor, sequentialExecutor) }
+            snapshot(descriptor)
+        } finally {
+            sequentialExecutor.shutdownNow()
+        }
+
+        val parallelExecutor = AppExecutorUtil.createBoundedApplicationPoolExecutor(
+            "SAP CX Import Configurators Test", minOf(MAX_PARALLEL_CONFIGURATORS, Runtime.getRuntime().availableProcessors())
+        )
+        val parallel = try {
+            val descriptor = scan(platform)
+            metrics.measure("import.configurators.parallel") { configure(descriptor, parallelExecutor) }
+            snapshot(descriptor)
+        } finally {
+            parallelExecutor.shutdownNow()
+        }
+
+        assertTrue("All synthetic extensions should be configured", sequential.keys.containsAll(platform.extensions))
+        assertTrue("Spring files should be collected", platform.extensions.all { sequential[it]!!.first.isNotEmpty() })
+        assertEquals(sequential, parallel)
+
+        metrics.assertNoRegressions()
+    }
+
+    private fun scan(platform: SyntheticPlatform) = DefaultHybrisProjectDescriptor().apply {
+        setRootDirectoryAndScanForModules(platform.root.toFile(), null, null)
+        setModulesChosenForImport(foundModules.toList())
+    }
+
+    private fun configure(descriptor: DefaultHybrisProjectDescriptor, executor: Executor) {
+        val indicator = EmptyProgressIndicator()
+        val configuratorFactory = ConfiguratorFactory.getInstance()
+        val allModules = descriptor.modulesChosenForImport
+        val allModuleDescriptors = allModules.associateBy { it.name }
+
+        ImportConfiguratorsScheduler(indicator, executor)
+            .step("Spring", listOf(MODULE_DESCRIPTORS), listOf(MODULE_DESCRIPTORS_SPRING)) {
+                configuratorFactory.getSpringConfigurator().process(indicator, descriptor, allModuleDescriptors)
+            }
+            .step("Module Groups", listOf(MODULE_DESCRIPTORS), listOf(MODULE_DESCRIPTORS_GROUPS)) {
+                configuratorFactory.getGroupModuleConfigurator().process(indicator, allModules)
+            }
+            .run()
+    }
+
+    private fun snapshot(descriptor: DefaultHybrisProjectDescriptor) = descriptor.modulesChosenForImport
+        .associate { it.name to (it.getSpringFiles().toSortedSet() to it.groupNames.toList()) }
+
+    companion object {
+        private const val DEFAULT_EXTENSIONS = 300
+        private const val MAX_PARALLEL_CONFIGURATORS = 4
+        private const val MODULE_DESCRIPTORS = "module descriptors"
+        private const val MODULE_DESCRIPTORS_SPRING = "module descriptors: Spring files"
+        private const val MODULE_DESCRIPTORS_GROUPS = "module descriptors: groups"
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.codeInsight.hints.BlockConstraints
+import com.intellij.codeInsight.hints.HorizontalConstraints
+import com.intellij.codeInsight.hints.InlayHintsSink
+import com.intellij.codeInsight.hints.NoSettings
+import com.intellij.codeInsight.hints.presentation.InlayPresentation
+import com.intellij.codeInsight.hints.presentation.RootInlayPresentation
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.idea.plugin.hybris.system.type.codeInsight.hints.ItemsXmlGeneratedClasses
+import com.intellij.idea.plugin.hybris.system.type.codeInsight.hints.ItemsXmlInlayHintsProvider
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
+import com.intellij.psi.SyntaxTraverser
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Runs the items.xml inlay hints collector over every element of a large items.xml, half of the item types have
+ * a generated model class in `platform/bootstrap`, the other half is shown as not yet generated.
+ *
+ * `ts.inlays.cold` is the first pass which fills [ItemsXmlGeneratedClasses], `ts.inlays.warm` is any following pass
+ * without Java modifications in between.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.inlayTypes`.
+ */
+class ItemsXmlInlayHintsPerformanceTest : BasePlatformTestCase() {
+
+    fun test_inlays_largeItemsXml() {
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+
+        val types = System.getProperty("perf.inlayTypes")?.toIntOrNull() ?: DEFAULT_TYPES
+        val metrics = PerformanceMetrics()
+
+        metrics.record("ts.inlays.configure") {
+            myFixture.addFileToProject("perf/resources/perf-items.xml", items(types))
+            (0 until types step GENERATED_EVERY).forEach {
+                myFixture.addFileToProject(
+                    "platform/bootstrap/gensrc/de/hybris/platform/perf/model/PerfType${it}Model.java",
+                    "package de.hybris.platform.perf.model; public class PerfType${it}Model {}"
+                )
+            }
+        }
+        metrics.record("ts.inlays.meta") {
+            val service = TSMetaModelStateService.getInstance(project)
+            service.init()
+            PlatformTestUtil.waitWithEventsDispatching("TS meta model was not initialized", { service.initialized() }, TIMEOUT_SECONDS)
+        }
+
+        myFixture.configureFromTempProjectFile("perf/resources/perf-items.xml")
+
+        assertEquals(types, metrics.measure("ts.inlays.cold") { collect() })
+        assertEquals(types, metrics.measure("ts.inlays.warm") { collect() })
+
+        with(ItemsXmlGeneratedClasses.getInstance(project)) {
+            assertEquals(1, findItemClasses("PerfType0").size)
+            assertEmpty(findItemClasses("PerfType1"))
+        }
+
+        metrics.assertNoRegressions()
+    }
+
+    private fun collect(): Int {
+        val sink = CountingSink()
+        val collector = ItemsXmlInlayHintsProvider().getCollectorFor(myFixture.file, myFixture.editor, NoSettings(), sink)!!
+
+        SyntaxTraverser.psiTraverser(myFixture.file).forEach { collector.collect(it, myFixture.editor, sink) }
+
+        return sink.inlays
+    }
+
+    private fun items(types: Int) = buildString {
+        appendLine("""<?xml version="1.0" encoding="ISO-8859-1"?>""")
+        appendLine("""<items xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="items.xsd">""")
+        appendLine("""    <itemtypes>""")
+        repeat(types) {
+            appendLine("""        <itemtype code="PerfType$it" extends="GenericItem" autocreate="true" generate="true">""")
+            appendLine("""            <deployment table="perftype$it" typecode="${TYPECODE_OFFSET + it}"/>""")
+            appendLine("""            <attributes>""")
+            appendLine("""                <attribute qualifier="name" type="java.lang.String"><persistence type="property"/></attribute>""")
+            appendLine("""            </attributes>""")
+            appendLine("""        </itemtype>""")
+        }
+        appendLine("""    </itemtypes>""")
+        appendLine("""</items>""")
+    }
+
+    private class CountingSink : InlayHintsSink {
+        var inlays = 0
+
+        override fun addInlineElement(offset: Int, relatesToPrecedingText: Boolean, presentation: InlayPresentation, placeAtTheEndOfLine: Boolean) {
+            inlays++
+        }
+
+        override fun addInlineElement(offset: Int, presentation: RootInlayPresentation<*>, constraints: HorizontalConstraints?) {
+            inlays++
+        }
+
+        override fun addBlockElement(offset: Int, relatesToPrecedingText: Boolean, showAbove: Boolean, priority: Int, presentation: InlayPresentation) {
+            inlays++
+        }
+
+        override fun addBlockElement(logicalLine: Int, showAbove: Boolean, presentation: RootInlayPresentation<*>, constraints: BlockConstraints?) {
+            inlays++
+        }
+    }
+
+    companion object {
+        private const val DEFAULT_TYPES = 3_000
+        private const val GENERATED_EVERY = 2
+        private const val TYPECODE_OFFSET = 11_000
+        private const val TIMEOUT_SECONDS = 600
+    }
+}
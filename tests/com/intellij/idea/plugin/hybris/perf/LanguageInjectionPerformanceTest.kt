@@ -0,0 +1,73 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexString
+import com.intellij.idea.plugin.hybris.psi.injector.LanguageInjectionUtil
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.idea.plugin.hybris.system.type.ScriptType
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Highlights an ImpEx file with many Script rows, each `content` value is an injection host resolved via [LanguageInjectionUtil].
+ *
+ * `impex.scripts.scriptType` resolves the script type of every content value, as injectors do on each highlighting pass,
+ * `impex.scripts.highlighting` measures the whole highlighting pass including the injected fragments.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.impexScripts`.
+ */
+class LanguageInjectionPerformanceTest : BasePlatformTestCase() {
+
+    fun test_injection_largeScriptImpex() {
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+
+        val scripts = System.getProperty("perf.impexScripts")?.toIntOrNull() ?: DEFAULT_SCRIPTS
+        val metrics = PerformanceMetrics()
+
+        metrics.record("impex.scripts.configure") { myFixture.configureByText("perf-scripts.impex", impex(scripts)) }
+
+        val contents = PsiTreeUtil.collectElementsOfType(myFixture.file, ImpexString::class.java)
+        assertEquals(scripts, contents.size)
+
+        val scriptTypes = metrics.measure("impex.scripts.scriptType") {
+            contents.groupingBy { LanguageInjectionUtil.getScriptType(it) }.eachCount()
+        }
+        assertEquals(mapOf(ScriptType.GROOVY to scripts - scripts / 2, ScriptType.JAVASCRIPT to scripts / 2), scriptTypes)
+
+        metrics.measure("impex.scripts.highlighting") { myFixture.doHighlighting() }
+
+        metrics.assertNoRegressions()
+    }
+
+    /**
+     * The `scriptType` column uses the `code,itemtype(code)` form, so every value has to be split by the cached `code` index.
+     */
+    private fun impex(scripts: Int) = buildString {
+        appendLine("INSERT_UPDATE Script; code[unique = true]; content; scriptType(code, itemtype(code))")
+        (0 until scripts).forEach {
+            if (it % 2 == 0) appendLine("""; groovyScript$it; "println 'row $it'"; GROOVY:ScriptType""")
+            else appendLine("""; javascriptScript$it; "print('row $it')"; JAVASCRIPT:ScriptType""")
+        }
+    }
+
+    companion object {
+        private const val DEFAULT_SCRIPTS = 20_000
+    }
+}
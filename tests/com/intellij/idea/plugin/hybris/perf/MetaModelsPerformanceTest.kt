@@ -0,0 +1,100 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.idea.plugin.hybris.project.descriptors.DefaultHybrisProjectDescriptor
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.idea.plugin.hybris.system.bean.meta.BSMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.meta.MetaModelStateService
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.ExperimentalPathApi
+import kotlin.io.path.deleteRecursively
+
+/**
+ * Imports a synthetic platform through the project descriptors pipeline and builds the TS, BS and Cng meta models,
+ * timings are compared against the JSON baseline and the test fails when any metric regresses beyond the threshold.
+ * Generation and copying of the synthetic platform are recorded only, they measure the disk rather than the plugin.
+ *
+ * Executed only by the `perfTest` Gradle task, see `perf.*` Gradle properties for the available knobs.
+ */
+class MetaModelsPerformanceTest : BasePlatformTestCase() {
+
+    private lateinit var platformRoot: Path
+
+    override fun getTestDataPath(): String = platformRoot.toString()
+
+    override fun setUp() {
+        platformRoot = Files.createTempDirectory("synthetic-platform")
+        super.setUp()
+    }
+
+    @OptIn(ExperimentalPathApi::class)
+    override fun tearDown() {
+        try {
+            super.tearDown()
+        } finally {
+            platformRoot.deleteRecursively()
+        }
+    }
+
+    fun test_metaModels_synthetic_platform() {
+        val spec = SyntheticPlatformSpec.fromSystemProperties()
+        val metrics = PerformanceMetrics()
+
+        // fixture setup is mostly disk I/O, it is recorded but not compared against the baseline
+        val platform = metrics.record("generate") { SyntheticPlatformGenerator(spec).generate(platformRoot) }
+
+        val descriptor = DefaultHybrisProjectDescriptor()
+        metrics.measure("descriptors.scan") {
+            descriptor.setRootDirectoryAndScanForModules(platform.root.toFile(), null, null)
+        }
+        assertTrue(
+            "All synthetic extensions should be found, found: ${descriptor.foundModules.map { it.name }}",
+            descriptor.foundModules.map { it.name }.containsAll(platform.extensions)
+        )
+
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+
+        metrics.record("project.copy") {
+            platform.extensions.forEach { myFixture.copyDirectoryToProject("hybris/bin/custom/$it/resources", "$it/resources") }
+        }
+
+        metrics.measure("meta.ts") { build(TSMetaModelStateService.getInstance(project)) }
+        metrics.measure("meta.bs") { build(BSMetaModelStateService.getInstance(project)) }
+        metrics.measure("meta.cng") { build(CngMetaModelStateService.getInstance(project)) }
+
+        assertNotNull(TSMetaModelStateService.state(project).getMetaItem("Ext0Type0"))
+
+        metrics.assertNoRegressions()
+    }
+
+    private fun build(service: MetaModelStateService<*, *, *>) {
+        service.init()
+        PlatformTestUtil.waitWithEventsDispatching("${service.javaClass.simpleName} was not initialized", { service.initialized() }, TIMEOUT_SECONDS)
+    }
+
+    companion object {
+        private const val TIMEOUT_SECONDS = 600
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.idea.plugin.hybris.vfs.listeners.MetaSystemsAsyncFileListener
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Classifies a large batch of VFS events, mostly unrelated to the meta systems, as a branch switch or a Maven/Gradle build would produce.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.vfsEvents`.
+ */
+class MetaSystemsAsyncFileListenerPerformanceTest : BasePlatformTestCase() {
+
+    fun test_prepareChange_largeBatch() {
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+
+        val size = System.getProperty("perf.vfsEvents")?.toIntOrNull() ?: DEFAULT_EVENTS
+        val metrics = PerformanceMetrics()
+        val listener = MetaSystemsAsyncFileListener()
+
+        val events = metrics.record("vfs.listener.configure") {
+            val files = (0 until FILES).map { index ->
+                val fileName = when (index % META_FILE_EVERY) {
+                    0 -> "ext$index-items.xml"
+                    1 -> "ext$index-beans.xml"
+                    else -> "Class$index.java"
+                }
+                myFixture.tempDirFixture.createFile("ext$index/$fileName", "")
+            }
+
+            (0 until size).map<Int, VFileEvent> { index ->
+                val file = files[index % FILES]
+                VFileContentChangeEvent(null, file, file.modificationStamp, file.modificationStamp + 1)
+            }
+        }
+
+        val warmUp = metrics.measure("vfs.listener.prepareChange.cold") { listener.prepareChange(events) }
+        val applier = metrics.measure("vfs.listener.prepareChange.warm") { listener.prepareChange(events) }
+
+        assertNotNull(warmUp)
+        assertNotNull(applier)
+
+        metrics.assertNoRegressions()
+    }
+
+    companion object {
+        private const val DEFAULT_EVENTS = 100_000
+        private const val FILES = 1_000
+        private const val META_FILE_EVERY = 50
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.google.gson.GsonBuilder
+import com.google.gson.reflect.TypeToken
+import java.nio.file.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.exists
+import kotlin.io.path.readText
+import kotlin.io.path.writeText
+
+data class PerformanceRegression(val metric: String, val baselineMs: Long, val currentMs: Long) {
+
+    val ratio
+        get() = currentMs.toDouble() / baselineMs
+
+    override fun toString() = "$metric: ${currentMs}ms vs ${baselineMs}ms baseline (+${"%.0f".format((ratio - 1) * 100)}%)"
+}
+
+/**
+ * JSON file with timings in milliseconds per metric name.
+ *
+ * Metrics below [minMeasurableMs] in the baseline are never reported, their deviation is mostly noise.
+ */
+class PerformanceBaseline(val metrics: Map<String, Long>) {
+
+    fun compare(current: Map<String, Long>, threshold: Double, minMeasurableMs: Long = 50): List<PerformanceRegression> = current
+        .mapNotNull { (metric, currentMs) ->
+            val baselineMs = metrics[metric]
+                ?.takeIf { it >= minMeasurableMs }
+                ?: return@mapNotNull null
+
+            if (currentMs > baselineMs * (1 + threshold)) PerformanceRegression(metric, baselineMs, currentMs)
+            else null
+        }
+
+    fun write(file: Path) {
+        file.parent?.createDirectories()
+        file.writeText(gson.toJson(metrics.toSortedMap()))
+    }
+
+    companion object {
+        private val gson = GsonBuilder().setPrettyPrinting().create()
+        private val type = object : TypeToken<Map<String, Long>>() {}.type
+
+        fun load(file: Path): PerformanceBaseline? = file
+            .takeIf { it.exists() }
+            ?.let { gson.fromJson<Map<String, Long>>(it.readText(), type) }
+            ?.let { PerformanceBaseline(it) }
+    }
+}
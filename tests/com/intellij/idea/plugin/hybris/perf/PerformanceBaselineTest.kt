@@ -0,0 +1,62 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import java.nio.file.Files
+import kotlin.io.path.deleteIfExists
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+class PerformanceBaselineTest {
+
+    @Test
+    fun test_compare_regressionBeyondThreshold() {
+        val baseline = PerformanceBaseline(mapOf("meta.ts" to 1000L, "meta.bs" to 1000L))
+
+        val regressions = baseline.compare(mapOf("meta.ts" to 1300L, "meta.bs" to 1200L), 0.25)
+
+        assertEquals(listOf("meta.ts"), regressions.map { it.metric })
+    }
+
+    @Test
+    fun test_compare_unknownAndTinyMetricsIgnored() {
+        val baseline = PerformanceBaseline(mapOf("tiny" to 10L))
+
+        assertTrue(baseline.compare(mapOf("tiny" to 100L, "new" to 10_000L), 0.25).isEmpty())
+    }
+
+    @Test
+    fun test_load_roundTrip() {
+        val file = Files.createTempFile("perf-baseline", ".json")
+        try {
+            PerformanceBaseline(mapOf("b" to 2L, "a" to 1L)).write(file)
+
+            assertEquals(mapOf("a" to 1L, "b" to 2L), PerformanceBaseline.load(file)?.metrics)
+        } finally {
+            file.deleteIfExists()
+        }
+    }
+
+    @Test
+    fun test_load_missingFile() {
+        assertNull(PerformanceBaseline.load(Files.createTempDirectory("perf").resolve("missing.json")))
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import java.nio.file.Path
+import java.util.concurrent.TimeUnit
+import kotlin.test.assertTrue
+
+/**
+ * Timings of a single performance test, checked against the JSON baseline shared by all performance tests.
+ *
+ * Only [measure]d metrics are compared against the baseline. [record]ed ones, e.g. fixture setup dominated by disk I/O,
+ * are written to the results only. Metrics of other performance tests are kept in both files.
+ */
+class PerformanceMetrics(
+    private val resultsFile: Path = Path.of(System.getProperty("perf.results", "build/reports/perf/results.json")),
+    private val baselineFile: Path = Path.of(System.getProperty("perf.baseline", "perf-baseline.json")),
+    private val threshold: Double = System.getProperty("perf.threshold")?.toDoubleOrNull() ?: DEFAULT_THRESHOLD,
+    private val updateBaseline: Boolean = System.getProperty("perf.updateBaseline").toBoolean(),
+) {
+
+    private val measured = linkedMapOf<String, Long>()
+    private val recorded = linkedMapOf<String, Long>()
+
+    val metrics: Map<String, Long>
+        get() = recorded + measured
+
+    fun <T> measure(metric: String, block: () -> T): T = time(measured, metric, block)
+
+    fun <T> record(metric: String, block: () -> T): T = time(recorded, metric, block)
+
+    fun assertNoRegressions() {
+        merge(resultsFile, metrics)
+
+        val baseline = PerformanceBaseline.load(baselineFile)
+        if (baseline == null || updateBaseline) {
+            merge(baselineFile, measured)
+            return
+        }
+
+        // first run of a new benchmark establishes its baseline
+        measured
+            .filterKeys { it !in baseline.metrics }
+            .takeIf { it.isNotEmpty() }
+            ?.let { merge(baselineFile, it) }
+
+        val regressions = baseline.compare(measured, threshold)
+
+        assertTrue(regressions.isEmpty(), "Performance regressions detected:\n${regressions.joinToString("\n")}")
+    }
+
+    private fun <T> time(metrics: MutableMap<String, Long>, metric: String, block: () -> T): T {
+        val start = System.nanoTime()
+        val result = block()
+        metrics[metric] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        return result
+    }
+
+    private fun merge(file: Path, metrics: Map<String, Long>) = PerformanceBaseline(
+        (PerformanceBaseline.load(file)?.metrics ?: emptyMap()) + metrics
+    ).write(file)
+
+    companion object {
+        private const val DEFAULT_THRESHOLD = 0.25
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.ExperimentalPathApi
+import kotlin.io.path.deleteRecursively
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+
+@OptIn(ExperimentalPathApi::class)
+class PerformanceMetricsTest {
+
+    @Test
+    fun test_assertNoRegressions_recordedMetricsNotCompared() {
+        withRoot { root ->
+            PerformanceBaseline(mapOf("setup" to 100L, "build" to 100L)).write(root.resolve("baseline.json"))
+
+            val metrics = metrics(root)
+            metrics.record("setup") { Thread.sleep(200) }
+            metrics.measure("build") { }
+
+            metrics.assertNoRegressions()
+
+            assertEquals(setOf("setup", "build"), PerformanceBaseline.load(root.resolve("results.json"))?.metrics?.keys)
+        }
+    }
+
+    @Test
+    fun test_assertNoRegressions_measuredMetricsCompared() {
+        withRoot { root ->
+            PerformanceBaseline(mapOf("build" to 50L)).write(root.resolve("baseline.json"))
+
+            val metrics = metrics(root)
+            metrics.measure("build") { Thread.sleep(200) }
+
+            assertFailsWith<AssertionError> { metrics.assertNoRegressions() }
+        }
+    }
+
+    @Test
+    fun test_assertNoRegressions_baselineOfOtherTestsKept() {
+        withRoot { root ->
+            PerformanceBaseline(mapOf("other" to 1000L)).write(root.resolve("baseline.json"))
+
+            val metrics = metrics(root)
+            metrics.record("setup") { }
+            metrics.measure("build") { }
+            metrics.assertNoRegressions()
+
+            assertEquals(setOf("other", "build"), PerformanceBaseline.load(root.resolve("baseline.json"))?.metrics?.keys)
+        }
+    }
+
+    private fun metrics(root: Path) = PerformanceMetrics(
+        resultsFile = root.resolve("results.json"),
+        baselineFile = root.resolve("baseline.json"),
+        threshold = 0.25,
+        updateBaseline = false,
+    )
+
+    private fun withRoot(block: (Path) -> Unit) {
+        val root = Files.createTempDirectory("perf")
+        try {
+            block(root)
+        } finally {
+            root.deleteRecursively()
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.spring.SpringHelper
+import com.intellij.idea.plugin.hybris.system.spring.SimpleSpringService
+import com.intellij.openapi.components.service
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Resolves bean classes of dynamic attribute handlers, once per getter, as the dynamic attribute inlay hints do,
+ * through the [SimpleSpringService] fallback.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.springGetters`.
+ */
+class SpringHelperPerformanceTest : BasePlatformTestCase() {
+
+    fun test_resolveBeanClass_dynamicAttributeGetters() {
+        val getters = System.getProperty("perf.springGetters")?.toIntOrNull() ?: DEFAULT_GETTERS
+        val metrics = PerformanceMetrics()
+        val plainSpring = project.service<SimpleSpringService>()
+        val beanIds = (0 until getters).map { "perfAttributeHandler$it" }
+
+        val springXml = metrics.record("spring.beanClass.configure") {
+            myFixture.addClass("package perf; public class PerfAttributeHandler {}")
+            myFixture.addFileToProject("resources/perf-spring.xml", springXml(beanIds))
+        }
+        metrics.record("spring.beanClass.collect") {
+            plainSpring.initCache()
+            PlatformTestUtil.waitWithEventsDispatching("Spring beans were not collected", { plainSpring.isCacheUpToDate() }, TIMEOUT_SECONDS)
+        }
+
+        val cold = metrics.measure("spring.beanClass.cold") {
+            beanIds.count { SpringHelper.resolveBeanClass(springXml, it, plainSpring) != null }
+        }
+        val warm = metrics.measure("spring.beanClass.warm") {
+            repeat(WARM_ROUNDS - 1) { beanIds.forEach { SpringHelper.resolveBeanClass(springXml, it, plainSpring) } }
+            beanIds.count { SpringHelper.resolveBeanClass(springXml, it, plainSpring) != null }
+        }
+
+        assertEquals(getters, cold)
+        assertEquals(getters, warm)
+
+        metrics.assertNoRegressions()
+    }
+
+    private fun springXml(beanIds: List<String>) = buildString {
+        appendLine("""<beans xmlns="${HybrisConstants.SPRING_NAMESPACE}">""")
+        beanIds.forEach { appendLine("""    <bean id="$it" class="perf.PerfAttributeHandler"/>""") }
+        appendLine("""</beans>""")
+    }
+
+    companion object {
+        private const val DEFAULT_GETTERS = 2_000
+        private const val WARM_ROUNDS = 10
+        private const val TIMEOUT_SECONDS = 60
+    }
+}
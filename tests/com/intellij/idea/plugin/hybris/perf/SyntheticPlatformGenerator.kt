@@ -0,0 +1,277 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import java.nio.file.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.writeText
+import kotlin.random.Random
+
+data class SyntheticPlatformSpec(
+    val extensions: Int = 20,
+    val dependenciesPerExtension: Int = 3,
+    val itemTypesPerExtension: Int = 30,
+    val attributesPerItemType: Int = 10,
+    val enumTypesPerExtension: Int = 5,
+    val relationsPerExtension: Int = 5,
+    val beansPerExtension: Int = 30,
+    val propertiesPerBean: Int = 8,
+    val springBeansPerExtension: Int = 40,
+    val backofficeContextsPerExtension: Int = 10,
+    val impexLinesPerExtension: Int = 500,
+    val seed: Long = 42,
+) {
+
+    companion object {
+
+        /**
+         * Reads sizes from the `perf.<property>` system properties, defaults are used for missing ones.
+         */
+        fun fromSystemProperties() = with(SyntheticPlatformSpec()) {
+            SyntheticPlatformSpec(
+                extensions = property("extensions", extensions),
+                dependenciesPerExtension = property("dependenciesPerExtension", dependenciesPerExtension),
+                itemTypesPerExtension = property("itemTypesPerExtension", itemTypesPerExtension),
+                attributesPerItemType = property("attributesPerItemType", attributesPerItemType),
+                enumTypesPerExtension = property("enumTypesPerExtension", enumTypesPerExtension),
+                relationsPerExtension = property("relationsPerExtension", relationsPerExtension),
+                beansPerExtension = property("beansPerExtension", beansPerExtension),
+                propertiesPerBean = property("propertiesPerBean", propertiesPerBean),
+                springBeansPerExtension = property("springBeansPerExtension", springBeansPerExtension),
+                backofficeContextsPerExtension = property("backofficeContextsPerExtension", backofficeContextsPerExtension),
+                impexLinesPerExtension = property("impexLinesPerExtension", impexLinesPerExtension),
+                seed = System.getProperty("perf.seed")?.toLongOrNull() ?: seed,
+            )
+        }
+
+        private fun property(name: String, default: Int) = System.getProperty("perf.$name")?.toIntOrNull() ?: default
+    }
+}
+
+data class SyntheticPlatform(val root: Path, val extensions: List<String>, val files: List<Path>) {
+
+    val hybrisDirectory: Path
+        get() = root.resolve("hybris")
+}
+
+/**
+ * Generates a synthetic SAP Commerce installation: platform with the core extension, config with `localextensions.xml` and
+ * custom extensions, each with own `extensioninfo.xml`, items.xml, beans.xml, Spring XML, backoffice config and ImpEx file.
+ *
+ * Same [SyntheticPlatformSpec] always produces the same content, all randomness comes from its seed.
+ */
+class SyntheticPlatformGenerator(private val spec: SyntheticPlatformSpec) {
+
+    private val random = Random(spec.seed)
+    private val files = mutableListOf<Path>()
+    private var typeCode = 20_000
+
+    fun generate(root: Path): SyntheticPlatform {
+        val hybris = root.resolve("hybris")
+        val extensions = (0 until spec.extensions).map { "ext$it" }
+
+        write(hybris.resolve("bin/platform/extensions.xml"), platformExtensionsXml())
+        write(hybris.resolve("bin/platform/ext/core/extensioninfo.xml"), extensionInfoXml("core", emptyList()))
+        write(hybris.resolve("config/localextensions.xml"), localExtensionsXml(extensions))
+        write(hybris.resolve("config/local.properties"), "# generated\n")
+
+        extensions.forEachIndexed { index, extension ->
+            val requires = extensions.subList(0, index)
+                .shuffled(random)
+                .take(spec.dependenciesPerExtension)
+            val directory = hybris.resolve("bin/custom/$extension")
+            val itemTypes = (0 until spec.itemTypesPerExtension).map { typeName(extension, it) }
+
+            write(directory.resolve("extensioninfo.xml"), extensionInfoXml(extension, requires))
+            write(directory.resolve("resources/$extension-items.xml"), itemsXml(extension, itemTypes, requires))
+            write(directory.resolve("resources/$extension-beans.xml"), beansXml(extension))
+            write(directory.resolve("resources/$extension-spring.xml"), springXml(extension))
+            write(directory.resolve("resources/$extension-backoffice-config.xml"), backofficeConfigXml(itemTypes))
+            write(directory.resolve("resources/impex/essentialdata-$extension.impex"), impex(itemTypes))
+        }
+
+        return SyntheticPlatform(root, extensions, files.toList())
+    }
+
+    private fun write(file: Path, content: String) {
+        file.parent.createDirectories()
+        file.writeText(content)
+        files.add(file)
+    }
+
+    private fun platformExtensionsXml() = """
+        |<?xml version="1.0" encoding="UTF-8"?>
+        |<hybrisconfig xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="resources/schemas/extensions.xsd">
+        |    <extensions>
+        |        <path dir="${'$'}{HYBRIS_BIN_DIR}/platform/ext" autoload="true"/>
+        |    </extensions>
+        |</hybrisconfig>
+        |""".trimMargin()
+
+    private fun localExtensionsXml(extensions: List<String>) = buildString {
+        appendLine("""<?xml version="1.0" encoding="UTF-8"?>""")
+        appendLine("""<hybrisconfig xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="resources/schemas/extensions.xsd">""")
+        appendLine("""    <extensions>""")
+        appendLine("""        <path dir="${'$'}{HYBRIS_BIN_DIR}" autoload="false"/>""")
+        extensions.forEach { appendLine("""        <extension name="$it"/>""") }
+        appendLine("""    </extensions>""")
+        appendLine("""</hybrisconfig>""")
+    }
+
+    private fun extensionInfoXml(extension: String, requires: List<String>) = buildString {
+        appendLine("""<?xml version="1.0" encoding="UTF-8"?>""")
+        appendLine("""<extensioninfo xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="extensioninfo.xsd">""")
+        appendLine("""    <extension abstractclassprefix="Generated" classprefix="${className(extension)}" name="$extension" jaloLogicFree="true">""")
+        requires.forEach { appendLine("""        <requires-extension name="$it"/>""") }
+        appendLine("""        <coremodule generated="true" manager="de.hybris.platform.jalo.extension.GenericManager" packageroot="${packageName(extension)}"/>""")
+        appendLine("""    </extension>""")
+        appendLine("""</extensioninfo>""")
+    }
+
+    private fun itemsXml(extension: String, itemTypes: List<String>, requires: List<String>) = buildString {
+        val parentTypes = requires.flatMap { required -> (0 until spec.itemTypesPerExtension).map { typeName(required, it) } }
+
+        appendLine("""<?xml version="1.0" encoding="ISO-8859-1"?>""")
+        appendLine("""<items xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="items.xsd">""")
+
+        appendLine("""    <enumtypes>""")
+        repeat(spec.enumTypesPerExtension) { index ->
+            appendLine("""        <enumtype code="${className(extension)}Enum$index" autocreate="true" generate="true" dynamic="${random.nextBoolean()}">""")
+            repeat(1 + random.nextInt(5)) { appendLine("""            <value code="VALUE$it"/>""") }
+            appendLine("""        </enumtype>""")
+        }
+        appendLine("""    </enumtypes>""")
+
+        appendLine("""    <relations>""")
+        repeat(spec.relationsPerExtension.coerceAtMost(itemTypes.size)) { index ->
+            val source = itemTypes.random(random)
+            val target = itemTypes.random(random)
+            appendLine("""        <relation code="${className(extension)}Relation$index" localized="false">""")
+            appendLine("""            <deployment table="${extension}rel$index" typecode="${typeCode++}"/>""")
+            appendLine("""            <sourceElement type="$source" qualifier="relSources$index" cardinality="many"/>""")
+            appendLine("""            <targetElement type="$target" qualifier="relTargets$index" cardinality="many" collectiontype="set"/>""")
+            appendLine("""        </relation>""")
+        }
+        appendLine("""    </relations>""")
+
+        appendLine("""    <itemtypes>""")
+        itemTypes.forEachIndexed { index, itemType ->
+            val extends = (parentTypes + itemTypes.subList(0, index))
+                .takeIf { it.isNotEmpty() && random.nextInt(3) > 0 }
+                ?.random(random)
+                ?: "GenericItem"
+
+            appendLine("""        <itemtype code="$itemType" extends="$extends" autocreate="true" generate="true">""")
+            appendLine("""            <deployment table="${itemType.lowercase()}" typecode="${typeCode++}"/>""")
+            appendLine("""            <attributes>""")
+            repeat(spec.attributesPerItemType) {
+                appendLine("""                <attribute qualifier="${attributeName(itemType, it)}" type="${ATTRIBUTE_TYPES.random(random)}">""")
+                appendLine("""                    <persistence type="property"/>""")
+                appendLine("""                    <modifiers optional="${random.nextBoolean()}"/>""")
+                appendLine("""                </attribute>""")
+            }
+            appendLine("""            </attributes>""")
+            appendLine("""        </itemtype>""")
+        }
+        appendLine("""    </itemtypes>""")
+        appendLine("""</items>""")
+    }
+
+    private fun beansXml(extension: String) = buildString {
+        val packageName = packageName(extension)
+
+        appendLine("""<?xml version="1.0" encoding="ISO-8859-1"?>""")
+        appendLine("""<beans xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="beans.xsd">""")
+        repeat(spec.beansPerExtension) { index ->
+            val extends = if (index > 0 && random.nextBoolean()) """ extends="$packageName.data.${className(extension)}Bean${random.nextInt(index)}Data"""" else ""
+
+            appendLine("""    <bean class="$packageName.data.${className(extension)}Bean${index}Data"$extends>""")
+            repeat(spec.propertiesPerBean) { appendLine("""        <property name="property$it" type="${BEAN_PROPERTY_TYPES.random(random)}"/>""") }
+            appendLine("""    </bean>""")
+        }
+        appendLine("""    <enum class="$packageName.enums.${className(extension)}Status">""")
+        repeat(3) { appendLine("""        <value>STATUS$it</value>""") }
+        appendLine("""    </enum>""")
+        appendLine("""</beans>""")
+    }
+
+    private fun springXml(extension: String) = buildString {
+        val packageName = packageName(extension)
+
+        appendLine("""<?xml version="1.0" encoding="UTF-8"?>""")
+        appendLine("""<beans xmlns="http://www.springframework.org/schema/beans"""")
+        appendLine("""       xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"""")
+        appendLine("""       xsi:schemaLocation="http://www.springframework.org/schema/beans http://www.springframework.org/schema/beans/spring-beans.xsd">""")
+        repeat(spec.springBeansPerExtension) { index ->
+            appendLine("""    <bean id="${extension}Service$index" class="$packageName.service.${className(extension)}Service$index">""")
+            if (index > 0) appendLine("""        <property name="delegate" ref="${extension}Service${random.nextInt(index)}"/>""")
+            appendLine("""    </bean>""")
+            appendLine("""    <alias name="${extension}Service$index" alias="default${className(extension)}Service$index"/>""")
+        }
+        appendLine("""</beans>""")
+    }
+
+    private fun backofficeConfigXml(itemTypes: List<String>) = buildString {
+        appendLine("""<?xml version="1.0" encoding="UTF-8"?>""")
+        appendLine("""<config xmlns="http://www.hybris.com/cockpit/config"""")
+        appendLine("""        xmlns:list-view="http://www.hybris.com/cockpitng/component/listView"""")
+        appendLine("""        xmlns:editorArea="http://www.hybris.com/cockpitng/component/editorArea">""")
+        repeat(spec.backofficeContextsPerExtension.coerceAtMost(itemTypes.size)) { index ->
+            val itemType = itemTypes[index]
+
+            appendLine("""    <context type="$itemType" component="listview">""")
+            appendLine("""        <list-view:list-view>""")
+            repeat(spec.attributesPerItemType.coerceAtMost(3)) { appendLine("""            <list-view:column qualifier="${attributeName(itemType, it)}"/>""") }
+            appendLine("""        </list-view:list-view>""")
+            appendLine("""    </context>""")
+            appendLine("""    <context type="$itemType" component="editor-area">""")
+            appendLine("""        <editorArea:editorArea>""")
+            appendLine("""            <editorArea:tab name="tab.$itemType">""")
+            appendLine("""                <editorArea:section name="section.$itemType">""")
+            repeat(spec.attributesPerItemType) { appendLine("""                    <editorArea:attribute qualifier="${attributeName(itemType, it)}"/>""") }
+            appendLine("""                </editorArea:section>""")
+            appendLine("""            </editorArea:tab>""")
+            appendLine("""        </editorArea:editorArea>""")
+            appendLine("""    </context>""")
+        }
+        appendLine("""</config>""")
+    }
+
+    private fun impex(itemTypes: List<String>) = buildString {
+        val itemType = itemTypes.first()
+        val columns = (0 until spec.attributesPerItemType.coerceAtMost(8)).map { attributeName(itemType, it) }
+
+        appendLine("\$lang = en")
+        appendLine()
+        appendLine("INSERT_UPDATE $itemType; ${columns.first()}[unique = true]${columns.drop(1).joinToString("") { "; $it" }}")
+        repeat(spec.impexLinesPerExtension) { line ->
+            appendLine(columns.indices.joinToString("") { "; value${line}_${random.nextInt(1_000)}" })
+        }
+    }
+
+    private fun className(extension: String) = extension.replaceFirstChar { it.uppercase() }
+    private fun packageName(extension: String) = "com.example.$extension"
+    private fun typeName(extension: String, index: Int) = "${className(extension)}Type$index"
+    private fun attributeName(itemType: String, index: Int) = "${itemType.replaceFirstChar { it.lowercase() }}Attribute$index"
+
+    companion object {
+        private val ATTRIBUTE_TYPES = listOf("java.lang.String", "java.lang.Integer", "java.lang.Boolean", "java.util.Date", "localized:java.lang.String")
+        private val BEAN_PROPERTY_TYPES = listOf("String", "Integer", "Boolean", "java.util.Date", "java.util.List<String>")
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.ExperimentalPathApi
+import kotlin.io.path.deleteRecursively
+import kotlin.io.path.readText
+import kotlin.io.path.relativeTo
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNotEquals
+import kotlin.test.assertTrue
+
+@OptIn(ExperimentalPathApi::class)
+class SyntheticPlatformGeneratorTest {
+
+    private val spec = SyntheticPlatformSpec(
+        extensions = 4,
+        itemTypesPerExtension = 5,
+        attributesPerItemType = 3,
+        beansPerExtension = 3,
+        springBeansPerExtension = 3,
+        backofficeContextsPerExtension = 2,
+        impexLinesPerExtension = 10,
+    )
+
+    @Test
+    fun test_generate_layout() {
+        withRoot { root ->
+            val platform = SyntheticPlatformGenerator(spec).generate(root)
+            val files = platform.files.map { it.relativeTo(root).toString().replace('\\', '/') }
+
+            assertEquals(listOf("ext0", "ext1", "ext2", "ext3"), platform.extensions)
+            assertTrue(files.contains("hybris/bin/platform/extensions.xml"))
+            assertTrue(files.contains("hybris/bin/platform/ext/core/extensioninfo.xml"))
+            assertTrue(files.contains("hybris/config/localextensions.xml"))
+            assertTrue(files.contains("hybris/bin/custom/ext3/resources/ext3-items.xml"))
+            assertTrue(files.contains("hybris/bin/custom/ext3/resources/impex/essentialdata-ext3.impex"))
+            assertEquals(4 + 6 * spec.extensions, files.size)
+        }
+    }
+
+    @Test
+    fun test_generate_dependenciesAreAcyclic() {
+        withRoot { root ->
+            SyntheticPlatformGenerator(spec).generate(root)
+
+            val extensionInfo = root.resolve("hybris/bin/custom/ext0/extensioninfo.xml").readText()
+
+            assertTrue(!extensionInfo.contains("requires-extension"))
+        }
+    }
+
+    @Test
+    fun test_generate_sameSeedSameContent() {
+        withRoot { first ->
+            withRoot { second ->
+                val firstFiles = SyntheticPlatformGenerator(spec).generate(first).files
+                val secondFiles = SyntheticPlatformGenerator(spec).generate(second).files
+
+                assertEquals(firstFiles.map { it.relativeTo(first) }, secondFiles.map { it.relativeTo(second) })
+                firstFiles.zip(secondFiles).forEach { (a, b) -> assertEquals(a.readText(), b.readText()) }
+            }
+        }
+    }
+
+    @Test
+    fun test_generate_otherSeedOtherContent() {
+        withRoot { first ->
+            withRoot { second ->
+                SyntheticPlatformGenerator(spec).generate(first)
+                SyntheticPlatformGenerator(spec.copy(seed = 7)).generate(second)
+
+                val items = "hybris/bin/custom/ext3/resources/ext3-items.xml"
+
+                assertNotEquals(first.resolve(items).readText(), second.resolve(items).readText())
+            }
+        }
+    }
+
+    private fun withRoot(block: (Path) -> Unit) {
+        val root = Files.createTempDirectory("synthetic-platform")
+        try {
+            block(root)
+        } finally {
+            root.deleteRecursively()
+        }
+    }
+}
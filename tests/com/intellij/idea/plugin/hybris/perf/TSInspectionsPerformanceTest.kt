@@ -0,0 +1,132 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.perf
+
+import com.intellij.codeInspection.LocalInspectionEP
+import com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem.TSInspectionContext
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.type.model.Items
+import com.intellij.psi.xml.XmlFile
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+import com.intellij.util.xml.DomManager
+
+/**
+ * Highlights a large items.xml with all type system inspections enabled.
+ *
+ * `ts.inspections.walk.perInspection` repeats the items.xml DOM walk once per inspection, as inspections did
+ * before [TSInspectionContext], `ts.inspections.walk.shared` reads the shared context instead,
+ * the difference between both is the gain of the shared walk.
+ *
+ * Executed only by the `perfTest` Gradle task, size is controlled via `perf.tsTypes`.
+ */
+class TSInspectionsPerformanceTest : BasePlatformTestCase() {
+
+    fun test_inspections_largeItemsXml() {
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+
+        val types = System.getProperty("perf.tsTypes")?.toIntOrNull() ?: DEFAULT_TYPES
+        val metrics = PerformanceMetrics()
+        val inspections = LocalInspectionEP.LOCAL_INSPECTION.extensionList
+            .filter { it.implementationClass?.startsWith(INSPECTIONS_PACKAGE) ?: false }
+            .map { it.instantiateTool() }
+
+        metrics.record("ts.inspections.configure") {
+            myFixture.addFileToProject("perf/resources/perf-items.xml", items(types))
+        }
+        metrics.record("ts.inspections.meta") {
+            val service = TSMetaModelStateService.getInstance(project)
+            service.init()
+            PlatformTestUtil.waitWithEventsDispatching("TS meta model was not initialized", { service.initialized() }, TIMEOUT_SECONDS)
+        }
+
+        myFixture.configureFromTempProjectFile("perf/resources/perf-items.xml")
+        val dom = DomManager.getDomManager(project).getFileElement(myFixture.file as XmlFile, Items::class.java)!!.rootElement
+
+        val perInspection = metrics.measure("ts.inspections.walk.perInspection") {
+            inspections.sumOf { walk(dom) }
+        }
+        val shared = metrics.measure("ts.inspections.walk.shared") {
+            inspections.sumOf {
+                with(TSInspectionContext.getInstance(dom)) { itemTypes.size + attributes.size + relationElements.size + deployments.size + enumTypes.size }
+            }
+        }
+        assertEquals(perInspection, shared)
+
+        myFixture.enableInspections(*inspections.toTypedArray())
+        metrics.measure("ts.inspections.highlighting") { myFixture.doHighlighting() }
+
+        metrics.assertNoRegressions()
+    }
+
+    private fun walk(dom: Items): Int {
+        var nodes = 0
+
+        dom.itemTypes.all.forEach { itemType ->
+            nodes += 2 + itemType.attributes.attributes.size
+        }
+        dom.relations.relations.forEach { _ -> nodes += 3 }
+
+        return nodes + dom.enumTypes.enumTypes.size
+    }
+
+    private fun items(types: Int) = buildString {
+        appendLine("""<?xml version="1.0" encoding="ISO-8859-1"?>""")
+        appendLine("""<items xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="items.xsd">""")
+        appendLine("""    <enumtypes>""")
+        repeat(types / ENUM_EVERY) {
+            appendLine("""        <enumtype code="PerfEnum$it" autocreate="true" generate="true"><value code="VALUE_A"/><value code="VALUE_B"/></enumtype>""")
+        }
+        appendLine("""    </enumtypes>""")
+        appendLine("""    <relations>""")
+        repeat(types / RELATION_EVERY) {
+            appendLine("""        <relation code="PerfRelation$it" localized="false" generate="true" autocreate="true">""")
+            appendLine("""            <deployment table="perfrelation$it" typecode="${RELATION_TYPECODE_OFFSET + it}"/>""")
+            appendLine("""            <sourceElement type="PerfType$it" qualifier="sources" cardinality="many"/>""")
+            appendLine("""            <targetElement type="PerfType${it + 1}" qualifier="targets" cardinality="many" collectiontype="set"/>""")
+            appendLine("""        </relation>""")
+        }
+        appendLine("""    </relations>""")
+        appendLine("""    <itemtypes>""")
+        repeat(types) {
+            appendLine("""        <itemtype code="PerfType$it" extends="GenericItem" autocreate="true" generate="true">""")
+            appendLine("""            <deployment table="perftype$it" typecode="${TYPECODE_OFFSET + it}"/>""")
+            appendLine("""            <attributes>""")
+            repeat(ATTRIBUTES) { attribute ->
+                appendLine("""                <attribute qualifier="attribute$attribute" type="java.lang.String"><persistence type="property"/></attribute>""")
+            }
+            appendLine("""            </attributes>""")
+            appendLine("""        </itemtype>""")
+        }
+        appendLine("""    </itemtypes>""")
+        appendLine("""</items>""")
+    }
+
+    companion object {
+        private const val DEFAULT_TYPES = 5_000
+        private const val ATTRIBUTES = 5
+        private const val ENUM_EVERY = 10
+        private const val RELATION_EVERY = 10
+        private const val TYPECODE_OFFSET = 11_000
+        private const val RELATION_TYPECODE_OFFSET = 20_000
+        private const val TIMEOUT_SECONDS = 600
+        private const val INSPECTIONS_PACKAGE = "com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem."
+    }
+}
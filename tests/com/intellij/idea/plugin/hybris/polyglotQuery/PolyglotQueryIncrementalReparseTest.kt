@@ -0,0 +1,59 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.polyglotQuery
+
+import com.intellij.idea.plugin.hybris.polyglotQuery.file.PolyglotQueryFileType
+import com.intellij.idea.plugin.hybris.psi.util.IncrementalReparseTestCase
+
+class PolyglotQueryIncrementalReparseTest : IncrementalReparseTestCase() {
+
+    fun test_randomEdits() = checkRandomEdits(
+        PolyglotQueryFileType,
+        listOf(
+            "GET {Product} WHERE ({code} = ?code OR ({name[en]} IS NULL AND {pk} = ?pk)) ORDER BY {name[en]} ASC",
+            """
+                GET {Category} WHERE {code} = ?code AND ({catalogVersion} = ?cv OR {catalogVersion} IS NULL) -- categories
+                GET {Product} WHERE ({code} = ?c /* products */)
+            """.trimIndent(),
+        ),
+        listOf(
+            "(", ")", "{", "}", "[en]", "[", "]",
+            " AND ", " OR ", " GET ", " WHERE ", " IS NULL", " IS NOT NULL",
+            "{code}", " = ?p", "x", "/*", "*/", "-- ", "\n",
+        ),
+        seed = 20251019L
+    )
+
+    fun test_exprAtom_editInside() = checkEdit(
+        PolyglotQueryFileType,
+        "GET {Product} WHERE ({code} = ?code<caret>) ORDER BY {code}",
+        insert = " OR {pk} = ?pk"
+    )
+
+    fun test_exprAtom_unfinished() = checkEdit(
+        PolyglotQueryFileType,
+        "GET {Product} WHERE ({code} = ?code<caret>) ORDER BY {code}",
+        insert = " OR"
+    )
+
+    fun test_query_addSecondQuery() = checkEdit(
+        PolyglotQueryFileType,
+        "GET {Product} WHERE {code} = ?code<caret> ORDER BY {code}",
+        insert = " GET {Category}"
+    )
+}
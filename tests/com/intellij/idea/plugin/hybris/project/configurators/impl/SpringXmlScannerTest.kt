@@ -0,0 +1,102 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.project.configurators.impl
+
+import java.io.File
+import java.nio.file.Files
+import kotlin.test.AfterTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class SpringXmlScannerTest {
+
+    private val directory = Files.createTempDirectory("spring_xml_scanner").toFile()
+
+    @AfterTest
+    fun tearDown() {
+        directory.deleteRecursively()
+    }
+
+    @Test
+    fun test_scan_eachFileOpenedOnceForSharedImports() {
+        (0 until FILES).forEach { index ->
+            val imports = listOf(index + 1, index * 2, index * 3)
+                .filter { it < FILES }
+                .joinToString("") { """<import resource="spring-$it.xml"/>""" }
+            file(index).writeText("""<beans xmlns="http://www.springframework.org/schema/beans">$imports<bean id="bean$index"/></beans>""")
+        }
+
+        val opened = mutableMapOf<String, Int>()
+        val scanner = SpringXmlScanner { file ->
+            opened.merge(file.name, 1, Int::plus)
+            file.inputStream()
+        }
+
+        // same graph is reachable from several modules
+        repeat(MODULES) {
+            val visited = mutableSetOf<String>()
+            val queue = ArrayDeque(listOf(file(0)))
+
+            while (queue.isNotEmpty()) {
+                val springFile = queue.removeFirst()
+                if (!visited.add(springFile.name)) continue
+
+                val springXml = scanner.scan(springFile)
+                assertTrue(springXml.beans)
+                springXml.imports.forEach { queue.add(File(directory, it)) }
+            }
+
+            assertEquals(FILES, visited.size)
+        }
+
+        assertEquals(FILES, opened.size)
+        assertTrue(opened.values.all { it == 1 })
+    }
+
+    @Test
+    fun test_scan_modifiedFileRescanned() {
+        val springFile = file(0)
+        springFile.writeText("""<beans><import resource="a.xml"/></beans>""")
+        springFile.setLastModified(1_000_000)
+
+        val scanner = SpringXmlScanner()
+        assertEquals(listOf("a.xml"), scanner.scan(springFile).imports)
+
+        springFile.writeText("""<beans><import resource="b.xml"/><bean id="b"><import resource="nested.xml"/></bean></beans>""")
+        springFile.setLastModified(2_000_000)
+
+        assertEquals(listOf("b.xml"), scanner.scan(springFile).imports)
+    }
+
+    @Test
+    fun test_scan_notSpringContent() {
+        assertFalse(SpringXmlScanner.scan("""<web-app><import resource="a.xml"/></web-app>""".byteInputStream()).beans)
+        assertFalse(SpringXmlScanner.scan("""<beans>  </beans>""".byteInputStream()).beans)
+        assertTrue(SpringXmlScanner.scan("""<beans><bean id="a"/></beans>""".byteInputStream()).beans)
+    }
+
+    private fun file(index: Int) = File(directory, "spring-$index.xml")
+
+    companion object {
+        private const val FILES = 2_000
+        private const val MODULES = 3
+    }
+}
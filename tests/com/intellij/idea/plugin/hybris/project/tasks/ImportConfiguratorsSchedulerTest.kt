@@ -0,0 +1,108 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.project.tasks
+
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import kotlin.test.AfterTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertTrue
+
+class ImportConfiguratorsSchedulerTest {
+
+    private val executor = Executors.newFixedThreadPool(4)
+
+    @AfterTest
+    fun tearDown() {
+        executor.shutdownNow()
+    }
+
+    @Test
+    fun test_run_independentConfiguratorsRunConcurrently() {
+        val latch = CountDownLatch(2)
+        val awaited = Collections.synchronizedList(mutableListOf<Boolean>())
+
+        ImportConfiguratorsScheduler(null, executor)
+            .step("a", listOf("shared"), listOf("a")) { latch.countDown(); awaited.add(latch.await(5, TimeUnit.SECONDS)) }
+            .step("b", listOf("shared"), listOf("b")) { latch.countDown(); awaited.add(latch.await(5, TimeUnit.SECONDS)) }
+            .run()
+
+        assertEquals(listOf(true, true), awaited)
+    }
+
+    @Test
+    fun test_run_dependenciesCompletedFirst() {
+        val completed = Collections.synchronizedList(mutableListOf<String>())
+
+        ImportConfiguratorsScheduler(null, executor)
+            .step("a", emptyList(), listOf("x")) { Thread.sleep(50); completed.add("a") }
+            .step("b", listOf("x"), listOf("y")) { completed.add("b") }
+            .step("c", emptyList(), listOf("y")) { completed.add("c") }
+            .step("d", emptyList(), listOf("z")) { completed.add("d") }
+            .run()
+
+        assertEquals(4, completed.size)
+        assertTrue(completed.indexOf("a") < completed.indexOf("b"))
+        assertTrue(completed.indexOf("b") < completed.indexOf("c"))
+    }
+
+    @Test
+    fun test_run_failurePropagatedAndDependantsSkipped() {
+        val completed = Collections.synchronizedList(mutableListOf<String>())
+
+        assertFailsWith<IllegalStateException> {
+            ImportConfiguratorsScheduler(null, executor)
+                .step("a", emptyList(), listOf("x")) { throw IllegalStateException("a") }
+                .step("b", listOf("x"), emptyList()) { completed.add("b") }
+                .run()
+        }
+
+        assertTrue(completed.isEmpty())
+    }
+
+    @Test
+    fun test_step_dependenciesFromReadWriteSets() {
+        val scheduler = ImportConfiguratorsScheduler(null, executor)
+            .step("Module Dependencies", listOf("descriptors"), listOf("models")) { }
+            .step("Spring Facets", listOf("descriptors"), listOf("models")) { }
+            .step("Run Configurations", listOf("descriptors"), listOf("run configurations")) { }
+            .step("Search Scopes", listOf("models"), listOf("scopes")) { }
+            .step("Descriptors Update", emptyList(), listOf("descriptors")) { }
+
+        assertEquals(listOf("Module Dependencies"), scheduler.dependencies("Spring Facets"))
+        assertEquals(emptyList(), scheduler.dependencies("Run Configurations"))
+        // read after write
+        assertEquals(listOf("Module Dependencies", "Spring Facets"), scheduler.dependencies("Search Scopes"))
+        // write after read
+        assertEquals(listOf("Module Dependencies", "Spring Facets", "Run Configurations"), scheduler.dependencies("Descriptors Update"))
+    }
+
+    @Test
+    fun test_step_duplicatedName() {
+        assertFailsWith<IllegalArgumentException> {
+            ImportConfiguratorsScheduler(null, executor)
+                .step("a", emptyList(), emptyList()) { }
+                .step("a", emptyList(), emptyList()) { }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.properties
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class PropertyPlaceholderResolverTest {
+
+    @Test
+    fun test_resolveAll_nestedPlaceholders() {
+        val result = PropertyPlaceholderResolver(
+            linkedMapOf(
+                "a" to "\${b}/a",
+                "b" to "\${c}/b",
+                "c" to "c",
+            )
+        ).resolveAll()
+
+        assertEquals("c/b/a", result["a"])
+        assertEquals("c/b", result["b"])
+        assertEquals("c", result["c"])
+    }
+
+    @Test
+    fun test_resolveAll_unknownPlaceholderKept() {
+        val result = PropertyPlaceholderResolver(linkedMapOf("a" to "\${unknown}-\${b}", "b" to "b")).resolveAll()
+
+        assertEquals("\${unknown}-b", result["a"])
+    }
+
+    @Test
+    fun test_resolveAll_cycleKept() {
+        val result = PropertyPlaceholderResolver(
+            linkedMapOf(
+                "a" to "\${b}",
+                "b" to "\${a}",
+                "self" to "x\${self}",
+            )
+        ).resolveAll()
+
+        assertEquals("\${b}", result["a"])
+        assertEquals("\${a}", result["b"])
+        assertEquals("x\${self}", result["self"])
+    }
+
+    @Test
+    fun test_resolveAll_orderPreserved() {
+        val result = PropertyPlaceholderResolver(linkedMapOf("z" to "\${y}", "y" to "1", "x" to "2")).resolveAll()
+
+        assertEquals(listOf("z", "y", "x"), result.keys.toList())
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.psi.util
+
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.openapi.fileTypes.LanguageFileType
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.testFramework.PsiTestUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+import kotlin.random.Random
+
+/**
+ * Applies random edits to already parsed files and checks that the resulting tree, possibly produced by the reparse
+ * of a single element, is equal to the tree of the full reparse of the same text.
+ *
+ * Random edits are mostly insertions of the [fragments], so braces, comments and keywords are broken and restored often.
+ */
+abstract class IncrementalReparseTestCase : BasePlatformTestCase() {
+
+    protected fun checkRandomEdits(
+        fileType: LanguageFileType,
+        texts: List<String>,
+        fragments: List<String>,
+        seed: Long,
+        rounds: Int = 50,
+        editsPerRound: Int = 20,
+    ) {
+        val random = Random(seed)
+
+        repeat(rounds) { round ->
+            val text = texts[round % texts.size]
+            myFixture.configureByText("round$round.${fileType.defaultExtension}", text)
+            PsiTestUtil.checkFileStructure(myFixture.file)
+
+            repeat(editsPerRound) { edit ->
+                val document = myFixture.editor.document
+                val offset = random.nextInt(document.textLength + 1)
+                val delete = if (random.nextInt(3) == 0) random.nextInt(minOf(5, document.textLength - offset) + 1) else 0
+                val insert = if (delete > 0 && random.nextBoolean()) "" else fragments[random.nextInt(fragments.size)]
+                val before = document.text
+
+                try {
+                    edit(offset, delete, insert)
+                } catch (e: Throwable) {
+                    throw AssertionError(
+                        "Seed $seed, round $round, edit $edit: replacing $delete chars at $offset with '$insert' in:\n$before", e
+                    )
+                }
+            }
+        }
+    }
+
+    protected fun checkEdit(fileType: LanguageFileType, text: String, delete: Int = 0, insert: String = "") {
+        myFixture.configureByText(fileType, text)
+        PsiTestUtil.checkFileStructure(myFixture.file)
+
+        edit(myFixture.caretOffset, delete, insert)
+    }
+
+    protected fun edit(offset: Int, delete: Int, insert: String) {
+        val document = myFixture.editor.document
+
+        WriteCommandAction.runWriteCommandAction(project) {
+            document.replaceString(offset, offset + delete, insert)
+        }
+        PsiDocumentManager.getInstance(project).commitDocument(document)
+
+        PsiTestUtil.checkFileStructure(myFixture.file)
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.spring
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.spring.SimpleSpringService
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.openapi.components.service
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiFile
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Bean classes resolved through the [SimpleSpringService] fallback, the Spring plugin has no models in a light project.
+ */
+class SpringHelperTest : BasePlatformTestCase() {
+
+    private lateinit var plainSpring: SimpleSpringService
+    private lateinit var springXml: PsiFile
+
+    override fun setUp() {
+        super.setUp()
+
+        myFixture.addClass("package test; public class FirstBean {}")
+        myFixture.addClass("package test; public class SecondBean {}")
+        springXml = myFixture.addFileToProject("resources/test-spring.xml", springXml("""<bean id="firstBean" class="test.FirstBean"/>"""))
+        plainSpring = project.service<SimpleSpringService>()
+    }
+
+    fun test_resolveBeanClass_missNotRememberedWhileBeansAreCollected() {
+        assertFalse(plainSpring.isCacheUpToDate())
+        assertNull(resolve("firstBean"))
+
+        collectBeans()
+
+        assertEquals("test.FirstBean", resolve("firstBean")?.qualifiedName)
+    }
+
+    fun test_resolveBeanClass_hitAndMiss() {
+        collectBeans()
+
+        val hit = resolve("firstBean")
+        assertEquals("test.FirstBean", hit?.qualifiedName)
+        assertSame(hit, resolve("firstBean"))
+
+        assertNull(resolve("secondBean"))
+        assertNull(resolve("secondBean"))
+    }
+
+    fun test_resolveBeanClass_missDroppedOnSpringXmlChange() {
+        collectBeans()
+        assertNull(resolve("secondBean"))
+
+        WriteCommandAction.runWriteCommandAction(project) {
+            PsiDocumentManager.getInstance(project).getDocument(springXml)!!
+                .setText(springXml("""<bean id="firstBean" class="test.FirstBean"/><bean id="secondBean" class="test.SecondBean"/>"""))
+        }
+        PsiDocumentManager.getInstance(project).commitAllDocuments()
+
+        assertFalse(plainSpring.isCacheUpToDate())
+        assertNull(resolve("secondBean"))
+
+        collectBeans()
+
+        assertEquals("test.SecondBean", resolve("secondBean")?.qualifiedName)
+        assertEquals("test.FirstBean", resolve("firstBean")?.qualifiedName)
+    }
+
+    private fun resolve(beanId: String) = SpringHelper.resolveBeanClass(springXml, beanId, plainSpring)
+
+    private fun collectBeans() {
+        plainSpring.initCache()
+        PlatformTestUtil.waitWithEventsDispatching("Spring beans were not collected", { plainSpring.isCacheUpToDate() }, TIMEOUT_SECONDS)
+    }
+
+    private fun springXml(beans: String) = """<beans xmlns="${HybrisConstants.SPRING_NAMESPACE}">$beans</beans>"""
+
+    companion object {
+        private const val TIMEOUT_SECONDS = 60
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.bean.meta
+
+import com.intellij.idea.plugin.hybris.system.bean.meta.model.*
+import com.intellij.idea.plugin.hybris.system.bean.model.*
+import com.intellij.idea.plugin.hybris.system.bean.model.Enum
+import com.intellij.psi.xml.XmlFile
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomElement
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class BSMetaModelMergerTest {
+
+    @Test
+    fun test_merge_incrementalEqualsFullMerge_changedFile() {
+        val localMetaModels = (0 until FILES).map { createMetaModel(it) }
+        val previousMetaModel = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, localMetaModels) }
+
+        val changedLocalMetaModels = localMetaModels.toMutableList()
+        changedLocalMetaModels[CHANGED_FILE] = createMetaModel(CHANGED_FILE, changed = true)
+
+        val incremental = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, changedLocalMetaModels, previousMetaModel) }
+        val full = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, changedLocalMetaModels) }
+
+        assertSameMetaModel(full, incremental)
+    }
+
+    @Test
+    fun test_merge_incrementalEqualsFullMerge_removedFile() {
+        val localMetaModels = (0 until FILES).map { createMetaModel(it) }
+        val previousMetaModel = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, localMetaModels) }
+
+        val changedLocalMetaModels = localMetaModels.filterIndexed { index, _ -> index != CHANGED_FILE }
+
+        val incremental = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, changedLocalMetaModels, previousMetaModel) }
+        val full = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, changedLocalMetaModels) }
+
+        assertSameMetaModel(full, incremental)
+    }
+
+    @Test
+    fun test_merge_unchangedMetasReused() {
+        val localMetaModels = (0 until FILES).map { createMetaModel(it) }
+        val previousMetaModel = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, localMetaModels) }
+
+        val changedLocalMetaModels = localMetaModels.toMutableList()
+        changedLocalMetaModels[CHANGED_FILE] = createMetaModel(CHANGED_FILE, changed = true)
+
+        val incremental = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, changedLocalMetaModels, previousMetaModel) }
+
+        val beans = BSMetaType.META_BEAN
+        assertEquals(true, previousMetaModel.getMetaType<BSGlobalMetaBean>(beans)["bean_1"] === incremental.getMetaType<BSGlobalMetaBean>(beans)["bean_1"])
+        assertEquals(false, previousMetaModel.getMetaType<BSGlobalMetaBean>(beans)["bean_$CHANGED_FILE"] === incremental.getMetaType<BSGlobalMetaBean>(beans)["bean_$CHANGED_FILE"])
+        // dependants of the changed bean have to be re-merged too
+        assertEquals(false, previousMetaModel.getMetaType<BSGlobalMetaBean>(beans)["bean_${CHANGED_FILE + 1}"] === incremental.getMetaType<BSGlobalMetaBean>(beans)["bean_${CHANGED_FILE + 1}"])
+    }
+
+    private fun assertSameMetaModel(expected: BSGlobalMetaModel, actual: BSGlobalMetaModel) {
+        BSMetaType.entries.forEach { metaType ->
+            val expectedMetas = expected.getMetaType<BSGlobalMetaClassifier<out DomElement>>(metaType)
+            val actualMetas = actual.getMetaType<BSGlobalMetaClassifier<out DomElement>>(metaType)
+
+            assertEquals(expectedMetas.keys.map { it.lowercase() }.toSet(), actualMetas.keys.map { it.lowercase() }.toSet(), "Keys of $metaType")
+
+            expectedMetas.forEach { (name, expectedMeta) ->
+                val actualMeta = actualMetas[name]!!
+
+                assertEquals(expectedMeta.isCustom, actualMeta.isCustom, name)
+                assertEquals(expectedMeta.declarations.toSet(), actualMeta.declarations.toSet(), name)
+
+                if (expectedMeta is BSGlobalMetaBean && actualMeta is BSGlobalMetaBean) {
+                    assertEquals(expectedMeta.metaType, actualMeta.metaType, name)
+                    assertEquals(expectedMeta.extends, actualMeta.extends, name)
+                    assertEquals(expectedMeta.properties.keys.toSet(), actualMeta.properties.keys.toSet(), name)
+                    assertEquals(expectedMeta.allProperties.keys.toSet(), actualMeta.allProperties.keys.toSet(), name)
+                    assertEquals(expectedMeta.allExtends.map { it.name }, actualMeta.allExtends.map { it.name }, name)
+                }
+                if (expectedMeta is BSGlobalMetaEnum && actualMeta is BSGlobalMetaEnum) {
+                    assertEquals(expectedMeta.values.keys.toSet(), actualMeta.values.keys.toSet(), name)
+                }
+            }
+        }
+    }
+
+    private fun createMetaModel(index: Int, changed: Boolean = false) = BSMetaModel("extension_$index", "extension_$index-beans.xml", index % 2 == 0).apply {
+        val extends = if (index > 0) "bean_${index - 1}" else null
+        val properties = listOfNotNull("property_$index", if (changed) "changedProperty_$index" else null)
+
+        addMetaModel(TestMetaBean("bean_$index", extends, properties), BSMetaType.META_BEAN)
+        // the same bean declared in another file
+        addMetaModel(TestMetaBean("bean_${(index + 7) % FILES}", null, listOf("sharedProperty_$index")), BSMetaType.META_BEAN)
+        addMetaModel(TestMetaBean("wsBean_$index", "bean_$index", listOf("wsProperty_$index"), wsRelated = true), BSMetaType.META_BEAN)
+        addMetaModel(TestMetaBean("event_$index", null, listOf("eventProperty_$index")), BSMetaType.META_EVENT)
+        if (!changed) addMetaModel(TestMetaEnum("enum_$index"), BSMetaType.META_ENUM)
+        if (changed) addMetaModel(TestMetaBean("addedBean_$index", "bean_$index", emptyList()), BSMetaType.META_BEAN)
+    }
+
+    private class TestDomAnchor<T : DomElement> : DomAnchor<T> {
+        override fun retrieveDomElement(): T? = null
+        override fun getContainingFile(): XmlFile? = null
+    }
+
+    private class TestMetaHint(override val name: String) : BSMetaHint {
+        override val value: String? = null
+        override val moduleName = "test"
+        override val extensionName = "test"
+        override val isCustom = true
+        override val domAnchor = TestDomAnchor<Hint>()
+    }
+
+    private class TestMetaProperty(override val name: String) : BSMetaProperty {
+        override val type = "java.lang.String"
+        override val referencedType: String? = null
+        override val description: String? = null
+        override val isEquals = false
+        override val isDeprecated = false
+        override val annotations = emptyList<BSMetaAnnotations>()
+        override val hints = emptyMap<String, BSMetaHint>()
+        override var flattenType: String? = type
+        override val moduleName = "test"
+        override val extensionName = "test"
+        override val isCustom = true
+        override val domAnchor = TestDomAnchor<Property>()
+    }
+
+    private class TestMetaBean(
+        override val name: String,
+        override val extends: String?,
+        properties: List<String>,
+        wsRelated: Boolean = false,
+    ) : BSMetaBean {
+        override val type = BeanType.BEAN
+        override val shortName = name
+        override val fullName = name
+        override val fullExtends = extends
+        override val genericName: String? = null
+        override val description: String? = null
+        override val template: String? = null
+        override val extendsGenericName: String? = null
+        override val deprecatedSince: String? = null
+        override val isDeprecated = false
+        override val isAbstract = false
+        override val isSuperEquals = false
+        override val imports = emptyList<BSMetaImport>()
+        override val annotations = emptyList<BSMetaAnnotations>()
+        override val properties = properties.associateWith { TestMetaProperty(it) }
+        override val hints = if (wsRelated) mapOf("wsRelated" to TestMetaHint("wsRelated")) else emptyMap()
+        override val moduleName = "test"
+        override val extensionName = "test"
+        override val isCustom = true
+        override val domAnchor = TestDomAnchor<Bean>()
+    }
+
+    private class TestMetaEnum(override val name: String) : BSMetaEnum {
+        override val values = emptyMap<String, BSMetaEnum.BSMetaEnumValue>()
+        override val shortName = name
+        override val description: String? = null
+        override val template: String? = null
+        override val deprecatedSince: String? = null
+        override val isDeprecated = false
+        override val moduleName = "test"
+        override val extensionName = "test"
+        override val isCustom = true
+        override val domAnchor = TestDomAnchor<Enum>()
+    }
+
+    companion object {
+        private const val FILES = 500
+        private const val CHANGED_FILE = 250
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.businessProcess.index
+
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+class BpProcessAnalyzerTest {
+
+    private val corpus = (0 until PROCESSES).map { index ->
+        BpProcessDefinitionParser.parse(processXml(index), "process$index")!!
+    }
+
+    @Test
+    fun test_parse_processDefinition() {
+        val definition = corpus[1]
+
+        assertEquals("process1", definition.name)
+        assertEquals("check", definition.start)
+        assertEquals("error", definition.onError)
+        assertEquals(listOf("check", "waitForPayment", "split", "join", "notify", "success", "error"), definition.nodes.map { it.id })
+        assertEquals("checkAction1", definition.nodes[0].bean)
+        assertEquals(
+            listOf(BpProcessTransition("", "join"), BpProcessTransition("paid", "split"), BpProcessTransition("timeout", "error")),
+            definition.nodes[1].transitions
+        )
+    }
+
+    @Test
+    fun test_parse_notProcessDocument() {
+        assertNull(BpProcessDefinitionParser.parse("""<beans><bean id="a"/></beans>""", "beans"))
+        assertNull(BpProcessDefinitionParser.parse("""<process start="a"><action id="a" """, "broken"))
+    }
+
+    @Test
+    fun test_analyze_corpus() {
+        val reports = corpus.associate { it.name to BpProcessAnalyzer.analyze(it) }
+
+        reports.forEach { (name, report) ->
+            val index = name.removePrefix("process").toInt()
+
+            assertEquals(if (index % UNREACHABLE_EVERY == 0) setOf("orphan") else emptySet(), report.unreachableNodes, name)
+            assertEquals(
+                if (index % DANGLING_EVERY == 0) listOf(BpDanglingTransition("check", "NOK", "missing")) else emptyList(),
+                report.danglingTransitions,
+                name
+            )
+            assertEquals(
+                if (index % CYCLE_EVERY == 0) listOf(listOf("loopA", "loopB")) else emptyList(),
+                report.cyclesWithoutWait,
+                name
+            )
+        }
+        assertTrue(reports.values.any { it.isValid })
+    }
+
+    @Test
+    fun test_analyze_cycleWithWaitIsAllowed() {
+        val definition = BpProcessDefinition(
+            "retry", "check", null, listOf(
+                BpProcessNode("check", BpProcessNodeType.ACTION, "checkAction", listOf(BpProcessTransition("NOK", "wait"), BpProcessTransition("OK", "end"))),
+                BpProcessNode("wait", BpProcessNodeType.WAIT, transitions = listOf(BpProcessTransition("", "check"))),
+                BpProcessNode("self", BpProcessNodeType.ACTION, "selfAction", listOf(BpProcessTransition("OK", "self"))),
+                BpProcessNode("end", BpProcessNodeType.END),
+            )
+        )
+
+        val report = BpProcessAnalyzer.analyze(definition)
+
+        assertEquals(listOf(listOf("self")), report.cyclesWithoutWait)
+        assertEquals(setOf("self"), report.unreachableNodes)
+    }
+
+    @Test
+    fun test_findProcessesByBean() {
+        val processesByBean = BpProcessAnalyzer.findProcessesByBean(corpus)
+
+        assertEquals(PROCESSES / SHARED_BEAN_EVERY, processesByBean["sharedAction"]?.size)
+        assertEquals(setOf("process7"), processesByBean["checkAction7"])
+    }
+
+    @Test
+    fun test_externalizer_roundTrip() {
+        corpus.take(50).forEach { definition ->
+            val bytes = ByteArrayOutputStream()
+                .also { DataOutputStream(it).use { out -> BpProcessDefinitionExternalizer.save(out, definition) } }
+                .toByteArray()
+
+            val restored = DataInputStream(ByteArrayInputStream(bytes)).use { BpProcessDefinitionExternalizer.read(it) }
+
+            assertEquals(definition, restored)
+        }
+    }
+
+    private fun processXml(index: Int) = buildString {
+        append("""<?xml version="1.0" encoding="utf-8"?>""")
+        append("""<process xmlns="http://www.hybris.de/xsd/processdefinition" start="check" onError="error" name="process$index">""")
+        append("""<contextParameter name="order" type="OrderModel" use="mandatory"/>""")
+        append("""<action id="check" bean="checkAction$index">""")
+        append("""<transition name="OK" to="waitForPayment"/>""")
+        if (index % SHARED_BEAN_EVERY == 0) append("""<transition name="SHARED" to="shared"/>""")
+        if (index % CYCLE_EVERY == 0) append("""<transition name="LOOP" to="loopA"/>""")
+        append(if (index % DANGLING_EVERY == 0) """<transition name="NOK" to="missing"/>""" else """<transition name="NOK" to="error"/>""")
+        append("</action>")
+        append("""<wait id="waitForPayment" then="join"><case event="payment"><choice id="paid" then="split"/></case><timeout delay="PT1H" then="error"/></wait>""")
+        append("""<split id="split"><targetNode name="notify"/></split>""")
+        append("""<join id="join" then="success"/>""")
+        append("""<notify id="notify" then="join"><userGroup name="admin"/></notify>""")
+        if (index % SHARED_BEAN_EVERY == 0) append("""<action id="shared" bean="sharedAction"><transition name="OK" to="success"/></action>""")
+        if (index % UNREACHABLE_EVERY == 0) append("""<action id="orphan" bean="orphanAction"><transition name="OK" to="success"/></action>""")
+        if (index % CYCLE_EVERY == 0) {
+            append("""<scriptAction id="loopA"><script type="groovy">true</script><transition name="OK" to="loopB"/></scriptAction>""")
+            append("""<action id="loopB" bean="loopAction"><transition name="OK" to="loopA"/></action>""")
+        }
+        append("""<end id="success" state="SUCCEEDED">Done</end>""")
+        append("""<end id="error" state="ERROR">Failed</end>""")
+        append("</process>")
+    }
+
+    companion object {
+        private const val PROCESSES = 1_000
+        private const val DANGLING_EVERY = 7
+        private const val UNREACHABLE_EVERY = 11
+        private const val CYCLE_EVERY = 13
+        private const val SHARED_BEAN_EVERY = 4
+    }
+}
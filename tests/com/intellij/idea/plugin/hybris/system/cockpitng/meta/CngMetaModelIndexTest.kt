@@ -0,0 +1,60 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.cockpitng.meta
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class CngMetaModelIndexTest {
+
+    private val index = CngGlobalMetaModel()
+        .apply {
+            contextAttributes["principal"] = mutableSetOf("admin", "adminGroup", "Administrators", "employee")
+            contextAttributes["component"] = mutableSetOf("listview", "editor-area")
+            contextAttributes["merge-by"] = mutableSetOf("type")
+        }
+        .let { CngMetaModelIndex.of(it) }
+
+    @Test
+    fun test_findContextAttributeValues_prefixIgnoresCase() {
+        assertEquals(listOf("Administrators", "admin", "adminGroup"), index.findContextAttributeValues("principal", "ADMIN"))
+        assertEquals(listOf("adminGroup"), index.findContextAttributeValues("principal", "adminG"))
+        assertEquals(listOf("editor-area", "listview"), index.findContextAttributeValues("component"))
+        assertEquals(emptyList(), index.findContextAttributeValues("principal", "customer"))
+        assertEquals(emptyList(), index.findContextAttributeValues("unknown"))
+    }
+
+    @Test
+    fun test_containsContextAttributeValue_exactMatch() {
+        assertTrue(index.containsContextAttributeValue("principal", "adminGroup"))
+        assertFalse(index.containsContextAttributeValue("principal", "admingroup"))
+        assertFalse(index.containsContextAttributeValue("principal", "admin2"))
+        assertFalse(index.containsContextAttributeValue("component", "admin"))
+    }
+
+    @Test
+    fun test_findContextAttributes_byPrefix() {
+        assertEquals(listOf("component", "merge-by", "principal"), index.findContextAttributes())
+        assertEquals(listOf("merge-by"), index.findContextAttributes("m"))
+        assertTrue(index.containsContextAttribute("principal"))
+        assertFalse(index.containsContextAttribute("princ"))
+    }
+}
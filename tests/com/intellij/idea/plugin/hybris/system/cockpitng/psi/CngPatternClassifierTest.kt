@@ -0,0 +1,75 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.cockpitng.psi
+
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.psi.xml.XmlAttributeValue
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Classification must match the raw [CngPatterns], also for attributes not declared by the [CngPatternCategory].
+ */
+class CngPatternClassifierTest : BasePlatformTestCase() {
+
+    override fun getTestDataPath() = "testData/cockpitng/patterns"
+
+    override fun setUp() {
+        super.setUp()
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+    }
+
+    fun test_classify_sameAsPatterns() {
+        val values = attributeValues()
+
+        values.forEach { value ->
+            val expected = CngPatternCategory.entries
+                .filter { it.pattern.accepts(value) }
+                .toSet()
+
+            assertEquals("Unexpected categories of ${value.parent.text}", expected, CngPatternClassifier.classify(value))
+        }
+    }
+
+    fun test_classify_categories() {
+        val categories = attributeValues()
+            .flatMap { CngPatternClassifier.classify(it) }
+            .toSet()
+
+        assertContainsElements(
+            categories,
+            CngPatternCategory.ITEM_TYPE,
+            CngPatternCategory.ITEM_ATTRIBUTE,
+            CngPatternCategory.I18N_PROPERTY,
+            CngPatternCategory.EDITOR_DEFINITION,
+            CngPatternCategory.WIDGET_COMPONENT_RENDERER_CLASS,
+            CngPatternCategory.FLOW_STEP_CONTENT_PROPERTY_LIST_PROPERTY_QUALIFIER,
+            CngPatternCategory.FLOW_STEP_PROPERTY,
+            CngPatternCategory.FLOW_INITIALIZE_TYPE,
+            CngPatternCategory.FLOW_PROPERTY_LIST_ROOT,
+            CngPatternCategory.CONTEXT_PARENT_NON_ITEM_TYPE,
+        )
+    }
+
+    private fun attributeValues(): Collection<XmlAttributeValue> {
+        val file = myFixture.configureByFile("classification-backoffice-config.xml")
+
+        return PsiTreeUtil.findChildrenOfType(file, XmlAttributeValue::class.java)
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.cockpitng.psi.reference
+
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.openapi.util.Key
+import com.intellij.openapi.util.TextRange
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiElement
+import com.intellij.psi.PsiReferenceBase
+import com.intellij.psi.ResolveResult
+import com.intellij.psi.util.PsiModificationTracker
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.psi.xml.XmlAttributeValue
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+/**
+ * Resolve results must be dropped on each edit without registering a new [Key] per reference range.
+ */
+class CngReferenceResolveCacheTest : BasePlatformTestCase() {
+
+    fun test_resolve_keyRegistryConstantOnEdits() {
+        val file = myFixture.configureByText("test-backoffice-config.xml", """<config><context component="${editor(0)}"/></config>""")
+        val document = PsiDocumentManager.getInstance(project).getDocument(file)!!
+        var resolved = 0
+        val resolver = {
+            resolved++
+            emptyArray<ResolveResult>()
+        }
+
+        val registrySize = keyRegistrySize()
+
+        repeat(EDITS) { edit ->
+            val range = attributeValue().valueTextRange
+            WriteCommandAction.runWriteCommandAction(project) {
+                document.replaceString(range.startOffset, range.endOffset, editor(edit))
+            }
+            PsiDocumentManager.getInstance(project).commitDocument(document)
+
+            val value = attributeValue()
+            val name = "editor$edit"
+            val references = listOf(
+                TestReference(value, TextRange.from(1, name.length)),
+                TestReference(value, TextRange.from(name.length + 2, name.length)),
+            )
+
+            repeat(RESOLVES_PER_EDIT) {
+                references.forEach { CngReferenceResolveCache.resolve(it, CACHE_KEY, PsiModificationTracker.MODIFICATION_COUNT, resolver = resolver) }
+            }
+        }
+
+        // each edit drops the results of both references, repeated resolves of the same edit are served from the cache
+        assertEquals(EDITS * 2, resolved)
+        val created = keyRegistrySize() - registrySize
+        assertTrue("Keys registered during $EDITS edits: $created", created < MAX_REGISTERED_KEYS)
+    }
+
+    private fun attributeValue() = PsiTreeUtil.findChildOfType(myFixture.file, XmlAttributeValue::class.java)!!
+
+    private fun editor(edit: Int) = "editor$edit(editor$edit)"
+
+    // keys are indexed sequentially on creation, index of a fresh key is the number of keys registered so far
+    private fun keyRegistrySize() = Key.create<Any>("SAP_CX_TEST_KEY_REGISTRY_PROBE").hashCode()
+
+    private class TestReference(element: PsiElement, range: TextRange) : PsiReferenceBase<PsiElement>(element, range) {
+        override fun resolve(): PsiElement? = null
+    }
+
+    companion object {
+        private const val EDITS = 10_000
+        private const val RESOLVES_PER_EDIT = 3
+        private const val MAX_REGISTERED_KEYS = 100
+        private val CACHE_KEY: CngResolveCacheKey = Key.create("SAP_CX_TEST_CNG_RESOLVE_CACHE")
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.ccv2
+
+import com.intellij.idea.plugin.hybris.tools.ccv2.api.CCv2ConditionalResponse
+import com.intellij.idea.plugin.hybris.tools.ccv2.dto.CCv2BuildProgressDto
+import com.intellij.idea.plugin.hybris.tools.ccv2.dto.CCv2BuildStatus
+import com.intellij.idea.plugin.hybris.tools.ccv2.dto.CCv2DeploymentProgressDto
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.flow.transformWhile
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.test.TestScope
+import kotlinx.coroutines.test.runTest
+import java.net.SocketTimeoutException
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.time.Duration.Companion.milliseconds
+
+class CCv2SubscriptionPollerTest {
+
+    @Test
+    fun test_trackBuild_oneRequestPerIntervalForConcurrentTrackers() = runTest {
+        val fetcher = TestFetcher(this) { call ->
+            CCv2ConditionalResponse.Modified(progress(call * 25), "etag-$call")
+        }
+        val poller = poller(fetcher)
+        val completed = mutableListOf<CCv2BuildProgressDto>()
+
+        (1..TRACKERS)
+            .map {
+                launch {
+                    poller.trackBuild(BUILD_CODE)
+                        .transformWhile { progress ->
+                            if (progress.buildStatus == CCv2BuildStatus.SUCCESS) completed.add(progress)
+                            progress.buildStatus != CCv2BuildStatus.SUCCESS
+                        }
+                        .collect()
+                }
+            }
+            .forEach { it.join() }
+
+        assertEquals(TRACKERS, completed.size)
+        assertEquals(4, fetcher.requests.size)
+        assertEquals(listOf(null, "etag-1", "etag-2", "etag-3"), fetcher.requests)
+        assertEquals(listOf(0L, 20L, 40L, 60L), fetcher.requestTimes)
+    }
+
+    @Test
+    fun test_trackBuild_backOffWhenNotModified() = runTest {
+        val fetcher = TestFetcher(this) { call ->
+            if (call == 1) CCv2ConditionalResponse.Modified(progress(50), "etag")
+            else CCv2ConditionalResponse.NotModified
+        }
+        val poller = poller(fetcher)
+        val values = mutableListOf<CCv2BuildProgressDto>()
+
+        val tracker = launch {
+            poller.trackBuild(BUILD_CODE).collect { values.add(it) }
+        }
+        delay(400)
+        tracker.cancel()
+
+        assertEquals(listOf(progress(50)), values)
+        // interval is doubled after each unchanged response, up to the max interval
+        assertEquals(listOf(0L, 20L, 60L, 140L, 220L, 300L, 380L), fetcher.requestTimes)
+        assertEquals(listOf(null) + List(6) { "etag" }, fetcher.requests)
+    }
+
+    @Test
+    fun test_trackBuild_timeoutReachesTrackersAndPollingContinues() = runTest {
+        val fetcher = TestFetcher(this) { call ->
+            if (call == 1) throw SocketTimeoutException("Read timed out")
+            else CCv2ConditionalResponse.Modified(progress(100), "etag")
+        }
+        val poller = poller(fetcher)
+
+        assertFailsWith<SocketTimeoutException> {
+            poller.trackBuild(BUILD_CODE).collect()
+        }
+
+        val completed = poller.trackBuild(BUILD_CODE).first()
+
+        assertEquals(progress(100), completed)
+        assertEquals(listOf(null, null), fetcher.requests)
+    }
+
+    private fun TestScope.poller(fetcher: TestFetcher) = CCv2SubscriptionPoller(
+        this, fetcher, 20.milliseconds, 80.milliseconds,
+        clock = { testScheduler.currentTime }
+    )
+
+    private class TestFetcher(
+        private val testScope: TestScope,
+        private val response: (Int) -> CCv2ConditionalResponse<CCv2BuildProgressDto>
+    ) : CCv2SubscriptionPoller.Fetcher {
+
+        val requests = mutableListOf<String?>()
+        val requestTimes = mutableListOf<Long>()
+
+        override suspend fun fetchBuildProgress(buildCode: String, etag: String?): CCv2ConditionalResponse<CCv2BuildProgressDto> {
+            requests.add(etag)
+            requestTimes.add(testScope.testScheduler.currentTime)
+            return response(requests.size)
+        }
+
+        override suspend fun fetchDeploymentProgress(deploymentCode: String, etag: String?): CCv2ConditionalResponse<CCv2DeploymentProgressDto> =
+            throw UnsupportedOperationException()
+    }
+
+    companion object {
+        private const val TRACKERS = 10
+        private const val BUILD_CODE = "20250101.1"
+
+        private fun progress(percentage: Int) = CCv2BuildProgressDto(
+            buildStatus = if (percentage < 100) CCv2BuildStatus.BUILDING else CCv2BuildStatus.SUCCESS,
+            buildCode = BUILD_CODE,
+            errorMessage = "N/A",
+            numberOfTasks = 4,
+            percentage = percentage,
+            startedTasks = emptyList(),
+        )
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.ccv2.logs
+
+import com.intellij.openapi.progress.ProcessCanceledException
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.regex.Pattern
+import java.util.zip.ZipEntry
+import java.util.zip.ZipOutputStream
+import kotlin.io.path.exists
+import kotlin.io.path.outputStream
+
+class CCv2BuildLogFileTest : BasePlatformTestCase() {
+
+    private lateinit var buildLogs: CCv2BuildLogs
+    private lateinit var archive: Path
+
+    override fun tearDown() {
+        try {
+            if (::buildLogs.isInitialized) buildLogs.dispose()
+        } finally {
+            super.tearDown()
+        }
+    }
+
+    fun test_lines_acrossBlocks() {
+        val logFile = index((0 until 1000).joinToString("\n", postfix = "\n") { "line $it" })
+
+        assertEquals(1000, logFile.lineCount)
+        assertEquals("line 0", logFile.line(0))
+        assertEquals("line 255", logFile.line(CCv2BuildLogFile.BLOCK_SIZE - 1))
+        assertEquals("line 256", logFile.line(CCv2BuildLogFile.BLOCK_SIZE))
+        assertEquals("line 999", logFile.line(999))
+        assertEquals("line 3", logFile.line(3))
+    }
+
+    fun test_lines_crLfEmptyLinesAndNoTrailingNewLine() {
+        val logFile = index("first\r\n\r\n\nlast")
+
+        assertEquals(4, logFile.lineCount)
+        assertEquals(listOf("first", "", "", "last"), (0 until logFile.lineCount).map { logFile.line(it) })
+    }
+
+    fun test_lines_longLineTruncated() {
+        val longLine = "ä".repeat(CCv2BuildLogFile.MAX_LINE_LENGTH * 10)
+        val logFile = index("before\n$longLine\nafter\n")
+
+        assertEquals(3, logFile.lineCount)
+        assertEquals("before", logFile.line(0))
+        assertEquals("ä".repeat(CCv2BuildLogFile.MAX_LINE_LENGTH), logFile.line(1))
+        assertEquals("after", logFile.line(2))
+    }
+
+    fun test_find_regexFromLineWithWrapAround() {
+        val logFile = index("INFO start\nWARN disk 90%\nINFO step\nWARN disk 95%\nINFO end\n")
+        val pattern = Pattern.compile("disk \\d+%")
+
+        assertEquals(1, logFile.find(pattern, -1, null))
+        assertEquals(3, logFile.find(pattern, 1, null))
+        assertEquals(1, logFile.find(pattern, 3, null))
+        assertNull(logFile.find(Pattern.compile("ERROR"), 0, null))
+    }
+
+    fun test_nextError() {
+        val logFile = index("INFO start\nERROR first\nINFO step\nfoo ERROR second\nINFO end\n")
+
+        assertEquals(2, logFile.errorsCount)
+        assertEquals(1, logFile.nextError(-1))
+        assertEquals(3, logFile.nextError(1))
+        assertEquals(3, logFile.nextError(2))
+        assertEquals(1, logFile.nextError(3))
+    }
+
+    fun test_nextError_noErrors() {
+        val logFile = index("INFO start\nERRO partial marker\n")
+
+        assertEquals(0, logFile.errorsCount)
+        assertNull(logFile.nextError(0))
+    }
+
+    fun test_index_afterDispose() {
+        buildLogs = CCv2BuildLogs(BUILD_CODE, createArchive("INFO\n"))
+
+        buildLogs.dispose()
+
+        assertThrows(ProcessCanceledException::class.java) { buildLogs.index(ENTRY_NAME, null) }
+        assertFalse(archive.exists())
+    }
+
+    private fun index(content: String): CCv2BuildLogFile {
+        buildLogs = CCv2BuildLogs(BUILD_CODE, createArchive(content))
+
+        return buildLogs.index(ENTRY_NAME, null)
+    }
+
+    private fun createArchive(content: String): Path {
+        archive = Files.createTempFile("ccv2_build_logs_", ".zip")
+
+        ZipOutputStream(archive.outputStream()).use {
+            it.putNextEntry(ZipEntry(ENTRY_NAME))
+            it.write(content.toByteArray())
+            it.closeEntry()
+        }
+
+        return archive
+    }
+
+    companion object {
+        private const val BUILD_CODE = "20250101.1"
+        private const val ENTRY_NAME = "build.log"
+    }
+}
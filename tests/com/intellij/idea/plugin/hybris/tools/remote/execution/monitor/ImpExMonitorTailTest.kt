@@ -0,0 +1,135 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.execution.monitor
+
+import java.io.File
+import java.nio.file.Files
+import kotlin.test.AfterTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class ImpExMonitorTailTest {
+
+    private val directory = Files.createTempDirectory("impex-monitor").toFile()
+    private val now = System.currentTimeMillis()
+
+    @AfterTest
+    fun cleanUp() {
+        directory.deleteRecursively()
+    }
+
+    @Test
+    fun test_rescan_onlyFilesWithinWindow() {
+        val recent = file("recent.bin", "INSERT Title;code\n", now - MINUTE)
+        file("old.bin", "INSERT Language;isocode\n", now - 10 * MINUTE)
+        file("notImpEx.txt", "text", now)
+
+        val tail = ImpExMonitorTail(directory, 5 * MINUTE)
+        tail.rescan(now)
+
+        assertEquals(setOf(recent), tail.trackedFiles)
+        assertTrue(tail.readUpdates().contains("INSERT Title;code"))
+        assertFalse(tail.bufferedOutput.contains("INSERT Language"))
+    }
+
+    @Test
+    fun test_rescan_filesAgedOutOfWindowArePruned() {
+        val first = file("first.bin", "INSERT Title;code\n", now - MINUTE)
+        val second = file("second.bin", "INSERT Language;isocode\n", now)
+
+        val tail = ImpExMonitorTail(directory, 5 * MINUTE)
+        tail.rescan(now)
+        tail.readUpdates()
+
+        // 5 minutes later only the second file is still within the window
+        second.setLastModified(now + 4 * MINUTE)
+        tail.rescan(now + 5 * MINUTE)
+
+        assertEquals(setOf(second), tail.trackedFiles)
+        assertFalse(tail.bufferedOutput.contains("INSERT Title"))
+        assertTrue(tail.bufferedOutput.contains("INSERT Language"))
+        assertFalse(first in tail.trackedFiles)
+    }
+
+    @Test
+    fun test_readUpdates_onlyAppendedContent() {
+        val file = file("import.bin", "INSERT Title;code\n", now)
+
+        val tail = ImpExMonitorTail(directory, 5 * MINUTE)
+        tail.rescan(now)
+
+        assertTrue(tail.readUpdates().contains("# File Path:"))
+        assertEquals("", tail.readUpdates())
+
+        file.appendText(";mr\n")
+
+        assertEquals(";mr\n", tail.readUpdates())
+        assertTrue(tail.bufferedOutput.endsWith("INSERT Title;code\n;mr\n"))
+    }
+
+    @Test
+    fun test_readUpdates_incompleteCharacterReadWhenComplete() {
+        val file = file("import.bin", "", now)
+        val umlaut = "ü".toByteArray()
+
+        val tail = ImpExMonitorTail(directory, 5 * MINUTE)
+        tail.rescan(now)
+        tail.readUpdates()
+
+        file.appendBytes("a".toByteArray() + umlaut[0])
+        assertEquals("a", tail.readUpdates())
+
+        file.appendBytes(byteArrayOf(umlaut[1]) + "b".toByteArray())
+        assertEquals("üb", tail.readUpdates())
+    }
+
+    @Test
+    fun test_readUpdates_skippedPartAlignedToCharacter() {
+        file("import.bin", "ü".repeat(10), now)
+
+        val tail = ImpExMonitorTail(directory, 5 * MINUTE, maxReadSize = 5)
+        tail.rescan(now)
+
+        val output = tail.readUpdates()
+
+        assertTrue(output.endsWith("# ... 16 bytes skipped\nüü"), output)
+        assertFalse(output.contains('�'))
+    }
+
+    @Test
+    fun test_completeLength() {
+        val euro = "€".toByteArray()
+
+        assertEquals(0, ImpExMonitorTail.completeLength(byteArrayOf()))
+        assertEquals(3, ImpExMonitorTail.completeLength(euro))
+        assertEquals(1, ImpExMonitorTail.completeLength("a".toByteArray() + euro.copyOf(2)))
+        assertEquals(1, ImpExMonitorTail.completeLength("a".toByteArray() + euro.copyOf(1)))
+    }
+
+    private fun file(name: String, content: String, lastModified: Long) = File(directory, name).apply {
+        writeText(content)
+        setLastModified(lastModified)
+    }
+
+    companion object {
+        private const val MINUTE = 60_000L
+    }
+}